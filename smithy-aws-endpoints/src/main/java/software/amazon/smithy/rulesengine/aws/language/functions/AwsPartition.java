@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.rulesengine.aws.language.functions.partition.Partition;
@@ -44,19 +45,11 @@ public final class AwsPartition extends LibraryFunction {
 
     private static final Definition DEFINITION = new Definition();
 
-    // The following are mutable to allow for overriding the contents
-    // of the PARTITIONS list for test use cases. They MUST NOT have
-    // contents exposed directly, only through copies as is done in
-    // the `evaluate` method below.
-    private static final List<Partition> PARTITIONS = new ArrayList<>();
-    private static final Map<String, Partition> REGION_MAP = new HashMap<>();
-
-    static {
-        PARTITIONS.addAll(Partitions.fromNode(
-                        Node.parse(Partitions.class.getResourceAsStream("partitions.json")))
-                .getPartitions());
-        initializeRegionMap();
-    }
+    // This is replaced rather than mutated to allow for overriding the
+    // partitions for test use cases while other threads are evaluating
+    // the function.
+    private static volatile PartitionTable partitionTable = new PartitionTable(Partitions.fromNode(
+            Node.parse(Partitions.class.getResourceAsStream("partitions.json"))).getPartitions());
 
     private AwsPartition(FunctionNode functionNode) {
         super(DEFINITION, functionNode);
@@ -69,18 +62,7 @@ public final class AwsPartition extends LibraryFunction {
      */
     @SmithyInternalApi
     public static void overridePartitions(Partitions partitions) {
-        PARTITIONS.clear();
-        PARTITIONS.addAll(partitions.getPartitions());
-        initializeRegionMap();
-    }
-
-    private static void initializeRegionMap() {
-        REGION_MAP.clear();
-        for (Partition partition : PARTITIONS) {
-            for (String region : partition.getRegions().keySet()) {
-                REGION_MAP.put(region, partition);
-            }
-        }
+        partitionTable = new PartitionTable(partitions.getPartitions());
     }
 
     /**
@@ -141,52 +123,94 @@ public final class AwsPartition extends LibraryFunction {
 
         @Override
         public Value evaluate(List<Value> arguments) {
-            String regionName = arguments.get(0).expectStringValue().getValue();
-            Partition matchedPartition;
-            boolean inferred = false;
+            return partitionTable.evaluate(arguments.get(0).expectStringValue().getValue());
+        }
 
-            // Known region
-            matchedPartition = REGION_MAP.get(regionName);
-            if (matchedPartition == null) {
-                // Try matching on region name pattern
-                for (Partition partition : PARTITIONS) {
-                    Pattern regex = Pattern.compile(partition.getRegionRegex());
-                    if (regex.matcher(regionName).matches()) {
-                        matchedPartition = partition;
-                        inferred = true;
-                        break;
-                    }
+        @Override
+        public AwsPartition createFunction(FunctionNode functionNode) {
+            return new AwsPartition(functionNode);
+        }
+    }
+
+    /**
+     * An immutable lookup table of partitions, with the region regexes of each
+     * partition compiled, and the result of evaluating each enumerated region
+     * computed up front. Results for other regions are cached as they're found.
+     */
+    private static final class PartitionTable {
+        private static final int MAX_CACHED_REGIONS = 1024;
+
+        private final List<Partition> partitions;
+        private final List<Pattern> regionRegexes;
+        private final Map<String, Value> knownRegions = new HashMap<>();
+        private final Map<String, Value> inferredRegions = new ConcurrentHashMap<>();
+        private final Value defaultResult;
+
+        PartitionTable(List<Partition> partitions) {
+            this.partitions = new ArrayList<>(partitions);
+            regionRegexes = new ArrayList<>(partitions.size());
+            Partition defaultPartition = null;
+            for (Partition partition : partitions) {
+                regionRegexes.add(Pattern.compile(partition.getRegionRegex()));
+                if (defaultPartition == null && partition.getId().equals("aws")) {
+                    defaultPartition = partition;
+                }
+            }
+
+            // Regions enumerated by multiple partitions resolve to the last partition.
+            for (Partition partition : partitions) {
+                Value result = createResult(partition, false);
+                for (String region : partition.getRegions().keySet()) {
+                    knownRegions.put(region, result);
                 }
             }
 
             // Default to the `aws` partition.
-            if (matchedPartition == null) {
-                for (Partition partition : PARTITIONS) {
-                    if (partition.getId().equals("aws")) {
-                        matchedPartition = partition;
-                        break;
-                    }
+            defaultResult = defaultPartition == null ? null : createResult(defaultPartition, false);
+        }
+
+        Value evaluate(String regionName) {
+            // Known region
+            Value result = knownRegions.get(regionName);
+            if (result == null) {
+                result = inferredRegions.get(regionName);
+            }
+
+            if (result == null) {
+                result = inferRegion(regionName);
+                if (inferredRegions.size() < MAX_CACHED_REGIONS) {
+                    inferredRegions.put(regionName, result);
                 }
             }
 
-            if (matchedPartition == null) {
+            return result;
+        }
+
+        private Value inferRegion(String regionName) {
+            // Try matching on region name pattern
+            for (int i = 0; i < partitions.size(); i++) {
+                if (regionRegexes.get(i).matcher(regionName).matches()) {
+                    return createResult(partitions.get(i), true);
+                }
+            }
+
+            if (defaultResult == null) {
                 throw new RuntimeException("Unable to match a partition for region " + regionName);
             }
 
-            PartitionOutputs matchedPartitionOutputs = matchedPartition.getOutputs();
-            return Value.recordValue(MapUtils.of(
-                    NAME, Value.stringValue(matchedPartition.getId()),
-                    DNS_SUFFIX, Value.stringValue(matchedPartitionOutputs.getDnsSuffix()),
-                    DUAL_STACK_DNS_SUFFIX, Value.stringValue(matchedPartitionOutputs.getDualStackDnsSuffix()),
-                    SUPPORTS_FIPS, Value.booleanValue(matchedPartitionOutputs.supportsFips()),
-                    SUPPORTS_DUAL_STACK, Value.booleanValue(matchedPartitionOutputs.supportsDualStack()),
-                    INFERRED, Value.booleanValue(inferred),
-                    IMPLICIT_GLOBAL_REGION, Value.stringValue(matchedPartitionOutputs.getImplicitGlobalRegion())));
+            return defaultResult;
         }
 
-        @Override
-        public AwsPartition createFunction(FunctionNode functionNode) {
-            return new AwsPartition(functionNode);
+        private static Value createResult(Partition partition, boolean inferred) {
+            PartitionOutputs outputs = partition.getOutputs();
+            return Value.recordValue(MapUtils.of(
+                    NAME, Value.stringValue(partition.getId()),
+                    DNS_SUFFIX, Value.stringValue(outputs.getDnsSuffix()),
+                    DUAL_STACK_DNS_SUFFIX, Value.stringValue(outputs.getDualStackDnsSuffix()),
+                    SUPPORTS_FIPS, Value.booleanValue(outputs.supportsFips()),
+                    SUPPORTS_DUAL_STACK, Value.booleanValue(outputs.supportsDualStack()),
+                    INFERRED, Value.booleanValue(inferred),
+                    IMPLICIT_GLOBAL_REGION, Value.stringValue(outputs.getImplicitGlobalRegion())));
         }
     }
 }
@@ -39,6 +39,15 @@ public class AwsPartitionTest {
         assertThat(result.get(AwsPartition.INFERRED).expectBooleanValue().getValue(), equalTo(true));
     }
 
+    @Test
+    public void unmatchedRegionDefaultsToAwsPartition() {
+        RecordValue result = evalWithRegion("not-a-region");
+
+        assertThat(result.get(AwsPartition.NAME).expectStringValue().getValue(), equalTo("aws"));
+        assertThat(result.get(AwsPartition.INFERRED).expectBooleanValue().getValue(), equalTo(false));
+        assertThat(evalWithRegion("not-a-region"), equalTo(result));
+    }
+
     @Test
     public void overridesPartitions() {
         RecordValue result = evalWithRegion("us-west-1");
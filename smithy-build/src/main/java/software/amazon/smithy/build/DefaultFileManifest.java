@@ -20,6 +20,8 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -28,6 +30,7 @@ import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
 
 /**
  * @see FileManifest#create
@@ -88,6 +91,21 @@ final class DefaultFileManifest implements FileManifest {
         }
     }
 
+    @Override
+    public Path writeFile(Path path, Consumer<Writer> fileContentsWriter) {
+        path = addFile(path);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            fileContentsWriter.accept(writer);
+            return path;
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+        } catch (UncheckedIOException e) {
+            throw new SmithyBuildException("Unable to write contents of file `" + path + "`: "
+                                           + e.getCause().getMessage(), e);
+        }
+    }
+
     @Override
     public Path writeFile(Path path, InputStream fileContentsInputStream) {
         path = addFile(path);
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.smithy.utils.IoUtils;
+
+/**
+ * A persistent, content-addressed cache of the artifacts created by plugins.
+ *
+ * <p>Each entry of the cache is keyed by a hash of everything a plugin can
+ * observe through its {@link PluginContext}: the projected and original
+ * models, the validation events of the projection, the projection's name
+ * and configuration, the plugin's settings, the contents of the build's
+ * sources, and the classpath entry the plugin was loaded from. When
+ * {@link SmithyBuild} finds an entry for a plugin, the files of the entry
+ * are written to the plugin's {@link FileManifest} instead of executing
+ * the plugin. Plugins that aren't {@link SmithyBuildPlugin#isCacheable()
+ * cacheable} are always executed.
+ *
+ * <p>Entries are stored as directories in the cache directory. When a
+ * build completes, the least recently used entries are removed until the
+ * size of the cache is no more than its maximum size.
+ *
+ * <p>Entries are only stored for plugins that write their artifacts to
+ * disk inside the base directory of their manifest.
+ */
+public final class PluginCache {
+
+    /** The default maximum size of a cache, 1 GiB. */
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(PluginCache.class.getName());
+    private static final String TEMP_PREFIX = ".tmp-";
+    private static final long STALE_TEMP_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final Path directory;
+    private final long maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache that stores entries in the given directory and is
+     * bounded by {@link #DEFAULT_MAX_SIZE}.
+     *
+     * @param directory Directory where entries are stored.
+     */
+    public PluginCache(Path directory) {
+        this(directory, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache that stores entries in the given directory.
+     *
+     * @param directory Directory where entries are stored.
+     * @param maxSize Maximum size of the cache in bytes.
+     * @throws IllegalArgumentException if {@code maxSize} is negative.
+     */
+    public PluginCache(Path directory, long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must be >= 0, found " + maxSize);
+        }
+        this.directory = Objects.requireNonNull(directory).toAbsolutePath().normalize();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the directory where entries are stored.
+     *
+     * @return Returns the cache directory.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets the maximum size of the cache in bytes.
+     *
+     * @return Returns the maximum size.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of plugin executions that were restored from the cache.
+     *
+     * @return Returns the number of cache hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of cacheable plugin executions that weren't found in
+     * the cache.
+     *
+     * @return Returns the number of cache misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Writes the files of an entry to a manifest.
+     *
+     * @param key Key of the entry to restore.
+     * @param manifest Manifest to write files to.
+     * @return Returns true if the entry was found and restored.
+     */
+    boolean restore(String key, FileManifest manifest) {
+        Path entry = directory.resolve(key);
+        if (!Files.isDirectory(entry)) {
+            misses.increment();
+            return false;
+        }
+
+        try {
+            for (Path file : listFiles(entry)) {
+                try (InputStream stream = Files.newInputStream(file)) {
+                    manifest.writeFile(entry.relativize(file), stream);
+                }
+            }
+            // The modification time of an entry is used to find the least recently used entries.
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.increment();
+            return true;
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warning(() -> "Unable to restore build cache entry " + entry + ": " + e);
+            misses.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Stores the files of a manifest as an entry.
+     *
+     * <p>Entries are first written to a temporary directory that is then
+     * moved into place, so a partially written entry is never restored.
+     *
+     * @param key Key of the entry to store.
+     * @param manifest Manifest that contains the files to store.
+     */
+    void store(String key, FileManifest manifest) {
+        Path baseDir = manifest.getBaseDir().toAbsolutePath().normalize();
+        List<Path> files = new ArrayList<>(manifest.getFiles().size());
+        for (Path file : manifest.getFiles()) {
+            Path normalized = file.toAbsolutePath().normalize();
+            if (!normalized.startsWith(baseDir) || !Files.isRegularFile(normalized)) {
+                LOGGER.fine(() -> "Not caching the artifacts of " + baseDir + " because " + file
+                                  + " is not a file in the base directory of its manifest");
+                return;
+            }
+            files.add(normalized);
+        }
+
+        Path temp = directory.resolve(TEMP_PREFIX + UUID.randomUUID());
+        try {
+            Files.createDirectories(temp);
+            for (Path file : files) {
+                Path target = temp.resolve(baseDir.relativize(file).toString());
+                Files.createDirectories(target.getParent());
+                Files.copy(file, target);
+            }
+            Files.move(temp, directory.resolve(key), StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            // Another build stored the same entry first.
+            LOGGER.fine(() -> "Build cache entry already exists: " + key);
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warning(() -> "Unable to store build cache entry " + key + ": " + e);
+        } finally {
+            if (Files.exists(temp)) {
+                IoUtils.rmdir(temp);
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the size of the cache
+     * is no more than its maximum size.
+     */
+    void evict() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try {
+            List<Path> entries = new ArrayList<>();
+            long now = System.currentTimeMillis();
+            try (Stream<Path> stream = Files.list(directory)) {
+                for (Path path : stream.collect(Collectors.toList())) {
+                    if (!path.getFileName().toString().startsWith(TEMP_PREFIX)) {
+                        entries.add(path);
+                    } else if (now - Files.getLastModifiedTime(path).toMillis() > STALE_TEMP_MILLIS) {
+                        // Remove entries left behind by builds that were interrupted while storing them.
+                        IoUtils.rmdir(path);
+                    }
+                }
+            }
+
+            long size = 0;
+            List<CacheEntry> cacheEntries = new ArrayList<>(entries.size());
+            for (Path entry : entries) {
+                CacheEntry cacheEntry = new CacheEntry(entry);
+                cacheEntries.add(cacheEntry);
+                size += cacheEntry.size;
+            }
+
+            cacheEntries.sort(Comparator.comparingLong(entry -> entry.lastUsed));
+            for (int i = 0; i < cacheEntries.size() && size > maxSize; i++) {
+                CacheEntry entry = cacheEntries.get(i);
+                LOGGER.fine(() -> "Evicting build cache entry " + entry.path);
+                IoUtils.rmdir(entry.path);
+                size -= entry.size;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warning(() -> "Unable to evict build cache entries from " + directory + ": " + e);
+        }
+    }
+
+    private static final class CacheEntry {
+        final Path path;
+        final long lastUsed;
+        final long size;
+
+        CacheEntry(Path path) throws IOException {
+            this.path = path;
+            this.lastUsed = Files.getLastModifiedTime(path).toMillis();
+            long total = 0;
+            for (Path file : listFiles(path)) {
+                total += Files.size(file);
+            }
+            this.size = total;
+        }
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> stream = Files.walk(dir)) {
+            return stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Computes the SHA-256 hash of each value given to it.
+     */
+    static final class Hasher {
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+        private final MessageDigest digest;
+
+        Hasher() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Hasher put(String value) {
+            // Values are length-prefixed so that adjacent values can't be confused with each other.
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            put(bytes.length);
+            digest.update(bytes);
+            return this;
+        }
+
+        Hasher put(long value) {
+            for (int i = 0; i < 8; i++) {
+                digest.update((byte) (value >>> (i * 8)));
+            }
+            return this;
+        }
+
+        Hasher put(Path file) throws IOException {
+            // Like strings, file contents are length-prefixed.
+            put(Files.size(file));
+            byte[] buffer = new byte[8192];
+            try (InputStream stream = Files.newInputStream(file)) {
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return this;
+        }
+
+        String hash() {
+            byte[] bytes = digest.digest();
+            char[] result = new char[bytes.length * 2];
+            for (int i = 0; i < bytes.length; i++) {
+                result[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+                result[i * 2 + 1] = HEX[bytes[i] & 0xF];
+            }
+            return new String(result);
+        }
+    }
+}
@@ -56,6 +56,30 @@ public interface ProjectionTransformer {
         return ListUtils.of();
     }
 
+    /**
+     * Checks if the transformer is validation-monotone, meaning that the
+     * validation events of a transformed model can be derived from the
+     * events of the model it was given.
+     *
+     * <p>Transformers that only remove shapes, traits, or metadata, or that
+     * only change a small number of shapes, should return true. When every
+     * transformer of a projection is validation-monotone, the projected
+     * model is validated incrementally: events that validators emitted for
+     * shapes that weren't changed by the projection and aren't connected to
+     * a changed shape are reused rather than computed again (see
+     * {@link software.amazon.smithy.model.loader.ModelAssembler#previousValidation}).
+     * Otherwise, the projected model is fully validated.
+     *
+     * <p>Transformers that rename or move a large number of shapes should
+     * return false, since the cost of finding the affected shapes would
+     * outweigh the benefit.
+     *
+     * @return Returns true if the transformer is validation-monotone.
+     */
+    default boolean isValidationMonotone() {
+        return false;
+    }
+
     /**
      * Creates a {@code ProjectionTransformer} factory function using SPI
      * and the current thread's context class loader.
@@ -61,6 +61,8 @@ public final class SmithyBuild {
     Set<Path> sources = new HashSet<>();
     Predicate<String> projectionFilter = name -> true;
     Predicate<String> pluginFilter = name -> true;
+    int pluginParallelism = Runtime.getRuntime().availableProcessors();
+    PluginCache pluginCache;
 
     public SmithyBuild() {}
 
@@ -433,6 +435,44 @@ public final class SmithyBuild {
         return this;
     }
 
+    /**
+     * Sets the maximum number of plugins that can be run concurrently.
+     *
+     * <p>Plugins of the same projection are run concurrently unless one of
+     * them {@link SmithyBuildPlugin#isSerial() is serial}. Regardless of
+     * the order in which plugins complete, the manifests of a
+     * {@link ProjectionResult} are added in the order in which plugins are
+     * defined, and the error of the first failing plugin is reported.
+     *
+     * <p>Defaults to the number of available processors. Set to 1 to run
+     * the plugins of each projection one after the other.
+     *
+     * @param pluginParallelism Maximum number of concurrently running plugins.
+     * @return Returns the builder.
+     */
+    public SmithyBuild pluginParallelism(int pluginParallelism) {
+        if (pluginParallelism < 1) {
+            throw new IllegalArgumentException("pluginParallelism must be >= 1, found " + pluginParallelism);
+        }
+        this.pluginParallelism = pluginParallelism;
+        return this;
+    }
+
+    /**
+     * Sets a cache used to restore the artifacts of plugins that were
+     * previously created with the same inputs instead of executing them.
+     *
+     * <p>No cache is used by default.
+     *
+     * @param pluginCache Cache to use, or null to disable caching.
+     * @return Returns the builder.
+     * @see PluginCache
+     */
+    public SmithyBuild pluginCache(PluginCache pluginCache) {
+        this.pluginCache = pluginCache;
+        return this;
+    }
+
     // Lazy initialization holder class idiom.
     private static final class DefaultPathHolder {
         private static final Path DEFAULT_PATH = resolveDefaultPath();
@@ -15,19 +15,36 @@
 
 package software.amazon.smithy.build;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.CodeSource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -36,14 +53,20 @@ import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import software.amazon.smithy.build.model.ProjectionConfig;
 import software.amazon.smithy.build.model.SmithyBuildConfig;
 import software.amazon.smithy.build.model.TransformConfig;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.transform.ModelTransformer;
 import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.SmithyBuilder;
 
@@ -73,6 +96,12 @@ final class SmithyBuildImpl {
     private final Set<Path> sources;
     private final Predicate<String> projectionFilter;
     private final Predicate<String> pluginFilter;
+    private final int pluginParallelism;
+    private final PluginCache pluginCache;
+    private final Map<Model, String> modelHashes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<Class<?>, String> classpathHashes = new ConcurrentHashMap<>();
+    private volatile String sourcesHash;
+    private volatile String pluginClasspathHash;
 
     private static final class ResolvedPlugin {
         final PluginId id;
@@ -125,6 +154,8 @@ final class SmithyBuildImpl {
         pluginClassLoader = builder.pluginClassLoader;
         projectionFilter = builder.projectionFilter;
         pluginFilter = builder.pluginFilter;
+        pluginParallelism = builder.pluginParallelism;
+        pluginCache = builder.pluginCache;
     }
 
     private static SmithyBuildConfig prepareConfig(SmithyBuildConfig config) {
@@ -177,6 +208,37 @@ final class SmithyBuildImpl {
     ) {
         ValidatedResult<Model> resolvedModel = createBaseModel();
 
+        // Non-serial plugins of a projection are run concurrently on an executor that is shared by every
+        // projection, bounding the number of plugins that run at the same time.
+        ExecutorService pluginExecutor = pluginParallelism > 1 ? createPluginExecutor() : null;
+
+        try {
+            applyAllProjections(resolvedModel, pluginExecutor, projectionResultConsumer, projectionExceptionConsumer);
+        } finally {
+            if (pluginExecutor != null) {
+                pluginExecutor.shutdown();
+            }
+            if (pluginCache != null) {
+                pluginCache.evict();
+            }
+        }
+    }
+
+    private ExecutorService createPluginExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(pluginParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "smithy-build-plugin-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void applyAllProjections(
+            ValidatedResult<Model> resolvedModel,
+            ExecutorService pluginExecutor,
+            Consumer<ProjectionResult> projectionResultConsumer,
+            BiConsumer<String, Throwable> projectionExceptionConsumer
+    ) {
         // Some plugins need things like file locks and can't be run in parallel with other plugins.
         // When a serial plugin is encountered for a projection, run the projection immediately.
         // Parallel projections are collected into a list and run in parallel after serial projections.
@@ -194,11 +256,11 @@ final class SmithyBuildImpl {
             List<ResolvedPlugin> resolvedPlugins = resolvePlugins(projectionName, config);
 
             if (areAnyResolvedPluginsSerial(resolvedPlugins)) {
-                executeSerialProjection(resolvedModel, projectionName, config, resolvedPlugins,
+                executeSerialProjection(resolvedModel, projectionName, config, resolvedPlugins, null,
                                         projectionResultConsumer, projectionExceptionConsumer);
             } else {
                 parallelProjections.add(() -> {
-                    executeSerialProjection(resolvedModel, projectionName, config, resolvedPlugins,
+                    executeSerialProjection(resolvedModel, projectionName, config, resolvedPlugins, pluginExecutor,
                                             projectionResultConsumer, projectionExceptionConsumer);
                 });
             }
@@ -270,6 +332,7 @@ final class SmithyBuildImpl {
             String name,
             ProjectionConfig config,
             List<ResolvedPlugin> resolvedPlugins,
+            ExecutorService pluginExecutor,
             Consumer<ProjectionResult> projectionResultConsumer,
             BiConsumer<String, Throwable> projectionExceptionConsumer
     ) {
@@ -278,7 +341,7 @@ final class SmithyBuildImpl {
         ProjectionResult result = null;
 
         try {
-            result = applyProjection(name, config, baseModel, resolvedPlugins);
+            result = applyProjection(name, config, baseModel, resolvedPlugins, pluginExecutor);
         } catch (Throwable e) {
             projectionExceptionConsumer.accept(name, e);
         }
@@ -302,7 +365,8 @@ final class SmithyBuildImpl {
             String projectionName,
             ProjectionConfig projection,
             ValidatedResult<Model> baseModel,
-            List<ResolvedPlugin> resolvedPlugins
+            List<ResolvedPlugin> resolvedPlugins,
+            ExecutorService pluginExecutor
     ) throws Throwable {
         Model resolvedModel = baseModel.unwrap();
         LOGGER.fine(() -> String.format("Creating the `%s` projection", projectionName));
@@ -346,7 +410,7 @@ final class SmithyBuildImpl {
                     projection.getTransforms().stream().map(TransformConfig::getName).collect(Collectors.toList())));
             projectedModel = applyProjectionTransforms(
                     baseModel, resolvedModel, projectionName, Collections.emptySet());
-            modelResult = modelAssemblerSupplier.get().addModel(projectedModel).assemble();
+            modelResult = validateProjectedModel(projectionName, baseModel, projectedModel);
         } else {
             LOGGER.fine(() -> String.format("No transforms to apply for projection %s", projectionName));
         }
@@ -358,18 +422,38 @@ final class SmithyBuildImpl {
                 .model(projectedModel)
                 .events(modelResult.getValidationEvents());
 
+        List<ResolvedPlugin> pluginsToApply = new ArrayList<>(resolvedPlugins.size());
         for (ResolvedPlugin resolvedPlugin : resolvedPlugins) {
             if (pluginFilter.test(resolvedPlugin.id.getArtifactName())) {
-                try {
-                    applyPlugin(projectionName, projection, baseProjectionDir, resolvedPlugin,
-                            projectedModel, resolvedModel, modelResult, resultBuilder);
-                } catch (Throwable e) {
-                    if (firstPluginError == null) {
-                        firstPluginError = e;
-                    } else {
-                        // Only log subsequent errors, since the first one is thrown.
-                        LOGGER.severe(String.format("Plugin `%s` failed: %s", resolvedPlugin.id, e));
-                    }
+                pluginsToApply.add(resolvedPlugin);
+            }
+        }
+
+        String projectionCacheKey = null;
+        if (pluginCache != null && pluginsToApply.stream().anyMatch(plugin -> plugin.plugin.isCacheable())) {
+            projectionCacheKey = createProjectionCacheKey(projectionName, projection, projectedModel, resolvedModel,
+                                                          modelResult);
+        }
+
+        List<Future<FileManifest>> results = startPlugins(projectionName, projection, baseProjectionDir,
+                pluginsToApply, projectedModel, resolvedModel, modelResult, projectionCacheKey, pluginExecutor);
+
+        // Manifests are added and errors are reported in the order plugins are defined, regardless of the order
+        // in which they completed.
+        for (int i = 0; i < pluginsToApply.size(); i++) {
+            ResolvedPlugin resolvedPlugin = pluginsToApply.get(i);
+            try {
+                FileManifest manifest = waitForPlugin(results, i);
+                if (manifest != null) {
+                    resultBuilder.addPluginManifest(resolvedPlugin.id.getArtifactName(), manifest);
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (firstPluginError == null) {
+                    firstPluginError = cause;
+                } else {
+                    // Only log subsequent errors, since the first one is thrown.
+                    LOGGER.severe(String.format("Plugin `%s` failed: %s", resolvedPlugin.id, cause));
                 }
             }
         }
@@ -381,6 +465,97 @@ final class SmithyBuildImpl {
         return resultBuilder.build();
     }
 
+    // Plugins are only run concurrently when given an executor, which is never the case for projections that
+    // contain a serial plugin. Otherwise, each plugin is run in order on the current thread.
+    private List<Future<FileManifest>> startPlugins(
+            String projectionName,
+            ProjectionConfig projection,
+            Path baseProjectionDir,
+            List<ResolvedPlugin> resolvedPlugins,
+            Model projectedModel,
+            Model resolvedModel,
+            ValidatedResult<Model> modelResult,
+            String projectionCacheKey,
+            ExecutorService pluginExecutor
+    ) {
+        boolean concurrent = pluginExecutor != null && resolvedPlugins.size() > 1;
+        List<Future<FileManifest>> results = new ArrayList<>(resolvedPlugins.size());
+
+        for (ResolvedPlugin resolvedPlugin : resolvedPlugins) {
+            Callable<FileManifest> task = () -> applyPlugin(projectionName, projection, baseProjectionDir,
+                                                            resolvedPlugin, projectedModel, resolvedModel,
+                                                            modelResult, projectionCacheKey);
+            if (concurrent) {
+                results.add(pluginExecutor.submit(task));
+            } else {
+                FutureTask<FileManifest> future = new FutureTask<>(task);
+                future.run();
+                results.add(future);
+            }
+        }
+
+        return results;
+    }
+
+    private static FileManifest waitForPlugin(List<Future<FileManifest>> results, int index)
+            throws ExecutionException, InterruptedException {
+        try {
+            return results.get(index).get();
+        } catch (InterruptedException e) {
+            for (Future<FileManifest> result : results) {
+                result.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private ValidatedResult<Model> validateProjectedModel(
+            String projectionName,
+            ValidatedResult<Model> baseModel,
+            Model projectedModel
+    ) {
+        ModelAssembler assembler = modelAssemblerSupplier.get().addModel(projectedModel);
+
+        // When every transform guarantees that the projected model can be derived from the base model, only the
+        // shapes affected by the projection are validated again, and the events of other shapes are reused.
+        if (areAllTransformersValidationMonotone(projectionName)) {
+            Model originalModel = baseModel.unwrap();
+            Set<ShapeId> changedShapes = findChangedShapes(originalModel, projectedModel);
+            LOGGER.fine(() -> String.format("Incrementally validating the `%s` projection; %d shapes changed",
+                                            projectionName, changedShapes.size()));
+            assembler.previousValidation(originalModel, baseModel.getValidationEvents(), changedShapes);
+        }
+
+        return assembler.assemble();
+    }
+
+    private boolean areAllTransformersValidationMonotone(String projectionName) {
+        for (Pair<ObjectNode, ProjectionTransformer> transformerBinding : transformers.get(projectionName)) {
+            if (!transformerBinding.right.isValidationMonotone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Transforms copy the shapes they don't change, so comparing by identity finds every changed shape. Shapes
+    // that were rebuilt without changing are conservatively treated as changed.
+    private static Set<ShapeId> findChangedShapes(Model before, Model after) {
+        Set<ShapeId> changed = new HashSet<>();
+        for (Shape shape : before.toSet()) {
+            if (after.getShape(shape.getId()).orElse(null) != shape) {
+                changed.add(shape.getId());
+            }
+        }
+        for (Shape shape : after.toSet()) {
+            if (!before.getShape(shape.getId()).isPresent()) {
+                changed.add(shape.getId());
+            }
+        }
+        return changed;
+    }
+
     private Model applyProjectionTransforms(
             ValidatedResult<Model> baseModel,
             Model currentModel,
@@ -407,7 +582,7 @@ final class SmithyBuildImpl {
         return currentModel;
     }
 
-    private void applyPlugin(
+    private FileManifest applyPlugin(
             String projectionName,
             ProjectionConfig projection,
             Path baseProjectionDir,
@@ -415,7 +590,7 @@ final class SmithyBuildImpl {
             Model projectedModel,
             Model resolvedModel,
             ValidatedResult<Model> modelResult,
-            ProjectionResult.Builder resultBuilder
+            String projectionCacheKey
     ) {
         PluginId id = resolvedPlugin.id;
 
@@ -426,6 +601,16 @@ final class SmithyBuildImpl {
         if (resolvedPlugin.plugin.requiresValidModel() && modelResult.isBroken()) {
             LOGGER.fine(() -> String.format("Skipping `%s` plugin for `%s` projection because the model is broken",
                                             id, projectionName));
+            return null;
+        }
+
+        String cacheKey = projectionCacheKey != null && resolvedPlugin.plugin.isCacheable()
+                ? createPluginCacheKey(projectionCacheKey, resolvedPlugin)
+                : null;
+
+        if (cacheKey != null && pluginCache.restore(cacheKey, manifest)) {
+            LOGGER.info(() -> String.format("Restored `%s` plugin of `%s` projection from the build cache",
+                                            id, projectionName));
         } else {
             LOGGER.info(() -> String.format("Applying `%s` plugin to `%s` projection", id, projectionName));
             resolvedPlugin.plugin
@@ -440,7 +625,174 @@ final class SmithyBuildImpl {
                     .sources(sources)
                     .artifactName(id.hasArtifactName() ? id.getArtifactName() : null)
                     .build());
-            resultBuilder.addPluginManifest(id.getArtifactName(), manifest);
+            if (cacheKey != null) {
+                pluginCache.store(cacheKey, manifest);
+            }
+        }
+
+        return manifest;
+    }
+
+    // The cache key of a projection covers everything a plugin can observe through its PluginContext, except for
+    // the plugin's settings and artifact name, which are added by createPluginCacheKey.
+    private String createProjectionCacheKey(
+            String projectionName,
+            ProjectionConfig projection,
+            Model projectedModel,
+            Model resolvedModel,
+            ValidatedResult<Model> modelResult
+    ) {
+        try {
+            PluginCache.Hasher hasher = new PluginCache.Hasher()
+                    .put(projectionName)
+                    .put(String.valueOf(projection.isAbstract()))
+                    .put(projection.getImports().toString());
+            for (TransformConfig transform : projection.getTransforms()) {
+                hasher.put(transform.getName()).put(Node.printJson(transform.getArgs()));
+            }
+            for (Map.Entry<String, ObjectNode> plugin : projection.getPlugins().entrySet()) {
+                hasher.put(plugin.getKey()).put(Node.printJson(plugin.getValue()));
+            }
+            for (ValidationEvent event : modelResult.getValidationEvents()) {
+                hasher.put(Node.printJson(event.toNode()));
+            }
+            return hasher
+                    .put(hashModel(projectedModel))
+                    .put(hashModel(resolvedModel))
+                    .put(hashSources())
+                    .put(hashClasspath(Model.class))
+                    .put(hashClasspath(SmithyBuild.class))
+                    .hash();
+        } catch (IOException e) {
+            LOGGER.warning(() -> String.format("Not using the build cache for the `%s` projection: %s",
+                                               projectionName, e));
+            return null;
+        }
+    }
+
+    private String createPluginCacheKey(String projectionCacheKey, ResolvedPlugin resolvedPlugin) {
+        try {
+            return new PluginCache.Hasher()
+                    .put(projectionCacheKey)
+                    .put(resolvedPlugin.id.toString())
+                    .put(resolvedPlugin.id.getArtifactName())
+                    .put(Node.printJson(resolvedPlugin.config))
+                    .put(hashPluginClasspath())
+                    .put(hashClasspath(resolvedPlugin.plugin.getClass()))
+                    .hash();
+        } catch (IOException e) {
+            LOGGER.warning(() -> String.format("Not using the build cache for the `%s` plugin: %s",
+                                               resolvedPlugin.id, e));
+            return null;
+        }
+    }
+
+    // Projections without imports share the same resolved model, so it is only hashed once.
+    private String hashModel(Model model) {
+        return modelHashes.computeIfAbsent(model, m -> new PluginCache.Hasher()
+                .put(Node.printJson(ModelSerializer.builder().build().serialize(m)))
+                .hash());
+    }
+
+    private String hashSources() throws IOException {
+        String result = sourcesHash;
+        if (result == null) {
+            PluginCache.Hasher hasher = new PluginCache.Hasher();
+            for (Path file : findSourceFiles()) {
+                hasher.put(file.toString()).put(file);
+            }
+            result = hasher.hash();
+            sourcesHash = result;
+        }
+        return result;
+    }
+
+    private List<Path> findSourceFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path source : sources) {
+            if (Files.isDirectory(source)) {
+                try (Stream<Path> stream = Files.walk(source)) {
+                    stream.filter(Files::isRegularFile).forEach(files::add);
+                }
+            } else if (Files.isRegularFile(source)) {
+                files.add(source);
+            }
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    // Hashes every entry of the classpath that plugins are loaded from, so that plugins are executed again when
+    // the plugin or any of its dependencies are updated. This is the URLs of the plugin class loader and its
+    // parents, and the entries of java.class.path, since plugins can load classes from both.
+    private String hashPluginClasspath() throws IOException {
+        String result = pluginClasspathHash;
+        if (result == null) {
+            Set<Path> entries = new TreeSet<>();
+            for (ClassLoader loader = pluginClassLoader; loader != null; loader = loader.getParent()) {
+                if (loader instanceof URLClassLoader) {
+                    for (URL url : ((URLClassLoader) loader).getURLs()) {
+                        if ("file".equals(url.getProtocol())) {
+                            entries.add(toPath(url));
+                        }
+                    }
+                }
+            }
+            for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                if (!entry.isEmpty()) {
+                    entries.add(Paths.get(entry).toAbsolutePath());
+                }
+            }
+            PluginCache.Hasher hasher = new PluginCache.Hasher();
+            for (Path entry : entries) {
+                hashClasspathEntry(hasher, entry);
+            }
+            result = hasher.hash();
+            pluginClasspathHash = result;
+        }
+        return result;
+    }
+
+    // Hashes the classpath entry a class was loaded from. This covers classes that aren't loaded from a URL of
+    // the plugin class loader or from java.class.path.
+    private String hashClasspath(Class<?> type) throws IOException {
+        String result = classpathHashes.get(type);
+        if (result == null) {
+            PluginCache.Hasher hasher = new PluginCache.Hasher().put(type.getName());
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            if (codeSource != null && codeSource.getLocation() != null
+                    && "file".equals(codeSource.getLocation().getProtocol())) {
+                hashClasspathEntry(hasher, toPath(codeSource.getLocation()));
+            }
+            result = hasher.hash();
+            classpathHashes.put(type, result);
+        }
+        return result;
+    }
+
+    // Hashes the location, size, and modification time of each file of a classpath entry.
+    private static void hashClasspathEntry(PluginCache.Hasher hasher, Path entry) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(entry)) {
+            try (Stream<Path> stream = Files.walk(entry)) {
+                stream.filter(Files::isRegularFile).sorted().forEach(files::add);
+            }
+        } else if (Files.isRegularFile(entry)) {
+            files.add(entry);
+        } else {
+            // Missing entries are still part of the key, so that adding them invalidates the cache.
+            hasher.put(entry.toString());
+        }
+        for (Path file : files) {
+            hasher.put(file.toString()).put(Files.size(file)).put(Files.getLastModifiedTime(file).toMillis());
+        }
+    }
+
+    private static Path toPath(URL url) throws IOException {
+        try {
+            return Paths.get(url.toURI()).toAbsolutePath();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new IOException("Invalid classpath entry " + url + ": " + e.getMessage(), e);
         }
     }
 
@@ -63,6 +63,22 @@ public interface SmithyBuildPlugin {
         return false;
     }
 
+    /**
+     * Plugins can choose whether or not the artifacts they create can be
+     * restored from a {@link PluginCache} rather than executing the plugin.
+     *
+     * <p>A plugin is only cacheable if the artifacts it creates depend on
+     * nothing but its {@link PluginContext}, and it has no side effects
+     * other than writing files to its {@link FileManifest}.
+     *
+     * <p>By default plugins are cacheable.</p>
+     *
+     * @return Returns true if the artifacts of the plugin can be cached.
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
     /**
      * Executes the plugin, creating any number of artifacts.
      *
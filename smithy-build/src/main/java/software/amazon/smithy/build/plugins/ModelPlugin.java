@@ -15,10 +15,10 @@
 
 package software.amazon.smithy.build.plugins;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import software.amazon.smithy.build.PluginContext;
 import software.amazon.smithy.build.SmithyBuildPlugin;
-import software.amazon.smithy.model.Model;
-import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.ModelSerializer;
 
 /**
@@ -35,10 +35,17 @@ public final class ModelPlugin implements SmithyBuildPlugin {
     @Override
     public void execute(PluginContext context) {
         boolean includePrelude = context.getSettings().getBooleanMemberOrDefault("includePreludeShapes");
-        context.getFileManifest().writeJson("model.json", serializeModel(context.getModel(), includePrelude));
-    }
+        ModelSerializer serializer = ModelSerializer.builder().includePrelude(includePrelude).build();
 
-    private static Node serializeModel(Model model, boolean includePrelude) {
-        return ModelSerializer.builder().includePrelude(includePrelude).build().serialize(model);
+        // Stream the model to the file rather than first building a Node of the entire model.
+        context.getFileManifest().writeFile("model.json", writer -> {
+            serializer.serialize(context.getModel(), writer);
+            try {
+                // Match the trailing newline written by FileManifest#writeJson.
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
@@ -54,6 +54,12 @@ public final class RunPlugin implements SmithyBuildPlugin {
         return true;
     }
 
+    @Override
+    public boolean isCacheable() {
+        // The artifacts of a process can depend on anything, and the process can have other side effects.
+        return false;
+    }
+
     @Override
     public void execute(PluginContext context) {
         NodeMapper mapper = new NodeMapper();
@@ -60,6 +60,11 @@ public final class ExcludeMetadata extends BackwardCompatHelper<ExcludeMetadata.
         return "excludeMetadata";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "keys";
@@ -65,6 +65,11 @@ public final class ExcludeShapesBySelector extends ConfigurableProjectionTransfo
         return "excludeShapesBySelector";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     protected Model transformWithConfig(TransformContext context, Config config) {
         Selector selector = config.getSelector();
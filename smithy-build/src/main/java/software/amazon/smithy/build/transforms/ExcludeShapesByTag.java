@@ -65,6 +65,11 @@ public final class ExcludeShapesByTag extends BackwardCompatHelper<ExcludeShapes
         return "excludeShapesByTag";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "tags";
@@ -57,6 +57,11 @@ public final class ExcludeShapesByTrait extends ConfigurableProjectionTransforme
         return "excludeShapesByTrait";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     public Class<Config> getConfigType() {
         return Config.class;
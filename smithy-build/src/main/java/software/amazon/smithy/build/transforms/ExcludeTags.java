@@ -61,6 +61,11 @@ public final class ExcludeTags extends BackwardCompatHelper<ExcludeTags.Config>
         return "excludeTags";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "tags";
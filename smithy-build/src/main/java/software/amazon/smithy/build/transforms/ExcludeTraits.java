@@ -79,6 +79,11 @@ public final class ExcludeTraits extends BackwardCompatHelper<ExcludeTraits.Conf
         return "excludeTraits";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "traits";
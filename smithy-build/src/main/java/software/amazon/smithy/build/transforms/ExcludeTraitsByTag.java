@@ -68,6 +68,11 @@ public final class ExcludeTraitsByTag extends BackwardCompatHelper<ExcludeTraits
         return "excludeTraitsByTag";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "tags";
@@ -205,6 +205,11 @@ public final class FilterSuppressions extends ConfigurableProjectionTransformer<
         return "filterSuppressions";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     protected Model transformWithConfig(TransformContext context, Config config) {
         if (!config.getEventIdAllowList().isEmpty() && !config.getEventIdDenyList().isEmpty()) {
@@ -60,6 +60,11 @@ public final class IncludeMetadata extends BackwardCompatHelper<IncludeMetadata.
         return "includeMetadata";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "keys";
@@ -63,6 +63,11 @@ public final class IncludeNamespaces extends BackwardCompatHelper<IncludeNamespa
         return "includeNamespaces";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "namespaces";
@@ -62,6 +62,11 @@ public final class IncludeServices extends BackwardCompatHelper<IncludeServices.
         return "includeServices";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "services";
@@ -64,6 +64,11 @@ public final class IncludeShapesBySelector extends ConfigurableProjectionTransfo
         return "includeShapesBySelector";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
 
     @Override
     protected Model transformWithConfig(TransformContext context, Config config) {
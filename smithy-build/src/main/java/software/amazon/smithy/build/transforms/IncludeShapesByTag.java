@@ -66,6 +66,11 @@ public final class IncludeShapesByTag extends BackwardCompatHelper<IncludeShapes
         return "includeShapesByTag";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "tags";
@@ -62,6 +62,11 @@ public final class IncludeTags extends BackwardCompatHelper<IncludeTags.Config>
         return "includeTags";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "tags";
@@ -79,6 +79,11 @@ public final class IncludeTraits extends BackwardCompatHelper<IncludeTraits.Conf
         return "includeTraits";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "traits";
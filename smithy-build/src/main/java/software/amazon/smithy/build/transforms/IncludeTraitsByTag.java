@@ -68,6 +68,11 @@ public final class IncludeTraitsByTag extends BackwardCompatHelper<IncludeTraits
         return "includeTraitsByTag";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     String getBackwardCompatibleNameMapping() {
         return "tags";
@@ -79,4 +79,9 @@ public final class RemoveTraitDefinitions extends ConfigurableProjectionTransfor
     public String getName() {
         return "removeTraitDefinitions";
     }
+
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
 }
@@ -70,6 +70,11 @@ public final class RemoveUnusedShapes extends BackwardCompatHelper<RemoveUnusedS
         return "removeUnusedShapes";
     }
 
+    @Override
+    public boolean isValidationMonotone() {
+        return true;
+    }
+
     @Override
     public String getBackwardCompatibleNameMapping() {
         return "exportTagged";
@@ -25,6 +25,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -111,6 +112,33 @@ public class FileManifestTest {
         assertThat(new String(Files.readAllBytes(outputDirectory.resolve("foo/file.txt"))), equalTo("The contents"));
     }
 
+    @Test
+    public void writesFromWriter() throws IOException {
+        FileManifest a = FileManifest.create(outputDirectory);
+        a.writeFile("foo/file.txt", writer -> {
+            try {
+                writer.write("The contents");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        assertThat(Files.isRegularFile(outputDirectory.resolve("foo/file.txt")), is(true));
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("foo/file.txt"))), equalTo("The contents"));
+    }
+
+    @Test
+    public void wrapsWriterFailures() {
+        FileManifest a = FileManifest.create(outputDirectory);
+        Exception thrown = Assertions.assertThrows(SmithyBuildException.class, () -> {
+            a.writeFile("foo/file.txt", writer -> {
+                throw new UncheckedIOException(new IOException("Nope"));
+            });
+        });
+
+        assertThat(thrown.getMessage(), containsString("Nope"));
+    }
+
     @Test
     public void writesClassResources() {
         FileManifest a = FileManifest.create(outputDirectory);
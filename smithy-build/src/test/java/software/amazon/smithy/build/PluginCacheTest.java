@@ -0,0 +1,73 @@
+package software.amazon.smithy.build;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.smithy.utils.IoUtils;
+
+public class PluginCacheTest {
+    @Test
+    public void restoresStoredEntries(@TempDir Path dir) {
+        PluginCache cache = new PluginCache(dir.resolve("cache"));
+        FileManifest source = FileManifest.create(dir.resolve("source"));
+        source.writeFile("a.txt", "a");
+        source.writeFile("nested/b.txt", "b");
+        cache.store("key", source);
+
+        FileManifest restored = FileManifest.create(dir.resolve("restored"));
+
+        assertTrue(cache.restore("key", restored));
+        assertThat(IoUtils.readUtf8File(dir.resolve("restored/a.txt")), equalTo("a"));
+        assertThat(IoUtils.readUtf8File(dir.resolve("restored/nested/b.txt")), equalTo("b"));
+        assertTrue(restored.hasFile("nested/b.txt"));
+        assertThat(cache.getHitCount(), equalTo(1L));
+        assertThat(cache.getMissCount(), equalTo(0L));
+    }
+
+    @Test
+    public void missesUnknownEntries(@TempDir Path dir) {
+        PluginCache cache = new PluginCache(dir);
+
+        assertFalse(cache.restore("missing", new MockManifest()));
+        assertThat(cache.getMissCount(), equalTo(1L));
+    }
+
+    @Test
+    public void doesNotStoreFilesThatAreNotOnDisk(@TempDir Path dir) {
+        PluginCache cache = new PluginCache(dir);
+        MockManifest manifest = new MockManifest();
+        manifest.writeFile("a.txt", "a");
+        cache.store("key", manifest);
+
+        assertFalse(Files.exists(dir.resolve("key")));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntries(@TempDir Path dir) throws IOException {
+        Path cacheDir = dir.resolve("cache");
+        PluginCache cache = new PluginCache(cacheDir, 15);
+        FileManifest manifest = FileManifest.create(dir.resolve("source"));
+        manifest.writeFile("a.txt", "0123456789");
+        cache.store("old", manifest);
+        cache.store("new", manifest);
+        Files.setLastModifiedTime(cacheDir.resolve("old"), FileTime.fromMillis(0));
+        cache.evict();
+
+        assertFalse(Files.exists(cacheDir.resolve("old")));
+        assertTrue(Files.exists(cacheDir.resolve("new")));
+    }
+
+    @Test
+    public void validatesMaxSize(@TempDir Path dir) {
+        assertThrows(IllegalArgumentException.class, () -> new PluginCache(dir, -1));
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.smithy.build;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
@@ -30,6 +31,9 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -41,13 +45,18 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -329,6 +338,317 @@ public class SmithyBuildTest {
                 outputDirectory.resolve("source/test1Serial/hello1Serial")));
     }
 
+    @Test
+    public void runsNonSerialPluginsOfProjectionConcurrently() throws Exception {
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .load(Paths.get(getClass().getResource("concurrent-plugins.json").toURI()))
+                .outputDirectory(outputDirectory.toString())
+                .build();
+
+        // Each plugin waits for the other to start, which can only happen when they run at the same time.
+        CountDownLatch started = new CountDownLatch(2);
+        Map<String, SmithyBuildPlugin> plugins = new HashMap<>();
+        for (String name : ListUtils.of("first", "second")) {
+            plugins.put(name, new SmithyBuildPlugin() {
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public void execute(PluginContext context) {
+                    started.countDown();
+                    try {
+                        boolean sawOther = started.await(10, TimeUnit.SECONDS);
+                        context.getFileManifest().writeFile("result", String.valueOf(sawOther));
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+        }
+
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(plugins.get(name)), () -> factory.apply(name));
+
+        SmithyBuildResult results = new SmithyBuild()
+                .config(config)
+                .fileManifestFactory(MockManifest::new)
+                .pluginFactory(composed)
+                .pluginParallelism(2)
+                .build();
+        ProjectionResult result = results.getProjectionResult("concurrent").get();
+
+        MockManifest first = (MockManifest) result.getPluginManifest("first").get();
+        MockManifest second = (MockManifest) result.getPluginManifest("second").get();
+
+        assertThat(first.expectFileString("result"), equalTo("true"));
+        assertThat(second.expectFileString("result"), equalTo("true"));
+    }
+
+    @Test
+    public void reportsErrorOfFirstPluginWhenRunningConcurrently() throws Exception {
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .load(Paths.get(getClass().getResource("concurrent-plugins.json").toURI()))
+                .outputDirectory(outputDirectory.toString())
+                .build();
+
+        // "second" fails before "first" does, but the error of the first plugin in the projection is thrown.
+        RuntimeException firstError = new RuntimeException("first");
+        RuntimeException secondError = new RuntimeException("second");
+        CountDownLatch secondFailed = new CountDownLatch(1);
+        Map<String, SmithyBuildPlugin> plugins = new HashMap<>();
+        plugins.put("first", new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "first";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                try {
+                    secondFailed.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw firstError;
+            }
+        });
+        plugins.put("second", new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "second";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                secondFailed.countDown();
+                throw secondError;
+            }
+        });
+
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(plugins.get(name)), () -> factory.apply(name));
+
+        SmithyBuild builder = new SmithyBuild()
+                .config(config)
+                .fileManifestFactory(MockManifest::new)
+                .pluginFactory(composed)
+                .pluginParallelism(2);
+
+        SmithyBuildException e = Assertions.assertThrows(SmithyBuildException.class, builder::build);
+
+        assertThat(e.getMessage(), containsString("java.lang.RuntimeException: first"));
+        assertThat(e.getSuppressed(), equalTo(new Throwable[]{firstError}));
+    }
+
+    @Test
+    public void rejectsInvalidPluginParallelism() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SmithyBuild().pluginParallelism(0));
+    }
+
+    @Test
+    public void incrementallyValidatesProjectionsOfMonotoneTransforms() {
+        Model model = Model.assembler()
+                .addUnparsedModel("example.smithy", "$version: \"2\"\n"
+                        + "namespace smithy.example\n"
+                        + "structure A {\n"
+                        + "    b: B\n"
+                        + "    c: C\n"
+                        + "}\n"
+                        + "@deprecated\n"
+                        + "@tags([\"internal\"])\n"
+                        + "string B\n"
+                        + "@pattern(\"[a-z]+\")\n"
+                        + "string C\n")
+                .assemble()
+                .getResult()
+                .get();
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .projections(MapUtils.of("internal", ProjectionConfig.builder()
+                        .transforms(ListUtils.of(TransformConfig.builder()
+                                .name("excludeShapesByTag")
+                                .args(Node.objectNode().withMember("tags", Node.fromStrings("internal")))
+                                .build()))
+                        .build()))
+                .build();
+
+        SmithyBuildResult results = new SmithyBuild()
+                .config(config)
+                .model(model)
+                .fileManifestFactory(MockManifest::new)
+                .build();
+        ProjectionResult result = results.getProjectionResult("internal").get();
+        List<ValidationEvent> expected = Model.assembler()
+                .addModel(result.getModel())
+                .assemble()
+                .getValidationEvents();
+
+        List<String> eventIds = result.getEvents().stream()
+                .map(ValidationEvent::getId)
+                .collect(Collectors.toList());
+
+        // The warning about B is gone, while the warning about C, which didn't change, is still emitted.
+        assertThat(result.getEvents(), containsInAnyOrder(expected.toArray()));
+        assertThat(eventIds, hasItem("PatternTrait"));
+        assertFalse(eventIds.stream().anyMatch(id -> id.startsWith("DeprecatedShape")));
+    }
+
+    @Test
+    public void onlySubtractiveBuiltinTransformsAreValidationMonotone() {
+        Function<String, Optional<ProjectionTransformer>> factory = ProjectionTransformer.createServiceFactory(
+                getClass().getClassLoader());
+
+        assertTrue(factory.apply("excludeShapesByTag").get().isValidationMonotone());
+        assertTrue(factory.apply("includeServices").get().isValidationMonotone());
+        assertFalse(factory.apply("renameShapes").get().isValidationMonotone());
+        assertFalse(factory.apply("flattenNamespaces").get().isValidationMonotone());
+        assertFalse(factory.apply("apply").get().isValidationMonotone());
+    }
+
+    @Test
+    public void restoresCacheablePluginsFromBuildCache(@TempDir Path cacheDir) throws Exception {
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .load(Paths.get(getClass().getResource("concurrent-plugins.json").toURI()))
+                .outputDirectory(outputDirectory.toString())
+                .build();
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("simple-model.json"))
+                .assemble()
+                .unwrap();
+
+        AtomicInteger executions = new AtomicInteger();
+        Map<String, SmithyBuildPlugin> plugins = new HashMap<>();
+        for (String name : ListUtils.of("first", "second")) {
+            plugins.put(name, new SmithyBuildPlugin() {
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public boolean isCacheable() {
+                    return name.equals("first");
+                }
+
+                @Override
+                public void execute(PluginContext context) {
+                    executions.incrementAndGet();
+                    context.getFileManifest().writeFile("nested/shapes", String.valueOf(context.getModel()
+                            .getShapeIds()
+                            .size()));
+                }
+            });
+        }
+
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(plugins.get(name)), () -> factory.apply(name));
+        PluginCache cache = new PluginCache(cacheDir);
+        Supplier<SmithyBuild> builder = () -> new SmithyBuild()
+                .config(config)
+                .model(model)
+                .pluginFactory(composed)
+                .pluginCache(cache);
+
+        builder.get().build();
+        IoUtils.rmdir(outputDirectory.resolve("concurrent"));
+        SmithyBuildResult result = builder.get().build();
+        Path restored = outputDirectory.resolve("concurrent/first/nested/shapes");
+
+        // "first" is restored, and "second" isn't cacheable so it runs again.
+        assertThat(executions.get(), equalTo(3));
+        assertThat(IoUtils.readUtf8File(restored), equalTo(String.valueOf(model.getShapeIds().size())));
+        assertThat(result.getProjectionResult("concurrent").get().getPluginManifest("first").get().getFiles(),
+                   contains(restored));
+        assertTrue(cache.getHitCount() > 0);
+    }
+
+    @Test
+    public void buildCacheMissesWhenPluginSettingsChange(@TempDir Path cacheDir) {
+        AtomicInteger executions = new AtomicInteger();
+        SmithyBuildPlugin plugin = new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "counter";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                executions.incrementAndGet();
+                context.getFileManifest().writeFile("settings", Node.printJson(context.getSettings()));
+            }
+        };
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(name.equals("counter") ? plugin : null), () -> factory.apply(name));
+        PluginCache cache = new PluginCache(cacheDir);
+
+        for (String value : ListUtils.of("a", "b", "a")) {
+            SmithyBuildConfig config = SmithyBuildConfig.builder()
+                    .version(SmithyBuild.VERSION)
+                    .outputDirectory(outputDirectory.toString())
+                    .plugins(MapUtils.of("counter", Node.objectNode().withMember("value", value)))
+                    .build();
+            new SmithyBuild()
+                    .config(config)
+                    .model(Model.builder().build())
+                    .pluginFactory(composed)
+                    .pluginCache(cache)
+                    .build();
+        }
+
+        assertThat(executions.get(), equalTo(2));
+    }
+
+    @Test
+    public void buildCacheMissesWhenPluginDependenciesChange(@TempDir Path dir) throws IOException {
+        AtomicInteger executions = new AtomicInteger();
+        SmithyBuildPlugin plugin = new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "counter";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                executions.incrementAndGet();
+                context.getFileManifest().writeFile("count", String.valueOf(executions.get()));
+            }
+        };
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(name.equals("counter") ? plugin : null), () -> factory.apply(name));
+        PluginCache cache = new PluginCache(dir.resolve("cache"));
+        Path dependency = dir.resolve("dependency.jar");
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .outputDirectory(outputDirectory.toString())
+                .plugins(MapUtils.of("counter", Node.objectNode()))
+                .build();
+
+        for (String contents : ListUtils.of("a", "a", "updated")) {
+            if (!Files.exists(dependency) || !IoUtils.readUtf8File(dependency).equals(contents)) {
+                Files.write(dependency, contents.getBytes(StandardCharsets.UTF_8));
+            }
+            try (URLClassLoader loader = new URLClassLoader(new URL[] {dependency.toUri().toURL()})) {
+                new SmithyBuild()
+                        .config(config)
+                        .model(Model.builder().build())
+                        .pluginClassLoader(loader)
+                        .pluginFactory(composed)
+                        .pluginCache(cache)
+                        .build();
+            }
+        }
+
+        // The second build is restored from the cache, and updating the dependency runs the plugin again.
+        assertThat(executions.get(), equalTo(2));
+    }
+
     @Test
     public void cannotSetFiltersOrMappersOnSourceProjection() {
         Throwable thrown = Assertions.assertThrows(SmithyBuildException.class, () -> {
@@ -0,0 +1,31 @@
+package software.amazon.smithy.build.plugins;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+
+public class ModelPluginTest {
+    @Test
+    public void writesTheSameJsonAsSerializedNodes() {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("build-info/example.smithy"))
+                .assemble()
+                .unwrap();
+        MockManifest manifest = new MockManifest();
+        PluginContext context = PluginContext.builder()
+                .fileManifest(manifest)
+                .model(model)
+                .build();
+        new ModelPlugin().execute(context);
+
+        String expected = Node.prettyPrintJson(ModelSerializer.builder().build().serialize(model)) + "\n";
+
+        assertThat(manifest.getFileString("model.json").get(), equalTo(expected));
+    }
+}
@@ -15,14 +15,19 @@
 
 package software.amazon.smithy.cli.commands;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
 import software.amazon.smithy.build.model.SmithyBuildConfig;
 import software.amazon.smithy.cli.ArgumentReceiver;
 import software.amazon.smithy.cli.Arguments;
+import software.amazon.smithy.cli.CliPrinter;
 import software.amazon.smithy.cli.Command;
 import software.amazon.smithy.cli.HelpPrinter;
 import software.amazon.smithy.cli.dependencies.DependencyResolver;
 import software.amazon.smithy.model.Model;
-import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.ModelSerializer;
 import software.amazon.smithy.model.transform.ModelTransformer;
 import software.amazon.smithy.model.validation.Severity;
@@ -94,7 +99,44 @@ final class AstCommand implements Command {
         if (options.flatten) {
             model = ModelTransformer.create().flattenAndRemoveMixins(model);
         }
-        env.stdout().println(Node.prettyPrintJson(serializer.serialize(model)));
+
+        // Stream the model to stdout rather than first building a Node of the entire model.
+        try (Writer writer = new BufferedWriter(new PrinterWriter(env.stdout()))) {
+            serializer.serialize(model, writer);
+            writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
         return 0;
     }
+
+    // Adapts a CliPrinter to a Writer. Closing the writer only flushes the printer.
+    private static final class PrinterWriter extends Writer {
+        private final CliPrinter printer;
+
+        PrinterWriter(CliPrinter printer) {
+            this.printer = printer;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            printer.append(CharBuffer.wrap(buffer, offset, length));
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            printer.append(str, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+            printer.flush();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
 }
@@ -28,6 +28,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.build.PluginCache;
 import software.amazon.smithy.build.ProjectionResult;
 import software.amazon.smithy.build.SmithyBuild;
 import software.amazon.smithy.build.model.SmithyBuildConfig;
@@ -85,6 +86,17 @@ final class BuildCommand implements Command {
     private static final class Options implements ArgumentReceiver {
         private String projection;
         private String plugin;
+        private Integer pluginParallelism;
+        private boolean buildCache;
+
+        @Override
+        public boolean testOption(String name) {
+            if (name.equals("--build-cache")) {
+                buildCache = true;
+                return true;
+            }
+            return false;
+        }
 
         @Override
         public Consumer<String> testParameter(String name) {
@@ -93,6 +105,8 @@ final class BuildCommand implements Command {
                     return value -> projection = value;
                 case "--plugin":
                     return value -> plugin = value;
+                case "--plugin-parallelism":
+                    return value -> pluginParallelism = parsePluginParallelism(value);
                 default:
                     return null;
             }
@@ -102,6 +116,23 @@ final class BuildCommand implements Command {
         public void registerHelp(HelpPrinter printer) {
             printer.param("--projection", null, "PROJECTION_NAME", "Only generate artifacts for this projection.");
             printer.param("--plugin", null, "PLUGIN_NAME", "Only generate artifacts for this plugin.");
+            printer.option("--build-cache", null, "Restore the artifacts of plugins from a build cache when their "
+                                                  + "inputs haven't changed since a previous build.");
+            printer.param("--plugin-parallelism", null, "COUNT",
+                          "Maximum number of plugins of a projection to run concurrently. Defaults to the number "
+                          + "of available processors.");
+        }
+
+        private static int parsePluginParallelism(String value) {
+            try {
+                int parallelism = Integer.parseInt(value);
+                if (parallelism >= 1) {
+                    return parallelism;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to the error below.
+            }
+            throw new CliError("--plugin-parallelism must be a positive integer, but found: " + value);
         }
     }
 
@@ -143,6 +174,16 @@ final class BuildCommand implements Command {
             smithyBuild.pluginFilter(name -> name.equals(options.plugin));
         }
 
+        if (options.pluginParallelism != null) {
+            smithyBuild.pluginParallelism(options.pluginParallelism);
+        }
+
+        PluginCache pluginCache = null;
+        if (options.buildCache) {
+            pluginCache = new PluginCache(CliCache.getBuildCache().get());
+            smithyBuild.pluginCache(pluginCache);
+        }
+
         if (options.projection != null) {
             smithyBuild.projectionFilter(name -> name.equals(options.projection));
         }
@@ -158,10 +199,15 @@ final class BuildCommand implements Command {
         if (!standardOptions.quiet()) {
             try (ColorBuffer buffer = ColorBuffer.of(env.colors(), env.stderr())) {
                 buffer.print("Summary", ColorTheme.EM_UNDERLINE);
-                buffer.println(String.format(": Smithy built %s projection(s), %s plugin(s), and %s artifacts",
+                buffer.print(String.format(": Smithy built %s projection(s), %s plugin(s), and %s artifacts",
                                        resultConsumer.projectionCount,
                                        resultConsumer.pluginCount,
                                        resultConsumer.artifactCount));
+                if (pluginCache != null) {
+                    buffer.print(String.format(" (%s plugin(s) restored from the build cache)",
+                                               pluginCache.getHitCount()));
+                }
+                buffer.println();
             }
         }
 
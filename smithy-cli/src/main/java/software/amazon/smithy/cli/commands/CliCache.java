@@ -20,6 +20,10 @@ interface CliCache {
         return () -> ROOT_CACHE_DIR.resolve("templates");
     }
 
+    static CliCache getBuildCache() {
+        return () -> ROOT_CACHE_DIR.resolve("build");
+    }
+
     Path getPath();
 
     default boolean clear() {
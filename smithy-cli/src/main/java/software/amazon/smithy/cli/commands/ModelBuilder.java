@@ -15,9 +15,12 @@
 
 package software.amazon.smithy.cli.commands;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -37,9 +40,11 @@ import software.amazon.smithy.cli.Style;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.ModelAssembler;
 import software.amazon.smithy.model.loader.sourcecontext.SourceContextLoader;
+import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.ValidatorProfile;
 import software.amazon.smithy.utils.SmithyBuilder;
 
 /**
@@ -163,9 +168,16 @@ final class ModelBuilder {
             validationMode = Validator.Mode.from(standardOptions);
         }
 
+        ValidatorProfile validatorProfile = null;
+
         if (validatedResult == null) {
             ModelAssembler assembler = createModelAssembler(classLoader);
 
+            if (validatorOptions.profileValidators() || validatorOptions.profileValidatorsJson() != null) {
+                validatorProfile = new ValidatorProfile();
+                assembler.validatorProfile(validatorProfile);
+            }
+
             if (validationMode == Validator.Mode.QUIET_CORE_ONLY) {
                 assembler.disableValidation();
             }
@@ -217,6 +229,10 @@ final class ModelBuilder {
             validationOutputFormat.endPrinting(validationPrinter);
         }
 
+        if (validatorProfile != null) {
+            reportValidatorProfile(validatorOptions, validatorProfile, stderr);
+        }
+
         env.flush();
         // Note: disabling validation will still show a summary of failures if the model can't be loaded.
         Validator.validate(validationMode != Validator.Mode.ENABLE, colors, stderr, validatedResult);
@@ -257,6 +273,42 @@ final class ModelBuilder {
         }
     }
 
+    private static void reportValidatorProfile(
+            ValidatorOptions options,
+            ValidatorProfile profile,
+            CliPrinter stderr
+    ) {
+        if (options.profileValidatorsJson() != null) {
+            try {
+                Files.write(Paths.get(options.profileValidatorsJson()),
+                            Node.prettyPrintJson(profile.toNode()).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new CliError("Unable to write validator profile to " + options.profileValidatorsJson()
+                                   + ": " + e.getMessage());
+            }
+        }
+
+        if (options.profileValidators()) {
+            stderr.println(String.format("%10s %10s %12s %8s  %s", "WALL (ms)", "CPU (ms)", "ALLOC (KB)",
+                                         "EVENTS", "VALIDATOR"));
+            for (ValidatorProfile.Entry entry : profile.getEntries()) {
+                String name = entry.getName().equals(entry.getType())
+                        ? entry.getName()
+                        : entry.getName() + " (" + entry.getType() + ")";
+                stderr.println(String.format("%10.2f %10s %12s %8d  %s",
+                                             entry.getWallTimeNanos() / 1_000_000.0,
+                                             formatMeasurement(entry.getCpuTimeNanos(), 1_000_000.0),
+                                             formatMeasurement(entry.getAllocatedBytes(), 1024.0),
+                                             entry.getEventCount(),
+                                             name));
+            }
+        }
+    }
+
+    private static String formatMeasurement(long value, double unit) {
+        return value < 0 ? "-" : String.format("%.2f", value / unit);
+    }
+
     private static void handleUnknownTraitsOption(BuildOptions options, ModelAssembler assembler) {
         if (options.allowUnknownTraits()) {
             LOGGER.fine("Ignoring unknown traits");
@@ -24,10 +24,14 @@ final class ValidatorOptions implements ArgumentReceiver {
     static final String SEVERITY = "--severity";
     static final String SHOW_VALIDATORS = "--show-validators";
     static final String HIDE_VALIDATORS = "--hide-validators";
+    static final String PROFILE_VALIDATORS = "--profile-validators";
+    static final String PROFILE_VALIDATORS_JSON = "--profile-validators-json";
 
     private Severity severity;
     private List<String> showValidators = Collections.emptyList();
     private List<String> hideValidators = Collections.emptyList();
+    private boolean profileValidators;
+    private String profileValidatorsJson;
 
     @Override
     public void registerHelp(HelpPrinter printer) {
@@ -39,6 +43,19 @@ final class ValidatorOptions implements ArgumentReceiver {
         printer.param(HIDE_VALIDATORS, null, "VALIDATORS", "Comma-separated list of hierarchical validation event "
                                                            + "IDs to hide in the output of the command, "
                                                            + "showing the rest.");
+        printer.option(PROFILE_VALIDATORS, null, "Print the wall time, CPU time, and allocated bytes of each "
+                                                 + "validator, sorted from slowest to fastest.");
+        printer.param(PROFILE_VALIDATORS_JSON, null, "PATH", "Write the wall time, CPU time, and allocated bytes "
+                                                             + "of each validator to a JSON file.");
+    }
+
+    @Override
+    public boolean testOption(String name) {
+        if (PROFILE_VALIDATORS.equals(name)) {
+            profileValidators = true;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -64,6 +81,8 @@ final class ValidatorOptions implements ArgumentReceiver {
                     }
                     hideValidators(parseIds(value));
                 };
+            case PROFILE_VALIDATORS_JSON:
+                return value -> profileValidatorsJson = value;
             default:
                 return null;
         }
@@ -152,6 +171,24 @@ final class ValidatorOptions implements ArgumentReceiver {
         this.hideValidators = validators;
     }
 
+    /**
+     * Check if a report of the cost of each validator should be printed.
+     *
+     * @return Returns true if validators are profiled and printed.
+     */
+    boolean profileValidators() {
+        return profileValidators;
+    }
+
+    /**
+     * Get the path of the file to write a JSON report of the cost of each validator to.
+     *
+     * @return Returns the nullable path.
+     */
+    String profileValidatorsJson() {
+        return profileValidatorsJson;
+    }
+
     /**
      * Check if the given validation event matches the show/hide settings.
      *
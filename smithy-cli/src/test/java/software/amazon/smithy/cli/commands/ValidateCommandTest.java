@@ -22,10 +22,14 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import software.amazon.smithy.cli.CliUtils;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.validation.Severity;
 
 public class ValidateCommandTest {
@@ -255,4 +259,31 @@ public class ValidateCommandTest {
         assertThat(result.code(), not(0));
         assertThat(result.stderr(), containsString("Unexpected --format: `HELLO`"));
     }
+
+    @Test
+    public void canPrintValidatorProfile() throws Exception {
+        Path validationEventsModel = Paths.get(getClass().getResource("validation-events.smithy").toURI());
+        CliUtils.Result result = CliUtils.runSmithy("validate", "--profile-validators",
+                                                    validationEventsModel.toString());
+
+        assertThat(result.code(), not(0));
+        assertThat(result.stderr(), containsString("WALL (ms)"));
+        assertThat(result.stderr(), containsString("EmitWarnings (EmitEachSelector)"));
+        assertThat(result.stderr(), containsString("HttpLabelTrait"));
+    }
+
+    @Test
+    public void canWriteValidatorProfileAsJson(@TempDir Path tempDir) throws Exception {
+        Path validationEventsModel = Paths.get(getClass().getResource("validation-events.smithy").toURI());
+        Path profile = tempDir.resolve("profile.json");
+        CliUtils.Result result = CliUtils.runSmithy("validate", "--profile-validators-json", profile.toString(),
+                                                    validationEventsModel.toString());
+
+        assertThat(result.code(), not(0));
+        assertThat(result.stderr(), not(containsString("WALL (ms)")));
+        ObjectNode node = Node.parse(new String(Files.readAllBytes(profile), "UTF-8")).expectObjectNode();
+        assertThat(node.expectArrayMember("validators").getElementsAs(ObjectNode.class).stream()
+                           .anyMatch(entry -> entry.expectStringMember("name").getValue().equals("EmitWarnings")),
+                   is(true));
+    }
 }
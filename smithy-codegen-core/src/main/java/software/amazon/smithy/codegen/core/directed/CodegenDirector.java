@@ -33,7 +33,7 @@ import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.codegen.core.SymbolWriter;
 import software.amazon.smithy.codegen.core.TopologicalIndex;
 import software.amazon.smithy.model.Model;
-import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.knowledge.ServiceClosureIndex;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.NodeMapper;
 import software.amazon.smithy.model.node.ObjectNode;
@@ -460,7 +460,7 @@ public final class CodegenDirector<
     private void generateShapesInService(C context, ServiceShape serviceShape) {
         LOGGER.fine(() -> String.format("Generating shapes for %s in %s order",
                 directedCodegen.getClass().getName(), this.shapeGenerationOrder.name()));
-        Set<Shape> shapes = new Walker(context.model()).walkShapes(serviceShape);
+        Set<Shape> shapes = ServiceClosureIndex.of(context.model()).getClosure(serviceShape);
         ShapeGenerator<W, C, S> generator = new ShapeGenerator<>(context, serviceShape, directedCodegen);
         List<Shape> orderedShapes = new ArrayList<>();
 
@@ -15,13 +15,12 @@
 
 package software.amazon.smithy.codegen.core.directed;
 
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.ServiceClosureIndex;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
-import software.amazon.smithy.model.neighbor.Walker;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.Shape;
@@ -75,10 +74,8 @@ public abstract class Directive<S> {
         Map<ShapeId, Shape> result = connectedShapes;
         if (result == null) {
             result = new TreeMap<>();
-            Iterator<Shape> iterator = new Walker(model).iterateShapes(service);
-            while (iterator.hasNext()) {
-                Shape next = iterator.next();
-                result.put(next.getId(), next);
+            for (Shape shape : ServiceClosureIndex.of(model).getClosure(service)) {
+                result.put(shape.getId(), shape);
             }
             connectedShapes = result;
         }
@@ -0,0 +1,540 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The built-in JMESPath functions.
+ *
+ * @see <a href="https://jmespath.org/specification.html#built-in-functions">Built-in functions</a>
+ */
+enum BuiltinFunction {
+
+    ABS("abs", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            return number(runtime, Math.abs(expectNumber(runtime, args[0].evaluate(current, runtime))));
+        }
+    },
+
+    AVG("avg", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T array = expect(runtime, args[0].evaluate(current, runtime), RuntimeType.ARRAY);
+            int size = runtime.size(array);
+            return size == 0 ? runtime.createNull() : runtime.createNumber(sum(runtime, array) / size);
+        }
+    },
+
+    CEIL("ceil", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            return number(runtime, Math.ceil(expectNumber(runtime, args[0].evaluate(current, runtime))));
+        }
+    },
+
+    CONTAINS("contains", 2) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T subject = args[0].evaluate(current, runtime);
+            T search = args[1].evaluate(current, runtime);
+            RuntimeType type = runtime.typeOf(subject);
+            if (type == RuntimeType.STRING) {
+                return runtime.createBoolean(runtime.typeOf(search) == RuntimeType.STRING
+                                             && runtime.asString(subject).contains(runtime.asString(search)));
+            }
+            expect(runtime, subject, RuntimeType.ARRAY);
+            for (T element : runtime.values(subject)) {
+                if (runtime.isEqual(element, search)) {
+                    return runtime.createBoolean(true);
+                }
+            }
+            return runtime.createBoolean(false);
+        }
+    },
+
+    ENDS_WITH("ends_with", 2) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            String subject = expectString(runtime, args[0].evaluate(current, runtime));
+            return runtime.createBoolean(subject.endsWith(expectString(runtime, args[1].evaluate(current, runtime))));
+        }
+    },
+
+    FLOOR("floor", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            return number(runtime, Math.floor(expectNumber(runtime, args[0].evaluate(current, runtime))));
+        }
+    },
+
+    JOIN("join", 2) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            String glue = expectString(runtime, args[0].evaluate(current, runtime));
+            T array = expect(runtime, args[1].evaluate(current, runtime), RuntimeType.ARRAY);
+            StringBuilder result = new StringBuilder();
+            for (T element : runtime.values(array)) {
+                if (result.length() > 0) {
+                    result.append(glue);
+                }
+                result.append(expectString(runtime, element));
+            }
+            return runtime.createString(result.toString());
+        }
+    },
+
+    KEYS("keys", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T object = expect(runtime, args[0].evaluate(current, runtime), RuntimeType.OBJECT);
+            List<T> result = new ArrayList<>(runtime.size(object));
+            for (String key : runtime.keys(object)) {
+                result.add(runtime.createString(key));
+            }
+            return runtime.createArray(result);
+        }
+    },
+
+    LENGTH("length", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T value = args[0].evaluate(current, runtime);
+            switch (runtime.typeOf(value)) {
+                case STRING:
+                    String string = runtime.asString(value);
+                    return runtime.createNumber(string.codePointCount(0, string.length()));
+                case ARRAY:
+                case OBJECT:
+                    return runtime.createNumber(runtime.size(value));
+                default:
+                    throw invalidType(runtime, value, "string, array, or object");
+            }
+        }
+    },
+
+    MAP("map", 2) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            Instruction expression = expressionReference(args[0]);
+            T array = expect(runtime, args[1].evaluate(current, runtime), RuntimeType.ARRAY);
+            List<T> result = new ArrayList<>(runtime.size(array));
+            for (T element : runtime.values(array)) {
+                result.add(expression.evaluate(element, runtime));
+            }
+            return runtime.createArray(result);
+        }
+    },
+
+    MAX("max", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            List<T> values = sortable(runtime, args[0].evaluate(current, runtime));
+            return values.isEmpty() ? runtime.createNull() : Collections.max(values, comparator(runtime));
+        }
+    },
+
+    MAX_BY("max_by", 2) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            List<T> sorted = sortBy(current, runtime, args);
+            return sorted.isEmpty() ? runtime.createNull() : sorted.get(sorted.size() - 1);
+        }
+    },
+
+    MERGE("merge", 0, true) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            Map<String, T> result = new LinkedHashMap<>();
+            for (Instruction arg : args) {
+                T object = expect(runtime, arg.evaluate(current, runtime), RuntimeType.OBJECT);
+                for (String key : runtime.keys(object)) {
+                    result.put(key, runtime.value(object, key));
+                }
+            }
+            return runtime.createObject(result);
+        }
+    },
+
+    MIN("min", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            List<T> values = sortable(runtime, args[0].evaluate(current, runtime));
+            return values.isEmpty() ? runtime.createNull() : Collections.min(values, comparator(runtime));
+        }
+    },
+
+    MIN_BY("min_by", 2) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            List<T> sorted = sortBy(current, runtime, args);
+            return sorted.isEmpty() ? runtime.createNull() : sorted.get(0);
+        }
+    },
+
+    NOT_NULL("not_null", 1, true) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            for (Instruction arg : args) {
+                T value = arg.evaluate(current, runtime);
+                if (runtime.typeOf(value) != RuntimeType.NULL) {
+                    return value;
+                }
+            }
+            return runtime.createNull();
+        }
+    },
+
+    REVERSE("reverse", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T value = args[0].evaluate(current, runtime);
+            if (runtime.typeOf(value) == RuntimeType.STRING) {
+                return runtime.createString(new StringBuilder(runtime.asString(value)).reverse().toString());
+            }
+            List<T> result = toList(runtime, expect(runtime, value, RuntimeType.ARRAY));
+            Collections.reverse(result);
+            return runtime.createArray(result);
+        }
+    },
+
+    SORT("sort", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            List<T> result = sortable(runtime, args[0].evaluate(current, runtime));
+            result.sort(comparator(runtime));
+            return runtime.createArray(result);
+        }
+    },
+
+    SORT_BY("sort_by", 2) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            return runtime.createArray(sortBy(current, runtime, args));
+        }
+    },
+
+    STARTS_WITH("starts_with", 2) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            String subject = expectString(runtime, args[0].evaluate(current, runtime));
+            return runtime.createBoolean(subject.startsWith(expectString(runtime, args[1].evaluate(current, runtime))));
+        }
+    },
+
+    SUM("sum", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T array = expect(runtime, args[0].evaluate(current, runtime), RuntimeType.ARRAY);
+            return number(runtime, sum(runtime, array));
+        }
+    },
+
+    TO_ARRAY("to_array", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T value = args[0].evaluate(current, runtime);
+            return runtime.typeOf(value) == RuntimeType.ARRAY
+                   ? value
+                   : runtime.createArray(Collections.singletonList(value));
+        }
+    },
+
+    TO_NUMBER("to_number", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T value = args[0].evaluate(current, runtime);
+            switch (runtime.typeOf(value)) {
+                case NUMBER:
+                    return value;
+                case STRING:
+                    try {
+                        return number(runtime, Double.parseDouble(runtime.asString(value)));
+                    } catch (NumberFormatException e) {
+                        return runtime.createNull();
+                    }
+                default:
+                    return runtime.createNull();
+            }
+        }
+    },
+
+    TO_STRING("to_string", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            T value = args[0].evaluate(current, runtime);
+            if (runtime.typeOf(value) == RuntimeType.STRING) {
+                return value;
+            }
+            StringBuilder result = new StringBuilder();
+            writeJson(runtime, value, result);
+            return runtime.createString(result.toString());
+        }
+    },
+
+    TYPE("type", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            return runtime.createString(runtime.typeOf(args[0].evaluate(current, runtime)).toString());
+        }
+    },
+
+    VALUES("values", 1) {
+        @Override
+        <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+            return runtime.createArray(toList(runtime, expect(runtime, args[0].evaluate(current, runtime),
+                                                              RuntimeType.OBJECT)));
+        }
+    };
+
+    private static final Map<String, BuiltinFunction> FUNCTIONS = new HashMap<>();
+
+    static {
+        for (BuiltinFunction function : values()) {
+            FUNCTIONS.put(function.functionName, function);
+        }
+    }
+
+    private final String functionName;
+    private final int arity;
+    private final boolean variadic;
+
+    BuiltinFunction(String functionName, int arity) {
+        this(functionName, arity, false);
+    }
+
+    BuiltinFunction(String functionName, int arity, boolean variadic) {
+        this.functionName = functionName;
+        this.arity = arity;
+        this.variadic = variadic;
+    }
+
+    static BuiltinFunction of(String name) {
+        return FUNCTIONS.get(name);
+    }
+
+    /**
+     * Applies the function to its compiled arguments.
+     *
+     * @param current Current value the function is evaluated against.
+     * @param runtime Runtime used to inspect and create values.
+     * @param args Compiled arguments of the function.
+     * @param <T> Type of value to evaluate.
+     * @return Returns the result of the function.
+     */
+    abstract <T> T apply(T current, JmespathRuntime<T> runtime, Instruction[] args);
+
+    void validateArguments(Instruction[] args) {
+        if (args.length < arity || (!variadic && args.length > arity)) {
+            throw new JmespathException(functionName + " function expected " + arity + " arguments, but was given "
+                                        + args.length);
+        }
+        if (this == MAP) {
+            expressionReference(args[0]);
+        } else if (this == MAX_BY || this == MIN_BY || this == SORT_BY) {
+            expressionReference(args[1]);
+        }
+    }
+
+    private static Instruction expressionReference(Instruction argument) {
+        if (!(argument instanceof Compiler.ExpressionReference)) {
+            throw new JmespathException("Expected an expression reference argument");
+        }
+        return ((Compiler.ExpressionReference) argument).getExpression();
+    }
+
+    private static <T> T expect(JmespathRuntime<T> runtime, T value, RuntimeType type) {
+        if (runtime.typeOf(value) != type) {
+            throw invalidType(runtime, value, type.toString());
+        }
+        return value;
+    }
+
+    private static <T> double expectNumber(JmespathRuntime<T> runtime, T value) {
+        return runtime.asNumber(expect(runtime, value, RuntimeType.NUMBER)).doubleValue();
+    }
+
+    private static <T> String expectString(JmespathRuntime<T> runtime, T value) {
+        return runtime.asString(expect(runtime, value, RuntimeType.STRING));
+    }
+
+    private static <T> JmespathException invalidType(JmespathRuntime<T> runtime, T value, String expected) {
+        return new JmespathException("Invalid function argument type: expected " + expected + ", but found "
+                                     + runtime.typeOf(value));
+    }
+
+    // Creates integral numbers as longs so that results like sum([1, 2]) remain integers.
+    private static <T> T number(JmespathRuntime<T> runtime, double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return runtime.createNumber((long) value);
+        }
+        return runtime.createNumber(value);
+    }
+
+    private static <T> double sum(JmespathRuntime<T> runtime, T array) {
+        double result = 0;
+        for (T element : runtime.values(array)) {
+            result += expectNumber(runtime, element);
+        }
+        return result;
+    }
+
+    private static <T> List<T> toList(JmespathRuntime<T> runtime, T value) {
+        List<T> result = new ArrayList<>(runtime.size(value));
+        for (T element : runtime.values(value)) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    // Gets the elements of an array that must all be numbers or all be strings.
+    private static <T> List<T> sortable(JmespathRuntime<T> runtime, T array) {
+        List<T> result = toList(runtime, expect(runtime, array, RuntimeType.ARRAY));
+        checkSortable(runtime, result);
+        return result;
+    }
+
+    private static <T> void checkSortable(JmespathRuntime<T> runtime, List<T> values) {
+        if (!values.isEmpty()) {
+            RuntimeType type = runtime.typeOf(values.get(0));
+            if (type != RuntimeType.NUMBER && type != RuntimeType.STRING) {
+                throw invalidType(runtime, values.get(0), "number or string");
+            }
+            for (T value : values) {
+                expect(runtime, value, type);
+            }
+        }
+    }
+
+    private static <T> Comparator<T> comparator(JmespathRuntime<T> runtime) {
+        return (left, right) -> runtime.typeOf(left) == RuntimeType.NUMBER
+                ? Double.compare(runtime.asNumber(left).doubleValue(), runtime.asNumber(right).doubleValue())
+                : runtime.asString(left).compareTo(runtime.asString(right));
+    }
+
+    // Stable sort of an array by the result of an expression reference.
+    private static <T> List<T> sortBy(T current, JmespathRuntime<T> runtime, Instruction[] args) {
+        T array = expect(runtime, args[0].evaluate(current, runtime), RuntimeType.ARRAY);
+        Instruction expression = expressionReference(args[1]);
+        List<T> values = toList(runtime, array);
+        List<T> keys = new ArrayList<>(values.size());
+        for (T value : values) {
+            keys.add(expression.evaluate(value, runtime));
+        }
+        checkSortable(runtime, keys);
+
+        Integer[] order = new Integer[values.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Comparator<T> comparator = comparator(runtime);
+        Arrays.sort(order, (a, b) -> comparator.compare(keys.get(a), keys.get(b)));
+
+        List<T> result = new ArrayList<>(values.size());
+        for (Integer index : order) {
+            result.add(values.get(index));
+        }
+        return result;
+    }
+
+    private static <T> void writeJson(JmespathRuntime<T> runtime, T value, StringBuilder result) {
+        switch (runtime.typeOf(value)) {
+            case NULL:
+                result.append("null");
+                break;
+            case BOOLEAN:
+                result.append(runtime.asBoolean(value));
+                break;
+            case NUMBER:
+                Number number = runtime.asNumber(value);
+                double doubleValue = number.doubleValue();
+                if (doubleValue == Math.rint(doubleValue) && Math.abs(doubleValue) < 1e15) {
+                    result.append((long) doubleValue);
+                } else {
+                    result.append(number);
+                }
+                break;
+            case STRING:
+                writeString(runtime.asString(value), result);
+                break;
+            case ARRAY:
+                result.append('[');
+                boolean firstElement = true;
+                for (T element : runtime.values(value)) {
+                    if (!firstElement) {
+                        result.append(',');
+                    }
+                    firstElement = false;
+                    writeJson(runtime, element, result);
+                }
+                result.append(']');
+                break;
+            default:
+                result.append('{');
+                boolean firstMember = true;
+                for (String key : runtime.keys(value)) {
+                    if (!firstMember) {
+                        result.append(',');
+                    }
+                    firstMember = false;
+                    writeString(key, result);
+                    result.append(':');
+                    writeJson(runtime, runtime.value(value, key), result);
+                }
+                result.append('}');
+                break;
+        }
+    }
+
+    private static void writeString(String value, StringBuilder result) {
+        result.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+        result.append('"');
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A JMESPath expression compiled so that it can be evaluated.
+ *
+ * <p>Compiling an expression resolves its functions and converts its AST
+ * into a tree of evaluation steps, so evaluating the same expression many
+ * times only does the work that depends on the evaluated value. The AST is
+ * compiled the first time the expression is evaluated, so parsing an
+ * expression only to {@link JmespathExpression#lint() lint} it doesn't
+ * fail on problems the linter reports, like unknown functions. Compiled
+ * expressions can be evaluated concurrently.
+ *
+ * <pre>{@code
+ * CompiledExpression expression = CompiledExpression.parse("foo[?bar > `1`].baz");
+ * Object result = expression.evaluate(value, ObjectJmespathRuntime.INSTANCE);
+ * }</pre>
+ */
+public final class CompiledExpression {
+
+    private static final int MAX_CACHE_SIZE = 2048;
+
+    // A simple LRU cache based on LinkedHashMap, wrapped in a synchronized map. smithy-jmespath has no
+    // dependencies, so this can't use ExpressionCache from smithy-utils.
+    private static final Map<String, CompiledExpression> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, CompiledExpression>(MAX_CACHE_SIZE + 1, 1.0f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompiledExpression> eldest) {
+                    return size() > MAX_CACHE_SIZE;
+                }
+            });
+
+    private final JmespathExpression expression;
+    private volatile Instruction instruction;
+
+    private CompiledExpression(JmespathExpression expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Creates a compiled expression from a parsed JMESPath expression.
+     *
+     * @param expression Expression to compile.
+     * @return Returns the compiled expression.
+     */
+    public static CompiledExpression compile(JmespathExpression expression) {
+        return new CompiledExpression(expression);
+    }
+
+    /**
+     * Parses and compiles a JMESPath expression.
+     *
+     * <p>Compiled expressions are cached by their text in a bounded,
+     * least-recently used cache, so parsing the same expression again
+     * returns the same instance. Invalid expressions aren't cached.
+     *
+     * @param text Expression to parse.
+     * @return Returns the compiled expression.
+     * @throws JmespathException if the expression is invalid.
+     */
+    public static CompiledExpression parse(String text) {
+        // computeIfAbsent isn't used so the cache isn't locked while parsing.
+        CompiledExpression result = CACHE.get(text);
+        if (result == null) {
+            result = compile(JmespathExpression.parse(text));
+            CACHE.put(text, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the parsed expression that was compiled.
+     *
+     * @return Returns the parsed expression.
+     */
+    public JmespathExpression getExpression() {
+        return expression;
+    }
+
+    /**
+     * Evaluates the expression against a value.
+     *
+     * @param value Value to evaluate the expression against.
+     * @param runtime Runtime used to inspect and create values.
+     * @param <T> Type of value to evaluate.
+     * @return Returns the result of the expression.
+     * @throws JmespathException if the expression uses an unknown function, or if a function is given
+     *     invalid arguments.
+     */
+    public <T> T evaluate(T value, JmespathRuntime<T> runtime) {
+        Instruction result = instruction;
+        if (result == null) {
+            // Compiling is idempotent, so concurrent evaluations can each compile without locking.
+            instruction = result = Compiler.compile(expression);
+        }
+        return result.evaluate(value, runtime);
+    }
+}
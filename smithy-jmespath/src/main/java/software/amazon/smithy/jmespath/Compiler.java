@@ -0,0 +1,569 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.jmespath.ast.AndExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorType;
+import software.amazon.smithy.jmespath.ast.CurrentExpression;
+import software.amazon.smithy.jmespath.ast.ExpressionTypeExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.FilterProjectionExpression;
+import software.amazon.smithy.jmespath.ast.FlattenExpression;
+import software.amazon.smithy.jmespath.ast.FunctionExpression;
+import software.amazon.smithy.jmespath.ast.IndexExpression;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectHashExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectListExpression;
+import software.amazon.smithy.jmespath.ast.NotExpression;
+import software.amazon.smithy.jmespath.ast.ObjectProjectionExpression;
+import software.amazon.smithy.jmespath.ast.OrExpression;
+import software.amazon.smithy.jmespath.ast.ProjectionExpression;
+import software.amazon.smithy.jmespath.ast.SliceExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+
+/**
+ * Compiles a JMESPath AST into a tree of {@link Instruction}s.
+ *
+ * <p>Everything that can be resolved without a value, like functions,
+ * slice bounds, and the names selected by multi-select hashes, is resolved
+ * while compiling rather than on each evaluation.
+ */
+final class Compiler implements ExpressionVisitor<Instruction> {
+
+    private static final Instruction CURRENT = new Instruction() {
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            return current;
+        }
+    };
+
+    static Instruction compile(JmespathExpression expression) {
+        return expression.accept(new Compiler());
+    }
+
+    @Override
+    public Instruction visitComparator(ComparatorExpression expression) {
+        return new Comparator(expression.getComparator(),
+                              expression.getLeft().accept(this),
+                              expression.getRight().accept(this));
+    }
+
+    @Override
+    public Instruction visitCurrentNode(CurrentExpression expression) {
+        return CURRENT;
+    }
+
+    @Override
+    public Instruction visitExpressionType(ExpressionTypeExpression expression) {
+        return new ExpressionReference(expression.getExpression().accept(this));
+    }
+
+    @Override
+    public Instruction visitFlatten(FlattenExpression expression) {
+        return new Flatten(expression.getExpression().accept(this));
+    }
+
+    @Override
+    public Instruction visitFunction(FunctionExpression expression) {
+        BuiltinFunction function = BuiltinFunction.of(expression.getName());
+        if (function == null) {
+            throw new JmespathException("Unknown function: " + expression.getName());
+        }
+
+        Instruction[] arguments = new Instruction[expression.getArguments().size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = expression.getArguments().get(i).accept(this);
+        }
+        function.validateArguments(arguments);
+        return new Function(function, arguments);
+    }
+
+    @Override
+    public Instruction visitField(FieldExpression expression) {
+        return new Field(expression.getName());
+    }
+
+    @Override
+    public Instruction visitIndex(IndexExpression expression) {
+        return new Index(expression.getIndex());
+    }
+
+    @Override
+    public Instruction visitLiteral(LiteralExpression expression) {
+        return new Literal(expression.getValue());
+    }
+
+    @Override
+    public Instruction visitMultiSelectList(MultiSelectListExpression expression) {
+        Instruction[] elements = new Instruction[expression.getExpressions().size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = expression.getExpressions().get(i).accept(this);
+        }
+        return new MultiSelectList(elements);
+    }
+
+    @Override
+    public Instruction visitMultiSelectHash(MultiSelectHashExpression expression) {
+        String[] keys = new String[expression.getExpressions().size()];
+        Instruction[] values = new Instruction[keys.length];
+        int i = 0;
+        for (Map.Entry<String, JmespathExpression> entry : expression.getExpressions().entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue().accept(this);
+        }
+        return new MultiSelectHash(keys, values);
+    }
+
+    @Override
+    public Instruction visitAnd(AndExpression expression) {
+        return new And(expression.getLeft().accept(this), expression.getRight().accept(this));
+    }
+
+    @Override
+    public Instruction visitOr(OrExpression expression) {
+        return new Or(expression.getLeft().accept(this), expression.getRight().accept(this));
+    }
+
+    @Override
+    public Instruction visitNot(NotExpression expression) {
+        return new Not(expression.getExpression().accept(this));
+    }
+
+    @Override
+    public Instruction visitProjection(ProjectionExpression expression) {
+        return new Projection(expression.getLeft().accept(this), expression.getRight().accept(this));
+    }
+
+    @Override
+    public Instruction visitFilterProjection(FilterProjectionExpression expression) {
+        return new FilterProjection(expression.getLeft().accept(this),
+                                    expression.getComparison().accept(this),
+                                    expression.getRight().accept(this));
+    }
+
+    @Override
+    public Instruction visitObjectProjection(ObjectProjectionExpression expression) {
+        return new ObjectProjection(expression.getLeft().accept(this), expression.getRight().accept(this));
+    }
+
+    @Override
+    public Instruction visitSlice(SliceExpression expression) {
+        if (expression.getStep() == 0) {
+            throw new JmespathException("Slice step cannot be 0");
+        }
+        return new Slice(expression.getStart().isPresent() ? expression.getStart().getAsInt() : null,
+                         expression.getStop().isPresent() ? expression.getStop().getAsInt() : null,
+                         expression.getStep());
+    }
+
+    @Override
+    public Instruction visitSubexpression(Subexpression expression) {
+        Instruction left = expression.getLeft().accept(this);
+        Instruction right = expression.getRight().accept(this);
+        return left == CURRENT ? right : new Sequence(left, right);
+    }
+
+    private static final class Comparator extends Instruction {
+        private final ComparatorType type;
+        private final Instruction left;
+        private final Instruction right;
+
+        Comparator(ComparatorType type, Instruction left, Instruction right) {
+            this.type = type;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            T leftValue = left.evaluate(current, runtime);
+            T rightValue = right.evaluate(current, runtime);
+            switch (type) {
+                case EQUAL:
+                    return runtime.createBoolean(runtime.isEqual(leftValue, rightValue));
+                case NOT_EQUAL:
+                    return runtime.createBoolean(!runtime.isEqual(leftValue, rightValue));
+                default:
+                    break;
+            }
+
+            // Ordering comparisons are only defined for numbers.
+            if (runtime.typeOf(leftValue) != RuntimeType.NUMBER || runtime.typeOf(rightValue) != RuntimeType.NUMBER) {
+                return runtime.createNull();
+            }
+
+            int comparison = Double.compare(runtime.asNumber(leftValue).doubleValue(),
+                                            runtime.asNumber(rightValue).doubleValue());
+            switch (type) {
+                case LESS_THAN:
+                    return runtime.createBoolean(comparison < 0);
+                case LESS_THAN_EQUAL:
+                    return runtime.createBoolean(comparison <= 0);
+                case GREATER_THAN:
+                    return runtime.createBoolean(comparison > 0);
+                default:
+                    return runtime.createBoolean(comparison >= 0);
+            }
+        }
+    }
+
+    static final class ExpressionReference extends Instruction {
+        private final Instruction expression;
+
+        ExpressionReference(Instruction expression) {
+            this.expression = expression;
+        }
+
+        Instruction getExpression() {
+            return expression;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            throw new JmespathException("Expression references can only be used as function arguments");
+        }
+    }
+
+    private static final class Flatten extends Instruction {
+        private final Instruction expression;
+
+        Flatten(Instruction expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            T value = expression.evaluate(current, runtime);
+            if (runtime.typeOf(value) != RuntimeType.ARRAY) {
+                return runtime.createNull();
+            }
+
+            List<T> result = new ArrayList<>(runtime.size(value));
+            for (T element : runtime.values(value)) {
+                if (runtime.typeOf(element) == RuntimeType.ARRAY) {
+                    for (T nested : runtime.values(element)) {
+                        result.add(nested);
+                    }
+                } else {
+                    result.add(element);
+                }
+            }
+            return runtime.createArray(result);
+        }
+    }
+
+    private static final class Function extends Instruction {
+        private final BuiltinFunction function;
+        private final Instruction[] arguments;
+
+        Function(BuiltinFunction function, Instruction[] arguments) {
+            this.function = function;
+            this.arguments = arguments;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            return function.apply(current, runtime, arguments);
+        }
+    }
+
+    private static final class Field extends Instruction {
+        private final String name;
+
+        Field(String name) {
+            this.name = name;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            return runtime.typeOf(current) == RuntimeType.OBJECT
+                   ? runtime.value(current, name)
+                   : runtime.createNull();
+        }
+    }
+
+    private static final class Index extends Instruction {
+        private final int index;
+
+        Index(int index) {
+            this.index = index;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            if (runtime.typeOf(current) != RuntimeType.ARRAY) {
+                return runtime.createNull();
+            }
+            int size = runtime.size(current);
+            int position = index < 0 ? size + index : index;
+            return position >= 0 && position < size ? runtime.element(current, position) : runtime.createNull();
+        }
+    }
+
+    private static final class Literal extends Instruction {
+        private final Object value;
+
+        // The value converted by the most recently used runtime.
+        private volatile Converted converted;
+
+        Literal(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            Converted result = converted;
+            if (result == null || result.runtime != runtime) {
+                converted = result = new Converted(runtime, runtime.createLiteral(value));
+            }
+            return (T) result.value;
+        }
+
+        private static final class Converted {
+            private final JmespathRuntime<?> runtime;
+            private final Object value;
+
+            Converted(JmespathRuntime<?> runtime, Object value) {
+                this.runtime = runtime;
+                this.value = value;
+            }
+        }
+    }
+
+    private static final class MultiSelectList extends Instruction {
+        private final Instruction[] elements;
+
+        MultiSelectList(Instruction[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            if (runtime.typeOf(current) == RuntimeType.NULL) {
+                return current;
+            }
+            List<T> result = new ArrayList<>(elements.length);
+            for (Instruction element : elements) {
+                result.add(element.evaluate(current, runtime));
+            }
+            return runtime.createArray(result);
+        }
+    }
+
+    private static final class MultiSelectHash extends Instruction {
+        private final String[] keys;
+        private final Instruction[] values;
+
+        MultiSelectHash(String[] keys, Instruction[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            if (runtime.typeOf(current) == RuntimeType.NULL) {
+                return current;
+            }
+            Map<String, T> result = new LinkedHashMap<>(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                result.put(keys[i], values[i].evaluate(current, runtime));
+            }
+            return runtime.createObject(result);
+        }
+    }
+
+    private static final class And extends Instruction {
+        private final Instruction left;
+        private final Instruction right;
+
+        And(Instruction left, Instruction right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            T leftValue = left.evaluate(current, runtime);
+            return runtime.isTruthy(leftValue) ? right.evaluate(current, runtime) : leftValue;
+        }
+    }
+
+    private static final class Or extends Instruction {
+        private final Instruction left;
+        private final Instruction right;
+
+        Or(Instruction left, Instruction right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            T leftValue = left.evaluate(current, runtime);
+            return runtime.isTruthy(leftValue) ? leftValue : right.evaluate(current, runtime);
+        }
+    }
+
+    private static final class Not extends Instruction {
+        private final Instruction expression;
+
+        Not(Instruction expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            return runtime.createBoolean(!runtime.isTruthy(expression.evaluate(current, runtime)));
+        }
+    }
+
+    private static final class Projection extends Instruction {
+        private final Instruction left;
+        private final Instruction right;
+
+        Projection(Instruction left, Instruction right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            T value = left.evaluate(current, runtime);
+            if (runtime.typeOf(value) != RuntimeType.ARRAY) {
+                return runtime.createNull();
+            }
+            return project(runtime.values(value), runtime.size(value), right, runtime);
+        }
+    }
+
+    private static final class ObjectProjection extends Instruction {
+        private final Instruction left;
+        private final Instruction right;
+
+        ObjectProjection(Instruction left, Instruction right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            T value = left.evaluate(current, runtime);
+            if (runtime.typeOf(value) != RuntimeType.OBJECT) {
+                return runtime.createNull();
+            }
+            return project(runtime.values(value), runtime.size(value), right, runtime);
+        }
+    }
+
+    private static <T> T project(Iterable<T> values, int size, Instruction right, JmespathRuntime<T> runtime) {
+        List<T> result = new ArrayList<>(size);
+        for (T element : values) {
+            T projected = right == CURRENT ? element : right.evaluate(element, runtime);
+            if (runtime.typeOf(projected) != RuntimeType.NULL) {
+                result.add(projected);
+            }
+        }
+        return runtime.createArray(result);
+    }
+
+    private static final class FilterProjection extends Instruction {
+        private final Instruction left;
+        private final Instruction comparison;
+        private final Instruction right;
+
+        FilterProjection(Instruction left, Instruction comparison, Instruction right) {
+            this.left = left;
+            this.comparison = comparison;
+            this.right = right;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            T value = left.evaluate(current, runtime);
+            if (runtime.typeOf(value) != RuntimeType.ARRAY) {
+                return runtime.createNull();
+            }
+
+            List<T> result = new ArrayList<>();
+            for (T element : runtime.values(value)) {
+                if (runtime.isTruthy(comparison.evaluate(element, runtime))) {
+                    T projected = right == CURRENT ? element : right.evaluate(element, runtime);
+                    if (runtime.typeOf(projected) != RuntimeType.NULL) {
+                        result.add(projected);
+                    }
+                }
+            }
+            return runtime.createArray(result);
+        }
+    }
+
+    private static final class Slice extends Instruction {
+        private final Integer start;
+        private final Integer stop;
+        private final int step;
+
+        Slice(Integer start, Integer stop, int step) {
+            this.start = start;
+            this.stop = stop;
+            this.step = step;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            if (runtime.typeOf(current) != RuntimeType.ARRAY) {
+                return runtime.createNull();
+            }
+
+            int size = runtime.size(current);
+            int from = start == null ? (step > 0 ? 0 : size - 1) : bound(start, size);
+            int to = stop == null ? (step > 0 ? size : -1) : bound(stop, size);
+            List<T> result = new ArrayList<>();
+            for (int i = from; step > 0 ? i < to : i > to; i += step) {
+                result.add(runtime.element(current, i));
+            }
+            return runtime.createArray(result);
+        }
+
+        private int bound(int value, int size) {
+            if (value < 0) {
+                value += size;
+                return value < 0 ? (step < 0 ? -1 : 0) : value;
+            }
+            return value >= size ? (step < 0 ? size - 1 : size) : value;
+        }
+    }
+
+    private static final class Sequence extends Instruction {
+        private final Instruction left;
+        private final Instruction right;
+
+        Sequence(Instruction left, Instruction right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        <T> T evaluate(T current, JmespathRuntime<T> runtime) {
+            return right.evaluate(left.evaluate(current, runtime), runtime);
+        }
+    }
+}
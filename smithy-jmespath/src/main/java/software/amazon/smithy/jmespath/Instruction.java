@@ -0,0 +1,33 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+/**
+ * A compiled JMESPath expression node that can be evaluated against the
+ * values of any {@link JmespathRuntime}.
+ */
+abstract class Instruction {
+
+    /**
+     * Evaluates the instruction.
+     *
+     * @param current Current value the instruction is evaluated against.
+     * @param runtime Runtime used to inspect and create values.
+     * @param <T> Type of value to evaluate.
+     * @return Returns the result of the instruction.
+     */
+    abstract <T> T evaluate(T current, JmespathRuntime<T> runtime);
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapts a type of value so that {@link CompiledExpression}s can be
+ * evaluated against it.
+ *
+ * <p>A runtime only needs to be able to inspect and create values of
+ * each JMESPath {@link RuntimeType}. Evaluation never converts the values
+ * it is given, so expressions can be evaluated directly against values
+ * like JSON documents or Smithy nodes.
+ *
+ * @param <T> Type of value the runtime works with.
+ */
+public interface JmespathRuntime<T> {
+
+    /**
+     * Gets the JMESPath type of a value.
+     *
+     * @param value Value to get the type of.
+     * @return Returns the type of the value.
+     */
+    RuntimeType typeOf(T value);
+
+    /**
+     * Creates a null value.
+     *
+     * @return Returns the null value.
+     */
+    T createNull();
+
+    /**
+     * Creates a boolean value.
+     *
+     * @param value Value to create.
+     * @return Returns the created value.
+     */
+    T createBoolean(boolean value);
+
+    /**
+     * Creates a string value.
+     *
+     * @param value Value to create.
+     * @return Returns the created value.
+     */
+    T createString(String value);
+
+    /**
+     * Creates a number value.
+     *
+     * @param value Value to create.
+     * @return Returns the created value.
+     */
+    T createNumber(Number value);
+
+    /**
+     * Creates an array value.
+     *
+     * @param values Elements of the array.
+     * @return Returns the created value.
+     */
+    T createArray(List<T> values);
+
+    /**
+     * Creates an object value.
+     *
+     * @param values Members of the object.
+     * @return Returns the created value.
+     */
+    T createObject(Map<String, T> values);
+
+    /**
+     * Gets the value of a boolean.
+     *
+     * @param value Value with a type of {@link RuntimeType#BOOLEAN}.
+     * @return Returns the boolean value.
+     */
+    boolean asBoolean(T value);
+
+    /**
+     * Gets the value of a string.
+     *
+     * @param value Value with a type of {@link RuntimeType#STRING}.
+     * @return Returns the string value.
+     */
+    String asString(T value);
+
+    /**
+     * Gets the value of a number.
+     *
+     * @param value Value with a type of {@link RuntimeType#NUMBER}.
+     * @return Returns the number value.
+     */
+    Number asNumber(T value);
+
+    /**
+     * Gets the number of elements in an array or members in an object.
+     *
+     * @param value Value with a type of {@link RuntimeType#ARRAY} or {@link RuntimeType#OBJECT}.
+     * @return Returns the size of the value.
+     */
+    int size(T value);
+
+    /**
+     * Gets an element of an array.
+     *
+     * @param array Value with a type of {@link RuntimeType#ARRAY}.
+     * @param index Index of the element, from 0 to {@link #size} - 1.
+     * @return Returns the element.
+     */
+    T element(T array, int index);
+
+    /**
+     * Gets the elements of an array or the member values of an object.
+     *
+     * @param value Value with a type of {@link RuntimeType#ARRAY} or {@link RuntimeType#OBJECT}.
+     * @return Returns the elements or values.
+     */
+    Iterable<T> values(T value);
+
+    /**
+     * Gets the member names of an object.
+     *
+     * @param object Value with a type of {@link RuntimeType#OBJECT}.
+     * @return Returns the member names.
+     */
+    Iterable<String> keys(T object);
+
+    /**
+     * Gets a member of an object.
+     *
+     * @param object Value with a type of {@link RuntimeType#OBJECT}.
+     * @param name Name of the member to get.
+     * @return Returns the member value, or the null value if the member doesn't exist.
+     */
+    T value(T object, String name);
+
+    /**
+     * Checks if a value is truthy according to JMESPath.
+     *
+     * @param value Value to check.
+     * @return Returns true if the value is truthy.
+     */
+    default boolean isTruthy(T value) {
+        switch (typeOf(value)) {
+            case BOOLEAN:
+                return asBoolean(value);
+            case STRING:
+                return !asString(value).isEmpty();
+            case ARRAY:
+            case OBJECT:
+                return size(value) > 0;
+            case NULL:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Checks if two values are equal according to JMESPath.
+     *
+     * <p>Numbers are compared by value, and arrays and objects are
+     * compared deeply.
+     *
+     * @param left Left value to compare.
+     * @param right Right value to compare.
+     * @return Returns true if the values are equal.
+     */
+    default boolean isEqual(T left, T right) {
+        RuntimeType type = typeOf(left);
+        if (type != typeOf(right)) {
+            return false;
+        }
+
+        switch (type) {
+            case NULL:
+                return true;
+            case BOOLEAN:
+                return asBoolean(left) == asBoolean(right);
+            case STRING:
+                return asString(left).equals(asString(right));
+            case NUMBER:
+                return asNumber(left).doubleValue() == asNumber(right).doubleValue();
+            case ARRAY:
+                int size = size(left);
+                if (size != size(right)) {
+                    return false;
+                }
+                for (int i = 0; i < size; i++) {
+                    if (!isEqual(element(left, i), element(right, i))) {
+                        return false;
+                    }
+                }
+                return true;
+            case OBJECT:
+                if (size(left) != size(right)) {
+                    return false;
+                }
+                for (String key : keys(left)) {
+                    T other = value(right, key);
+                    if (typeOf(other) == RuntimeType.NULL && !containsKey(right, key)) {
+                        return false;
+                    } else if (!isEqual(value(left, key), other)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return left.equals(right);
+        }
+    }
+
+    /**
+     * Checks if an object has a member.
+     *
+     * @param object Value with a type of {@link RuntimeType#OBJECT}.
+     * @param name Name of the member to check.
+     * @return Returns true if the member exists.
+     */
+    default boolean containsKey(T object, String name) {
+        for (String key : keys(object)) {
+            if (key.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts the value of a {@link software.amazon.smithy.jmespath.ast.LiteralExpression}
+     * to a value of this runtime.
+     *
+     * @param value Literal value made of maps, lists, strings, numbers, booleans, and nulls.
+     * @return Returns the converted value.
+     */
+    @SuppressWarnings("unchecked")
+    default T createLiteral(Object value) {
+        if (value == null) {
+            return createNull();
+        } else if (value instanceof Boolean) {
+            return createBoolean((Boolean) value);
+        } else if (value instanceof String) {
+            return createString((String) value);
+        } else if (value instanceof Number) {
+            return createNumber((Number) value);
+        } else if (value instanceof List) {
+            List<T> values = new ArrayList<>();
+            for (Object element : (List<Object>) value) {
+                values.add(createLiteral(element));
+            }
+            return createArray(values);
+        } else if (value instanceof Map) {
+            Map<String, T> values = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                values.put(entry.getKey(), createLiteral(entry.getValue()));
+            }
+            return createObject(values);
+        } else {
+            throw new JmespathException("Unsupported literal value: " + value);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link JmespathRuntime} for plain Java values.
+ *
+ * <p>Values are made of {@link Map}s with string keys, {@link List}s,
+ * strings, numbers, booleans, and nulls, which is the same representation
+ * used for the values of {@link software.amazon.smithy.jmespath.ast.LiteralExpression}.
+ */
+public final class ObjectJmespathRuntime implements JmespathRuntime<Object> {
+
+    public static final ObjectJmespathRuntime INSTANCE = new ObjectJmespathRuntime();
+
+    private ObjectJmespathRuntime() {}
+
+    @Override
+    public RuntimeType typeOf(Object value) {
+        if (value == null) {
+            return RuntimeType.NULL;
+        } else if (value instanceof Boolean) {
+            return RuntimeType.BOOLEAN;
+        } else if (value instanceof String) {
+            return RuntimeType.STRING;
+        } else if (value instanceof Number) {
+            return RuntimeType.NUMBER;
+        } else if (value instanceof List) {
+            return RuntimeType.ARRAY;
+        } else if (value instanceof Map) {
+            return RuntimeType.OBJECT;
+        } else {
+            throw new JmespathException("Unsupported JMESPath value: " + value.getClass().getName());
+        }
+    }
+
+    @Override
+    public Object createNull() {
+        return null;
+    }
+
+    @Override
+    public Object createBoolean(boolean value) {
+        return value;
+    }
+
+    @Override
+    public Object createString(String value) {
+        return value;
+    }
+
+    @Override
+    public Object createNumber(Number value) {
+        return value;
+    }
+
+    @Override
+    public Object createArray(List<Object> values) {
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public Object createObject(Map<String, Object> values) {
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public Object createLiteral(Object value) {
+        // Literal values already use this representation.
+        return value;
+    }
+
+    @Override
+    public boolean asBoolean(Object value) {
+        return (Boolean) value;
+    }
+
+    @Override
+    public String asString(Object value) {
+        return (String) value;
+    }
+
+    @Override
+    public Number asNumber(Object value) {
+        return (Number) value;
+    }
+
+    @Override
+    public int size(Object value) {
+        return value instanceof List ? ((List<?>) value).size() : ((Map<?, ?>) value).size();
+    }
+
+    @Override
+    public Object element(Object array, int index) {
+        return ((List<?>) array).get(index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterable<Object> values(Object value) {
+        return value instanceof List ? (List<Object>) value : ((Map<String, Object>) value).values();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterable<String> keys(Object object) {
+        return ((Map<String, Object>) object).keySet();
+    }
+
+    @Override
+    public Object value(Object object, String name) {
+        return ((Map<?, ?>) object).get(name);
+    }
+
+    @Override
+    public boolean containsKey(Object object, String name) {
+        return ((Map<?, ?>) object).containsKey(name);
+    }
+}
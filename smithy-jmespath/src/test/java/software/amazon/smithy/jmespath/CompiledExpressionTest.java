@@ -0,0 +1,138 @@
+package software.amazon.smithy.jmespath;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+
+public class CompiledExpressionTest {
+
+    private static final String DATA = "{"
+            + "\"foo\": {\"bar\": \"baz\", \"items\": [1, 2, 3, 4, 5]},"
+            + "\"people\": ["
+            + "  {\"name\": \"a\", \"age\": 30, \"tags\": [\"x\", \"y\"]},"
+            + "  {\"name\": \"b\", \"age\": 20, \"tags\": [\"z\"]},"
+            + "  {\"name\": \"c\", \"age\": 40}"
+            + "],"
+            + "\"nested\": [[1, 2], [3, [4]], 5],"
+            + "\"map\": {\"x\": {\"v\": 1}, \"y\": {\"v\": 2}, \"z\": {}},"
+            + "\"empty\": \"\","
+            + "\"t\": true"
+            + "}";
+
+    private static Object json(String text) {
+        return ((LiteralExpression) JmespathExpression.parse("`" + text + "`")).getValue();
+    }
+
+    public static Stream<Arguments> expressions() {
+        return Stream.of(
+                Arguments.of("foo.bar", "\"baz\""),
+                Arguments.of("foo.missing", "null"),
+                Arguments.of("foo.bar.baz", "null"),
+                Arguments.of("foo.items[0]", "1"),
+                Arguments.of("foo.items[-1]", "5"),
+                Arguments.of("foo.items[10]", "null"),
+                Arguments.of("foo.items[1:3]", "[2, 3]"),
+                Arguments.of("foo.items[::-2]", "[5, 3, 1]"),
+                Arguments.of("foo.items[-2:]", "[4, 5]"),
+                Arguments.of("people[*].name", "[\"a\", \"b\", \"c\"]"),
+                Arguments.of("people[*].tags[0]", "[\"x\", \"z\"]"),
+                Arguments.of("people[].tags[]", "[\"x\", \"y\", \"z\"]"),
+                Arguments.of("people[?age > `25`].name", "[\"a\", \"c\"]"),
+                Arguments.of("people[?name == 'b'].age | [0]", "20"),
+                Arguments.of("people[?tags].name", "[\"a\", \"b\"]"),
+                Arguments.of("nested[]", "[1, 2, 3, [4], 5]"),
+                Arguments.of("map.*.v", "[1, 2]"),
+                Arguments.of("foo.{b: bar, n: items[0]}", "{\"b\": \"baz\", \"n\": 1}"),
+                Arguments.of("foo.[bar, missing]", "[\"baz\", null]"),
+                Arguments.of("missing.[bar]", "null"),
+                Arguments.of("empty || foo.bar", "\"baz\""),
+                Arguments.of("t && foo.bar", "\"baz\""),
+                Arguments.of("!empty", "true"),
+                Arguments.of("foo.items[0] < foo.items[1]", "true"),
+                Arguments.of("foo.bar < foo.items[1]", "null"),
+                Arguments.of("`[1, 2]` == `[1.0, 2]`", "true"),
+                Arguments.of("`{\"a\": 1}` != `{\"a\": 1}`", "false"),
+                Arguments.of("@.t", "true"),
+                Arguments.of("abs(`-3`)", "3"),
+                Arguments.of("avg(foo.items)", "3.0"),
+                Arguments.of("ceil(`1.2`)", "2"),
+                Arguments.of("floor(`1.8`)", "1"),
+                Arguments.of("contains(foo.items, `3`)", "true"),
+                Arguments.of("contains(foo.bar, 'az')", "true"),
+                Arguments.of("starts_with(foo.bar, 'ba')", "true"),
+                Arguments.of("ends_with(foo.bar, 'x')", "false"),
+                Arguments.of("join(', ', people[*].name)", "\"a, b, c\""),
+                Arguments.of("keys(foo)", "[\"bar\", \"items\"]"),
+                Arguments.of("values(map.x)", "[1]"),
+                Arguments.of("length(people)", "3"),
+                Arguments.of("length(foo.bar)", "3"),
+                Arguments.of("map(&age, people)", "[30, 20, 40]"),
+                Arguments.of("map(&tags, people)", "[[\"x\", \"y\"], [\"z\"], null]"),
+                Arguments.of("max(foo.items)", "5"),
+                Arguments.of("min(people[*].name)", "\"a\""),
+                Arguments.of("max_by(people, &age).name", "\"c\""),
+                Arguments.of("min_by(people, &age).name", "\"b\""),
+                Arguments.of("sort_by(people, &age)[*].name", "[\"b\", \"a\", \"c\"]"),
+                Arguments.of("sort(`[3, 1, 2]`)", "[1, 2, 3]"),
+                Arguments.of("reverse(foo.items)", "[5, 4, 3, 2, 1]"),
+                Arguments.of("reverse(foo.bar)", "\"zab\""),
+                Arguments.of("merge(map.x, map.y, `{\"w\": 0}`)", "{\"v\": 2, \"w\": 0}"),
+                Arguments.of("not_null(missing, foo.bar)", "\"baz\""),
+                Arguments.of("sum(foo.items)", "15"),
+                Arguments.of("to_array(foo.bar)", "[\"baz\"]"),
+                Arguments.of("to_number('1.5')", "1.5"),
+                Arguments.of("to_number('x')", "null"),
+                Arguments.of("to_string(map.x)", "\"{\\\"v\\\":1}\""),
+                Arguments.of("type(people)", "\"array\""),
+                Arguments.of("type(missing)", "\"null\"")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("expressions")
+    public void evaluatesExpressions(String expression, String expected) {
+        Object result = evaluate(expression);
+
+        assertThat(ObjectJmespathRuntime.INSTANCE.isEqual(result, json(expected)), equalTo(true));
+    }
+
+    private static Object evaluate(String expression) {
+        return CompiledExpression.parse(expression).evaluate(json(DATA), ObjectJmespathRuntime.INSTANCE);
+    }
+
+    @Test
+    public void cachesParsedExpressions() {
+        CompiledExpression expression = CompiledExpression.parse("foo.bar");
+
+        assertThat(CompiledExpression.parse("foo.bar"), sameInstance(expression));
+        assertThat(expression.getExpression(), equalTo(JmespathExpression.parse("foo.bar")));
+    }
+
+    @Test
+    public void rejectsUnknownFunctions() {
+        assertThrows(JmespathException.class, () -> evaluate("nope(@)"));
+    }
+
+    @Test
+    public void rejectsInvalidArity() {
+        assertThrows(JmespathException.class, () -> evaluate("length(@, @)"));
+    }
+
+    @Test
+    public void rejectsMissingExpressionReferences() {
+        assertThrows(JmespathException.class, () -> evaluate("sort_by(@, foo)"));
+    }
+
+    @Test
+    public void failsOnInvalidArgumentTypes() {
+        assertThrows(JmespathException.class, () -> evaluate("abs(foo)"));
+    }
+}
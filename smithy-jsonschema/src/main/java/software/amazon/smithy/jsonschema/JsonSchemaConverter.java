@@ -24,8 +24,8 @@ import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.ServiceClosureIndex;
 import software.amazon.smithy.model.loader.Prelude;
-import software.amazon.smithy.model.neighbor.Walker;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.MemberShape;
@@ -127,7 +127,7 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
 
         if (rootShape != null) {
             LOGGER.fine(() -> "Filtering out shapes that are not connected to " + rootShape);
-            Set<Shape> connected = new Walker(model).walkShapes(rootShape);
+            Set<Shape> connected = ServiceClosureIndex.of(model).getClosure(rootShape);
             LOGGER.fine(() -> "Only generating the following JSON schema shapes: " + connected.stream()
                     .map(Shape::getId)
                     .map(ShapeId::toString)
@@ -147,7 +147,7 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
         if (serviceId == null) {
             return model;
         }
-        Set<Shape> connected = new Walker(model).walkShapes(model.expectShape(serviceId));
+        Set<Shape> connected = ServiceClosureIndex.of(model).getClosure(model.expectShape(serviceId));
         return ModelTransformer.create().filterShapes(model, connected::contains);
     }
 
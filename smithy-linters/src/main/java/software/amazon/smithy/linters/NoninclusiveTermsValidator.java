@@ -19,9 +19,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceLocation;
@@ -37,6 +39,7 @@ import software.amazon.smithy.model.validation.ValidatorService;
 import software.amazon.smithy.utils.ListUtils;
 import software.amazon.smithy.utils.MapUtils;
 import software.amazon.smithy.utils.StringUtils;
+import software.amazon.smithy.utils.TermMatcher;
 
 /**
  * <p>Validates that all shape names and values do not contain non-inclusive terms.
@@ -88,6 +91,8 @@ public final class NoninclusiveTermsValidator extends AbstractValidator {
     }
 
     private final Map<String, List<String>> termsMap;
+    private final List<List<String>> replacements;
+    private final TermMatcher termMatcher;
 
     private NoninclusiveTermsValidator(Config config) {
         Map<String, List<String>> termsMapInit = new HashMap<>(BUILT_IN_NONINCLUSIVE_TERMS);
@@ -102,6 +107,15 @@ public final class NoninclusiveTermsValidator extends AbstractValidator {
             }
             termsMap = Collections.unmodifiableMap(config.getTerms());
         }
+
+        // Compile every term once, so each text is scanned in a single pass regardless of the number of terms.
+        List<String> terms = new ArrayList<>(termsMap.size());
+        replacements = new ArrayList<>(termsMap.size());
+        for (Map.Entry<String, List<String>> entry : termsMap.entrySet()) {
+            terms.add(entry.getKey());
+            replacements.add(entry.getValue());
+        }
+        termMatcher = TermMatcher.compile(terms);
     }
 
     /**
@@ -129,13 +143,14 @@ public final class NoninclusiveTermsValidator extends AbstractValidator {
      * @param instance text occurrence found in the body of the model
      */
     private Collection<ValidationEvent> getValidationEvents(TextInstance instance) {
+        final String text = instance.getText();
         final Collection<ValidationEvent> events = new ArrayList<>();
-        for (Map.Entry<String, List<String>> termEntry : termsMap.entrySet()) {
-            final String termLower = termEntry.getKey().toLowerCase();
-            final int startIndex = instance.getText().toLowerCase().indexOf(termLower);
-            if (startIndex != -1) {
-                final String matchedText = instance.getText().substring(startIndex, startIndex + termLower.length());
-                events.add(constructValidationEvent(instance, termEntry.getValue(), matchedText));
+        // Repeated occurrences of a term are reported once for each distinct spelling of the term.
+        final Set<String> reported = new HashSet<>();
+        for (TermMatcher.Match match : termMatcher.findAll(text)) {
+            final String matchedText = text.substring(match.getStart(), match.getEnd());
+            if (reported.add(match.getTermIndex() + ":" + matchedText)) {
+                events.add(constructValidationEvent(instance, replacements.get(match.getTermIndex()), matchedText));
             }
         }
         return events;
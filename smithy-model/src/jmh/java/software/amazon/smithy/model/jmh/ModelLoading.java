@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.IdlTokenizer;
+import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.validation.ValidatedResult;
+
+/**
+ * Measures tokenizing, parsing, and assembling synthetic models from the IDL and JSON AST.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ModelLoading {
+
+    @Benchmark
+    public int tokenizeIdl(SyntheticModel state) {
+        IdlTokenizer tokenizer = IdlTokenizer.create("synthetic.smithy", state.idl);
+        int tokens = 0;
+        while (tokenizer.hasNext()) {
+            tokenizer.next();
+            tokens++;
+        }
+        return tokens;
+    }
+
+    // Validation and the prelude are disabled so that this measures parsing the IDL and building shapes without
+    // the cost of validating or merging the prelude. Traits are unresolved without the prelude, so unknown traits
+    // are allowed.
+    @Benchmark
+    public ValidatedResult<Model> parseIdl(SyntheticModel state) {
+        return Model.assembler()
+                .addUnparsedModel("synthetic.smithy", state.idl)
+                .disableValidation()
+                .disablePrelude()
+                .putProperty(ModelAssembler.ALLOW_UNKNOWN_TRAITS, true)
+                .assemble();
+    }
+
+    @Benchmark
+    public Node parseJsonAst(SyntheticModel state) {
+        return Node.parse(state.json);
+    }
+
+    @Benchmark
+    public ValidatedResult<Model> loadIdlWithoutValidation(SyntheticModel state) {
+        return Model.assembler()
+                .addUnparsedModel("synthetic.smithy", state.idl)
+                .disableValidation()
+                .assemble();
+    }
+
+    @Benchmark
+    public ValidatedResult<Model> loadJsonWithoutValidation(SyntheticModel state) {
+        return Model.assembler()
+                .addUnparsedModel("synthetic.json", state.json)
+                .disableValidation()
+                .assemble();
+    }
+
+    @Benchmark
+    public ValidatedResult<Model> assembleIdl(SyntheticModel state) {
+        return Model.assembler()
+                .addUnparsedModel("synthetic.smithy", state.idl)
+                .assemble();
+    }
+
+    @Benchmark
+    public ValidatedResult<Model> assembleJson(SyntheticModel state) {
+        return Model.assembler()
+                .addUnparsedModel("synthetic.json", state.json)
+                .assemble();
+    }
+
+    @Benchmark
+    public ValidatedResult<Model> assembleLoadedModel(SyntheticModel state) {
+        return Model.assembler()
+                .addModel(state.model)
+                .assemble();
+    }
+}
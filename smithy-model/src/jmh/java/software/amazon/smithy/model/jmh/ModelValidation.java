@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.Validator;
+import software.amazon.smithy.model.validation.ValidatorFactory;
+
+/**
+ * Measures the cost of individual built-in validators over synthetic models.
+ *
+ * <p>Any other built-in validator can be measured by passing its simple
+ * class name to JMH, for example {@code -p validator=ServiceValidator}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ModelValidation {
+
+    @State(Scope.Benchmark)
+    public static class ValidatorState {
+
+        @Param({
+                "TargetValidator",
+                "TraitTargetValidator",
+                "TraitValueValidator",
+                "HttpBindingsMissingValidator",
+                "HttpUriConflictValidator",
+                "ShapeIdConflictValidator",
+                "PatternTraitValidator",
+                "LengthTraitValidator"
+        })
+        public String validator;
+
+        public Validator instance;
+
+        @Setup(Level.Trial)
+        public void prepare() {
+            List<Validator> builtins = ValidatorFactory.createServiceFactory(ModelValidation.class.getClassLoader())
+                    .loadBuiltinValidators();
+            for (Validator builtin : builtins) {
+                if (builtin.getClass().getSimpleName().equals(validator)) {
+                    instance = builtin;
+                    return;
+                }
+            }
+            throw new IllegalArgumentException("Unknown built-in validator: " + validator);
+        }
+    }
+
+    @Benchmark
+    public List<ValidationEvent> validate(SyntheticModel model, ValidatorState state) {
+        return state.instance.validate(model.model);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.jmh;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+
+/**
+ * Generates a synthetic model with roughly the requested number of
+ * non-member shapes.
+ *
+ * <p>The model is made of a single service that binds every operation. Each
+ * operation has its own input and output structures, a constrained string,
+ * and a list, so the model exercises traits, members, and relationships in
+ * the same proportions at every scale.
+ */
+@State(Scope.Benchmark)
+public class SyntheticModel {
+
+    private static final int SHAPES_PER_OPERATION = 5;
+
+    @Param({"1000", "10000", "100000"})
+    public int shapeCount;
+
+    public String idl;
+    public String json;
+    public Model model;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        idl = generateIdl(shapeCount);
+        model = Model.assembler()
+                .addUnparsedModel("synthetic.smithy", idl)
+                .assemble()
+                .unwrap();
+        json = Node.printJson(ModelSerializer.builder().build().serialize(model));
+    }
+
+    static String generateIdl(int shapeCount) {
+        int operations = Math.max(1, shapeCount / SHAPES_PER_OPERATION);
+        StringBuilder builder = new StringBuilder(shapeCount * 200);
+        builder.append("$version: \"2\"\n")
+                .append("namespace smithy.synthetic\n\n")
+                .append("service SyntheticService {\n")
+                .append("    version: \"2024-01-01\"\n")
+                .append("    operations: [\n");
+        for (int i = 0; i < operations; i++) {
+            builder.append("        Operation").append(i).append('\n');
+        }
+        builder.append("    ]\n")
+                .append("    errors: [SyntheticError]\n")
+                .append("}\n\n")
+                .append("@error(\"client\")\n")
+                .append("structure SyntheticError {\n")
+                .append("    message: String\n")
+                .append("}\n");
+
+        for (int i = 0; i < operations; i++) {
+            builder.append('\n')
+                    .append("/// Documentation for operation ").append(i).append(".\n")
+                    .append("@http(method: \"POST\", uri: \"/operations/").append(i).append("\")\n")
+                    .append("operation Operation").append(i).append(" {\n")
+                    .append("    input := {\n")
+                    .append("        @required\n")
+                    .append("        id: Identifier").append(i).append('\n')
+                    .append("        @httpHeader(\"x-name\")\n")
+                    .append("        name: String\n")
+                    .append("        items: IdentifierList").append(i).append('\n')
+                    .append("    }\n")
+                    .append("    output := {\n")
+                    .append("        @required\n")
+                    .append("        id: Identifier").append(i).append('\n')
+                    .append("        count: Integer\n")
+                    .append("        items: IdentifierList").append(i).append('\n')
+                    .append("    }\n")
+                    .append("}\n\n")
+                    .append("@pattern(\"^[a-z0-9]+$\")\n")
+                    .append("@length(min: 1, max: 64)\n")
+                    .append("string Identifier").append(i).append("\n\n")
+                    .append("list IdentifierList").append(i).append(" {\n")
+                    .append("    member: Identifier").append(i).append('\n')
+                    .append("}\n");
+        }
+
+        return builder.toString();
+    }
+}
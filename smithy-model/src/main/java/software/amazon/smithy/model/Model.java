@@ -15,6 +15,7 @@
 
 package software.amazon.smithy.model;
 
+import java.lang.ref.WeakReference;
 import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,6 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import software.amazon.smithy.model.knowledge.IncrementalKnowledgeIndex;
 import software.amazon.smithy.model.knowledge.KnowledgeIndex;
 import software.amazon.smithy.model.loader.ModelAssembler;
 import software.amazon.smithy.model.node.ExpectationNotMetException;
@@ -72,6 +74,13 @@ import software.amazon.smithy.utils.ToSmithyBuilder;
 /**
  * A Smithy model that contains shapes, traits, metadata, and various
  * computed information used to interpret the model.
+ *
+ * <p>Shapes are stored in a persistent map. A model built from the
+ * {@link #toBuilder() builder} of another model shares the shapes that
+ * weren't changed with that model, and it remembers which shapes were
+ * changed. Trait mappings and any {@link IncrementalKnowledgeIndex}
+ * computed for the original model are then updated for the new model
+ * rather than being computed from scratch.
  */
 public final class Model implements ToSmithyBuilder<Model> {
 
@@ -81,8 +90,14 @@ public final class Model implements ToSmithyBuilder<Model> {
     /** The map of metadata keys to their "node" values. */
     private final Map<String, Node> metadata;
 
+    /** The maximum number of models a model remembers it was derived from. */
+    private static final int MAX_LINEAGE_DEPTH = 8;
+
     /** A map of shape ID to shapes that backs the shape map. */
-    private final Map<ShapeId, Shape> shapeMap;
+    private final ShapeMap shapeMap;
+
+    /** The models this model was derived from, or null. */
+    private final Lineage lineage;
 
     /** A cache of shapes of a specific type. */
     private final Map<Class<? extends Shape>, Set<? extends Shape>> cachedTypes = new ConcurrentHashMap<>();
@@ -97,8 +112,16 @@ public final class Model implements ToSmithyBuilder<Model> {
     private int hash;
 
     private Model(Builder builder) {
-        shapeMap = builder.shapeMap.copy();
+        shapeMap = builder.shapes.build();
         metadata = builder.metadata.copy();
+
+        // Computed knowledge can only be carried over from the base model if the metadata is the same.
+        Model base = builder.base;
+        if (base != null && base.metadata.equals(metadata)) {
+            lineage = Lineage.create(base, builder.changedShapes);
+        } else {
+            lineage = null;
+        }
     }
 
     /**
@@ -184,13 +207,29 @@ public final class Model implements ToSmithyBuilder<Model> {
             synchronized (this) {
                 cache = traitCache;
                 if (cache == null) {
-                    traitCache = cache = new TraitCache(this.shapeMap.values());
+                    traitCache = cache = createTraitCache();
                 }
             }
         }
         return cache;
     }
 
+    private TraitCache createTraitCache() {
+        Set<ShapeId> changed = new HashSet<>();
+        for (Lineage ancestor = lineage; ancestor != null; ancestor = ancestor.parent) {
+            changed.addAll(ancestor.changedShapes);
+            Model model = ancestor.model.get();
+            if (model == null || changed.size() > shapeMap.size() / 2) {
+                break;
+            }
+            TraitCache previous = model.traitCache;
+            if (previous != null) {
+                return new TraitCache(previous, model.shapeMap, shapeMap, changed);
+            }
+        }
+        return new TraitCache(shapeMap.values());
+    }
+
     /**
      * Gets the immutable set of {@code ShapeId} in the model.
      *
@@ -890,7 +929,31 @@ public final class Model implements ToSmithyBuilder<Model> {
      */
     @SuppressWarnings("unchecked")
     public <T extends KnowledgeIndex> T getKnowledge(Class<T> type, Function<Model, T> constructor) {
-        return (T) blackboard.computeIfAbsent(type.getName(), t -> constructor.apply(this));
+        return (T) blackboard.computeIfAbsent(type.getName(), t -> {
+            T updated = updateKnowledge(type);
+            return updated != null ? updated : constructor.apply(this);
+        });
+    }
+
+    // Updates the index computed for the closest model this model was derived from, if the index supports it.
+    private <T extends KnowledgeIndex> T updateKnowledge(Class<T> type) {
+        Set<ShapeId> changed = new HashSet<>();
+        for (Lineage ancestor = lineage; ancestor != null; ancestor = ancestor.parent) {
+            changed.addAll(ancestor.changedShapes);
+            Model model = ancestor.model.get();
+            if (model == null) {
+                return null;
+            }
+            KnowledgeIndex previous = model.blackboard.get(type.getName());
+            if (previous instanceof IncrementalKnowledgeIndex) {
+                KnowledgeIndex updated = ((IncrementalKnowledgeIndex) previous)
+                        .update(this, Collections.unmodifiableSet(changed));
+                return type.isInstance(updated) ? type.cast(updated) : null;
+            } else if (previous != null) {
+                return null;
+            }
+        }
+        return null;
     }
 
     /**
@@ -898,7 +961,9 @@ public final class Model implements ToSmithyBuilder<Model> {
      */
     public static final class Builder implements SmithyBuilder<Model> {
         private final BuilderRef<Map<String, Node>> metadata = BuilderRef.forUnorderedMap();
-        private final BuilderRef<Map<ShapeId, Shape>> shapeMap = BuilderRef.forUnorderedMap();
+        private ShapeMap.Editor shapes = ShapeMap.EMPTY.edit();
+        private Model base;
+        private final Set<ShapeId> changedShapes = new HashSet<>();
 
         private Builder() {}
 
@@ -938,10 +1003,10 @@ public final class Model implements ToSmithyBuilder<Model> {
         public Builder addShape(Shape shape) {
             // Members must be added by their containing shapes.
             if (!shape.isMemberShape()) {
-                shapeMap.get().put(shape.getId(), shape);
+                putShape(shape);
                 // Automatically add members of the shape.
                 for (MemberShape memberShape : shape.members()) {
-                    shapeMap.get().put(memberShape.getId(), memberShape);
+                    putShape(memberShape);
                 }
             }
 
@@ -955,7 +1020,16 @@ public final class Model implements ToSmithyBuilder<Model> {
          * @return Returns the builder.
          */
         public Builder addShapes(Model model) {
-            shapeMap.get().putAll(model.shapeMap);
+            if (shapes.size() == 0) {
+                // Share the shapes of the model, and remember the shapes that are changed after this.
+                shapes = model.shapeMap.edit();
+                base = model;
+                changedShapes.clear();
+            } else {
+                for (Shape shape : model.shapeMap.values()) {
+                    putShape(shape);
+                }
+            }
             return this;
         }
 
@@ -996,13 +1070,15 @@ public final class Model implements ToSmithyBuilder<Model> {
          * @return Returns the builder.
          */
         public Builder removeShape(ShapeId shapeId) {
-            if (shapeMap.hasValue() && shapeMap.peek().containsKey(shapeId)) {
-                Shape previous = shapeMap.peek().get(shapeId);
-                shapeMap.get().remove(shapeId);
+            Shape previous = shapes.remove(shapeId);
+            if (previous != null) {
+                changedShapes.add(shapeId);
 
                 // Automatically remove any members contained in the shape.
                 for (MemberShape memberShape : previous.members()) {
-                    shapeMap.get().remove(memberShape.getId());
+                    if (shapes.remove(memberShape.getId()) != null) {
+                        changedShapes.add(memberShape.getId());
+                    }
                 }
             }
 
@@ -1017,20 +1093,65 @@ public final class Model implements ToSmithyBuilder<Model> {
          * @return Returns the current shapes in the builder.
          */
         public Map<ShapeId, Shape> getCurrentShapes() {
-            return shapeMap.peek();
+            return shapes.view();
         }
 
         @Override
         public Model build() {
             return new Model(this);
         }
+
+        private void putShape(Shape shape) {
+            if (shapes.put(shape) != shape) {
+                changedShapes.add(shape.getId());
+            }
+        }
+    }
+
+    // A model this model was derived from and the shapes that were changed in this model. Models are only weakly
+    // referenced so that a chain of transformed models doesn't keep every intermediate model alive.
+    private static final class Lineage {
+        private final WeakReference<Model> model;
+        private final Set<ShapeId> changedShapes;
+        private final Lineage parent;
+
+        private Lineage(WeakReference<Model> model, Set<ShapeId> changedShapes, Lineage parent) {
+            this.model = model;
+            this.changedShapes = changedShapes;
+            this.parent = parent;
+        }
+
+        static Lineage create(Model base, Set<ShapeId> changedShapes) {
+            return new Lineage(new WeakReference<>(base), new HashSet<>(changedShapes),
+                               copy(base.lineage, MAX_LINEAGE_DEPTH - 1));
+        }
+
+        // Copies at most the given number of ancestors so that chains of models don't grow forever.
+        private static Lineage copy(Lineage lineage, int depth) {
+            if (lineage == null || depth == 0) {
+                return null;
+            } else if (lineage.depth() <= depth) {
+                return lineage;
+            }
+            return new Lineage(lineage.model, lineage.changedShapes, copy(lineage.parent, depth - 1));
+        }
+
+        private int depth() {
+            int depth = 0;
+            for (Lineage current = this; current != null; current = current.parent) {
+                depth++;
+            }
+            return depth;
+        }
     }
 
     private static final class TraitCache {
-        private final Map<ShapeId, Set<Shape>> traitIdsToShapes = new HashMap<>();
-        private final Map<Class<? extends Trait>, Set<Shape>> traitsToShapes = new HashMap<>();
+        private final Map<ShapeId, Set<Shape>> traitIdsToShapes;
+        private final Map<Class<? extends Trait>, Set<Shape>> traitsToShapes;
 
         TraitCache(Collection<Shape> shapes) {
+            traitIdsToShapes = new HashMap<>();
+            traitsToShapes = new HashMap<>();
             for (Shape shape : shapes) {
                 for (Trait trait : shape.getAllTraits().values()) {
                     traitIdsToShapes.computeIfAbsent(trait.toShapeId(), id -> new HashSet<>()).add(shape);
@@ -1038,5 +1159,46 @@ public final class Model implements ToSmithyBuilder<Model> {
                 }
             }
         }
+
+        // Updates the trait mappings of a previous model. Only the sets of shapes of the traits applied to
+        // changed shapes are copied; every other set is shared with the previous cache.
+        TraitCache(TraitCache previous, ShapeMap previousShapes, ShapeMap shapes, Set<ShapeId> changed) {
+            traitIdsToShapes = new HashMap<>(previous.traitIdsToShapes);
+            traitsToShapes = new HashMap<>(previous.traitsToShapes);
+            Set<Object> copied = new HashSet<>();
+
+            for (ShapeId id : changed) {
+                Shape removed = previousShapes.get(id);
+                if (removed != null) {
+                    for (Trait trait : removed.getAllTraits().values()) {
+                        update(traitIdsToShapes, trait.toShapeId(), copied).remove(removed);
+                        update(traitsToShapes, trait.getClass(), copied).remove(removed);
+                    }
+                }
+            }
+
+            for (ShapeId id : changed) {
+                Shape added = shapes.get(id);
+                if (added != null) {
+                    for (Trait trait : added.getAllTraits().values()) {
+                        update(traitIdsToShapes, trait.toShapeId(), copied).add(added);
+                        update(traitsToShapes, trait.getClass(), copied).add(added);
+                    }
+                }
+            }
+
+            traitIdsToShapes.values().removeIf(Set::isEmpty);
+            traitsToShapes.values().removeIf(Set::isEmpty);
+        }
+
+        private static <K> Set<Shape> update(Map<K, Set<Shape>> mappings, K key, Set<Object> copied) {
+            if (copied.add(key)) {
+                Set<Shape> previous = mappings.get(key);
+                Set<Shape> result = previous == null ? new HashSet<>() : new HashSet<>(previous);
+                mappings.put(key, result);
+                return result;
+            }
+            return mappings.get(key);
+        }
     }
 }
@@ -0,0 +1,601 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * An immutable, persistent map of shape IDs to shapes.
+ *
+ * <p>The map is a hash array mapped trie (HAMT). Each node of the trie
+ * uses five bits of the hash of a shape ID to select one of up to 32
+ * slots, and each slot holds either a shape or a child node. Updating
+ * the map with an {@link Editor} only copies the nodes on the path to
+ * each changed shape, so models derived from other models, like the
+ * models created by each step of a {@code ModelTransformer}, share most
+ * of their structure.
+ *
+ * <p>Shapes are stored as values and keyed by their own shape ID, so
+ * no entry objects are created per shape.
+ */
+final class ShapeMap extends AbstractMap<ShapeId, Shape> {
+
+    static final ShapeMap EMPTY = new ShapeMap(null, 0);
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final Node root;
+    private final int size;
+
+    private ShapeMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Creates an editor that updates a copy of this map.
+     *
+     * @return Returns the created editor.
+     */
+    Editor edit() {
+        return new Editor(root, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Shape get(Object key) {
+        return key instanceof ShapeId && root != null ? root.find(0, hash(key), (ShapeId) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return value instanceof Shape && value.equals(get(((Shape) value).getId()));
+    }
+
+    @Override
+    public Collection<Shape> values() {
+        return new AbstractCollection<Shape>() {
+            @Override
+            public Iterator<Shape> iterator() {
+                return new ShapeIterator(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsValue(o);
+            }
+        };
+    }
+
+    @Override
+    public Set<ShapeId> keySet() {
+        return new AbstractSet<ShapeId>() {
+            @Override
+            public Iterator<ShapeId> iterator() {
+                Iterator<Shape> delegate = new ShapeIterator(root);
+                return new Iterator<ShapeId>() {
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public ShapeId next() {
+                        return delegate.next().getId();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<ShapeId, Shape>> entrySet() {
+        return new AbstractSet<Entry<ShapeId, Shape>>() {
+            @Override
+            public Iterator<Entry<ShapeId, Shape>> iterator() {
+                Iterator<Shape> delegate = new ShapeIterator(root);
+                return new Iterator<Entry<ShapeId, Shape>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public Entry<ShapeId, Shape> next() {
+                        Shape shape = delegate.next();
+                        return new SimpleImmutableEntry<>(shape.getId(), shape);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // Maps that share the same trie are always equal.
+        return other == this
+               || (other instanceof ShapeMap && ((ShapeMap) other).root == root)
+               || super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Updates a copy of a ShapeMap.
+     *
+     * <p>Nodes created by an editor are updated in place until the map is
+     * built. After that, the editor copies nodes again before updating them
+     * so that built maps are never modified.
+     */
+    static final class Editor {
+        private Node root;
+        private int size;
+        private Object owner = new Object();
+
+        private Editor(Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        /**
+         * Adds or replaces a shape.
+         *
+         * @param shape Shape to add.
+         * @return Returns the shape that was replaced, or null.
+         */
+        Shape put(Shape shape) {
+            Result result = new Result();
+            int hash = hash(shape.getId());
+            root = root == null
+                    ? BitmapNode.EMPTY.put(owner, 0, hash, shape, result)
+                    : root.put(owner, 0, hash, shape, result);
+            if (result.replaced == null) {
+                size++;
+            }
+            return result.replaced;
+        }
+
+        /**
+         * Removes a shape by ID.
+         *
+         * @param id ID of the shape to remove.
+         * @return Returns the removed shape, or null.
+         */
+        Shape remove(ShapeId id) {
+            if (root == null) {
+                return null;
+            }
+            Result result = new Result();
+            root = root.remove(owner, 0, hash(id), id, result);
+            if (result.replaced != null) {
+                size--;
+            }
+            return result.replaced;
+        }
+
+        Shape get(ShapeId id) {
+            return root == null ? null : root.find(0, hash(id), id);
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            root = null;
+            size = 0;
+        }
+
+        /**
+         * Gets a read-only view of the shapes of the editor.
+         *
+         * <p>Unlike {@link #build()}, the view doesn't stop the editor from
+         * updating nodes in place, so it must not be iterated while the
+         * editor is used.
+         *
+         * @return Returns the view of the current shapes.
+         */
+        Map<ShapeId, Shape> view() {
+            return new AbstractMap<ShapeId, Shape>() {
+                @Override
+                public Shape get(Object key) {
+                    return key instanceof ShapeId ? Editor.this.get((ShapeId) key) : null;
+                }
+
+                @Override
+                public boolean containsKey(Object key) {
+                    return get(key) != null;
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public Set<Entry<ShapeId, Shape>> entrySet() {
+                    return new ShapeMap(root, size).entrySet();
+                }
+            };
+        }
+
+        /**
+         * Creates a map of the current shapes.
+         *
+         * @return Returns the created map.
+         */
+        ShapeMap build() {
+            // Stop updating the nodes now shared with the built map in place.
+            owner = new Object();
+            return size == 0 ? EMPTY : new ShapeMap(root, size);
+        }
+    }
+
+    private static final class Result {
+        Shape replaced;
+    }
+
+    private abstract static class Node {
+        abstract Shape find(int shift, int hash, ShapeId id);
+
+        abstract Node put(Object owner, int shift, int hash, Shape shape, Result result);
+
+        // Returns null when the node no longer contains any shapes.
+        abstract Node remove(Object owner, int shift, int hash, ShapeId id, Result result);
+
+        // Returns the only shape of a node that has no child nodes, or null.
+        abstract Shape single();
+
+        abstract int slotCount();
+
+        abstract Object slot(int index);
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        private final Object owner;
+        private int bitmap;
+        private Object[] slots;
+
+        BitmapNode(Object owner, int bitmap, Object[] slots) {
+            this.owner = owner;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @Override
+        Shape find(int shift, int hash, ShapeId id) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[Integer.bitCount(bitmap & (bit - 1))];
+            if (slot instanceof Node) {
+                return ((Node) slot).find(shift + BITS, hash, id);
+            }
+            Shape shape = (Shape) slot;
+            return shape.getId().equals(id) ? shape : null;
+        }
+
+        @Override
+        Node put(Object owner, int shift, int hash, Shape shape, Result result) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int index = Integer.bitCount(bitmap & (bit - 1));
+
+            if ((bitmap & bit) == 0) {
+                Object[] updated = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, updated, 0, index);
+                updated[index] = shape;
+                System.arraycopy(slots, index, updated, index + 1, slots.length - index);
+                if (this.owner == owner) {
+                    bitmap |= bit;
+                    slots = updated;
+                    return this;
+                }
+                return new BitmapNode(owner, bitmap | bit, updated);
+            }
+
+            Object slot = slots[index];
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node updated = child.put(owner, shift + BITS, hash, shape, result);
+                return updated == child ? this : withSlot(owner, index, updated);
+            }
+
+            Shape existing = (Shape) slot;
+            if (existing.getId().equals(shape.getId())) {
+                result.replaced = existing;
+                return existing == shape ? this : withSlot(owner, index, shape);
+            }
+
+            // Push both shapes down into a new child node.
+            int existingHash = hash(existing.getId());
+            Node child;
+            if (existingHash == hash) {
+                child = new CollisionNode(owner, hash, new Shape[] {existing, shape});
+            } else {
+                child = new BitmapNode(owner, 0, new Object[0])
+                        .put(owner, shift + BITS, existingHash, existing, new Result())
+                        .put(owner, shift + BITS, hash, shape, new Result());
+            }
+            return withSlot(owner, index, child);
+        }
+
+        @Override
+        Node remove(Object owner, int shift, int hash, ShapeId id, Result result) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            int index = Integer.bitCount(bitmap & (bit - 1));
+            Object slot = slots[index];
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node updated = child.remove(owner, shift + BITS, hash, id, result);
+                if (updated == child) {
+                    return this;
+                } else if (updated == null) {
+                    return withoutSlot(owner, bit, index);
+                }
+                // Collapse child nodes that only contain a single shape.
+                Shape single = updated.single();
+                return withSlot(owner, index, single != null ? single : updated);
+            }
+
+            Shape existing = (Shape) slot;
+            if (!existing.getId().equals(id)) {
+                return this;
+            }
+            result.replaced = existing;
+            return withoutSlot(owner, bit, index);
+        }
+
+        @Override
+        Shape single() {
+            return slots.length == 1 && slots[0] instanceof Shape ? (Shape) slots[0] : null;
+        }
+
+        @Override
+        int slotCount() {
+            return slots.length;
+        }
+
+        @Override
+        Object slot(int index) {
+            return slots[index];
+        }
+
+        private Node withSlot(Object owner, int index, Object value) {
+            if (this.owner == owner) {
+                slots[index] = value;
+                return this;
+            }
+            Object[] updated = slots.clone();
+            updated[index] = value;
+            return new BitmapNode(owner, bitmap, updated);
+        }
+
+        private Node withoutSlot(Object owner, int bit, int index) {
+            if (slots.length == 1) {
+                return null;
+            }
+            Object[] updated = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, updated, 0, index);
+            System.arraycopy(slots, index + 1, updated, index, slots.length - index - 1);
+            if (this.owner == owner) {
+                bitmap &= ~bit;
+                slots = updated;
+                return this;
+            }
+            return new BitmapNode(owner, bitmap & ~bit, updated);
+        }
+    }
+
+    // Holds shapes whose shape IDs have the same hash.
+    private static final class CollisionNode extends Node {
+        private final Object owner;
+        private final int hash;
+        private Shape[] shapes;
+
+        CollisionNode(Object owner, int hash, Shape[] shapes) {
+            this.owner = owner;
+            this.hash = hash;
+            this.shapes = shapes;
+        }
+
+        @Override
+        Shape find(int shift, int hash, ShapeId id) {
+            for (Shape shape : shapes) {
+                if (shape.getId().equals(id)) {
+                    return shape;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Node put(Object owner, int shift, int hash, Shape shape, Result result) {
+            if (hash != this.hash) {
+                // Nest this node under a bitmap node that can tell the two hashes apart.
+                int bit = 1 << ((this.hash >>> shift) & MASK);
+                return new BitmapNode(owner, bit, new Object[] {this}).put(owner, shift, hash, shape, result);
+            }
+
+            for (int i = 0; i < shapes.length; i++) {
+                if (shapes[i].getId().equals(shape.getId())) {
+                    result.replaced = shapes[i];
+                    if (shapes[i] == shape) {
+                        return this;
+                    }
+                    Shape[] updated = this.owner == owner ? shapes : shapes.clone();
+                    updated[i] = shape;
+                    return this.owner == owner ? this : new CollisionNode(owner, hash, updated);
+                }
+            }
+
+            Shape[] updated = Arrays.copyOf(shapes, shapes.length + 1);
+            updated[shapes.length] = shape;
+            if (this.owner == owner) {
+                shapes = updated;
+                return this;
+            }
+            return new CollisionNode(owner, hash, updated);
+        }
+
+        @Override
+        Node remove(Object owner, int shift, int hash, ShapeId id, Result result) {
+            for (int i = 0; i < shapes.length; i++) {
+                if (shapes[i].getId().equals(id)) {
+                    result.replaced = shapes[i];
+                    if (shapes.length == 1) {
+                        return null;
+                    }
+                    Shape[] updated = new Shape[shapes.length - 1];
+                    System.arraycopy(shapes, 0, updated, 0, i);
+                    System.arraycopy(shapes, i + 1, updated, i, shapes.length - i - 1);
+                    if (this.owner == owner) {
+                        shapes = updated;
+                        return this;
+                    }
+                    return new CollisionNode(owner, hash, updated);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        Shape single() {
+            return shapes.length == 1 ? shapes[0] : null;
+        }
+
+        @Override
+        int slotCount() {
+            return shapes.length;
+        }
+
+        @Override
+        Object slot(int index) {
+            return shapes[index];
+        }
+    }
+
+    // Iterates over the shapes of a trie depth-first using an explicit stack of nodes and slot positions.
+    private static final class ShapeIterator implements Iterator<Shape> {
+        private final Node[] nodes = new Node[8];
+        private final int[] positions = new int[8];
+        private int depth = -1;
+        private Shape next;
+
+        ShapeIterator(Node root) {
+            if (root != null) {
+                nodes[0] = root;
+                depth = 0;
+            }
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                if (positions[depth] == node.slotCount()) {
+                    nodes[depth] = null;
+                    depth--;
+                    continue;
+                }
+                Object slot = node.slot(positions[depth]++);
+                if (slot instanceof Node) {
+                    depth++;
+                    nodes[depth] = (Node) slot;
+                    positions[depth] = 0;
+                } else {
+                    next = (Shape) slot;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Shape next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Shape result = next;
+            advance();
+            return result;
+        }
+    }
+}
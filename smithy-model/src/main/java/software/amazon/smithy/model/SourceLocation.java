@@ -16,29 +16,47 @@
 package software.amazon.smithy.model;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Represents the source location of a model component.
+ *
+ * <p>Every node and shape has a source location, so locations are kept
+ * compact: filenames are interned in a shared table, and the line and
+ * column are packed into a single long. Comparing two locations from the
+ * same file only compares the filename reference and the packed position.
  */
 public final class SourceLocation implements FromSourceLocation, Comparable<SourceLocation> {
 
     public static final SourceLocation NONE = new SourceLocation("N/A");
 
     private final String filename;
-    private final int line;
-    private final int column;
-    private int hash;
+    private final long position;
 
     public SourceLocation(String filename, int line, int column) {
-        this.filename = Objects.requireNonNull(filename);
-        this.line = line;
-        this.column = column;
+        this.filename = intern(Objects.requireNonNull(filename));
+        this.position = ((long) line << 32) | (column & 0xFFFFFFFFL);
     }
 
     public SourceLocation(String filename) {
         this(filename, 0, 0);
     }
 
+    private static String intern(String filename) {
+        String interned = FilenameTable.FILENAMES.get(filename);
+        if (interned == null) {
+            if (FilenameTable.FILENAMES.size() >= FilenameTable.MAX_SIZE) {
+                return filename;
+            }
+            interned = FilenameTable.FILENAMES.putIfAbsent(filename, filename);
+            if (interned == null) {
+                interned = filename;
+            }
+        }
+        return interned;
+    }
+
     /**
      * Creates an empty source location.
      *
@@ -59,14 +77,14 @@ public final class SourceLocation implements FromSourceLocation, Comparable<Sour
      * @return Returns the line number from which the component originated.
      */
     public int getLine() {
-        return line;
+        return (int) (position >> 32);
     }
 
     /**
      * @return Returns the column from which the component originated.
      */
     public int getColumn() {
-        return column;
+        return (int) position;
     }
 
     @Override
@@ -76,39 +94,55 @@ public final class SourceLocation implements FromSourceLocation, Comparable<Sour
 
     @Override
     public String toString() {
-        return filename.isEmpty()
-               ? String.format("[%d, %d]", line, column)
-               : String.format("%s [%d, %d]", filename, line, column);
+        StringBuilder builder = new StringBuilder(filename.length() + 16);
+        if (!filename.isEmpty()) {
+            builder.append(filename).append(' ');
+        }
+        return builder.append('[').append(getLine()).append(", ").append(getColumn()).append(']').toString();
     }
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof SourceLocation && toString().equals(other.toString());
+        if (this == other) {
+            return true;
+        } else if (!(other instanceof SourceLocation)) {
+            return false;
+        }
+        SourceLocation o = (SourceLocation) other;
+        return position == o.position && sameFilename(o);
+    }
+
+    private boolean sameFilename(SourceLocation other) {
+        // Interned filenames are compared by reference, falling back to equals once the table is full.
+        return filename == other.filename || filename.equals(other.filename);
     }
 
     @Override
     public int hashCode() {
-        int h = hash;
-
-        if (h == 0) {
-            h = 1 + filename.hashCode() + line * 17 + column;
-            hash = h;
-        }
-
-        return h;
+        return 1 + filename.hashCode() + getLine() * 17 + getColumn();
     }
 
     @Override
     public int compareTo(SourceLocation o) {
-        if (!this.getFilename().equals(o.getFilename())) {
-            return this.getFilename().compareTo(o.getFilename());
+        if (!sameFilename(o)) {
+            int filenameComparison = filename.compareTo(o.filename);
+            if (filenameComparison != 0) {
+                return filenameComparison;
+            }
         }
 
-        int lineComparison = Integer.compare(this.getLine(), o.getLine());
+        int lineComparison = Integer.compare(getLine(), o.getLine());
         if (lineComparison != 0) {
             return lineComparison;
         }
 
-        return Integer.compare(this.getColumn(), o.getColumn());
+        return Integer.compare(getColumn(), o.getColumn());
+    }
+
+    // Held in a nested class so that the table exists before NONE is created.
+    private static final class FilenameTable {
+        /** The maximum number of interned filenames, after which filenames are used as-is. */
+        private static final int MAX_SIZE = 4096;
+        private static final ConcurrentMap<String, String> FILENAMES = new ConcurrentHashMap<>();
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.knowledge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+import software.amazon.smithy.model.shapes.ToShapeId;
+
+/**
+ * Provides a compact, columnar index of the types and traits of every shape
+ * in a model.
+ *
+ * <p>Each shape and each applied trait ID is assigned a dense integer, and
+ * the shapes of each type and the shapes marked with each trait are stored
+ * as a {@link BitSet}. Finding the shapes of a type that are marked with
+ * several traits is then computed using bitset intersection rather than by
+ * building and intersecting sets of shapes. This makes the index useful for
+ * large models and for queries that combine multiple traits.
+ *
+ * <p>Matching shapes are returned in the order in which they were found in
+ * the model, and shape types are matched polymorphically, meaning a query
+ * for {@code StringShape} also matches enum shapes.
+ */
+public final class ColumnarShapeIndex implements KnowledgeIndex {
+
+    private final Shape[] shapes;
+    private final Map<ShapeId, Integer> traitOrdinals = new HashMap<>();
+    private final List<BitSet> traitColumns = new ArrayList<>();
+    private final Map<ShapeType, BitSet> typeColumns = new EnumMap<>(ShapeType.class);
+
+    private ColumnarShapeIndex(Model model) {
+        Set<Shape> shapeSet = model.toSet();
+        shapes = shapeSet.toArray(new Shape[0]);
+
+        for (int i = 0; i < shapes.length; i++) {
+            Shape shape = shapes[i];
+            typeColumns.computeIfAbsent(shape.getType(), type -> new BitSet(shapes.length)).set(i);
+            for (ShapeId trait : shape.getAllTraits().keySet()) {
+                getOrCreateTraitColumn(trait).set(i);
+            }
+        }
+    }
+
+    /**
+     * Gets the columnar shape index of a model, creating it if necessary.
+     *
+     * <p>The index is created once per model and then cached as knowledge
+     * of the model.
+     *
+     * @param model Model to index.
+     * @return Returns the index of the model.
+     */
+    public static ColumnarShapeIndex of(Model model) {
+        return model.getKnowledge(ColumnarShapeIndex.class, ColumnarShapeIndex::new);
+    }
+
+    private BitSet getOrCreateTraitColumn(ShapeId trait) {
+        Integer ordinal = traitOrdinals.get(trait);
+        if (ordinal == null) {
+            traitOrdinals.put(trait, traitColumns.size());
+            BitSet column = new BitSet(shapes.length);
+            traitColumns.add(column);
+            return column;
+        }
+        return traitColumns.get(ordinal);
+    }
+
+    /**
+     * Gets the shapes of a specific type that are marked with every given trait.
+     *
+     * @param type Type of shape to find. Use {@link Shape} to find shapes of any type.
+     * @param traits Trait shape IDs that every matching shape must be marked with.
+     * @param <T> Type of shape to find.
+     * @return Returns the matching shapes.
+     */
+    public <T extends Shape> List<T> getShapes(Class<T> type, ToShapeId... traits) {
+        return getShapes(type, Arrays.asList(traits));
+    }
+
+    /**
+     * Gets the shapes of a specific type that are marked with every given trait.
+     *
+     * @param type Type of shape to find. Use {@link Shape} to find shapes of any type.
+     * @param traits Trait shape IDs that every matching shape must be marked with.
+     * @param <T> Type of shape to find.
+     * @return Returns the matching shapes.
+     */
+    public <T extends Shape> List<T> getShapes(Class<T> type, Collection<? extends ToShapeId> traits) {
+        BitSet matches = findMatches(type, traits);
+        if (matches.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<T> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(type.cast(shapes[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Counts the shapes of a specific type that are marked with every given trait.
+     *
+     * <p>Counting shapes doesn't create a list of the matching shapes.
+     *
+     * @param type Type of shape to count. Use {@link Shape} to count shapes of any type.
+     * @param traits Trait shape IDs that every matching shape must be marked with.
+     * @return Returns the number of matching shapes.
+     */
+    public int countShapes(Class<? extends Shape> type, ToShapeId... traits) {
+        return findMatches(type, Arrays.asList(traits)).cardinality();
+    }
+
+    /**
+     * Gets the IDs of every trait applied to at least one shape.
+     *
+     * @return Returns the applied trait IDs.
+     */
+    public Set<ShapeId> getAppliedTraits() {
+        return Collections.unmodifiableSet(traitOrdinals.keySet());
+    }
+
+    private BitSet findMatches(Class<? extends Shape> type, Collection<? extends ToShapeId> traits) {
+        BitSet result = null;
+
+        // Start with the trait columns since they're usually much sparser than the type columns.
+        for (ToShapeId trait : traits) {
+            Integer ordinal = traitOrdinals.get(trait.toShapeId());
+            if (ordinal == null) {
+                return new BitSet();
+            } else if (result == null) {
+                result = (BitSet) traitColumns.get(ordinal).clone();
+            } else {
+                result.and(traitColumns.get(ordinal));
+            }
+        }
+
+        if (type == Shape.class) {
+            if (result == null) {
+                result = new BitSet(shapes.length);
+                result.set(0, shapes.length);
+            }
+            return result;
+        }
+
+        BitSet typeMatches = new BitSet(shapes.length);
+        for (Map.Entry<ShapeType, BitSet> entry : typeColumns.entrySet()) {
+            if (type.isAssignableFrom(entry.getKey().getShapeClass())) {
+                typeMatches.or(entry.getValue());
+            }
+        }
+
+        if (result == null) {
+            return typeMatches;
+        }
+
+        result.and(typeMatches);
+        return result;
+    }
+}
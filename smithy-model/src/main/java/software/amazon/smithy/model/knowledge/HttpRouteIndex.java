@@ -0,0 +1,262 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.knowledge;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.pattern.SmithyPattern.Segment;
+import software.amazon.smithy.model.pattern.UriPattern;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ToShapeId;
+import software.amazon.smithy.model.traits.HttpTrait;
+
+/**
+ * Routes HTTP requests to the operations of a service.
+ *
+ * <p>The {@link HttpTrait} URI patterns of the operations in a service are
+ * stored in a trie of path segments. Each node of the trie has a child for
+ * each literal segment, a child for labels, and a child for greedy labels.
+ * The operations bound to a complete URI pattern are grouped by HTTP
+ * method and query string literals at the node of the last segment.
+ *
+ * <p>Operations whose URI patterns {@link UriPattern#conflictsWith conflict}
+ * end up in the same group, so conflicts are found by walking the trie
+ * rather than by comparing every pair of operations.
+ */
+public final class HttpRouteIndex implements KnowledgeIndex {
+
+    private final WeakReference<Model> model;
+    private final Map<ShapeId, RouteNode> routes = new ConcurrentHashMap<>();
+
+    public HttpRouteIndex(Model model) {
+        // Routes are lazily computed, so only a weak reference to the model is held.
+        this.model = new WeakReference<>(model);
+    }
+
+    public static HttpRouteIndex of(Model model) {
+        return model.getKnowledge(HttpRouteIndex.class, HttpRouteIndex::new);
+    }
+
+    /**
+     * Finds the operation of a service that a request is routed to.
+     *
+     * <p>The path of the request URI is split into segments that are
+     * matched as-is, without percent-decoding. Literal segments are
+     * preferred over labels, and labels over greedy labels. When more
+     * than one operation matches the path and method, the operation with
+     * the most query string literals that are present in the request is
+     * chosen. A query string literal without a value only requires the
+     * request to contain the parameter.
+     *
+     * @param service Service that contains the operations.
+     * @param method HTTP method of the request.
+     * @param requestUri Path and optional query string of the request (e.g., "/foo/bar?baz=qux").
+     * @return Returns the optionally matched operation.
+     */
+    public Optional<OperationShape> match(ToShapeId service, String method, String requestUri) {
+        int queryStart = requestUri.indexOf('?');
+        String path = queryStart == -1 ? requestUri : requestUri.substring(0, queryStart);
+        Map<String, String> query = queryStart == -1
+                ? Collections.emptyMap()
+                : parseQuery(requestUri.substring(queryStart + 1));
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return Optional.ofNullable(getRoot(service).match(segments, 0, method, query));
+    }
+
+    /**
+     * Gets the groups of operations in a service whose URI patterns conflict.
+     *
+     * <p>The operations of a group use the same HTTP method, the same
+     * query string literals, and URI patterns that have the same literal
+     * segments and labels in the same positions. Only groups of two or more
+     * operations are returned.
+     *
+     * @param service Service that contains the operations.
+     * @return Returns the groups of conflicting operations.
+     */
+    public List<List<OperationShape>> getConflicts(ToShapeId service) {
+        List<List<OperationShape>> result = new ArrayList<>();
+        getRoot(service).collectConflicts(result);
+        return result;
+    }
+
+    private RouteNode getRoot(ToShapeId service) {
+        ShapeId id = service.toShapeId();
+        RouteNode result = routes.get(id);
+        if (result == null) {
+            result = routes.computeIfAbsent(id, this::createRoutes);
+        }
+        return result;
+    }
+
+    private RouteNode createRoutes(ShapeId service) {
+        Model currentModel = Objects.requireNonNull(model.get(),
+                                                    "Model was destroyed before using this knowledge index");
+        RouteNode root = new RouteNode();
+        currentModel.getShape(service).flatMap(Shape::asServiceShape).ifPresent(serviceShape -> {
+            for (OperationShape operation : TopDownIndex.of(currentModel).getContainedOperations(serviceShape)) {
+                operation.getTrait(HttpTrait.class).ifPresent(trait -> root.add(operation, trait));
+            }
+        });
+        return root;
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> result = new HashMap<>();
+        for (String parameter : query.split("&")) {
+            if (!parameter.isEmpty()) {
+                int separator = parameter.indexOf('=');
+                if (separator == -1) {
+                    result.putIfAbsent(parameter, "");
+                } else {
+                    result.putIfAbsent(parameter.substring(0, separator), parameter.substring(separator + 1));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static final class RouteNode {
+        private Map<String, RouteNode> literals;
+        private RouteNode label;
+        private RouteNode greedyLabel;
+
+        // HTTP method -> query string literals -> operations.
+        private Map<String, Map<Map<String, String>, List<OperationShape>>> operations;
+
+        void add(OperationShape operation, HttpTrait trait) {
+            RouteNode node = this;
+            for (Segment segment : trait.getUri().getSegments()) {
+                node = node.child(segment);
+            }
+            if (node.operations == null) {
+                node.operations = new LinkedHashMap<>();
+            }
+            node.operations
+                    .computeIfAbsent(trait.getMethod(), m -> new LinkedHashMap<>())
+                    .computeIfAbsent(trait.getUri().getQueryLiterals(), q -> new ArrayList<>())
+                    .add(operation);
+        }
+
+        private RouteNode child(Segment segment) {
+            if (segment.isGreedyLabel()) {
+                if (greedyLabel == null) {
+                    greedyLabel = new RouteNode();
+                }
+                return greedyLabel;
+            } else if (segment.isLabel()) {
+                if (label == null) {
+                    label = new RouteNode();
+                }
+                return label;
+            }
+            if (literals == null) {
+                literals = new LinkedHashMap<>();
+            }
+            return literals.computeIfAbsent(segment.getContent(), s -> new RouteNode());
+        }
+
+        OperationShape match(List<String> segments, int position, String method, Map<String, String> query) {
+            if (position == segments.size()) {
+                return matchOperation(method, query);
+            }
+
+            String segment = segments.get(position);
+            OperationShape result = null;
+            if (literals != null && literals.containsKey(segment)) {
+                result = literals.get(segment).match(segments, position + 1, method, query);
+            }
+            if (result == null && label != null) {
+                result = label.match(segments, position + 1, method, query);
+            }
+            // A greedy label consumes one or more segments. Consuming as few segments as possible lets the
+            // literal segments that follow a greedy label take precedence.
+            for (int end = position + 1; result == null && greedyLabel != null && end <= segments.size(); end++) {
+                result = greedyLabel.match(segments, end, method, query);
+            }
+            return result;
+        }
+
+        private OperationShape matchOperation(String method, Map<String, String> query) {
+            Map<Map<String, String>, List<OperationShape>> byQuery = operations == null
+                    ? null
+                    : operations.get(method);
+            if (byQuery == null) {
+                return null;
+            }
+
+            OperationShape result = null;
+            int matchedLiterals = -1;
+            for (Map.Entry<Map<String, String>, List<OperationShape>> entry : byQuery.entrySet()) {
+                int literalCount = entry.getKey().size();
+                if (literalCount > matchedLiterals && matchesQuery(entry.getKey(), query)) {
+                    result = entry.getValue().get(0);
+                    matchedLiterals = literalCount;
+                }
+            }
+            return result;
+        }
+
+        private static boolean matchesQuery(Map<String, String> literals, Map<String, String> query) {
+            for (Map.Entry<String, String> literal : literals.entrySet()) {
+                String value = query.get(literal.getKey());
+                if (value == null || (!literal.getValue().isEmpty() && !literal.getValue().equals(value))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void collectConflicts(List<List<OperationShape>> result) {
+            if (operations != null) {
+                for (Map<Map<String, String>, List<OperationShape>> byQuery : operations.values()) {
+                    for (List<OperationShape> group : byQuery.values()) {
+                        if (group.size() > 1) {
+                            result.add(Collections.unmodifiableList(group));
+                        }
+                    }
+                }
+            }
+            if (literals != null) {
+                for (RouteNode child : literals.values()) {
+                    child.collectConflicts(result);
+                }
+            }
+            if (label != null) {
+                label.collectConflicts(result);
+            }
+            if (greedyLabel != null) {
+                greedyLabel.collectConflicts(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.knowledge;
+
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * A {@link KnowledgeIndex} that can be updated for a model derived from
+ * the model it was computed for.
+ *
+ * <p>When a model is created from the builder of another model (for
+ * example, by a {@link software.amazon.smithy.model.transform.ModelTransformer}),
+ * {@link Model#getKnowledge} first asks an index computed for the original
+ * model to update itself using the set of shapes that were added, removed,
+ * or replaced. The index is only computed from scratch if no such index
+ * exists or if it returns null.
+ */
+public interface IncrementalKnowledgeIndex extends KnowledgeIndex {
+    /**
+     * Creates an index for a model derived from the model of this index.
+     *
+     * <p>This index must not be modified, and the returned index must be
+     * an instance of the same class as this index.
+     *
+     * @param model Model to create the index for.
+     * @param changedShapes IDs of the shapes added, removed, or replaced in the model.
+     * @return Returns the updated index, or null if it needs to be recomputed.
+     */
+    KnowledgeIndex update(Model model, Set<ShapeId> changedShapes);
+}
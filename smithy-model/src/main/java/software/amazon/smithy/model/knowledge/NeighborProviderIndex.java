@@ -18,6 +18,7 @@ package software.amazon.smithy.model.knowledge;
 import java.lang.ref.WeakReference;
 import java.util.Objects;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.neighbor.AdjacencyGraph;
 import software.amazon.smithy.model.neighbor.NeighborProvider;
 
 /**
@@ -25,19 +26,20 @@ import software.amazon.smithy.model.neighbor.NeighborProvider;
  */
 public final class NeighborProviderIndex implements KnowledgeIndex {
 
-    private final NeighborProvider provider;
     private final WeakReference<Model> model;
 
-    // These providers are lazily computed on first access.
+    // These providers are lazily computed on first access. The adjacency graphs are built directly from the model
+    // rather than from the precomputed providers, so using only a graph never materializes the relationships of
+    // every shape as lists of Relationship objects.
+    private volatile NeighborProvider provider;
     private volatile NeighborProvider reversed;
     private volatile NeighborProvider providerWithTraits;
     private volatile NeighborProvider reversedWithTraits;
+    private volatile AdjacencyGraph graph;
+    private volatile AdjacencyGraph graphWithTraits;
 
     public NeighborProviderIndex(Model model) {
-        provider = NeighborProvider.precomputed(model);
-
-        // Store a WeakReference to the model since the reversed provider that includes
-        // traits is lazily computed.
+        // Store a WeakReference to the model since the providers are lazily computed.
         this.model = new WeakReference<>(model);
     }
 
@@ -51,7 +53,19 @@ public final class NeighborProviderIndex implements KnowledgeIndex {
      * @return Returns the provider.
      */
     public NeighborProvider getProvider() {
-        return provider;
+        NeighborProvider result = provider;
+
+        if (result == null) {
+            Model model = getOrThrowModel();
+            synchronized (this) {
+                result = provider;
+                if (result == null) {
+                    provider = result = NeighborProvider.precomputed(model);
+                }
+            }
+        }
+
+        return result;
     }
 
     /**
@@ -68,7 +82,7 @@ public final class NeighborProviderIndex implements KnowledgeIndex {
                 result = providerWithTraits;
                 if (result == null) {
                     providerWithTraits = result = NeighborProvider.cached(
-                            NeighborProvider.withTraitRelationships(model, provider));
+                            NeighborProvider.withTraitRelationships(model, getProvider()));
                 }
             }
         }
@@ -89,7 +103,7 @@ public final class NeighborProviderIndex implements KnowledgeIndex {
             synchronized (this) {
                 result = reversed;
                 if (result == null) {
-                    reversed = result = NeighborProvider.reverse(model, provider);
+                    reversed = result = NeighborProvider.reverse(model, getProvider());
                 }
             }
         }
@@ -118,6 +132,56 @@ public final class NeighborProviderIndex implements KnowledgeIndex {
         return result;
     }
 
+    /**
+     * Gets a compact {@link AdjacencyGraph} of the relationships returned by
+     * {@link #getProvider()}.
+     *
+     * <p>Use {@link AdjacencyGraph#reverse()} to get the reversed graph.
+     *
+     * @return Returns the adjacency graph.
+     */
+    public AdjacencyGraph getAdjacencyGraph() {
+        AdjacencyGraph result = graph;
+
+        if (result == null) {
+            Model model = getOrThrowModel();
+            synchronized (this) {
+                result = graph;
+                if (result == null) {
+                    graph = result = AdjacencyGraph.of(model);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a compact {@link AdjacencyGraph} of the relationships returned by
+     * {@link #getProviderWithTraitRelationships()}.
+     *
+     * <p>Use {@link AdjacencyGraph#reverse()} to get the reversed graph.
+     *
+     * @return Returns the adjacency graph that includes trait relationships.
+     */
+    public AdjacencyGraph getAdjacencyGraphWithTraitRelationships() {
+        AdjacencyGraph result = graphWithTraits;
+
+        if (result == null) {
+            Model model = getOrThrowModel();
+            synchronized (this) {
+                result = graphWithTraits;
+                if (result == null) {
+                    // The relationships are stored in the graph, so the traits don't need to be cached.
+                    graphWithTraits = result = AdjacencyGraph.of(
+                            model, NeighborProvider.withTraitRelationships(model, getProvider()));
+                }
+            }
+        }
+
+        return result;
+    }
+
     private Model getOrThrowModel() {
         return Objects.requireNonNull(model.get(), "Model was destroyed before using this knowledge index");
     }
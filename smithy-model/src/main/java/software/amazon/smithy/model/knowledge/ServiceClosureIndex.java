@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.knowledge;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ToShapeId;
+
+/**
+ * Provides the closure of shapes connected to a service or any other shape.
+ *
+ * <p>A closure contains the same shapes, in the same order, as
+ * {@link Walker#walkShapes(Shape)} returns for a walker created from the
+ * model. Closures are computed the first time they are requested and are
+ * then shared by everything that uses the index. Every closure is walked
+ * over the same compact {@link NeighborProviderIndex#getAdjacencyGraph()
+ * adjacency graph}, so the relationships of shapes that are shared by
+ * many services are only computed once.
+ *
+ * <p>Closures that don't contain any shape changed by a model
+ * transformation are carried over to the index of the transformed model.
+ */
+public final class ServiceClosureIndex implements IncrementalKnowledgeIndex {
+
+    private final WeakReference<Model> model;
+    private final Map<ShapeId, Set<Shape>> closures = new ConcurrentHashMap<>();
+    private volatile Map<ShapeId, Set<Shape>> serviceClosures;
+
+    public ServiceClosureIndex(Model model) {
+        // Closures are lazily computed, so only a weak reference to the model is held.
+        this.model = new WeakReference<>(model);
+    }
+
+    public static ServiceClosureIndex of(Model model) {
+        return model.getKnowledge(ServiceClosureIndex.class, ServiceClosureIndex::new);
+    }
+
+    /**
+     * Gets the closure of shapes connected to a shape, including the shape.
+     *
+     * @param shape Shape, typically a service, to get the closure of.
+     * @return Returns the unmodifiable closure, or an empty set if the shape isn't in the model.
+     */
+    public Set<Shape> getClosure(ToShapeId shape) {
+        ShapeId id = shape.toShapeId();
+        Set<Shape> result = closures.get(id);
+        if (result == null) {
+            Model currentModel = getOrThrowModel();
+            result = currentModel.getShape(id)
+                    .map(target -> closures.computeIfAbsent(id, i -> walk(currentModel, target)))
+                    .orElse(Collections.emptySet());
+        }
+        return result;
+    }
+
+    /**
+     * Gets the closure of every service in the model.
+     *
+     * <p>The closures of services that weren't already computed are
+     * computed in parallel.
+     *
+     * @return Returns the closure of each service, sorted by service shape ID.
+     */
+    public Map<ShapeId, Set<Shape>> getServiceClosures() {
+        Map<ShapeId, Set<Shape>> result = serviceClosures;
+        if (result == null) {
+            Model currentModel = getOrThrowModel();
+            currentModel.getServiceShapes().parallelStream().forEach(this::getClosure);
+            Map<ShapeId, Set<Shape>> sorted = new TreeMap<>();
+            for (ServiceShape service : currentModel.getServiceShapes()) {
+                sorted.put(service.getId(), getClosure(service));
+            }
+            serviceClosures = result = Collections.unmodifiableMap(sorted);
+        }
+        return result;
+    }
+
+    @Override
+    public KnowledgeIndex update(Model updatedModel, Set<ShapeId> changedShapes) {
+        Model currentModel = model.get();
+        if (currentModel == null) {
+            return null;
+        }
+
+        // An added shape can be the target of a relationship that couldn't be resolved before.
+        for (ShapeId id : changedShapes) {
+            if (!currentModel.getShape(id).isPresent()) {
+                return null;
+            }
+        }
+
+        ServiceClosureIndex result = new ServiceClosureIndex(updatedModel);
+        for (Map.Entry<ShapeId, Set<Shape>> entry : closures.entrySet()) {
+            if (!changedShapes.contains(entry.getKey()) && !containsAny(entry.getValue(), changedShapes)) {
+                result.closures.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static boolean containsAny(Set<Shape> closure, Set<ShapeId> ids) {
+        for (Shape shape : closure) {
+            if (ids.contains(shape.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Shape> walk(Model model, Shape shape) {
+        Walker walker = new Walker(NeighborProviderIndex.of(model).getAdjacencyGraph());
+        return Collections.unmodifiableSet(walker.walkShapes(shape));
+    }
+
+    private Model getOrThrowModel() {
+        return Objects.requireNonNull(model.get(), "Model was destroyed before using this knowledge index");
+    }
+}
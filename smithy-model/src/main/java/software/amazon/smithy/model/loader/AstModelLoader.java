@@ -17,6 +17,7 @@ package software.amazon.smithy.model.loader;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,6 +28,7 @@ import software.amazon.smithy.model.node.ArrayNode;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.node.internal.JsonPullParser;
 import software.amazon.smithy.model.shapes.AbstractShapeBuilder;
 import software.amazon.smithy.model.shapes.BigDecimalShape;
 import software.amazon.smithy.model.shapes.BigIntegerShape;
@@ -62,6 +64,9 @@ import software.amazon.smithy.utils.SetUtils;
 
 /**
  * A singleton that loads Smithy models from the JSON AST versions 1.0 and 2.0.
+ *
+ * <p>Models can be loaded either from a parsed {@link ObjectNode} or streamed
+ * from a {@link JsonPullParser}.
  */
 final class AstModelLoader {
 
@@ -99,20 +104,95 @@ final class AstModelLoader {
         this.model = model;
     }
 
+    // Used when streaming, where there is no single node for the entire model.
+    private AstModelLoader(Version modelVersion, Consumer<LoadOperation> operations) {
+        this.modelVersion = modelVersion;
+        this.model = null;
+        this.operations = operations;
+    }
+
     void parse(Consumer<LoadOperation> consumer) {
         operations = consumer;
         LoaderUtils.checkForAdditionalProperties(model, null, TOP_LEVEL_PROPERTIES).ifPresent(this::emit);
         StringNode versionNode = model.expectStringMember("smithy");
         consumer.accept(new LoadOperation.ModelVersion(modelVersion, versionNode.getSourceLocation()));
-        loadMetadata();
-        loadShapes();
+        loadMetadata(model);
+        loadShapes(model);
+    }
+
+    /**
+     * Loads a JSON AST model from a pull parser, loading each shape as soon as it is read.
+     *
+     * <p>When the "shapes" member follows the "smithy" version, as it does in models
+     * written by {@link software.amazon.smithy.model.shapes.ModelSerializer}, only a
+     * single shape definition is held in memory as a {@link Node} at a time. Any
+     * other top-level members are read into nodes and loaded at the end.
+     *
+     * <p>Operations are only published once the entire document has been parsed,
+     * and when a shape is defined more than once, the last definition wins, just
+     * like when loading a parsed {@link ObjectNode}.
+     *
+     * @param parser Parser positioned before the start of the document.
+     * @param consumer Where loader operations are published.
+     * @return Returns true if the document is a Smithy model, or false if it has no "smithy" version.
+     */
+    static boolean load(JsonPullParser parser, Consumer<LoadOperation> consumer) {
+        if (parser.next() != JsonPullParser.Token.START_OBJECT) {
+            parser.skipValue();
+            parser.next();
+            return false;
+        }
+
+        ObjectNode.Builder buffered = ObjectNode.builder().sourceLocation(parser.getSourceLocation());
+        // Operations of streamed shapes keyed by shape ID. Replacing a value keeps the position of the first
+        // definition, matching how ObjectNode handles duplicate keys.
+        Map<String, List<LoadOperation>> shapeOperations = new LinkedHashMap<>();
+        AstModelLoader loader = null;
+
+        while (parser.next() == JsonPullParser.Token.NAME) {
+            StringNode key = new StringNode(parser.getText(), parser.getSourceLocation());
+            parser.next();
+            boolean streamShapes = loader != null
+                                   && key.getValue().equals(SHAPES)
+                                   && parser.getToken() == JsonPullParser.Token.START_OBJECT;
+            if (streamShapes) {
+                // Leave an empty placeholder so the top-level properties are still validated.
+                buffered.withMember(key, new ObjectNode(Collections.emptyMap(), parser.getSourceLocation()));
+                shapeOperations.clear();
+                loader.loadShapes(parser, shapeOperations);
+            } else {
+                buffered.withMember(key, parser.readNode());
+                if (loader == null && key.getValue().equals("smithy")) {
+                    StringNode versionNode = buffered.build().expectStringMember("smithy");
+                    loader = new AstModelLoader(ModelLoader.parseVersion(versionNode), consumer);
+                }
+            }
+        }
+
+        // Ensure that nothing follows the top-level object.
+        parser.next();
+
+        if (loader == null) {
+            return false;
+        }
+
+        ObjectNode model = buffered.build();
+        LoaderUtils.checkForAdditionalProperties(model, null, TOP_LEVEL_PROPERTIES).ifPresent(loader::emit);
+        StringNode versionNode = model.expectStringMember("smithy");
+        consumer.accept(new LoadOperation.ModelVersion(loader.modelVersion, versionNode.getSourceLocation()));
+        loader.loadMetadata(model);
+        for (List<LoadOperation> operations : shapeOperations.values()) {
+            operations.forEach(consumer);
+        }
+        loader.loadShapes(model);
+        return true;
     }
 
     private void emit(ValidationEvent event) {
         operations.accept(new LoadOperation.Event(event));
     }
 
-    private void loadMetadata() {
+    private void loadMetadata(ObjectNode model) {
         try {
             model.getObjectMember(METADATA).ifPresent(metadata -> {
                 for (Map.Entry<String, Node> entry : metadata.getStringMap().entrySet()) {
@@ -124,26 +204,46 @@ final class AstModelLoader {
         }
     }
 
-    private void loadShapes() {
+    private void loadShapes(ObjectNode model) {
         model.getObjectMember(SHAPES).ifPresent(shapes -> {
             for (Map.Entry<StringNode, Node> entry : shapes.getMembers().entrySet()) {
-                ShapeId id = entry.getKey().expectShapeId();
-                ObjectNode definition = entry.getValue().expectObjectNode();
-                String type = definition.expectStringMember(TYPE).getValue();
-                try {
-                    // Note: loadShape() returns null when using apply for traits.
-                    LoadOperation.DefineShape defineShape = loadShape(id, type, definition);
-                    if (defineShape != null) {
-                        operations.accept(defineShape);
-                    }
-                } catch (SourceException e) {
-                    ValidationEvent event = ValidationEvent.fromSourceException(e).toBuilder().shapeId(id).build();
-                    emit(event);
-                }
+                loadShape(entry.getKey(), entry.getValue());
             }
         });
     }
 
+    private void loadShapes(JsonPullParser parser, Map<String, List<LoadOperation>> shapeOperations) {
+        Consumer<LoadOperation> consumer = operations;
+        try {
+            while (parser.next() == JsonPullParser.Token.NAME) {
+                StringNode key = new StringNode(parser.getText(), parser.getSourceLocation());
+                parser.next();
+                List<LoadOperation> shapeOperationList = new ArrayList<>();
+                operations = shapeOperationList::add;
+                loadShape(key, parser.readNode());
+                shapeOperations.put(key.getValue(), shapeOperationList);
+            }
+        } finally {
+            operations = consumer;
+        }
+    }
+
+    private void loadShape(StringNode key, Node value) {
+        ShapeId id = key.expectShapeId();
+        ObjectNode definition = value.expectObjectNode();
+        String type = definition.expectStringMember(TYPE).getValue();
+        try {
+            // Note: loadShape() returns null when using apply for traits.
+            LoadOperation.DefineShape defineShape = loadShape(id, type, definition);
+            if (defineShape != null) {
+                operations.accept(defineShape);
+            }
+        } catch (SourceException e) {
+            ValidationEvent event = ValidationEvent.fromSourceException(e).toBuilder().shapeId(id).build();
+            emit(event);
+        }
+    }
+
     private LoadOperation.DefineShape loadShape(ShapeId id, String type, ObjectNode value) {
         switch (type) {
             case "blob":
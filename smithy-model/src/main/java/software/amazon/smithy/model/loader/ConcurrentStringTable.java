@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe caching string table that converts CharSequence to String objects.
+ *
+ * <p>Unlike {@link StringTable}, this table can be shared by multiple threads and by multiple
+ * {@link ModelAssembler}s (see {@link ModelAssembler#stringTable}), allowing models that are loaded
+ * concurrently from the same dependencies to share the same identifier strings.
+ *
+ * <p>The table is lock-free. Entries are grouped into buckets of two using the same FNV-1a hash as
+ * {@code StringTable}, and each bucket keeps the two most recently added values. Concurrent misses on
+ * the same bucket can overwrite each other, which only causes a string to be cached again later.
+ * The number of hits and misses are tracked to help choose an appropriate capacity.
+ */
+public final class ConcurrentStringTable implements Function<CharSequence, String> {
+
+    private static final int MAX_SIZE_BITS = 20;
+
+    private final AtomicReferenceArray<String> table;
+    private final int bucketMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a string table with 65,536 entries.
+     */
+    public ConcurrentStringTable() {
+        this(16);
+    }
+
+    /**
+     * Create a string table with a specific number of entries.
+     *
+     * @param sizeBits Size of the table based on bit shifting (e.g., 1 -> 2, 2 -> 4, ..., 16 -> 65536).
+     */
+    public ConcurrentStringTable(int sizeBits) {
+        if (sizeBits <= 0) {
+            throw new IllegalArgumentException("Cache sizeBits must be >= 1");
+        } else if (sizeBits > MAX_SIZE_BITS) {
+            throw new IllegalArgumentException("Refusing to create a cache with more than "
+                                               + (1 << MAX_SIZE_BITS) + " entries");
+        }
+
+        int size = 1 << sizeBits;
+        this.table = new AtomicReferenceArray<>(size);
+        // Buckets always start at an even index and use the next index as their second entry.
+        this.bucketMask = (size - 1) & ~1;
+    }
+
+    @Override
+    public String apply(CharSequence chars) {
+        int bucket = StringTable.getFnvHashCode(chars) & bucketMask;
+        String first = table.get(bucket);
+
+        if (first != null) {
+            if (StringTable.textEquals(chars, first)) {
+                hits.increment();
+                return first;
+            }
+            String second = table.get(bucket + 1);
+            if (second != null && StringTable.textEquals(chars, second)) {
+                hits.increment();
+                return second;
+            }
+        }
+
+        misses.increment();
+        String value = chars.toString();
+
+        // Demote the most recent value of the bucket and evict the older one. Racing with another thread can
+        // lose one of the values, but every slot always holds a complete string, so lazySet is enough here.
+        if (first != null) {
+            table.lazySet(bucket + 1, first);
+        }
+        table.lazySet(bucket, value);
+        return value;
+    }
+
+    /**
+     * Gets the number of entries that can be stored in the table.
+     *
+     * @return Returns the capacity of the table.
+     */
+    public int getCapacity() {
+        return table.length();
+    }
+
+    /**
+     * Gets the number of lookups that returned a previously cached string.
+     *
+     * @return Returns the number of cache hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that created a new string.
+     *
+     * @return Returns the number of cache misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the ratio of lookups that returned a previously cached string.
+     *
+     * @return Returns a hit rate from 0 to 1, or 0 if the table was never used.
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Resets the hit and miss statistics without clearing cached strings.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+}
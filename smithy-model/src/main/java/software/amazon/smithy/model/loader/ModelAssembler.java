@@ -16,6 +16,7 @@
 package software.amazon.smithy.model.loader;
 
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
@@ -23,6 +24,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -35,6 +37,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -50,6 +53,7 @@ import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidationEventDecorator;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
+import software.amazon.smithy.model.validation.ValidatorProfile;
 import software.amazon.smithy.utils.Pair;
 
 /**
@@ -83,6 +87,16 @@ public final class ModelAssembler {
      */
     public static final String DISABLE_JAR_CACHE = "assembler.disableJarCache";
 
+    /**
+     * Parses model files concurrently when set to true.
+     *
+     * <p>Each file is tokenized and parsed on a separate thread, and the
+     * parsed results are then applied to the model in the order in which
+     * files were added to the assembler. This ensures that the assembled
+     * model and emitted validation events are identical to serial loading.
+     */
+    public static final String PARALLEL_LOADING = "assembler.parallelLoading";
+
     private static final Logger LOGGER = Logger.getLogger(ModelAssembler.class.getName());
 
     private static final Consumer<ValidationEvent> DEFAULT_EVENT_LISTENER = ValidationEvent -> {
@@ -102,7 +116,11 @@ public final class ModelAssembler {
     private final Map<String, Object> properties = new HashMap<>();
     private boolean disablePrelude;
     private Consumer<ValidationEvent> validationEventListener = DEFAULT_EVENT_LISTENER;
-    private StringTable stringTable;
+    private Function<CharSequence, String> stringTable;
+    private Model previousModel;
+    private List<ValidationEvent> previousEvents;
+    private Set<ShapeId> changedShapes;
+    private ValidatorProfile validatorProfile;
 
     // Lazy initialization holder class idiom to hold a default trait factory.
     static final class LazyTraitFactoryHolder {
@@ -130,6 +148,10 @@ public final class ModelAssembler {
         assembler.disableValidation = disableValidation;
         assembler.validationEventListener = validationEventListener;
         assembler.stringTable = stringTable;
+        assembler.previousModel = previousModel;
+        assembler.previousEvents = previousEvents;
+        assembler.changedShapes = changedShapes;
+        assembler.validatorProfile = validatorProfile;
         return assembler;
     }
 
@@ -149,6 +171,8 @@ public final class ModelAssembler {
      *     <li>Metadata registered via {@link #putMetadata}</li>
      *     <li>Validation is re-enabled if it was disabled.</li>
      *     <li>Validation event listener via {@link #validationEventListener(Consumer)}</li>
+     *     <li>The previous validation via {@link #previousValidation}</li>
+     *     <li>The validator profile via {@link #validatorProfile}</li>
      * </ul>
      *
      * <p>The state of {@link #disablePrelude} is reset such that the prelude
@@ -167,6 +191,27 @@ public final class ModelAssembler {
         disablePrelude = false;
         disableValidation = false;
         validationEventListener = DEFAULT_EVENT_LISTENER;
+        previousModel = null;
+        previousEvents = null;
+        changedShapes = null;
+        validatorProfile = null;
+        return this;
+    }
+
+    /**
+     * Uses a thread-safe string table to cache the identifiers and strings parsed from models.
+     *
+     * <p>By default, each assembler uses a table that is not thread-safe. A
+     * {@link ConcurrentStringTable} can be shared by any number of assemblers
+     * that run concurrently, allowing them to reuse the same string instances
+     * when loading models from the same dependencies. The table is also used
+     * by every thread when {@link #PARALLEL_LOADING} is enabled.
+     *
+     * @param stringTable String table to use.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler stringTable(ConcurrentStringTable stringTable) {
+        this.stringTable = Objects.requireNonNull(stringTable);
         return this;
     }
 
@@ -270,7 +315,11 @@ public final class ModelAssembler {
             // Use an absolute path for better de-duping of the same file.
             inputStreamModels.put(importPath.toAbsolutePath().toString(), () -> {
                 try {
-                    return Files.newInputStream(importPath);
+                    // Files on the default file system are opened with a FileInputStream so that the loader can
+                    // read them through a FileChannel, memory-mapping large files.
+                    return importPath.getFileSystem() == FileSystems.getDefault()
+                           ? new FileInputStream(importPath.toFile())
+                           : Files.newInputStream(importPath);
                 } catch (IOException e) {
                     throw new ModelImportException(
                             "Unable to import Smithy model from " + importPath + ": " + e.getMessage(), e);
@@ -469,6 +518,57 @@ public final class ModelAssembler {
         return this;
     }
 
+    /**
+     * Validates the assembled model incrementally using the result of
+     * validating a previous version of the model.
+     *
+     * <p>This is useful when a model is repeatedly re-assembled after small
+     * edits, like in an editor. Validators that implement
+     * {@link software.amazon.smithy.model.validation.ShapeScopedValidator}
+     * only validate the changed shapes and the shapes connected to them,
+     * and the events they emitted for every other shape are reused from
+     * {@code previousEvents}. Shapes whose source location changed are
+     * validated again too. Every other validator validates the entire
+     * model. The entire model is validated if its metadata changed or if
+     * {@code previousEvents} contains an ERROR.
+     *
+     * <p>The assembler must be configured with the same validators,
+     * validator factory, and properties that were used to create the
+     * previous events.
+     *
+     * @param previousModel Previously assembled version of the model.
+     * @param previousEvents Events emitted when assembling {@code previousModel}.
+     * @param changedShapes IDs of shapes that were added, removed, or modified since {@code previousModel}.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler previousValidation(
+            Model previousModel,
+            List<ValidationEvent> previousEvents,
+            Set<ShapeId> changedShapes
+    ) {
+        this.previousModel = Objects.requireNonNull(previousModel);
+        this.previousEvents = Objects.requireNonNull(previousEvents);
+        this.changedShapes = Objects.requireNonNull(changedShapes);
+        return this;
+    }
+
+    /**
+     * Records the wall time, CPU time, and allocated bytes of each
+     * validator applied to the model in the given profile.
+     *
+     * <p>This includes built-in validators, validators registered with
+     * {@link #addValidator}, and validators defined in the metadata of
+     * the model. Profiling adds a small amount of overhead to each
+     * validator, so it is disabled by default.
+     *
+     * @param validatorProfile Profile to update, or null to disable profiling.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler validatorProfile(ValidatorProfile validatorProfile) {
+        this.validatorProfile = validatorProfile;
+        return this;
+    }
+
     /**
      * Disables additional validation of the model.
      *
@@ -548,11 +648,19 @@ public final class ModelAssembler {
         }
 
         // Load model files into the processor.
-        for (Map.Entry<String, Supplier<InputStream>> entry : inputStreamModels.entrySet()) {
-            try {
-                ModelLoader.load(traitFactory, properties, entry.getKey(), processor, entry.getValue(), stringTable);
-            } catch (SourceException e) {
-                processor.accept(new LoadOperation.Event(ValidationEvent.fromSourceException(e)));
+        ModelSnapshot validatedSnapshot = null;
+        if (isStandaloneSnapshot()) {
+            validatedSnapshot = loadStandaloneSnapshot(processor);
+        } else if (isParallelLoadingEnabled() && inputStreamModels.size() > 1) {
+            loadModelFilesInParallel(processor);
+        } else {
+            for (Map.Entry<String, Supplier<InputStream>> entry : inputStreamModels.entrySet()) {
+                try {
+                    ModelLoader.load(traitFactory, properties, entry.getKey(), processor, entry.getValue(),
+                                     stringTable);
+                } catch (SourceException e) {
+                    processor.accept(new LoadOperation.Event(ValidationEvent.fromSourceException(e)));
+                }
             }
         }
 
@@ -572,15 +680,29 @@ public final class ModelAssembler {
             return new ValidatedResult<>(transformed, events);
         }
 
+        // A validated snapshot that is the only input to the assembler was validated when it was created, and its
+        // content hash was verified when it was read, so the events it recorded are reused.
+        if (validatedSnapshot != null) {
+            List<ValidationEvent> mergedEvents = new ArrayList<>(events);
+            for (ValidationEvent event : validatedSnapshot.getValidationEvents()) {
+                validationEventListener.accept(event);
+                mergedEvents.add(event);
+            }
+            return new ValidatedResult<>(transformed, mergedEvents);
+        }
+
         try {
-            List<ValidationEvent> mergedEvents = ModelValidator.builder()
+            ModelValidator.Builder validatorBuilder = ModelValidator.builder()
                     .addValidators(validators)
                     .validatorFactory(validatorFactory, decorator)
                     .eventListener(validationEventListener)
                     .includeEvents(events)
                     .legacyValidationMode((boolean) properties.getOrDefault("LEGACY_VALIDATION_MODE", false))
-                    .build()
-                    .validate(transformed);
+                    .validatorProfile(validatorProfile);
+            if (previousModel != null) {
+                validatorBuilder.previousValidation(previousModel, previousEvents, changedShapes);
+            }
+            List<ValidationEvent> mergedEvents = validatorBuilder.build().validate(transformed);
             return new ValidatedResult<>(transformed, mergedEvents);
         } catch (SourceException e) {
             events.add(ValidationEvent.fromSourceException(e));
@@ -594,8 +716,112 @@ public final class ModelAssembler {
         }
     }
 
+    // Validation of a snapshot can only be skipped when nothing else contributes to the model and the recorded
+    // events came from the same validators and settings that would be used to validate it again.
+    private boolean isStandaloneSnapshot() {
+        return inputStreamModels.size() == 1
+               && inputStreamModels.keySet().iterator().next().endsWith(ModelSnapshot.FILE_EXTENSION)
+               && documentNodes.isEmpty()
+               && mergeModels.isEmpty()
+               && shapes.isEmpty()
+               && pendingTraits.isEmpty()
+               && metadata.isEmpty()
+               && validators.isEmpty()
+               && validatorFactory == ModelValidator.defaultValidationFactory()
+               && properties.isEmpty()
+               && !disablePrelude;
+    }
+
+    // Returns the loaded snapshot if it was validated when created, or null if it needs to be validated.
+    private ModelSnapshot loadStandaloneSnapshot(LoadOperationProcessor processor) {
+        Map.Entry<String, Supplier<InputStream>> entry = inputStreamModels.entrySet().iterator().next();
+        ModelSnapshot snapshot = ModelSnapshot.read(entry.getKey(), entry.getValue());
+        try {
+            ModelLoader.loadParsedNode(snapshot.getModelNode(), processor);
+        } catch (SourceException e) {
+            processor.accept(new LoadOperation.Event(ValidationEvent.fromSourceException(e)));
+        }
+        return snapshot.isValidated() ? snapshot : null;
+    }
+
+    // Parses each file on a separate thread into a buffer of load operations, and then replays each buffer into
+    // the processor in insertion order. Every file gets its own StringTable since StringTable isn't thread-safe,
+    // unless a ConcurrentStringTable was provided.
+    private void loadModelFilesInParallel(LoadOperationProcessor processor) {
+        List<BufferedFileLoad> loads = new ArrayList<>(inputStreamModels.size());
+        for (Map.Entry<String, Supplier<InputStream>> entry : inputStreamModels.entrySet()) {
+            loads.add(new BufferedFileLoad(entry.getKey(), entry.getValue()));
+        }
+
+        boolean shareStringTable = stringTable instanceof ConcurrentStringTable;
+        loads.parallelStream().forEach(load -> {
+            load.parse(traitFactory, properties, shareStringTable ? stringTable : new StringTable());
+        });
+
+        for (BufferedFileLoad load : loads) {
+            load.replay(processor);
+        }
+    }
+
+    private boolean isParallelLoadingEnabled() {
+        Object parallel = properties.get(ModelAssembler.PARALLEL_LOADING);
+        return parallel != null && (boolean) parallel;
+    }
+
     private boolean areUnknownTraitsAllowed() {
         Object allowUnknown = properties.get(ModelAssembler.ALLOW_UNKNOWN_TRAITS);
         return allowUnknown != null && (boolean) allowUnknown;
     }
+
+    // Holds the operations parsed from a single file so they can be applied to a processor later. Any exception
+    // thrown while parsing is captured and rethrown (or converted to an event) after the buffered operations that
+    // preceded it are replayed, matching the behavior of loading the file directly into the processor. Loaders
+    // can emit more operations when forward references are resolved, so once replayed, operations are sent
+    // directly to the processor.
+    private static final class BufferedFileLoad implements Consumer<LoadOperation> {
+        private final String filename;
+        private final Supplier<InputStream> contentSupplier;
+        private final List<LoadOperation> operations = new ArrayList<>();
+        private Consumer<LoadOperation> delegate = operations::add;
+        private RuntimeException error;
+
+        BufferedFileLoad(String filename, Supplier<InputStream> contentSupplier) {
+            this.filename = filename;
+            this.contentSupplier = contentSupplier;
+        }
+
+        @Override
+        public void accept(LoadOperation operation) {
+            delegate.accept(operation);
+        }
+
+        void parse(
+                TraitFactory traitFactory,
+                Map<String, Object> properties,
+                Function<CharSequence, String> stringTable
+        ) {
+            try {
+                ModelLoader.load(traitFactory, properties, filename, this, contentSupplier, stringTable);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+        }
+
+        void replay(LoadOperationProcessor processor) {
+            delegate = processor;
+
+            for (LoadOperation operation : operations) {
+                processor.accept(operation);
+            }
+
+            operations.clear();
+
+            if (error instanceof SourceException) {
+                ValidationEvent event = ValidationEvent.fromSourceException((SourceException) error);
+                processor.accept(new LoadOperation.Event(event));
+            } else if (error != null) {
+                throw error;
+            }
+        }
+    }
 }
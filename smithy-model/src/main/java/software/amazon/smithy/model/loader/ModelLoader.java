@@ -15,10 +15,13 @@
 
 package software.amazon.smithy.model.loader;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -29,6 +32,7 @@ import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.node.internal.JsonPullParser;
 import software.amazon.smithy.model.traits.TraitFactory;
 import software.amazon.smithy.utils.IoUtils;
 
@@ -37,6 +41,8 @@ import software.amazon.smithy.utils.IoUtils;
  */
 final class ModelLoader {
 
+    // Mapping a file has a fixed cost that isn't worth paying for small files.
+    private static final long MIN_MAPPED_FILE_SIZE = 1024 * 1024;
     private static final Logger LOGGER = Logger.getLogger(ModelLoader.class.getName());
 
     private ModelLoader() {}
@@ -76,10 +82,12 @@ final class ModelLoader {
             } else if (filename.endsWith(".jar")) {
                 loadJar(traitFactory, properties, filename, operationConsumer, stringTable);
                 return true;
+            } else if (filename.endsWith(ModelSnapshot.FILE_EXTENSION)) {
+                return loadParsedNode(ModelSnapshot.read(filename, contentSupplier).getModelNode(), operationConsumer);
             } else if (filename.endsWith(".json") || filename.equals(SourceLocation.NONE.getFilename())) {
                 try (InputStream inputStream = contentSupplier.get()) {
                     // Assume it's JSON if there's an N/A filename.
-                    return loadParsedNode(Node.parse(inputStream, filename), operationConsumer);
+                    return loadJson(filename, inputStream, operationConsumer);
                 }
             } else {
                 LOGGER.warning(() -> "Ignoring unrecognized Smithy model file: " + filename);
@@ -99,15 +107,9 @@ final class ModelLoader {
         if (node.isObjectNode()) {
             ObjectNode model = node.expectObjectNode();
             if (model.containsMember("smithy")) {
-                StringNode versionNode = model.expectStringMember("smithy");
-                Version version = Version.fromString(versionNode.getValue());
-                if (version == null) {
-                    throw new ModelSyntaxException("Unsupported Smithy version number: " + versionNode.getValue(),
-                                                   versionNode);
-                } else {
-                    new AstModelLoader(version, model).parse(operationConsumer);
-                    return true;
-                }
+                Version version = parseVersion(model.expectStringMember("smithy"));
+                new AstModelLoader(version, model).parse(operationConsumer);
+                return true;
             }
         }
 
@@ -115,6 +117,78 @@ final class ModelLoader {
         return false;
     }
 
+    static Version parseVersion(StringNode versionNode) {
+        Version version = Version.fromString(versionNode.getValue());
+        if (version == null) {
+            throw new ModelSyntaxException("Unsupported Smithy version number: " + versionNode.getValue(),
+                                           versionNode);
+        }
+        return version;
+    }
+
+    // Streams a JSON AST model directly from UTF-8 bytes rather than first decoding the file to a String and
+    // parsing the entire document into a Node.
+    private static boolean loadJson(
+            String filename,
+            InputStream inputStream,
+            Consumer<LoadOperation> operationConsumer
+    ) throws IOException {
+        if (AstModelLoader.load(new JsonPullParser(filename, readContents(inputStream)), operationConsumer)) {
+            return true;
+        }
+
+        LOGGER.info("Ignoring unrecognized JSON file: " + filename);
+        return false;
+    }
+
+    /**
+     * Reads the contents of a stream into a buffer.
+     *
+     * <p>Files opened with a {@link FileInputStream} are read through their
+     * channel, which is closed before returning: large files are memory-mapped
+     * so that their contents are never copied onto the heap, and smaller files
+     * are read into an array sized to the file. Other streams are read into
+     * memory.
+     *
+     * @param inputStream Stream to read.
+     * @return Returns the contents of the stream.
+     * @throws IOException if the stream can't be read.
+     */
+    static ByteBuffer readContents(InputStream inputStream) throws IOException {
+        if (!(inputStream instanceof FileInputStream)) {
+            return ByteBuffer.wrap(IoUtils.toByteArray(inputStream));
+        }
+
+        try (FileChannel channel = ((FileInputStream) inputStream).getChannel()) {
+            return readContents(channel);
+        }
+    }
+
+    /**
+     * Reads the contents of a file channel into a buffer, memory-mapping large files.
+     *
+     * <p>The channel can be closed once this method returns.
+     *
+     * @param channel Channel to read.
+     * @return Returns the contents of the file.
+     * @throws IOException if the file can't be read.
+     */
+    static ByteBuffer readContents(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size >= MIN_MAPPED_FILE_SIZE) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
     // Allows importing JAR files by discovering models inside a JAR file.
     // This is similar to model discovery, but done using an explicit import.
     private static void loadJar(
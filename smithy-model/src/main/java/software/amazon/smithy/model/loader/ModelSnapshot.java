@@ -0,0 +1,594 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.BooleanNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodeVisitor;
+import software.amazon.smithy.model.node.NullNode;
+import software.amazon.smithy.model.node.NumberNode;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.model.validation.ValidationEvent;
+
+/**
+ * A compact binary snapshot of a {@link Model}.
+ *
+ * <p>A snapshot contains the JSON AST of a model encoded in a binary form
+ * that uses a single interned table for every string in the model (shape
+ * IDs, member names, trait values, filenames, etc.). Every node in the
+ * snapshot retains its source location, and shapes and members retain the
+ * source location of the shape they were serialized from.
+ *
+ * <p>A snapshot created from a {@link ValidatedResult} records that the model
+ * was validated along with the validation events that were emitted. When a
+ * {@link ModelAssembler} is given a validated snapshot as its only input, the
+ * recorded events are reused rather than validating the model again.
+ *
+ * <p>Snapshot files use the {@link #FILE_EXTENSION} file extension and can be
+ * loaded like any other model file using {@link ModelAssembler#addImport}.
+ * Large snapshot files found on disk are memory-mapped when loaded. The contents
+ * of a snapshot are protected by a SHA-256 hash that is verified before the
+ * snapshot is loaded.
+ */
+public final class ModelSnapshot {
+
+    /** The file extension used for model snapshot files. */
+    public static final String FILE_EXTENSION = ".smithybin";
+
+    private static final int MAGIC = 0x534D4249;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HASH_LENGTH = 32;
+    private static final int FLAG_VALIDATED = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_INTEGER = 4;
+    private static final byte TAG_LONG = 5;
+    private static final byte TAG_FLOAT = 6;
+    private static final byte TAG_DOUBLE = 7;
+    private static final byte TAG_BIG_INTEGER = 8;
+    private static final byte TAG_BIG_DECIMAL = 9;
+    private static final byte TAG_ARRAY = 10;
+    private static final byte TAG_OBJECT = 11;
+
+    private final ObjectNode modelNode;
+    private final List<ValidationEvent> events;
+    private final boolean validated;
+    private final byte[] contentHash;
+
+    private ModelSnapshot(ObjectNode modelNode, List<ValidationEvent> events, boolean validated, byte[] contentHash) {
+        this.modelNode = modelNode;
+        this.events = events;
+        this.validated = validated;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Serializes a model to a snapshot that is not marked as validated.
+     *
+     * <p>Models loaded from the snapshot are validated like any other model.
+     *
+     * @param model Model to serialize.
+     * @return Returns the serialized snapshot.
+     */
+    public static byte[] serialize(Model model) {
+        return new Writer().write(model, Collections.emptyList(), false);
+    }
+
+    /**
+     * Serializes a validated model and its validation events to a snapshot.
+     *
+     * @param result Validated model to serialize.
+     * @return Returns the serialized snapshot.
+     * @throws IllegalArgumentException if the result is broken or contains no model.
+     */
+    public static byte[] serialize(ValidatedResult<Model> result) {
+        if (result.isBroken() || !result.getResult().isPresent()) {
+            throw new IllegalArgumentException("Cannot create a validated snapshot from a broken model");
+        }
+        return new Writer().write(result.getResult().get(), result.getValidationEvents(), true);
+    }
+
+    /**
+     * Reads a snapshot from a file, memory-mapping the file if it's large.
+     *
+     * @param path Path to the snapshot file to read.
+     * @return Returns the loaded snapshot.
+     * @throws ModelImportException if the file can't be read or is not a valid snapshot.
+     */
+    public static ModelSnapshot read(Path path) {
+        try {
+            ByteBuffer contents;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                contents = ModelLoader.readContents(channel);
+            }
+            return read(path.toString(), contents);
+        } catch (IOException e) {
+            throw new ModelImportException("Unable to read model snapshot " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a snapshot from a buffer.
+     *
+     * @param filename Filename of the snapshot used in error messages.
+     * @param buffer Buffer to read from the current position.
+     * @return Returns the loaded snapshot.
+     * @throws ModelImportException if the buffer does not contain a valid snapshot.
+     */
+    public static ModelSnapshot read(String filename, ByteBuffer buffer) {
+        try {
+            return new Reader(filename, buffer).read();
+        } catch (ModelImportException e) {
+            throw e;
+        } catch (BufferUnderflowException e) {
+            throw new ModelImportException("Invalid model snapshot " + filename + ": unexpected end of data", e);
+        } catch (RuntimeException e) {
+            // Corrupt or truncated data can fail in any number of ways (e.g., a negative length).
+            throw new ModelImportException("Invalid model snapshot " + filename + ": " + e.getMessage(), e);
+        }
+    }
+
+    static ModelSnapshot read(String filename, Supplier<InputStream> contentSupplier) {
+        try (InputStream inputStream = contentSupplier.get()) {
+            return read(filename, ModelLoader.readContents(inputStream));
+        } catch (IOException e) {
+            throw new ModelImportException("Unable to read model snapshot " + filename + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the JSON AST model node stored in the snapshot.
+     *
+     * @return Returns the model node.
+     */
+    public ObjectNode getModelNode() {
+        return modelNode;
+    }
+
+    /**
+     * Checks if the snapshot was created from a validated model.
+     *
+     * @return Returns true if validated.
+     */
+    public boolean isValidated() {
+        return validated;
+    }
+
+    /**
+     * Gets the validation events recorded when the snapshot was created.
+     *
+     * @return Returns the recorded validation events.
+     */
+    public List<ValidationEvent> getValidationEvents() {
+        return events;
+    }
+
+    /**
+     * Gets the SHA-256 hash of the contents of the snapshot.
+     *
+     * @return Returns the content hash.
+     */
+    public byte[] getContentHash() {
+        return contentHash.clone();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Writer implements NodeVisitor<Void> {
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> stringList = new ArrayList<>();
+        private final Buffer body = new Buffer();
+
+        byte[] write(Model model, List<ValidationEvent> events, boolean validated) {
+            writeNode(addShapeLocations(model, ModelSerializer.builder().build().serialize(model)));
+            List<Node> eventNodes = new ArrayList<>(events.size());
+            for (ValidationEvent event : events) {
+                eventNodes.add(event.toNode());
+            }
+            writeNode(new ArrayNode(eventNodes, SourceLocation.NONE));
+
+            Buffer payload = new Buffer();
+            payload.writeVarInt(validated ? FLAG_VALIDATED : 0);
+            payload.writeVarInt(stringList.size());
+            for (String value : stringList) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                payload.writeVarInt(bytes.length);
+                payload.write(bytes, 0, bytes.length);
+            }
+            payload.write(body.array(), 0, body.size());
+
+            Buffer result = new Buffer();
+            result.writeInt(MAGIC);
+            result.writeInt(FORMAT_VERSION);
+            byte[] hash = createDigest().digest(payload.toByteArray());
+            result.write(hash, 0, hash.length);
+            result.write(payload.array(), 0, payload.size());
+            return result.toByteArray();
+        }
+
+        // The JSON AST doesn't contain source locations for shapes, so they're copied from the model onto
+        // the nodes that AstModelLoader uses to assign locations to shapes and members.
+        private ObjectNode addShapeLocations(Model model, ObjectNode ast) {
+            ObjectNode shapes = ast.expectObjectMember("shapes");
+            Map<StringNode, Node> updatedShapes = new LinkedHashMap<>(shapes.size());
+            for (Map.Entry<StringNode, Node> entry : shapes.getMembers().entrySet()) {
+                Shape shape = model.getShape(ShapeId.from(entry.getKey().getValue())).orElse(null);
+                Node value = entry.getValue();
+                if (shape != null && !shape.isMemberShape()) {
+                    value = addShapeLocation(shape, value.expectObjectNode());
+                }
+                updatedShapes.put(entry.getKey(), value);
+            }
+            return ast.withMember("shapes", new ObjectNode(updatedShapes, shapes.getSourceLocation()));
+        }
+
+        private ObjectNode addShapeLocation(Shape shape, ObjectNode node) {
+            Map<StringNode, Node> members = new LinkedHashMap<>(node.size());
+            for (Map.Entry<StringNode, Node> entry : node.getMembers().entrySet()) {
+                String key = entry.getKey().getValue();
+                Node value = entry.getValue();
+                if (key.equals("members") && value.isObjectNode()) {
+                    Map<StringNode, Node> updatedMembers = new LinkedHashMap<>();
+                    for (Map.Entry<StringNode, Node> member : value.expectObjectNode().getMembers().entrySet()) {
+                        Node memberValue = addMemberLocation(shape, member.getKey(), member.getValue());
+                        updatedMembers.put(member.getKey(), memberValue);
+                    }
+                    value = new ObjectNode(updatedMembers, value.getSourceLocation());
+                } else if (key.equals("member") || key.equals("key") || key.equals("value")) {
+                    value = addMemberLocation(shape, entry.getKey(), value);
+                }
+                members.put(entry.getKey(), value);
+            }
+            return new ObjectNode(members, shape.getSourceLocation());
+        }
+
+        private Node addMemberLocation(Shape container, StringNode name, Node value) {
+            Shape member = container.getMember(name.getValue()).orElse(null);
+            if (member == null || !value.isObjectNode()) {
+                return value;
+            }
+            SourceLocation location = member.getSourceLocation();
+            ObjectNode memberNode = value.expectObjectNode();
+            Map<StringNode, Node> updated = new LinkedHashMap<>(memberNode.getMembers());
+            memberNode.getStringMember("target").ifPresent(target -> {
+                updated.put(Node.from("target"), new StringNode(target.getValue(), location));
+            });
+            return new ObjectNode(updated, location);
+        }
+
+        private void writeNode(Node node) {
+            node.accept(this);
+        }
+
+        private void writeString(String value) {
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = stringList.size();
+                strings.put(value, index);
+                stringList.add(value);
+            }
+            body.writeVarInt(index);
+        }
+
+        private void writeLocation(SourceLocation location) {
+            if (location == SourceLocation.NONE) {
+                body.writeVarInt(0);
+            } else {
+                // Offset the string index by one so that 0 can represent SourceLocation.NONE.
+                Integer index = strings.get(location.getFilename());
+                if (index == null) {
+                    index = stringList.size();
+                    strings.put(location.getFilename(), index);
+                    stringList.add(location.getFilename());
+                }
+                body.writeVarInt(index + 1);
+                body.writeVarInt(location.getLine());
+                body.writeVarInt(location.getColumn());
+            }
+        }
+
+        @Override
+        public Void arrayNode(ArrayNode node) {
+            body.writeByte(TAG_ARRAY);
+            writeLocation(node.getSourceLocation());
+            body.writeVarInt(node.size());
+            for (Node element : node.getElements()) {
+                writeNode(element);
+            }
+            return null;
+        }
+
+        @Override
+        public Void booleanNode(BooleanNode node) {
+            body.writeByte(node.getValue() ? TAG_TRUE : TAG_FALSE);
+            writeLocation(node.getSourceLocation());
+            return null;
+        }
+
+        @Override
+        public Void nullNode(NullNode node) {
+            body.writeByte(TAG_NULL);
+            writeLocation(node.getSourceLocation());
+            return null;
+        }
+
+        @Override
+        public Void numberNode(NumberNode node) {
+            Number value = node.getValue();
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                body.writeByte(TAG_INTEGER);
+                writeLocation(node.getSourceLocation());
+                body.writeLong(value.intValue());
+            } else if (value instanceof Long) {
+                body.writeByte(TAG_LONG);
+                writeLocation(node.getSourceLocation());
+                body.writeLong(value.longValue());
+            } else if (value instanceof Float) {
+                body.writeByte(TAG_FLOAT);
+                writeLocation(node.getSourceLocation());
+                body.writeInt(Float.floatToIntBits(value.floatValue()));
+            } else if (value instanceof Double) {
+                body.writeByte(TAG_DOUBLE);
+                writeLocation(node.getSourceLocation());
+                body.writeFixedLong(Double.doubleToLongBits(value.doubleValue()));
+            } else if (value instanceof BigInteger) {
+                body.writeByte(TAG_BIG_INTEGER);
+                writeLocation(node.getSourceLocation());
+                writeString(value.toString());
+            } else {
+                body.writeByte(TAG_BIG_DECIMAL);
+                writeLocation(node.getSourceLocation());
+                writeString(value.toString());
+            }
+            return null;
+        }
+
+        @Override
+        public Void objectNode(ObjectNode node) {
+            body.writeByte(TAG_OBJECT);
+            writeLocation(node.getSourceLocation());
+            body.writeVarInt(node.size());
+            for (Map.Entry<StringNode, Node> entry : node.getMembers().entrySet()) {
+                writeLocation(entry.getKey().getSourceLocation());
+                writeString(entry.getKey().getValue());
+                writeNode(entry.getValue());
+            }
+            return null;
+        }
+
+        @Override
+        public Void stringNode(StringNode node) {
+            body.writeByte(TAG_STRING);
+            writeLocation(node.getSourceLocation());
+            writeString(node.getValue());
+            return null;
+        }
+    }
+
+    private static final class Reader {
+        private final String filename;
+        private final ByteBuffer buffer;
+        private String[] strings;
+
+        Reader(String filename, ByteBuffer buffer) {
+            this.filename = filename;
+            this.buffer = buffer.slice();
+        }
+
+        ModelSnapshot read() {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("not a model snapshot");
+            }
+
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("unsupported snapshot format version " + version);
+            }
+
+            byte[] expectedHash = new byte[HASH_LENGTH];
+            buffer.get(expectedHash);
+            MessageDigest digest = createDigest();
+            ByteBuffer payload = buffer.slice();
+            digest.update(payload);
+            byte[] actualHash = digest.digest();
+            if (!MessageDigest.isEqual(expectedHash, actualHash)) {
+                throw new ModelImportException("Model snapshot " + filename + " is corrupt: content hash mismatch");
+            }
+
+            boolean validated = (readVarInt() & FLAG_VALIDATED) != 0;
+            readStringTable();
+            ObjectNode model = readNode().expectObjectNode();
+            List<ValidationEvent> events = new ArrayList<>();
+            for (Node event : readNode().expectArrayNode().getElements()) {
+                events.add(ValidationEvent.fromNode(event));
+            }
+
+            return new ModelSnapshot(model, Collections.unmodifiableList(events), validated, actualHash);
+        }
+
+        private void readStringTable() {
+            strings = new String[readVarInt()];
+            byte[] scratch = new byte[64];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readVarInt();
+                if (length > scratch.length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(scratch, 0, length);
+                strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+        }
+
+        private Node readNode() {
+            byte tag = buffer.get();
+            SourceLocation location = readLocation();
+            switch (tag) {
+                case TAG_NULL:
+                    return new NullNode(location);
+                case TAG_TRUE:
+                    return new BooleanNode(true, location);
+                case TAG_FALSE:
+                    return new BooleanNode(false, location);
+                case TAG_STRING:
+                    return new StringNode(readString(), location);
+                case TAG_INTEGER:
+                    return new NumberNode((int) readLong(), location);
+                case TAG_LONG:
+                    return new NumberNode(readLong(), location);
+                case TAG_FLOAT:
+                    return new NumberNode(Float.intBitsToFloat(buffer.getInt()), location);
+                case TAG_DOUBLE:
+                    return new NumberNode(Double.longBitsToDouble(buffer.getLong()), location);
+                case TAG_BIG_INTEGER:
+                    return new NumberNode(new BigInteger(readString()), location);
+                case TAG_BIG_DECIMAL:
+                    return new NumberNode(new BigDecimal(readString()), location);
+                case TAG_ARRAY:
+                    int elementCount = readVarInt();
+                    List<Node> elements = new ArrayList<>(elementCount);
+                    for (int i = 0; i < elementCount; i++) {
+                        elements.add(readNode());
+                    }
+                    return new ArrayNode(elements, location);
+                case TAG_OBJECT:
+                    int memberCount = readVarInt();
+                    Map<StringNode, Node> members = new LinkedHashMap<>(memberCount);
+                    for (int i = 0; i < memberCount; i++) {
+                        SourceLocation keyLocation = readLocation();
+                        members.put(new StringNode(readString(), keyLocation), readNode());
+                    }
+                    return new ObjectNode(members, location);
+                default:
+                    throw new IllegalArgumentException("unknown node tag " + tag + " at " + buffer.position());
+            }
+        }
+
+        private SourceLocation readLocation() {
+            int file = readVarInt();
+            if (file == 0) {
+                return SourceLocation.NONE;
+            }
+            return new SourceLocation(strings[file - 1], readVarInt(), readVarInt());
+        }
+
+        private String readString() {
+            return strings[readVarInt()];
+        }
+
+        private long readLong() {
+            // Zig-zag decoding of a variable-length long.
+            long raw = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get();
+                raw |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        private int readVarInt() {
+            int result = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get();
+                result |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return result;
+        }
+    }
+
+    // A ByteArrayOutputStream that provides access to its buffer without copying.
+    private static final class Buffer extends ByteArrayOutputStream {
+        byte[] array() {
+            return buf;
+        }
+
+        void writeByte(int value) {
+            write(value);
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeLong(long value) {
+            // Zig-zag encode the value so that small negative numbers stay small.
+            long encoded = (value << 1) ^ (value >> 63);
+            while ((encoded & ~0x7FL) != 0) {
+                write((int) ((encoded & 0x7F) | 0x80));
+                encoded >>>= 7;
+            }
+            write((int) encoded);
+        }
+
+        void writeFixedLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+    }
+}
@@ -18,21 +18,36 @@ package software.amazon.smithy.model.loader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.neighbor.NeighborProvider;
+import software.amazon.smithy.model.neighbor.Relationship;
+import software.amazon.smithy.model.selector.Selector;
+import software.amazon.smithy.model.selector.SelectorBatch;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.SelectorValidator;
 import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ShapeScopedValidator;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidationEventDecorator;
 import software.amazon.smithy.model.validation.ValidationUtils;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
+import software.amazon.smithy.model.validation.ValidatorProfile;
 import software.amazon.smithy.model.validation.suppressions.ModelBasedEventDecorator;
 import software.amazon.smithy.model.validation.validators.ResourceCycleValidator;
 import software.amazon.smithy.model.validation.validators.TargetValidator;
@@ -82,6 +97,10 @@ final class ModelValidator implements Validator {
     private final ValidationEventDecorator validationEventDecorator;
     private final Consumer<ValidationEvent> eventListener;
     private final boolean legacyValidationMode;
+    private final Model previousModel;
+    private final List<ValidationEvent> previousEvents;
+    private final Set<ShapeId> changedShapes;
+    private final ValidatorProfile validatorProfile;
 
     ModelValidator(Builder builder) {
         this.validatorFactory = builder.validatorFactory;
@@ -91,6 +110,10 @@ final class ModelValidator implements Validator {
         this.validators = builder.validators.copy();
         this.criticalValidators = builder.criticalValidators.copy();
         this.legacyValidationMode = builder.legacyValidationMode;
+        this.previousModel = builder.previousModel;
+        this.previousEvents = builder.previousEvents;
+        this.changedShapes = builder.changedShapes;
+        this.validatorProfile = builder.validatorProfile;
     }
 
     @Override
@@ -115,6 +138,10 @@ final class ModelValidator implements Validator {
         private Consumer<ValidationEvent> eventListener = event -> { };
         private ValidationEventDecorator validationEventDecorator;
         private boolean legacyValidationMode = false;
+        private Model previousModel;
+        private List<ValidationEvent> previousEvents;
+        private Set<ShapeId> changedShapes;
+        private ValidatorProfile validatorProfile;
 
         private Builder() {}
 
@@ -200,6 +227,41 @@ final class ModelValidator implements Validator {
             return this;
         }
 
+        /**
+         * Validates the model incrementally using the result of validating a previous version of the model.
+         *
+         * <p>Only the changed shapes and the shapes connected to them are validated by
+         * {@link ShapeScopedValidator}s, and the events those validators emitted for every other shape are
+         * reused from {@code previousEvents}. All other validators validate the entire model. The entire model
+         * is validated if the metadata of the model changed or if the previous validation emitted an ERROR.
+         *
+         * @param previousModel Previous version of the model.
+         * @param previousEvents Events emitted when validating the previous version of the model.
+         * @param changedShapes Shapes that were added, removed, or modified since the previous version.
+         * @return Returns the builder.
+         */
+        public Builder previousValidation(
+                Model previousModel,
+                List<ValidationEvent> previousEvents,
+                Set<ShapeId> changedShapes
+        ) {
+            this.previousModel = Objects.requireNonNull(previousModel);
+            this.previousEvents = Objects.requireNonNull(previousEvents);
+            this.changedShapes = Objects.requireNonNull(changedShapes);
+            return this;
+        }
+
+        /**
+         * Records the wall time, CPU time, and allocated bytes of each applied validator in a profile.
+         *
+         * @param validatorProfile Profile to update, or null to disable profiling.
+         * @return Returns the builder.
+         */
+        public Builder validatorProfile(ValidatorProfile validatorProfile) {
+            this.validatorProfile = validatorProfile;
+            return this;
+        }
+
         @Override
         public ModelValidator build() {
             // Adding built-in validators is deferred to allow for a custom factory to be set on the builder.
@@ -217,6 +279,12 @@ final class ModelValidator implements Validator {
         private final ValidationEventDecorator validationEventDecorator;
         private final Consumer<ValidationEvent> eventListener;
         private final boolean legacyValidationMode;
+        private final List<ValidationEvent> previousEvents;
+        private final Set<ShapeId> affectedShapes;
+        private final List<Shape> shapesToValidate;
+        private final ValidatorProfile validatorProfile;
+        private final Map<Validator, ValidatorDefinition> validatorDefinitions = new IdentityHashMap<>();
+        private final Map<Validator, List<Selector.ShapeMatch>> selectorMatches = new IdentityHashMap<>();
 
         private LoadedModelValidator(Model model, ModelValidator validator) {
             this.model = model;
@@ -224,6 +292,7 @@ final class ModelValidator implements Validator {
             this.validators = new ArrayList<>(validator.validators);
             this.criticalValidators = Collections.unmodifiableList(validator.criticalValidators);
             this.legacyValidationMode = validator.legacyValidationMode;
+            this.validatorProfile = validator.validatorProfile;
 
             // Suppressing and elevating events is handled by composing a given decorator with a
             // ModelBasedEventDecorator.
@@ -250,6 +319,98 @@ final class ModelValidator implements Validator {
 
             // The decorator itself doesn't handle loading and applying validators, just modifying events.
             loadModelValidators(validator.validatorFactory);
+
+            if (canValidateIncrementally(validator)) {
+                previousEvents = validator.previousEvents;
+                affectedShapes = findAffectedShapes(validator.previousModel, validator.changedShapes);
+                shapesToValidate = new ArrayList<>();
+                for (ShapeId id : affectedShapes) {
+                    model.getShape(id).ifPresent(shape -> {
+                        shapesToValidate.add(shape);
+                        shapesToValidate.addAll(shape.members());
+                    });
+                }
+            } else {
+                previousEvents = Collections.emptyList();
+                affectedShapes = null;
+                shapesToValidate = null;
+            }
+        }
+
+        private boolean canValidateIncrementally(ModelValidator validator) {
+            // Validators and suppressions defined in metadata can apply to any shape, and the validators that
+            // ran after an ERROR was emitted by a critical validator weren't applied to the previous model.
+            return validator.previousModel != null
+                   && validator.previousModel.getMetadata().equals(model.getMetadata())
+                   && !LoaderUtils.containsErrorEvents(validator.previousEvents);
+        }
+
+        // Finds the root shape IDs of the changed shapes and every shape connected to them in either direction,
+        // in both the previous and the current model.
+        private Set<ShapeId> findAffectedShapes(Model previousModel, Set<ShapeId> changedShapes) {
+            Set<ShapeId> changedRoots = new HashSet<>(changedShapes.size());
+            for (ShapeId id : changedShapes) {
+                changedRoots.add(id.withoutMember());
+            }
+
+            Set<ShapeId> result = new HashSet<>(changedRoots);
+            addNeighbors(previousModel, changedRoots, result);
+            addNeighbors(model, changedRoots, result);
+
+            // Shapes that moved, like when lines are inserted above them, are validated again because the source
+            // locations of the events previously emitted for them are no longer accurate.
+            for (Shape shape : model.toSet()) {
+                if (!shape.isMemberShape() && !result.contains(shape.getId()) && hasMoved(previousModel, shape)) {
+                    result.add(shape.getId());
+                }
+            }
+
+            return result;
+        }
+
+        private static boolean hasMoved(Model previousModel, Shape shape) {
+            Shape previous = previousModel.getShape(shape.getId()).orElse(null);
+            if (previous == null || !previous.getSourceLocation().equals(shape.getSourceLocation())) {
+                return true;
+            }
+
+            for (MemberShape member : shape.members()) {
+                Shape previousMember = previousModel.getShape(member.getId()).orElse(null);
+                if (previousMember == null || !previousMember.getSourceLocation().equals(member.getSourceLocation())) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private static void addNeighbors(Model model, Set<ShapeId> shapeIds, Set<ShapeId> result) {
+            NeighborProviderIndex index = NeighborProviderIndex.of(model);
+            NeighborProvider provider = index.getProviderWithTraitRelationships();
+            NeighborProvider reverseProvider = index.getReverseProviderWithTraitRelationships();
+            for (ShapeId id : shapeIds) {
+                Shape shape = model.getShape(id).orElse(null);
+                if (shape != null) {
+                    addNeighbors(shape, provider, reverseProvider, result);
+                    for (MemberShape member : shape.members()) {
+                        addNeighbors(member, provider, reverseProvider, result);
+                    }
+                }
+            }
+        }
+
+        private static void addNeighbors(
+                Shape shape,
+                NeighborProvider provider,
+                NeighborProvider reverseProvider,
+                Set<ShapeId> result
+        ) {
+            for (Relationship relationship : provider.getNeighbors(shape)) {
+                result.add(relationship.getNeighborShapeId().withoutMember());
+            }
+            for (Relationship relationship : reverseProvider.getNeighbors(shape)) {
+                result.add(relationship.getShape().getId().withoutMember());
+            }
         }
 
         private void loadModelValidators(ValidatorFactory validatorFactory) {
@@ -263,7 +424,10 @@ final class ModelValidator implements Validator {
             // Attempt to create the Validator instances and collect errors along the way.
             for (ValidatorDefinition val : definitions) {
                 ValidatedResult<Validator> result = factory.loadValidator(val);
-                result.getResult().ifPresent(validators::add);
+                result.getResult().ifPresent(created -> {
+                    validators.add(created);
+                    validatorDefinitions.put(created, val);
+                });
                 pushEvents(result.getValidationEvents());
                 if (result.getValidationEvents().isEmpty() && !result.getResult().isPresent()) {
                     ValidationEvent event = unknownValidatorError(val.name, val.sourceLocation);
@@ -304,30 +468,136 @@ final class ModelValidator implements Validator {
         private List<ValidationEvent> validate() {
             // Perform critical correctness validation before other critical validators.
             events.addAll(streamEvents(CORRECTNESS_VALIDATORS.values().stream()));
+            events.addAll(reusePreviousEvents(CORRECTNESS_VALIDATORS.values()));
             if (LoaderUtils.containsErrorEvents(events)) {
                 return events;
             }
 
             // Same thing, but for other critical validators.
             events.addAll(streamEvents(criticalValidators.parallelStream()));
+            events.addAll(reusePreviousEvents(criticalValidators));
 
             // Only fail early here if legacy validation mode is enabled.
             if (!legacyValidationMode && LoaderUtils.containsErrorEvents(events)) {
                 return events;
             }
 
+            evaluateSelectors();
             events.addAll(streamEvents(validators.parallelStream()));
+            events.addAll(reusePreviousEvents(validators));
             return events;
         }
 
+        // The selectors of selector validators, like the EmitEachSelector validators defined in metadata, are
+        // evaluated together in one pass over the model rather than once per validator. When profiling, each
+        // validator evaluates its own selector instead so that the cost of the selector is attributed to it.
+        private void evaluateSelectors() {
+            if (validatorProfile != null) {
+                return;
+            }
+
+            List<SelectorValidator> selectorValidators = new ArrayList<>();
+            for (Validator validator : validators) {
+                if (validator instanceof SelectorValidator) {
+                    selectorValidators.add((SelectorValidator) validator);
+                }
+            }
+
+            if (selectorValidators.size() < 2) {
+                return;
+            }
+
+            List<Selector> selectors = new ArrayList<>(selectorValidators.size());
+            for (SelectorValidator validator : selectorValidators) {
+                selectors.add(validator.getSelector());
+            }
+
+            SelectorBatch.Result result = SelectorBatch.of(selectors).evaluate(model);
+            for (SelectorValidator validator : selectorValidators) {
+                selectorMatches.put(validator, result.getMatches(validator.getSelector()));
+            }
+        }
+
         private List<ValidationEvent> streamEvents(Stream<Validator> validators) {
             return validators
-                    .flatMap(validator -> validator.validate(model).stream())
+                    .flatMap(validator -> applyValidator(validator).stream())
                     .filter(this::filterPrelude)
                     .map(this::updateAndEmitEvent)
                     .collect(Collectors.toList());
         }
 
+        private List<ValidationEvent> applyValidator(Validator validator) {
+            if (validatorProfile == null) {
+                return runValidator(validator);
+            }
+
+            ValidatorDefinition definition = validatorDefinitions.get(validator);
+            if (definition != null) {
+                return validatorProfile.measure(definition.getId(), definition.name, () -> runValidator(validator));
+            }
+
+            String type = validator.getClass().getName();
+            String name = validator instanceof AbstractValidator ? ((AbstractValidator) validator).getName() : type;
+            return validatorProfile.measure(name, type, () -> runValidator(validator));
+        }
+
+        private List<ValidationEvent> runValidator(Validator validator) {
+            if (shapesToValidate != null && validator instanceof ShapeScopedValidator) {
+                return ((ShapeScopedValidator) validator).validateShapes(model, shapesToValidate);
+            }
+            List<Selector.ShapeMatch> matches = selectorMatches.get(validator);
+            if (matches != null) {
+                return ((SelectorValidator) validator).validateMatches(model, matches);
+            }
+            return validator.validate(model);
+        }
+
+        // Previous events emitted by shape-scoped validators for shapes that weren't affected by a change are
+        // reused. These events were already decorated, but they still need to be sent to the event listener.
+        private List<ValidationEvent> reusePreviousEvents(Collection<Validator> validators) {
+            if (previousEvents.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            Set<String> eventIds = new HashSet<>();
+            for (Validator validator : validators) {
+                if (validator instanceof ShapeScopedValidator) {
+                    eventIds.addAll(((ShapeScopedValidator) validator).getEventIds());
+                }
+            }
+
+            if (eventIds.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            // Skip events that were emitted again, like events emitted while loading the model.
+            Set<ValidationEvent> emitted = new HashSet<>(events);
+            List<ValidationEvent> result = new ArrayList<>();
+            for (ValidationEvent event : previousEvents) {
+                if (isReusable(event, eventIds) && !emitted.contains(event)) {
+                    eventListener.accept(event);
+                    result.add(event);
+                }
+            }
+
+            return result;
+        }
+
+        private boolean isReusable(ValidationEvent event, Set<String> eventIds) {
+            ShapeId id = event.getShapeId().map(ShapeId::withoutMember).orElse(null);
+            if (id == null || affectedShapes.contains(id) || !model.getShape(id).isPresent()) {
+                return false;
+            }
+
+            for (String eventId : eventIds) {
+                if (event.containsId(eventId)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
         private boolean filterPrelude(ValidationEvent event) {
             // Don't emit any non-error events for prelude shapes and traits.
             // This prevents custom validators from unnecessarily needing to worry about prelude shapes and trait
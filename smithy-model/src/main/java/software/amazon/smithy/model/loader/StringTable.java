@@ -80,7 +80,7 @@ public final class StringTable implements Function<CharSequence, String> {
         return getFnvHashCode(chars) & sizeMask;
     }
 
-    private static int getFnvHashCode(CharSequence text) {
+    static int getFnvHashCode(CharSequence text) {
         int hashCode = FNV_OFFSET_BIAS;
         int end = text.length();
 
@@ -91,7 +91,7 @@ public final class StringTable implements Function<CharSequence, String> {
         return hashCode;
     }
 
-    private static boolean textEquals(CharSequence left, String right) {
+    static boolean textEquals(CharSequence left, String right) {
         if (left.length() != right.length()) {
             return false;
         }
@@ -48,6 +48,10 @@ final class ValidatorDefinition {
         this.id = id;
     }
 
+    String getId() {
+        return id;
+    }
+
     List<ValidationEvent> map(Model model, List<ValidationEvent> events) {
         List<ValidationEvent> filtered = new ArrayList<>(events.size());
         Set<ShapeId> candidates = null;
@@ -17,8 +17,13 @@ package software.amazon.smithy.model.loader;
 
 import static java.lang.String.format;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceException;
+import software.amazon.smithy.model.selector.Selector;
+import software.amazon.smithy.model.validation.SelectorValidator;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
@@ -54,6 +59,35 @@ final class ValidatorFromDefinitionFactory {
     }
 
     private Validator mapValidator(ValidatorDefinition definition, Validator upstream) {
+        if (upstream instanceof SelectorValidator) {
+            return new MappedSelectorValidator(definition, (SelectorValidator) upstream);
+        }
         return model -> definition.map(model, upstream.validate(model));
     }
+
+    // Keeps selector validators batchable after mapping their events.
+    private static final class MappedSelectorValidator implements SelectorValidator {
+        private final ValidatorDefinition definition;
+        private final SelectorValidator upstream;
+
+        MappedSelectorValidator(ValidatorDefinition definition, SelectorValidator upstream) {
+            this.definition = definition;
+            this.upstream = upstream;
+        }
+
+        @Override
+        public List<ValidationEvent> validate(Model model) {
+            return definition.map(model, upstream.validate(model));
+        }
+
+        @Override
+        public Selector getSelector() {
+            return upstream.getSelector();
+        }
+
+        @Override
+        public List<ValidationEvent> validateMatches(Model model, Collection<Selector.ShapeMatch> matches) {
+            return definition.map(model, upstream.validateMatches(model, matches));
+        }
+    }
 }
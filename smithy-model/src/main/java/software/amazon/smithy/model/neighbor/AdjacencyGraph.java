@@ -0,0 +1,302 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.neighbor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * A {@link NeighborProvider} that stores the relationships of a model in
+ * compact arrays of integers.
+ *
+ * <p>Shapes are numbered, and the relationships of each shape are stored
+ * as a row of a compressed sparse row (CSR) adjacency matrix: one array
+ * holds the offset of each shape's row, one holds the number of the shape
+ * each relationship points to, and one holds the type of each
+ * relationship. {@link Relationship} objects are only created when
+ * {@link #getNeighbors} is called, so the graph of a large model
+ * uses a fraction of the memory of {@link NeighborProvider#precomputed}.
+ *
+ * <p>{@link Walker}s created with an adjacency graph track the shapes they
+ * visited using a bit set rather than a set of shape IDs.
+ *
+ * <p>The graph is immutable and thread-safe. The reverse graph, returned
+ * from {@link #reverse()}, is lazily computed.
+ */
+public final class AdjacencyGraph implements NeighborProvider {
+
+    private static final RelationshipType[] TYPES = RelationshipType.values();
+    static final int NO_SHAPE = -1;
+
+    private final Shape[] shapes;
+    private final Map<ShapeId, Integer> shapeIndex;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final byte[] types;
+    private final Map<Integer, ShapeId> invalidNeighbors;
+    private final boolean reversed;
+    private volatile AdjacencyGraph reverse;
+
+    private AdjacencyGraph(
+            Shape[] shapes,
+            Map<ShapeId, Integer> shapeIndex,
+            int[] offsets,
+            int[] neighbors,
+            byte[] types,
+            Map<Integer, ShapeId> invalidNeighbors,
+            boolean reversed
+    ) {
+        this.shapes = shapes;
+        this.shapeIndex = shapeIndex;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.types = types;
+        this.invalidNeighbors = invalidNeighbors;
+        this.reversed = reversed;
+    }
+
+    /**
+     * Creates an adjacency graph of the relationships of a model.
+     *
+     * @param model Model to create a graph for.
+     * @return Returns the created graph.
+     */
+    public static AdjacencyGraph of(Model model) {
+        return of(model, NeighborProvider.of(model));
+    }
+
+    /**
+     * Creates an adjacency graph of the relationships a provider returns
+     * for each shape of a model.
+     *
+     * <p>Relationships are returned from the graph in the same order that
+     * the provider returned them.
+     *
+     * @param model Model to create a graph for.
+     * @param provider Provider used to find the relationships of each shape.
+     * @return Returns the created graph.
+     */
+    public static AdjacencyGraph of(Model model, NeighborProvider provider) {
+        Set<Shape> modelShapes = model.toSet();
+        Shape[] shapes = modelShapes.toArray(new Shape[0]);
+        Map<ShapeId, Integer> shapeIndex = new HashMap<>(shapes.length * 4 / 3 + 1);
+        for (int i = 0; i < shapes.length; i++) {
+            shapeIndex.put(shapes[i].getId(), i);
+        }
+
+        int[] offsets = new int[shapes.length + 1];
+        IntArray neighbors = new IntArray(shapes.length * 2);
+        IntArray types = new IntArray(shapes.length * 2);
+        Map<Integer, ShapeId> invalidNeighbors = new HashMap<>();
+        for (int i = 0; i < shapes.length; i++) {
+            for (Relationship relationship : provider.getNeighbors(shapes[i])) {
+                Integer neighbor = relationship.getNeighborShape().isPresent()
+                        ? shapeIndex.get(relationship.getNeighborShapeId())
+                        : null;
+                if (neighbor == null) {
+                    invalidNeighbors.put(neighbors.size, relationship.getNeighborShapeId());
+                    neighbors.add(NO_SHAPE);
+                } else {
+                    neighbors.add(neighbor);
+                }
+                types.add(relationship.getRelationshipType().ordinal());
+            }
+            offsets[i + 1] = neighbors.size;
+        }
+
+        byte[] typeBytes = new byte[types.size];
+        for (int i = 0; i < types.size; i++) {
+            typeBytes[i] = (byte) types.values[i];
+        }
+
+        return new AdjacencyGraph(shapes, shapeIndex, offsets, neighbors.toArray(), typeBytes,
+                                  invalidNeighbors, false);
+    }
+
+    /**
+     * Gets a graph that returns relationships that point at a given shape
+     * rather than relationships that the given shape points at.
+     *
+     * <p>Like {@link NeighborProvider#reverse}, each distinct relationship
+     * is returned once. Relationships that point at shapes that aren't in
+     * the model are not part of the reverse graph.
+     *
+     * @return Returns the reverse graph.
+     */
+    public AdjacencyGraph reverse() {
+        AdjacencyGraph result = reverse;
+        if (result == null) {
+            synchronized (this) {
+                result = reverse;
+                if (result == null) {
+                    reverse = result = createReverse();
+                }
+            }
+        }
+        return result;
+    }
+
+    private AdjacencyGraph createReverse() {
+        // Count the relationships that point at each shape, then place each relationship in the row of its
+        // neighbor. Rows are filled in the order of the shapes that point at them.
+        int[] counts = new int[shapes.length + 1];
+        for (int neighbor : neighbors) {
+            if (neighbor != NO_SHAPE) {
+                counts[neighbor + 1]++;
+            }
+        }
+        for (int i = 0; i < shapes.length; i++) {
+            counts[i + 1] += counts[i];
+        }
+
+        int[] reverseOffsets = Arrays.copyOf(counts, counts.length);
+        int[] reverseNeighbors = new int[counts[shapes.length]];
+        byte[] reverseTypes = new byte[reverseNeighbors.length];
+        for (int shape = 0; shape < shapes.length; shape++) {
+            for (int edge = offsets[shape]; edge < offsets[shape + 1]; edge++) {
+                int neighbor = neighbors[edge];
+                if (neighbor != NO_SHAPE && !containsEdge(reverseNeighbors, reverseTypes, reverseOffsets[neighbor],
+                                                          counts[neighbor], shape, types[edge])) {
+                    int position = counts[neighbor]++;
+                    reverseNeighbors[position] = shape;
+                    reverseTypes[position] = types[edge];
+                }
+            }
+        }
+
+        // Duplicate relationships leave gaps at the end of rows, so compact the rows.
+        int size = 0;
+        int[] compactOffsets = new int[shapes.length + 1];
+        for (int shape = 0; shape < shapes.length; shape++) {
+            for (int edge = reverseOffsets[shape]; edge < counts[shape]; edge++) {
+                reverseNeighbors[size] = reverseNeighbors[edge];
+                reverseTypes[size] = reverseTypes[edge];
+                size++;
+            }
+            compactOffsets[shape + 1] = size;
+        }
+
+        AdjacencyGraph result = new AdjacencyGraph(shapes, shapeIndex, compactOffsets,
+                                                   Arrays.copyOf(reverseNeighbors, size),
+                                                   Arrays.copyOf(reverseTypes, size),
+                                                   Collections.emptyMap(), true);
+        result.reverse = this;
+        return result;
+    }
+
+    private static boolean containsEdge(int[] neighbors, byte[] types, int start, int end, int shape, byte type) {
+        // Rows are filled in order of the shape that points at them, so duplicates are always at the end of a row.
+        for (int i = end - 1; i >= start && neighbors[i] == shape; i--) {
+            if (types[i] == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<Relationship> getNeighbors(Shape shape) {
+        int index = indexOf(shape);
+        if (index == NO_SHAPE || offsets[index] == offsets[index + 1]) {
+            return Collections.emptyList();
+        }
+
+        List<Relationship> result = new ArrayList<>(offsets[index + 1] - offsets[index]);
+        for (int edge = offsets[index]; edge < offsets[index + 1]; edge++) {
+            result.add(createRelationship(index, edge));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of relationships in the graph.
+     *
+     * @return Returns the number of relationships.
+     */
+    public int getRelationshipCount() {
+        return neighbors.length;
+    }
+
+    boolean isReversed() {
+        return reversed;
+    }
+
+    int size() {
+        return shapes.length;
+    }
+
+    Shape getShape(int index) {
+        return shapes[index];
+    }
+
+    int indexOf(Shape shape) {
+        Integer index = shapeIndex.get(shape.getId());
+        return index == null ? NO_SHAPE : index;
+    }
+
+    int getRowStart(int index) {
+        return offsets[index];
+    }
+
+    int getRowEnd(int index) {
+        return offsets[index + 1];
+    }
+
+    int getNeighborIndex(int edge) {
+        return neighbors[edge];
+    }
+
+    Relationship createRelationship(int index, int edge) {
+        RelationshipType type = TYPES[types[edge]];
+        int neighbor = neighbors[edge];
+        if (reversed) {
+            return Relationship.create(shapes[neighbor], type, shapes[index]);
+        } else if (neighbor == NO_SHAPE) {
+            return Relationship.createInvalid(shapes[index], type, invalidNeighbors.get(edge));
+        } else {
+            return Relationship.create(shapes[index], type, shapes[neighbor]);
+        }
+    }
+
+    // A growable array of ints that avoids boxing each value.
+    private static final class IntArray {
+        int[] values;
+        int size;
+
+        IntArray(int capacity) {
+            values = new int[Math.max(capacity, 16)];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
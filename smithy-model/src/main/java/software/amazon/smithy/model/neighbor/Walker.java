@@ -16,6 +16,8 @@
 package software.amazon.smithy.model.neighbor;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -41,6 +43,10 @@ import software.amazon.smithy.utils.FunctionalUtils;
  *
  * <p>Only shapes form a connected graph. Relationships created by traits
  * are not traversed by the walker.
+ *
+ * <p>Walkers created with an {@link AdjacencyGraph} track the shapes they
+ * visited using a bit set, and only create {@link Relationship} objects
+ * when they need to be tested against a predicate.
  */
 public final class Walker {
 
@@ -136,6 +142,15 @@ public final class Walker {
      * @return Returns an iterator of shapes connected to {@code shape}.
      */
     public Iterator<Shape> iterateShapes(Shape shape, Predicate<Relationship> predicate) {
+        if (provider instanceof AdjacencyGraph) {
+            AdjacencyGraph graph = (AdjacencyGraph) provider;
+            int index = graph.indexOf(shape);
+            // Reverse graphs point relationships back at the shape they were retrieved for, and shapes that
+            // aren't part of the graph are walked like they are with any other provider.
+            if (!graph.isReversed() && index != AdjacencyGraph.NO_SHAPE && graph.getShape(index) == shape) {
+                return new GraphShapeIterator(graph, index, predicate);
+            }
+        }
         return new ShapeIterator(shape, predicate, provider);
     }
 
@@ -199,4 +214,69 @@ public final class Walker {
             }
         }
     }
+
+    private static final class GraphShapeIterator implements Iterator<Shape> {
+        private final AdjacencyGraph graph;
+        private final Predicate<Relationship> predicate;
+        private final BitSet traversed;
+        private int[] stack = new int[16];
+        private int stackSize;
+        private Shape queued;
+
+        GraphShapeIterator(AdjacencyGraph graph, int index, Predicate<Relationship> predicate) {
+            this.graph = graph;
+            this.predicate = predicate == FunctionalUtils.<Relationship>alwaysTrue() ? null : predicate;
+            traversed = new BitSet(graph.size());
+
+            // Always include the given shape in the results.
+            queued = graph.getShape(index);
+            traversed.set(index);
+            pushNeighbors(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (queued != null) {
+                return true;
+            }
+
+            while (stackSize > 0) {
+                int neighbor = stack[--stackSize];
+                if (!traversed.get(neighbor)) {
+                    traversed.set(neighbor);
+                    queued = graph.getShape(neighbor);
+                    pushNeighbors(neighbor);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public Shape next() {
+            if (queued == null) {
+                throw new NoSuchElementException("No relationships in relationship iterator stack");
+            }
+
+            Shape shape = queued;
+            queued = null;
+            return shape;
+        }
+
+        private void pushNeighbors(int index) {
+            for (int edge = graph.getRowStart(index); edge < graph.getRowEnd(index); edge++) {
+                int neighbor = graph.getNeighborIndex(edge);
+                // Only look at valid relationships that pass the predicate.
+                if (neighbor == AdjacencyGraph.NO_SHAPE
+                        || (predicate != null && !predicate.test(graph.createRelationship(index, edge)))) {
+                    continue;
+                }
+                if (stackSize == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[stackSize++] = neighbor;
+            }
+        }
+    }
 }
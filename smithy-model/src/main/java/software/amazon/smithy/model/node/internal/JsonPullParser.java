@@ -0,0 +1,563 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.node.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.loader.ModelSyntaxException;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.BooleanNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NullNode;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * A pull parser that reads JSON tokens directly from a {@link ByteBuffer} of UTF-8 bytes.
+ *
+ * <p>Unlike {@link JsonParser}, this parser does not need to decode the
+ * entire document to characters or build a complete {@link Node} tree.
+ * Callers advance through the document with {@link #next()}, and can
+ * materialize just the values they need with {@link #readNode()} or skip
+ * them with {@link #skipValue()}. The buffer can be memory-mapped from a
+ * file so that the document itself is never copied onto the heap.
+ *
+ * <p>Source locations, error messages, and the nodes created by
+ * {@link #readNode()} match those produced by {@link JsonParser}.
+ * Comments are not supported.
+ */
+@SmithyInternalApi
+public final class JsonPullParser {
+
+    /**
+     * Tokens returned by the parser.
+     */
+    public enum Token {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        TRUE,
+        FALSE,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+
+    // The parser states are named after what is expected next.
+    private static final int VALUE = 0;
+    private static final int FIRST_NAME = 1;
+    private static final int NEXT_NAME = 2;
+    private static final int FIRST_ELEMENT = 3;
+    private static final int NEXT_ELEMENT = 4;
+    private static final int END_OF_TEXT = 5;
+    private static final int DONE = 6;
+
+    private final String filename;
+    private final ByteBuffer input;
+    private final ByteBuffer view;
+    private final int limit;
+    private byte[] scratch = new byte[64];
+
+    // True at each nesting level that is an object, false for arrays.
+    private final boolean[] objects = new boolean[MAX_NESTING_LEVEL + 1];
+    private int depth;
+    private int state = VALUE;
+    private int position;
+    private boolean skipping;
+
+    // Columns count characters rather than bytes, so track how many extra bytes
+    // multibyte characters used on the current line.
+    private int line = 1;
+    private int lineStart;
+    private int lineExtraBytes;
+
+    private Token token;
+    private String text;
+    private int tokenLine;
+    private int tokenColumn;
+
+    /**
+     * Creates a parser that reads the remaining bytes of the given buffer.
+     *
+     * <p>The buffer's position and limit are not modified.
+     *
+     * @param filename Filename to use in source locations.
+     * @param input UTF-8 encoded JSON to parse.
+     */
+    public JsonPullParser(String filename, ByteBuffer input) {
+        this.filename = filename;
+        this.input = input;
+        this.view = input.duplicate();
+        this.position = input.position();
+        this.limit = input.limit();
+        this.lineStart = position;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * <p>Once the document has been fully read, {@link Token#END_DOCUMENT}
+     * is returned, and only after verifying that nothing but whitespace
+     * follows the root value.
+     *
+     * @return Returns the next token.
+     * @throws ModelSyntaxException if the input is not valid JSON.
+     */
+    public Token next() {
+        text = null;
+        token = advance();
+        return token;
+    }
+
+    private Token advance() {
+        skipWhiteSpace();
+        markToken();
+        switch (state) {
+            case VALUE:
+                return readValue();
+            case FIRST_NAME:
+                if (current() == '}') {
+                    return endContainer(Token.END_OBJECT);
+                }
+                return readName();
+            case NEXT_NAME:
+                if (current() == '}') {
+                    return endContainer(Token.END_OBJECT);
+                } else if (current() != ',') {
+                    throw expected("',' or '}'");
+                }
+                position++;
+                skipWhiteSpace();
+                markToken();
+                return readName();
+            case FIRST_ELEMENT:
+                if (current() == ']') {
+                    return endContainer(Token.END_ARRAY);
+                }
+                return readValue();
+            case NEXT_ELEMENT:
+                if (current() == ']') {
+                    return endContainer(Token.END_ARRAY);
+                } else if (current() != ',') {
+                    throw expected("',' or ']'");
+                }
+                position++;
+                skipWhiteSpace();
+                markToken();
+                return readValue();
+            case END_OF_TEXT:
+                if (position < limit) {
+                    throw error("Unexpected character");
+                }
+                state = DONE;
+                return Token.END_DOCUMENT;
+            default:
+                return Token.END_DOCUMENT;
+        }
+    }
+
+    /**
+     * Gets the current token.
+     *
+     * @return Returns the current token, or null if {@link #next()} has not been called.
+     */
+    public Token getToken() {
+        return token;
+    }
+
+    /**
+     * Gets the text of the current {@link Token#NAME}, {@link Token#STRING},
+     * or {@link Token#NUMBER} token.
+     *
+     * @return Returns the text of the current token.
+     * @throws IllegalStateException if the current token has no text.
+     */
+    public String getText() {
+        if (text == null) {
+            throw new IllegalStateException("Token has no text: " + token);
+        }
+        return text;
+    }
+
+    /**
+     * Gets the source location of the start of the current token.
+     *
+     * @return Returns the source location.
+     */
+    public SourceLocation getSourceLocation() {
+        return new SourceLocation(filename, tokenLine, tokenColumn);
+    }
+
+    /**
+     * Reads the value that starts at the current token into a {@link Node}.
+     *
+     * <p>After this method returns, the current token is the last token of
+     * the value, so the next call to {@link #next()} moves past it.
+     *
+     * @return Returns the created node.
+     * @throws ModelSyntaxException if the input is not valid JSON.
+     * @throws IllegalStateException if the current token does not start a value.
+     */
+    public Node readNode() {
+        SourceLocation location = getSourceLocation();
+        switch (token) {
+            case START_OBJECT:
+                ObjectNode.Builder object = ObjectNode.builder();
+                while (next() == Token.NAME) {
+                    StringNode key = new StringNode(text, getSourceLocation());
+                    next();
+                    object.withMember(key, readNode());
+                }
+                return object.sourceLocation(location).build();
+            case START_ARRAY:
+                ArrayNode.Builder array = ArrayNode.builder();
+                while (next() != Token.END_ARRAY) {
+                    array.withValue(readNode());
+                }
+                return array.sourceLocation(location).build();
+            case STRING:
+                return new StringNode(text, location);
+            case NUMBER:
+                return NodeHandler.createNumber(text, location);
+            case TRUE:
+                return new BooleanNode(true, location);
+            case FALSE:
+                return new BooleanNode(false, location);
+            case NULL:
+                return new NullNode(location);
+            default:
+                throw new IllegalStateException("Token does not start a value: " + token);
+        }
+    }
+
+    /**
+     * Skips over the value that starts at the current token.
+     *
+     * <p>The skipped value is still validated, but strings within it are not decoded.
+     * After this method returns, the current token is the last token of the value.
+     *
+     * @throws ModelSyntaxException if the input is not valid JSON.
+     */
+    public void skipValue() {
+        if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+            int end = depth - 1;
+            skipping = true;
+            try {
+                do {
+                    next();
+                } while (depth > end);
+            } finally {
+                skipping = false;
+            }
+        }
+    }
+
+    private Token readValue() {
+        switch (current()) {
+            case '{':
+                return startContainer(true, Token.START_OBJECT);
+            case '[':
+                return startContainer(false, Token.START_ARRAY);
+            case '"':
+                text = readString();
+                return endValue(Token.STRING);
+            case 'n':
+                readLiteral("null");
+                return endValue(Token.NULL);
+            case 't':
+                readLiteral("true");
+                return endValue(Token.TRUE);
+            case 'f':
+                readLiteral("false");
+                return endValue(Token.FALSE);
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                text = readNumber();
+                return endValue(Token.NUMBER);
+            default:
+                throw expected("value");
+        }
+    }
+
+    private Token readName() {
+        if (current() != '"') {
+            throw expected("name");
+        }
+        text = readString();
+        skipWhiteSpace();
+        if (current() != ':') {
+            throw expected("':'");
+        }
+        position++;
+        state = VALUE;
+        return Token.NAME;
+    }
+
+    private Token startContainer(boolean isObject, Token result) {
+        position++;
+        if (depth == MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        objects[++depth] = isObject;
+        state = isObject ? FIRST_NAME : FIRST_ELEMENT;
+        return result;
+    }
+
+    private Token endContainer(Token result) {
+        position++;
+        depth--;
+        return endValue(result);
+    }
+
+    private Token endValue(Token result) {
+        if (depth == 0) {
+            state = END_OF_TEXT;
+        } else {
+            state = objects[depth] ? NEXT_NAME : NEXT_ELEMENT;
+        }
+        return result;
+    }
+
+    private void readLiteral(String literal) {
+        position++;
+        for (int i = 1; i < literal.length(); i++) {
+            char expected = literal.charAt(i);
+            if (current() != expected) {
+                throw expected("'" + expected + "'");
+            }
+            position++;
+        }
+    }
+
+    private String readNumber() {
+        int start = position;
+        if (current() == '-') {
+            position++;
+        }
+        int firstDigit = current();
+        if (!readDigit()) {
+            throw expected("digit");
+        }
+        if (firstDigit != '0') {
+            while (readDigit()) {
+            }
+        }
+        if (current() == '.') {
+            position++;
+            if (!readDigit()) {
+                throw expected("digit");
+            }
+            while (readDigit()) {
+            }
+        }
+        if (current() == 'e' || current() == 'E') {
+            position++;
+            if (current() == '+' || current() == '-') {
+                position++;
+            }
+            if (!readDigit()) {
+                throw expected("digit");
+            }
+            while (readDigit()) {
+            }
+        }
+        return skipping ? "" : decode(start, position, true);
+    }
+
+    private boolean readDigit() {
+        int c = current();
+        if (c >= '0' && c <= '9') {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private String readString() {
+        // Skip the opening quote.
+        position++;
+        StringBuilder builder = null;
+        int start = position;
+        boolean ascii = true;
+
+        for (int c = current(); c != '"'; c = current()) {
+            if (c == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(decode(start, position, ascii));
+                ascii = true;
+                position++;
+                readEscape(builder);
+                start = position;
+            } else if (c < 0x20) {
+                // Control characters aren't allowed, and this also catches the end of input.
+                throw expected("valid string character");
+            } else {
+                ascii &= c < 0x80;
+                position++;
+            }
+        }
+
+        String result;
+        if (builder == null) {
+            result = decode(start, position, ascii);
+        } else {
+            result = builder.append(decode(start, position, ascii)).toString();
+        }
+
+        // Skip the closing quote.
+        position++;
+        return result;
+    }
+
+    private void readEscape(StringBuilder builder) {
+        int c = current();
+        switch (c) {
+            case '"':
+            case '/':
+            case '\\':
+                builder.append((char) c);
+                break;
+            case 'b':
+                builder.append('\b');
+                break;
+            case 'f':
+                builder.append('\f');
+                break;
+            case 'n':
+                builder.append('\n');
+                break;
+            case 'r':
+                builder.append('\r');
+                break;
+            case 't':
+                builder.append('\t');
+                break;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    position++;
+                    int digit = Character.digit(current(), 16);
+                    if (digit == -1) {
+                        throw expected("hexadecimal digit");
+                    }
+                    value = (value << 4) | digit;
+                }
+                builder.append((char) value);
+                break;
+            default:
+                throw expected("valid escape sequence");
+        }
+        position++;
+    }
+
+    private String decode(int start, int end, boolean ascii) {
+        int length = end - start;
+        if (skipping && !ascii) {
+            // Still account for multibyte characters so that later source locations are correct.
+            lineExtraBytes += length - new String(copy(start, length), 0, length, StandardCharsets.UTF_8).length();
+            return "";
+        } else if (skipping || length == 0) {
+            return "";
+        }
+
+        byte[] bytes;
+        int offset;
+        if (input.hasArray()) {
+            bytes = input.array();
+            offset = input.arrayOffset() + start;
+        } else {
+            bytes = copy(start, length);
+            offset = 0;
+        }
+
+        if (ascii) {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        String result = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        lineExtraBytes += length - result.length();
+        return result;
+    }
+
+    private byte[] copy(int start, int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        view.limit(start + length);
+        view.position(start);
+        view.get(scratch, 0, length);
+        return scratch;
+    }
+
+    private void skipWhiteSpace() {
+        while (position < limit) {
+            byte c = input.get(position);
+            if (c == ' ' || c == '\t' || c == '\r') {
+                position++;
+            } else if (c == '\n') {
+                position++;
+                line++;
+                lineStart = position;
+                lineExtraBytes = 0;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int current() {
+        return position < limit ? input.get(position) & 0xFF : -1;
+    }
+
+    private void markToken() {
+        tokenLine = line;
+        tokenColumn = column();
+    }
+
+    private int column() {
+        return position - lineStart - lineExtraBytes + 1;
+    }
+
+    private ModelSyntaxException expected(String expected) {
+        if (position >= limit) {
+            return error("Unexpected end of input");
+        }
+        return error("Expected " + expected);
+    }
+
+    private ModelSyntaxException error(String message) {
+        return new ModelSyntaxException("Error parsing JSON: " + message,
+                                        new SourceLocation(filename, line, column()));
+    }
+}
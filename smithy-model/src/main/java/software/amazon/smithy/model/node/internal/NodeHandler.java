@@ -73,20 +73,23 @@ public final class NodeHandler extends JsonHandler<ArrayNode.Builder, ObjectNode
 
     @Override
     void endNumber(String string, SourceLocation location) {
+        value = createNumber(string, location);
+    }
+
+    static NumberNode createNumber(String string, SourceLocation location) {
         if (string.contains("e") || string.contains("E") || string.contains(".")) {
             double doubleValue = Double.parseDouble(string);
             if (Double.isFinite(doubleValue)) {
-                value = new NumberNode(doubleValue, location);
+                return new NumberNode(doubleValue, location);
             } else {
-                value = new NumberNode(new BigDecimal(string), location);
+                return new NumberNode(new BigDecimal(string), location);
             }
         } else {
             try {
-                value = new NumberNode(Long.parseLong(string), location);
+                return new NumberNode(Long.parseLong(string), location);
             } catch (NumberFormatException e) {
-                value = new NumberNode(new BigInteger(string), location);
+                return new NumberNode(new BigInteger(string), location);
             }
-
         }
     }
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.node.internal;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.BitSet;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Writes JSON objects incrementally to a {@link Writer}.
+ *
+ * <p>Object members can be written one at a time, allowing large documents
+ * to be serialized without first building a complete {@link Node} tree.
+ * The output is identical to what {@link Node#printJson} and
+ * {@link Node#prettyPrintJson} produce for the equivalent node.
+ */
+@SmithyInternalApi
+public final class NodeStreamWriter implements Flushable {
+
+    private final JsonWriter writer;
+    private final NodeWriter nodeWriter;
+
+    // Objects are only opened once their first member is written so that empty objects are written as "{}".
+    private final BitSet opened = new BitSet();
+    private int depth;
+
+    private NodeStreamWriter(JsonWriter writer) {
+        this.writer = writer;
+        this.nodeWriter = new NodeWriter(writer);
+    }
+
+    /**
+     * Creates a stream writer that writes compact JSON.
+     *
+     * @param writer Writer to write to.
+     * @return Returns the created stream writer.
+     */
+    public static NodeStreamWriter create(Writer writer) {
+        return new NodeStreamWriter(new JsonWriter(writer));
+    }
+
+    /**
+     * Creates a stream writer that writes pretty-printed JSON.
+     *
+     * @param writer Writer to write to.
+     * @param indentString String to use for each level of indentation.
+     * @return Returns the created stream writer.
+     */
+    public static NodeStreamWriter prettyPrint(Writer writer, String indentString) {
+        return new NodeStreamWriter(new PrettyPrintWriter(writer, indentString));
+    }
+
+    /**
+     * Starts writing an object.
+     *
+     * <p>This is called either at the root of the document or directly after
+     * {@link #startMember}.
+     */
+    public void startObject() {
+        opened.clear(++depth);
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * <p>The member's value must be written next using either
+     * {@link #writeValue} or {@link #startObject}.
+     *
+     * @param name Name of the member.
+     */
+    public void startMember(String name) {
+        try {
+            if (opened.get(depth)) {
+                writer.writeObjectSeparator();
+            } else {
+                writer.writeObjectOpen();
+                opened.set(depth);
+            }
+            writer.writeMemberName(name);
+            writer.writeMemberSeparator();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a complete member of the current object.
+     *
+     * @param name Name of the member.
+     * @param value Value of the member.
+     */
+    public void writeMember(String name, Node value) {
+        startMember(name);
+        writeValue(value);
+    }
+
+    /**
+     * Writes a complete node value.
+     *
+     * @param value Value to write.
+     */
+    public void writeValue(Node value) {
+        value.accept(nodeWriter);
+    }
+
+    /**
+     * Finishes writing the current object.
+     */
+    public void endObject() {
+        if (depth == 0) {
+            throw new IllegalStateException("No object to end");
+        }
+
+        try {
+            if (opened.get(depth--)) {
+                writer.writeObjectClose();
+            } else {
+                writer.writeLiteral("{}");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
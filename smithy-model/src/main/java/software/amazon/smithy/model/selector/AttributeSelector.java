@@ -35,6 +35,7 @@ final class AttributeSelector implements InternalSelector {
     private final AttributeComparator comparator;
     private final boolean caseInsensitive;
     private final Function<Model, Collection<? extends Shape>> optimizer;
+    private final boolean usesTraitIndex;
 
     AttributeSelector(
             List<String> path,
@@ -69,8 +70,10 @@ final class AttributeSelector implements InternalSelector {
                 ShapeId trait = ShapeId.from(absoluteShapeId);
                 return model.getShapesWithTrait(trait);
             };
+            usesTraitIndex = true;
         } else {
             optimizer = Model::toSet;
+            usesTraitIndex = false;
         }
     }
 
@@ -83,6 +86,26 @@ final class AttributeSelector implements InternalSelector {
         return optimizer.apply(model);
     }
 
+    /**
+     * Checks if the starting shapes of the selector come from the shapes
+     * of a model that have a specific trait.
+     *
+     * @return Returns true if the selector uses the trait index of a model.
+     */
+    boolean usesTraitIndex() {
+        return usesTraitIndex;
+    }
+
+    /**
+     * Checks if the selector matches an attribute of a selector variable,
+     * meaning its result depends on the variables defined before it.
+     *
+     * @return Returns true if the attribute path starts with "var".
+     */
+    boolean dependsOnVariables() {
+        return !path.isEmpty() && path.get(0).equals("var");
+    }
+
     @Override
     public Response push(Context context, Shape shape, Receiver next) {
         if (matchesAttribute(shape, context)) {
@@ -15,7 +15,11 @@
 
 package software.amazon.smithy.model.selector;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.Shape;
 
 /**
@@ -42,4 +46,23 @@ final class IsSelector implements InternalSelector {
 
         return Response.CONTINUE;
     }
+
+    List<InternalSelector> getSelectors() {
+        return selectors;
+    }
+
+    @Override
+    public Collection<? extends Shape> getStartingShapes(Model model) {
+        // Only shapes that can be sent through one of the predicates need to be sent through the selector.
+        Set<Shape> allShapes = model.toSet();
+        Set<Shape> result = new HashSet<>();
+        for (InternalSelector selector : selectors) {
+            Collection<? extends Shape> shapes = selector.getStartingShapes(model);
+            if (shapes.size() >= allShapes.size()) {
+                return allShapes;
+            }
+            result.addAll(shapes);
+        }
+        return result;
+    }
 }
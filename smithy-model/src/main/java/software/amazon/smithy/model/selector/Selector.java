@@ -227,6 +227,23 @@ public interface Selector {
         }
     }
 
+    /**
+     * Explains how the selector is evaluated against a model.
+     *
+     * <p>The explanation describes the shapes the selector starts from,
+     * such as every shape with a specific trait or of a specific type, and
+     * the order in which the parts of the selector are applied. The format
+     * of the explanation is meant to be read by people, and it can change
+     * at any time.
+     *
+     * @param model Model the selector would be evaluated against.
+     * @return Returns the explanation.
+     */
+    default String explain(Model model) {
+        return "Selector: " + this + System.lineSeparator()
+               + "Starting shapes: all shapes (" + model.toSet().size() + ")";
+    }
+
     /**
      * Creates a Selector {@code Runner}, used to customize how a selector is
      * executed.
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.selector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.shapes.Shape;
+
+/**
+ * Evaluates many selectors against a model in a single pass.
+ *
+ * <p>Evaluating selectors one at a time walks the shapes of the model
+ * once per selector. A batch instead walks the shapes of the model once,
+ * and pushes each shape through every selector that can match it:
+ *
+ * <ul>
+ *     <li>Selectors with the same expression are evaluated once, and their
+ *     matches are shared.</li>
+ *     <li>Selectors that start with the same filter, like
+ *     {@code [trait|deprecated]} or {@code structure}, apply the filter
+ *     once for each shape, and only the shapes that pass it are pushed
+ *     through the rest of each selector.</li>
+ *     <li>Shapes are only pushed through a selector if they are one of the
+ *     starting shapes of the selector, like the shapes that have a trait
+ *     the selector requires.</li>
+ *     <li>The neighbors of shapes are computed once and shared by every
+ *     selector in the batch.</li>
+ * </ul>
+ *
+ * <p>Large models are split into chunks of shapes that are evaluated in
+ * parallel. The matches of each selector are returned in the same order
+ * whether or not the model was evaluated in parallel.
+ *
+ * <pre>
+ * {@code
+ * SelectorBatch batch = SelectorBatch.of(ListUtils.of(a, b, c));
+ * SelectorBatch.Result result = batch.evaluate(model);
+ * List<Selector.ShapeMatch> matches = result.getMatches(a);
+ * }
+ * </pre>
+ */
+public final class SelectorBatch {
+
+    /** Number of shapes evaluated by each parallel task when evaluating large models. */
+    private static final int CHUNK_SIZE = 2500;
+
+    private final List<Selector> selectors;
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Group> groups = new ArrayList<>();
+    private final List<Selector> unplannedSelectors = new ArrayList<>();
+
+    private SelectorBatch(Collection<? extends Selector> selectors) {
+        this.selectors = Collections.unmodifiableList(new ArrayList<>(selectors));
+
+        Map<Selector, Entry> entriesBySelector = new LinkedHashMap<>();
+        Map<String, Group> groupsByFilter = new LinkedHashMap<>();
+        for (Selector selector : this.selectors) {
+            if (!(selector instanceof WrappedSelector)) {
+                // Custom implementations of Selector are evaluated on their own.
+                if (!unplannedSelectors.contains(selector)) {
+                    unplannedSelectors.add(selector);
+                }
+            } else if (!entriesBySelector.containsKey(selector)) {
+                WrappedSelector wrapped = (WrappedSelector) selector;
+                String filterText = wrapped.getPlan().getLeadingFilterText();
+                Group group = filterText == null ? null : groupsByFilter.get(filterText);
+                if (group == null) {
+                    group = new Group(filterText == null ? null : wrapped.getPlan().getLeadingFilter());
+                    groups.add(group);
+                    if (filterText != null) {
+                        groupsByFilter.put(filterText, group);
+                    }
+                }
+                Entry entry = new Entry(entries.size(), wrapped, filterText == null
+                        ? wrapped.getPlan().getDelegate()
+                        : wrapped.getPlan().getRemainder());
+                entries.add(entry);
+                group.entries.add(entry);
+                entriesBySelector.put(selector, entry);
+            }
+        }
+    }
+
+    /**
+     * Creates a batch of selectors.
+     *
+     * @param selectors Selectors to evaluate together.
+     * @return Returns the created batch.
+     */
+    public static SelectorBatch of(Collection<? extends Selector> selectors) {
+        return new SelectorBatch(selectors);
+    }
+
+    /**
+     * Gets the selectors of the batch.
+     *
+     * @return Returns the selectors in the order they were given.
+     */
+    public List<Selector> getSelectors() {
+        return selectors;
+    }
+
+    /**
+     * Evaluates every selector of the batch against a model.
+     *
+     * @param model Model to evaluate.
+     * @return Returns the matches of each selector.
+     */
+    public Result evaluate(Model model) {
+        NeighborProviderIndex index = NeighborProviderIndex.of(model);
+        List<Set<Shape>> seeds = new ArrayList<>(entries.size());
+        List<List<Set<Shape>>> roots = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            seeds.add(createSeedSet(model, entry.selector.getPlan().getStartingShapes(model)));
+            roots.add(entry.selector.computeRoots(model));
+        }
+
+        List<Shape> shapes = new ArrayList<>(model.toSet());
+        List<List<List<Selector.ShapeMatch>>> chunks;
+        if (shapes.size() < WrappedSelector.PARALLEL_THRESHOLD) {
+            chunks = Collections.singletonList(evaluateChunk(model, index, seeds, roots, shapes));
+        } else {
+            int chunkCount = (shapes.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            chunks = IntStream.range(0, chunkCount)
+                    .parallel()
+                    .mapToObj(i -> {
+                        List<Shape> chunk = shapes.subList(i * CHUNK_SIZE,
+                                                           Math.min(shapes.size(), (i + 1) * CHUNK_SIZE));
+                        return evaluateChunk(model, index, seeds, roots, chunk);
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        Map<Selector, List<Selector.ShapeMatch>> result = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            List<Selector.ShapeMatch> matches = new ArrayList<>();
+            for (List<List<Selector.ShapeMatch>> chunk : chunks) {
+                matches.addAll(chunk.get(entry.position));
+            }
+            result.put(entry.selector, Collections.unmodifiableList(matches));
+        }
+
+        for (Selector selector : unplannedSelectors) {
+            List<Selector.ShapeMatch> matches = new ArrayList<>();
+            selector.consumeMatches(model, matches::add);
+            result.put(selector, Collections.unmodifiableList(matches));
+        }
+
+        return new Result(result);
+    }
+
+    // Starting shapes are checked for each shape of the model, so they're put in an identity set. A null set means
+    // that every shape is a starting shape.
+    private static Set<Shape> createSeedSet(Model model, Collection<? extends Shape> startingShapes) {
+        if (startingShapes.size() >= model.toSet().size()) {
+            return null;
+        }
+        Set<Shape> result = Collections.newSetFromMap(new IdentityHashMap<>(startingShapes.size()));
+        result.addAll(startingShapes);
+        return result;
+    }
+
+    private List<List<Selector.ShapeMatch>> evaluateChunk(
+            Model model,
+            NeighborProviderIndex index,
+            List<Set<Shape>> seeds,
+            List<List<Set<Shape>>> roots,
+            List<Shape> shapes
+    ) {
+        // Leading filters never read variables or root results, so they can share a single context.
+        Context filterContext = new Context(model, index, Collections.emptyList());
+        List<Context> contexts = new ArrayList<>(entries.size());
+        List<List<Selector.ShapeMatch>> results = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            contexts.add(new Context(model, index, roots.get(i)));
+            results.add(new ArrayList<>());
+        }
+
+        for (Shape shape : shapes) {
+            for (Group group : groups) {
+                if (!group.canMatch(shape, seeds)) {
+                    continue;
+                }
+                if (group.filter != null && !filterContext.receivedShapes(shape, group.filter)) {
+                    continue;
+                }
+                for (Entry entry : group.entries) {
+                    Set<Shape> seed = seeds.get(entry.position);
+                    if (seed == null || seed.contains(shape)) {
+                        List<Selector.ShapeMatch> matches = results.get(entry.position);
+                        Context context = contexts.get(entry.position);
+                        context.getVars().clear();
+                        entry.steps.push(context, shape, (c, s) -> {
+                            matches.add(new Selector.ShapeMatch(s, c.getVars()));
+                            return InternalSelector.Response.CONTINUE;
+                        });
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * The matches of each selector in a batch.
+     */
+    public static final class Result {
+        private final Map<Selector, List<Selector.ShapeMatch>> matches;
+
+        private Result(Map<Selector, List<Selector.ShapeMatch>> matches) {
+            this.matches = matches;
+        }
+
+        /**
+         * Gets the matches of a selector, including the variables that
+         * were captured when each shape matched.
+         *
+         * <p>A shape is returned more than once if it matched with
+         * different variables.
+         *
+         * @param selector Selector of the batch to get the matches of.
+         * @return Returns the matches of the selector.
+         * @throws IllegalArgumentException if the selector isn't part of the batch.
+         */
+        public List<Selector.ShapeMatch> getMatches(Selector selector) {
+            List<Selector.ShapeMatch> result = matches.get(selector);
+            if (result == null) {
+                throw new IllegalArgumentException("Selector is not part of the batch: " + selector);
+            }
+            return result;
+        }
+
+        /**
+         * Gets the shapes that matched a selector.
+         *
+         * @param selector Selector of the batch to get the shapes of.
+         * @return Returns the matching shapes.
+         * @throws IllegalArgumentException if the selector isn't part of the batch.
+         */
+        public Set<Shape> getShapes(Selector selector) {
+            return getMatches(selector).stream().map(Selector.ShapeMatch::getShape).collect(Collectors.toSet());
+        }
+    }
+
+    private static final class Entry {
+        final int position;
+        final WrappedSelector selector;
+        final InternalSelector steps;
+
+        Entry(int position, WrappedSelector selector, InternalSelector steps) {
+            this.position = position;
+            this.selector = selector;
+            this.steps = steps;
+        }
+    }
+
+    // Selectors that start with the same filter, or a single selector that doesn't start with a filter.
+    private static final class Group {
+        final InternalSelector filter;
+        final List<Entry> entries = new ArrayList<>();
+
+        Group(InternalSelector filter) {
+            this.filter = filter;
+        }
+
+        boolean canMatch(Shape shape, List<Set<Shape>> seeds) {
+            for (Entry entry : entries) {
+                Set<Shape> seed = seeds.get(entry.position);
+                if (seed == null || seed.contains(shape)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
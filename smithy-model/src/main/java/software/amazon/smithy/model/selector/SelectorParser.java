@@ -27,6 +27,7 @@ import software.amazon.smithy.model.shapes.CollectionShape;
 import software.amazon.smithy.model.shapes.NumberShape;
 import software.amazon.smithy.model.shapes.ShapeType;
 import software.amazon.smithy.model.shapes.SimpleShape;
+import software.amazon.smithy.utils.ExpressionCache;
 import software.amazon.smithy.utils.SetUtils;
 import software.amazon.smithy.utils.SimpleParser;
 
@@ -38,6 +39,10 @@ final class SelectorParser extends SimpleParser {
     private static final Logger LOGGER = Logger.getLogger(SelectorParser.class.getName());
     private static final Set<Character> BREAK_TOKENS = SetUtils.of(',', ']', ')');
     private static final Set<String> REL_TYPES = new HashSet<>();
+
+    // Selectors are immutable, so selectors parsed from the same expression are shared.
+    private static final ExpressionCache<Selector> CACHE = ExpressionCache.create(
+            "smithy.model.selectors", 1024, SelectorParser::parseUncached);
     private final List<InternalSelector> roots = new ArrayList<>();
 
     static {
@@ -52,13 +57,31 @@ final class SelectorParser extends SimpleParser {
     }
 
     static Selector parse(String selector) {
+        return CACHE.get(selector);
+    }
+
+    private static Selector parseUncached(String selector) {
         SelectorParser parser = new SelectorParser(selector);
-        List<InternalSelector> result = parser.parse();
-        return new WrappedSelector(selector, result, parser.roots);
+        List<String> texts = new ArrayList<>();
+        List<InternalSelector> result = parser.parseTopLevel(texts);
+        return new WrappedSelector(selector, SelectorPlan.create(result, texts, parser.roots.size()), parser.roots);
     }
 
-    List<InternalSelector> parse() {
-        return recursiveParse();
+    // Parses top-level selectors like recursiveParse, and also captures the expression text of each selector.
+    private List<InternalSelector> parseTopLevel(List<String> texts) {
+        List<InternalSelector> selectors = new ArrayList<>();
+        do {
+            ws();
+            int start = position();
+            InternalSelector selector = createSelector();
+            if (selector != InternalSelector.IDENTITY) {
+                selectors.add(selector);
+                texts.add(input().subSequence(start, position()).toString().trim());
+            }
+            ws();
+        } while (!eof() && !BREAK_TOKENS.contains(peek()));
+
+        return selectors;
     }
 
     private List<InternalSelector> recursiveParse() {
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.selector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+
+/**
+ * Plans how the top-level selectors of a selector expression are evaluated.
+ *
+ * <p>Selectors in the leading run of a selector expression that only
+ * filter the shape they receive (shape types, attributes, and
+ * {@code :is} functions made of them) can be applied in any order. The
+ * plan moves the cheapest of these filters first, and any of them can
+ * provide the starting shapes of the selector. When evaluated against a
+ * model, the filter that yields the fewest starting shapes is chosen, so
+ * {@code member [trait|required]} is seeded from the shapes with the
+ * required trait rather than from every member.
+ *
+ * <p>Only the leading run of filters is planned. Selectors that follow the
+ * first non-filter selector, such as a neighbor step, are evaluated in the
+ * order they were written, so {@code structure > member [trait|required]}
+ * is still seeded from the structures of the model.
+ */
+final class SelectorPlan {
+
+    private static final int NOT_A_FILTER = -1;
+
+    private final InternalSelector delegate;
+    private final InternalSelector remainder;
+    private final List<Step> steps;
+    private final List<Step> seeds;
+    private final int rootCount;
+
+    private SelectorPlan(List<Step> steps, List<Step> seeds, int rootCount) {
+        this.steps = steps;
+        this.seeds = seeds;
+        this.rootCount = rootCount;
+        List<InternalSelector> selectors = new ArrayList<>(steps.size());
+        for (Step step : steps) {
+            selectors.add(step.selector);
+        }
+        this.delegate = AndSelector.of(selectors);
+        this.remainder = selectors.isEmpty()
+                ? InternalSelector.IDENTITY
+                : AndSelector.of(selectors.subList(1, selectors.size()));
+    }
+
+    /**
+     * Creates a plan for top-level selectors.
+     *
+     * @param selectors Selectors in the order they were parsed.
+     * @param texts The expression text of each selector.
+     * @param rootCount Number of eagerly evaluated root subexpressions.
+     * @return Returns the created plan.
+     */
+    static SelectorPlan create(List<InternalSelector> selectors, List<String> texts, int rootCount) {
+        List<Step> filters = new ArrayList<>();
+        int i = 0;
+        for (; i < selectors.size(); i++) {
+            int cost = filterCost(selectors.get(i));
+            if (cost == NOT_A_FILTER) {
+                break;
+            }
+            filters.add(new Step(selectors.get(i), texts.get(i), cost));
+        }
+
+        // Filters are stably sorted so that filters of the same cost keep the order they were written in.
+        filters.sort(Comparator.comparingInt(step -> step.cost));
+        List<Step> steps = new ArrayList<>(filters);
+        for (; i < selectors.size(); i++) {
+            steps.add(new Step(selectors.get(i), texts.get(i), NOT_A_FILTER));
+        }
+
+        // When the expression doesn't start with a filter, the first selector provides the starting shapes.
+        List<Step> seeds = !filters.isEmpty() || steps.isEmpty() ? filters : steps.subList(0, 1);
+        return new SelectorPlan(steps, seeds, rootCount);
+    }
+
+    // Returns the relative cost of applying a selector that only filters the shape it receives, or NOT_A_FILTER.
+    private static int filterCost(InternalSelector selector) {
+        if (selector instanceof ShapeTypeSelector || selector instanceof ShapeTypeCategorySelector) {
+            return 0;
+        } else if (selector instanceof AttributeSelector) {
+            AttributeSelector attribute = (AttributeSelector) selector;
+            if (attribute.dependsOnVariables()) {
+                return NOT_A_FILTER;
+            }
+            return attribute.usesTraitIndex() ? 1 : 2;
+        } else if (selector instanceof IsSelector) {
+            int cost = 0;
+            for (InternalSelector member : ((IsSelector) selector).getSelectors()) {
+                int memberCost = filterCost(member);
+                if (memberCost == NOT_A_FILTER) {
+                    return NOT_A_FILTER;
+                }
+                cost = Math.max(cost, memberCost);
+            }
+            return cost;
+        } else {
+            return NOT_A_FILTER;
+        }
+    }
+
+    InternalSelector getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Gets the text of the first step when it is a filter.
+     *
+     * <p>Plans that start with the same filter can evaluate it once for
+     * each shape and then push the shapes that pass it to their
+     * {@link #getRemainder() remainders}.
+     *
+     * @return Returns the text of the leading filter, or null if the plan doesn't start with a filter.
+     */
+    String getLeadingFilterText() {
+        return steps.isEmpty() || steps.get(0).cost == NOT_A_FILTER ? null : steps.get(0).text;
+    }
+
+    InternalSelector getLeadingFilter() {
+        return steps.get(0).selector;
+    }
+
+    /**
+     * Gets the selector made of every step after the first.
+     *
+     * @return Returns the remaining steps.
+     */
+    InternalSelector getRemainder() {
+        return remainder;
+    }
+
+    Collection<? extends Shape> getStartingShapes(Model model) {
+        return findSeed(model).shapes;
+    }
+
+    private Seed findSeed(Model model) {
+        Seed best = new Seed(null, model.toSet());
+        for (Step step : seeds) {
+            Collection<? extends Shape> shapes = step.selector.getStartingShapes(model);
+            if (shapes.size() < best.shapes.size()) {
+                best = new Seed(step, shapes);
+            }
+        }
+        return best;
+    }
+
+    String explain(String expression, Model model) {
+        Seed seed = findSeed(model);
+        StringBuilder builder = new StringBuilder();
+        builder.append("Selector: ").append(expression).append(System.lineSeparator());
+        builder.append("Starting shapes: ");
+        if (seed.step == null) {
+            builder.append("all shapes (").append(seed.shapes.size()).append(')');
+        } else {
+            builder.append(seed.step.text)
+                    .append(" (").append(seed.shapes.size())
+                    .append(" of ").append(model.toSet().size()).append(" shapes)");
+        }
+        builder.append(System.lineSeparator());
+        if (rootCount > 0) {
+            builder.append("Eagerly evaluated :root subexpressions: ").append(rootCount)
+                    .append(System.lineSeparator());
+        }
+        builder.append("Steps:");
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            builder.append(System.lineSeparator())
+                    .append("  ").append(i + 1).append(". ").append(step.text);
+            if (step.cost != NOT_A_FILTER) {
+                builder.append(" (filter)");
+            }
+        }
+        return builder.toString();
+    }
+
+    private static final class Step {
+        final InternalSelector selector;
+        final String text;
+        final int cost;
+
+        Step(InternalSelector selector, String text, int cost) {
+            this.selector = selector;
+            this.text = text;
+            this.cost = cost;
+        }
+    }
+
+    private static final class Seed {
+        final Step step;
+        final Collection<? extends Shape> shapes;
+
+        Seed(Step step, Collection<? extends Shape> shapes) {
+            this.step = step;
+            this.shapes = shapes;
+        }
+    }
+}
@@ -34,16 +34,18 @@ import software.amazon.smithy.model.shapes.Shape;
 final class WrappedSelector implements Selector {
 
     /** Uses parallel streams when the model size exceeds this number. */
-    private static final int PARALLEL_THRESHOLD = 10000;
+    static final int PARALLEL_THRESHOLD = 10000;
 
     private final String expression;
+    private final SelectorPlan plan;
     private final InternalSelector delegate;
     private final List<InternalSelector> roots;
 
-    WrappedSelector(String expression, List<InternalSelector> selectors, List<InternalSelector> roots) {
+    WrappedSelector(String expression, SelectorPlan plan, List<InternalSelector> roots) {
         this.expression = expression;
         this.roots = roots;
-        this.delegate = AndSelector.of(selectors);
+        this.plan = plan;
+        this.delegate = plan.getDelegate();
     }
 
     @Override
@@ -85,7 +87,16 @@ final class WrappedSelector implements Selector {
 
     private Collection<? extends Shape> getStartingShapes(Model model, StartingContext startingContext) {
         Collection<? extends Shape> startingShapes = startingContext.getStartingShapes();
-        return startingShapes == null ? delegate.getStartingShapes(model) : startingShapes;
+        return startingShapes == null ? plan.getStartingShapes(model) : startingShapes;
+    }
+
+    SelectorPlan getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String explain(Model model) {
+        return plan.explain(expression, model);
     }
 
     private boolean isParallel(Collection<? extends Shape> startingShapes) {
@@ -140,7 +151,7 @@ final class WrappedSelector implements Selector {
     }
 
     // Eagerly compute roots over all model shapes before evaluating shapes one at a time.
-    private List<Set<Shape>> computeRoots(Model model) {
+    List<Set<Shape>> computeRoots(Model model) {
         NeighborProviderIndex index = NeighborProviderIndex.of(model);
         List<Set<Shape>> rootResults = new ArrayList<>(roots.size());
         for (InternalSelector selector : roots) {
@@ -15,6 +15,8 @@
 
 package software.amazon.smithy.model.shapes;
 
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -25,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,6 +38,7 @@ import software.amazon.smithy.model.node.ArrayNode;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.node.internal.NodeStreamWriter;
 import software.amazon.smithy.model.traits.AddedDefaultTrait;
 import software.amazon.smithy.model.traits.BoxTrait;
 import software.amazon.smithy.model.traits.ClientOptionalTrait;
@@ -56,7 +60,8 @@ import software.amazon.smithy.utils.StringUtils;
  * serialized model.
  *
  * <p>After serializing to an ObjectNode, the node can then be serialized
- * to formats like JSON, YAML, Ion, etc.
+ * to formats like JSON, YAML, Ion, etc. Large models can instead be written
+ * directly as JSON using {@link #serialize(Model, Writer)}.
  */
 public final class ModelSerializer {
 
@@ -107,8 +112,6 @@ public final class ModelSerializer {
     }
 
     public ObjectNode serialize(Model model) {
-        ShapeSerializer shapeSerializer = new ShapeSerializer();
-
         if (version.equals("1.0")) {
             model = ModelTransformer.create().downgradeToV1(model);
         }
@@ -117,35 +120,87 @@ public final class ModelSerializer {
                 .withMember("smithy", Node.from(version))
                 .withOptionalMember("metadata", createMetadata(model).map(Node::withDeepSortedKeys));
 
-        // Sort shapes by ID.
         Map<StringNode, Node> shapes = new TreeMap<>();
+        serializeShapes(model, (id, value) -> shapes.put(Node.from(id), value));
+        builder.withMember("shapes", new ObjectNode(shapes, SourceLocation.NONE));
+
+        return builder.build();
+    }
+
+    /**
+     * Serializes a {@link Model} as pretty-printed JSON directly to a {@link Writer}.
+     *
+     * <p>This writes the same JSON as {@code Node.prettyPrintJson(serialize(model))},
+     * but each shape is written as soon as it is serialized rather than first
+     * collecting every shape into a single {@link ObjectNode}. This keeps memory
+     * usage flat when serializing large models.
+     *
+     * <p>The writer is flushed but not closed.
+     *
+     * @param model Model to serialize.
+     * @param writer Writer to write the JSON to.
+     * @throws UncheckedIOException if an error occurs while writing.
+     */
+    public void serialize(Model model, Writer writer) {
+        if (version.equals("1.0")) {
+            model = ModelTransformer.create().downgradeToV1(model);
+        }
+
+        NodeStreamWriter json = NodeStreamWriter.prettyPrint(writer, "    ");
+        json.startObject();
+        json.writeMember("smithy", Node.from(version));
+        createMetadata(model).ifPresent(metadata -> json.writeMember("metadata", metadata.withDeepSortedKeys()));
+        json.startMember("shapes");
+        json.startObject();
+        serializeShapes(model, json::writeMember);
+        json.endObject();
+        json.endObject();
+        json.flush();
+    }
+
+    private void serializeShapes(Model model, BiConsumer<String, Node> consumer) {
+        ShapeSerializer shapeSerializer = new ShapeSerializer();
+
+        // Sort shapes by ID. Members are serialized inside of other shapes, so filter them out.
+        Map<String, Shape> sortedShapes = new TreeMap<>();
         for (Shape shape : model.toSet()) {
-            // Members are serialized inside of other shapes, so filter them out.
             if (!shape.isMemberShape() && shapeFilter.test(shape)) {
-                Node value = shape.accept(shapeSerializer);
-                shapes.put(Node.from(shape.getId().toString()), value);
-                // Add any necessary apply statements to inherited mixin members that added traits, but only if there
-                // are actually traits to serialize. Apply statements are used here instead of redefining members on
-                // structures because apply statements are more resilient to change over time if the shapes targeted by
-                // an inherited member changes.
-                if (!shapeSerializer.mixinMemberTraits.isEmpty()) {
-                    for (MemberShape member : shapeSerializer.mixinMemberTraits) {
-                        Map<StringNode, Node> introducedTraits = createIntroducedTraitsMap(
-                                member.getIntroducedTraits().values());
-                        if (!introducedTraits.isEmpty()) {
-                            ObjectNode.Builder applyBuilder = Node.objectNodeBuilder();
-                            applyBuilder.withMember("type", "apply");
-                            ObjectNode traits = serializeTraits(applyBuilder, introducedTraits).build();
-                            shapes.put(Node.from(member.getId().toString()), traits);
-                        }
-                    }
-                }
+                sortedShapes.put(shape.getId().toString(), shape);
             }
         }
 
-        builder.withMember("shapes", new ObjectNode(shapes, SourceLocation.NONE));
+        // Apply statements are keyed by member ID. A member ID always sorts after the ID of its container, but it
+        // can also sort after other shapes, so apply statements are held until every shape that sorts before them
+        // has been written.
+        TreeMap<String, Node> pendingApply = new TreeMap<>();
+        for (Map.Entry<String, Shape> entry : sortedShapes.entrySet()) {
+            while (!pendingApply.isEmpty() && pendingApply.firstKey().compareTo(entry.getKey()) < 0) {
+                Map.Entry<String, Node> apply = pendingApply.pollFirstEntry();
+                consumer.accept(apply.getKey(), apply.getValue());
+            }
 
-        return builder.build();
+            consumer.accept(entry.getKey(), entry.getValue().accept(shapeSerializer));
+
+            // Add any necessary apply statements to inherited mixin members that added traits, but only if there
+            // are actually traits to serialize. Apply statements are used here instead of redefining members on
+            // structures because apply statements are more resilient to change over time if the shapes targeted by
+            // an inherited member changes.
+            for (MemberShape member : shapeSerializer.mixinMemberTraits) {
+                Map<StringNode, Node> introducedTraits = createIntroducedTraitsMap(
+                        member.getIntroducedTraits().values());
+                if (!introducedTraits.isEmpty()) {
+                    ObjectNode.Builder applyBuilder = Node.objectNodeBuilder();
+                    applyBuilder.withMember("type", "apply");
+                    ObjectNode traits = serializeTraits(applyBuilder, introducedTraits).build();
+                    pendingApply.put(member.getId().toString(), traits);
+                }
+            }
+            shapeSerializer.mixinMemberTraits.clear();
+        }
+
+        for (Map.Entry<String, Node> apply : pendingApply.entrySet()) {
+            consumer.accept(apply.getKey(), apply.getValue());
+        }
     }
 
     private Optional<Node> createMetadata(Model model) {
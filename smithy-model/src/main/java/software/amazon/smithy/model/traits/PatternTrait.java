@@ -21,6 +21,7 @@ import software.amazon.smithy.model.FromSourceLocation;
 import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.ExpressionCache;
 
 /**
  * Restricts string values to a specified regular expression.
@@ -28,6 +29,10 @@ import software.amazon.smithy.model.shapes.ShapeId;
 public final class PatternTrait extends StringTrait {
     public static final ShapeId ID = ShapeId.from("smithy.api#pattern");
 
+    // Compiled patterns are immutable, so they're shared by every trait with the same regular expression.
+    private static final ExpressionCache<Pattern> PATTERNS = ExpressionCache.create(
+            "smithy.model.patterns", 4096, Pattern::compile);
+
     private final Pattern pattern;
 
     public PatternTrait(String value, SourceLocation sourceLocation) {
@@ -56,7 +61,7 @@ public final class PatternTrait extends StringTrait {
 
     private static Pattern compilePattern(String value, FromSourceLocation sourceLocation) {
         try {
-            return Pattern.compile(value);
+            return PATTERNS.get(value);
         } catch (PatternSyntaxException e) {
             throw new SourceException(
                     "Invalid pattern trait regular expression: `" + value + "`. " + e.getMessage(),
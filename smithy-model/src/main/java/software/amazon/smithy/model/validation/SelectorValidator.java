@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation;
+
+import java.util.Collection;
+import java.util.List;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.selector.Selector;
+
+/**
+ * A {@link Validator} that emits events based on the matches of a selector.
+ *
+ * <p>When a model is validated, the selectors of every selector validator
+ * are evaluated together in a single
+ * {@link software.amazon.smithy.model.selector.SelectorBatch}, and each
+ * validator is given the matches of its selector rather than evaluating
+ * the selector on its own.
+ */
+public interface SelectorValidator extends Validator {
+    /**
+     * Gets the selector whose matches are validated.
+     *
+     * @return Returns the selector.
+     */
+    Selector getSelector();
+
+    /**
+     * Validates a model using matches of the selector that were already computed.
+     *
+     * <p>Validating a model with this method must emit the same events as
+     * {@link #validate(Model)}.
+     *
+     * @param model Model to validate.
+     * @param matches Every match of {@link #getSelector()} in the model.
+     * @return Returns the validation events.
+     */
+    List<ValidationEvent> validateMatches(Model model, Collection<Selector.ShapeMatch> matches);
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+
+/**
+ * A {@link Validator} that can validate a subset of the shapes in a model.
+ *
+ * <p>Shape-scoped validators allow a model that was edited to be
+ * re-validated incrementally: only the shapes that changed and the shapes
+ * connected to them are re-validated, and the events emitted for every
+ * other shape in a previous validation of the model are reused.
+ *
+ * <p>To be shape-scoped, every event emitted by a validator must be bound
+ * to a shape, and the events emitted for a shape can only depend on the
+ * shape, its members, its traits, and the shapes it is directly connected
+ * to by a {@link software.amazon.smithy.model.neighbor.Relationship}.
+ * Validators that cannot meet these requirements must not implement this
+ * interface, and they are always used to validate the entire model.
+ */
+public interface ShapeScopedValidator extends Validator {
+    /**
+     * Validates only the given shapes of a model.
+     *
+     * <p>The given shapes always include the members of any aggregate shape
+     * that is given. Events must only be emitted for the given shapes.
+     *
+     * @param model Model that contains the shapes to validate.
+     * @param shapes Shapes to validate.
+     * @return Returns the validation events emitted for the given shapes.
+     */
+    List<ValidationEvent> validateShapes(Model model, Collection<? extends Shape> shapes);
+
+    /**
+     * Gets the IDs of the events that can be emitted by the validator.
+     *
+     * <p>An event matches one of these IDs using the same hierarchical
+     * matching used by suppressions (see {@link ValidationEvent#containsId}).
+     * These IDs are used to find the events of a previous validation that
+     * can be reused.
+     *
+     * @return Returns the IDs of events emitted by the validator.
+     */
+    Set<String> getEventIds();
+}
@@ -115,17 +115,7 @@ public final class ValidationEvent
 
     @Override
     public int compareTo(ValidationEvent other) {
-        int comparison = getSourceLocation().getFilename().compareTo(other.getSourceLocation().getFilename());
-        if (comparison != 0) {
-            return comparison;
-        }
-
-        comparison = Integer.compare(getSourceLocation().getLine(), other.getSourceLocation().getLine());
-        if (comparison != 0) {
-            return comparison;
-        }
-
-        comparison = Integer.compare(getSourceLocation().getColumn(), other.getSourceLocation().getColumn());
+        int comparison = getSourceLocation().compareTo(other.getSourceLocation());
         if (comparison != 0) {
             return comparison;
         }
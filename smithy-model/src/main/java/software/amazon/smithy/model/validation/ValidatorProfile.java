@@ -0,0 +1,247 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.ToNode;
+
+/**
+ * Records the wall time, CPU time, and allocated bytes of each validator
+ * applied to a model.
+ *
+ * <p>Measurements are grouped by the name of a validator and the type of
+ * validator that was applied. Built-in and service-provided validators are
+ * named using {@link AbstractValidator#getName()} when possible and are
+ * typed using their class name. Validators defined in the {@code validators}
+ * metadata of a model are named using the ID of the definition and are typed
+ * using the name of the validator that was referenced by the definition.
+ *
+ * <p>A profile can be shared across threads and across multiple validations.
+ * CPU time and allocated bytes are measured for the thread that applies a
+ * validator, and they are reported as {@code -1} when the JVM does not
+ * support measuring them.
+ *
+ * @see software.amazon.smithy.model.loader.ModelAssembler#validatorProfile
+ */
+public final class ValidatorProfile implements ToNode {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Applies a validator and records its measurements.
+     *
+     * @param name Name of the validator.
+     * @param type Type of the validator.
+     * @param validation Supplier that applies the validator.
+     * @return Returns the events emitted by the validator.
+     */
+    public List<ValidationEvent> measure(String name, String type, Supplier<List<ValidationEvent>> validation) {
+        long allocatedStart = allocatedBytes();
+        long cpuStart = cpuTime();
+        long wallStart = System.nanoTime();
+        List<ValidationEvent> events = validation.get();
+        long wallTime = System.nanoTime() - wallStart;
+        long cpuTime = elapsed(cpuStart, cpuTime());
+        long allocated = elapsed(allocatedStart, allocatedBytes());
+        Entry entry = new Entry(name, type, 1, wallTime, cpuTime, allocated, events.size());
+        entries.merge(name + '\n' + type, entry, Entry::merge);
+        return events;
+    }
+
+    /**
+     * Gets the recorded measurements, sorted from the most to the least
+     * wall time spent in each validator.
+     *
+     * @return Returns the recorded measurements.
+     */
+    public List<Entry> getEntries() {
+        List<Entry> result = new ArrayList<>(entries.values());
+        result.sort(Comparator.comparingLong(Entry::getWallTimeNanos).reversed()
+                            .thenComparing(Entry::getName)
+                            .thenComparing(Entry::getType));
+        return result;
+    }
+
+    /**
+     * Removes every recorded measurement.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public Node toNode() {
+        ArrayNode.Builder validators = ArrayNode.builder();
+        for (Entry entry : getEntries()) {
+            validators.withValue(entry.toNode());
+        }
+        return Node.objectNode().withMember("validators", validators.build());
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long allocatedBytes() {
+        return ThreadAllocations.SUPPORTED ? ThreadAllocations.allocatedBytes() : -1;
+    }
+
+    private static long elapsed(long start, long end) {
+        return start < 0 || end < 0 ? -1 : end - start;
+    }
+
+    // Allocation counts come from com.sun.management, which is only present when the jdk.management module is
+    // available. Every reference to it is kept in this class so a missing module reports allocations as
+    // unsupported rather than failing with a NoClassDefFoundError.
+    private static final class ThreadAllocations {
+        private static final boolean SUPPORTED = isSupported();
+
+        private static boolean isSupported() {
+            try {
+                return THREADS instanceof com.sun.management.ThreadMXBean
+                       && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported();
+            } catch (LinkageError e) {
+                return false;
+            }
+        }
+
+        private static long allocatedBytes() {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            return threads.isThreadAllocatedMemoryEnabled()
+                   ? threads.getThreadAllocatedBytes(Thread.currentThread().getId())
+                   : -1;
+        }
+    }
+
+    /**
+     * Measurements recorded for a single validator.
+     */
+    public static final class Entry implements ToNode {
+        private final String name;
+        private final String type;
+        private final int invocations;
+        private final long wallTimeNanos;
+        private final long cpuTimeNanos;
+        private final long allocatedBytes;
+        private final int eventCount;
+
+        private Entry(
+                String name,
+                String type,
+                int invocations,
+                long wallTimeNanos,
+                long cpuTimeNanos,
+                long allocatedBytes,
+                int eventCount
+        ) {
+            this.name = name;
+            this.type = type;
+            this.invocations = invocations;
+            this.wallTimeNanos = wallTimeNanos;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.eventCount = eventCount;
+        }
+
+        /**
+         * @return Returns the name of the validator.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return Returns the type of the validator.
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * @return Returns the number of times the validator was applied.
+         */
+        public int getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * @return Returns the total wall time spent in the validator.
+         */
+        public long getWallTimeNanos() {
+            return wallTimeNanos;
+        }
+
+        /**
+         * @return Returns the total CPU time spent in the validator, or -1 if not supported.
+         */
+        public long getCpuTimeNanos() {
+            return cpuTimeNanos;
+        }
+
+        /**
+         * @return Returns the total bytes allocated by the validator, or -1 if not supported.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * @return Returns the total number of events emitted by the validator.
+         */
+        public int getEventCount() {
+            return eventCount;
+        }
+
+        @Override
+        public ObjectNode toNode() {
+            return Node.objectNodeBuilder()
+                    .withMember("name", name)
+                    .withMember("type", type)
+                    .withMember("invocations", invocations)
+                    .withMember("wallTimeNanos", wallTimeNanos)
+                    .withMember("cpuTimeNanos", cpuTimeNanos)
+                    .withMember("allocatedBytes", allocatedBytes)
+                    .withMember("events", eventCount)
+                    .build();
+        }
+
+        private Entry merge(Entry other) {
+            return new Entry(name,
+                             type,
+                             invocations + other.invocations,
+                             wallTimeNanos + other.wallTimeNanos,
+                             sum(cpuTimeNanos, other.cpuTimeNanos),
+                             sum(allocatedBytes, other.allocatedBytes),
+                             eventCount + other.eventCount);
+        }
+
+        private static long sum(long a, long b) {
+            return a < 0 || b < 0 ? -1 : a + b;
+        }
+    }
+}
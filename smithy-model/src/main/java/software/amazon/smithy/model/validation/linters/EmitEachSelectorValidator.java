@@ -16,10 +16,13 @@
 package software.amazon.smithy.model.validation.linters;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.FromSourceLocation;
@@ -31,6 +34,7 @@ import software.amazon.smithy.model.selector.Selector;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.SelectorValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidatorService;
 import software.amazon.smithy.utils.OptionalUtils;
@@ -39,7 +43,7 @@ import software.amazon.smithy.utils.SimpleParser;
 /**
  * Emits a validation event for each shape that matches a selector.
  */
-public final class EmitEachSelectorValidator extends AbstractValidator {
+public final class EmitEachSelectorValidator extends AbstractValidator implements SelectorValidator {
 
     /**
      * EmitEachSelector configuration settings.
@@ -133,6 +137,35 @@ public final class EmitEachSelectorValidator extends AbstractValidator {
         }
     }
 
+    @Override
+    public Selector getSelector() {
+        return config.getSelector();
+    }
+
+    @Override
+    public List<ValidationEvent> validateMatches(Model model, Collection<Selector.ShapeMatch> matches) {
+        if (config.bindToTrait != null && !model.getAppliedTraits().contains(config.getBindToTrait())) {
+            return Collections.emptyList();
+        }
+
+        List<ValidationEvent> events = new ArrayList<>();
+        if (config.messageTemplate == null) {
+            // A shape that matched with different variables only emits a single event.
+            Set<Shape> shapes = new LinkedHashSet<>();
+            for (Selector.ShapeMatch match : matches) {
+                shapes.add(match.getShape());
+            }
+            for (Shape shape : shapes) {
+                createSimpleEvent(shape).ifPresent(events::add);
+            }
+        } else {
+            for (Selector.ShapeMatch match : matches) {
+                createTemplatedEvent(match).ifPresent(events::add);
+            }
+        }
+        return events;
+    }
+
     private List<ValidationEvent> validateWithSimpleMessages(Model model) {
         return config.getSelector().select(model).stream()
                 .flatMap(shape -> OptionalUtils.stream(createSimpleEvent(shape)))
@@ -15,6 +15,7 @@
 
 package software.amazon.smithy.model.validation.linters;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -25,6 +26,7 @@ import software.amazon.smithy.model.node.NodeMapper;
 import software.amazon.smithy.model.selector.Selector;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.SelectorValidator;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidatorService;
@@ -33,7 +35,7 @@ import software.amazon.smithy.utils.ListUtils;
 /**
  * Emits a validation event if no shapes match the given selector.
  */
-public final class EmitNoneSelectorValidator extends AbstractValidator {
+public final class EmitNoneSelectorValidator extends AbstractValidator implements SelectorValidator {
 
     /**
      * EmitNoneSelector configuration settings.
@@ -75,8 +77,22 @@ public final class EmitNoneSelectorValidator extends AbstractValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
+        return validateShapes(config.getSelector().select(model));
+    }
+
+    @Override
+    public Selector getSelector() {
+        return config.getSelector();
+    }
+
+    @Override
+    public List<ValidationEvent> validateMatches(Model model, Collection<Selector.ShapeMatch> matches) {
+        return validateShapes(matches.stream().map(Selector.ShapeMatch::getShape).collect(Collectors.toSet()));
+    }
+
+    private List<ValidationEvent> validateShapes(Set<Shape> matches) {
         // Filter out prelude types.
-        Set<Shape> shapes = config.getSelector().select(model).stream()
+        Set<Shape> shapes = matches.stream()
                 .filter(shape -> !Prelude.isPreludeShape(shape.getId()))
                 .collect(Collectors.toSet());
 
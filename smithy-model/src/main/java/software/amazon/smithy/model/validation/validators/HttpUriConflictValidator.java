@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.HttpBinding;
 import software.amazon.smithy.model.knowledge.HttpBindingIndex;
+import software.amazon.smithy.model.knowledge.HttpRouteIndex;
 import software.amazon.smithy.model.knowledge.OperationIndex;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
 import software.amazon.smithy.model.pattern.SmithyPattern;
@@ -46,6 +47,9 @@ import software.amazon.smithy.utils.Pair;
 
 /**
  * Validates that no two URIs in a service conflict with each other.
+ *
+ * <p>Candidate conflicts are found using the {@link HttpRouteIndex}, so only
+ * operations bound to equivalent routes are compared with each other.
  */
 public final class HttpUriConflictValidator extends AbstractValidator {
 
@@ -61,16 +65,24 @@ public final class HttpUriConflictValidator extends AbstractValidator {
     }
 
     private List<ValidationEvent> validateService(Model model, ServiceShape service) {
-        List<OperationShape> operations = new ArrayList<>();
-        for (OperationShape operation : TopDownIndex.of(model).getContainedOperations(service)) {
-            if (operation.hasTrait(HttpTrait.class)) {
-                operations.add(operation);
+        // Operations can only conflict with operations in the same group of the route index.
+        Map<OperationShape, List<OperationShape>> candidates = new HashMap<>();
+        for (List<OperationShape> group : HttpRouteIndex.of(model).getConflicts(service)) {
+            for (OperationShape operation : group) {
+                candidates.put(operation, group);
             }
         }
 
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
         List<ValidationEvent> events = new ArrayList<>();
-        for (OperationShape operation : operations) {
-            events.addAll(checkConflicts(model, operation, operation.expectTrait(HttpTrait.class), operations));
+        for (OperationShape operation : TopDownIndex.of(model).getContainedOperations(service)) {
+            List<OperationShape> group = candidates.get(operation);
+            if (group != null) {
+                events.addAll(checkConflicts(model, operation, operation.expectTrait(HttpTrait.class), group));
+            }
         }
 
         return events;
@@ -80,27 +92,22 @@ public final class HttpUriConflictValidator extends AbstractValidator {
             Model model,
             OperationShape operation,
             HttpTrait httpTrait,
-            List<OperationShape> operations
+            List<OperationShape> candidates
     ) {
-        String method = httpTrait.getMethod();
         UriPattern pattern = httpTrait.getUri();
 
         // Some conflicts are potentially allowable, so we split them up into to lists.
         List<Pair<ShapeId, UriPattern>> conflicts = new ArrayList<>();
         List<Pair<ShapeId, UriPattern>> allowableConflicts = new ArrayList<>();
 
-        for (OperationShape other : operations) {
-            if (other != operation && other.hasTrait(HttpTrait.class)) {
-                HttpTrait otherHttpTrait = other.expectTrait(HttpTrait.class);
-                if (otherHttpTrait.getMethod().equals(method)
-                        && otherHttpTrait.getUri().conflictsWith(pattern)
-                        && endpointConflicts(model, operation, other)) {
-                    // Now that we know we have a conflict, determine whether it is allowable or not.
-                    if (isAllowableConflict(model, operation, other)) {
-                        allowableConflicts.add(Pair.of(other.getId(), otherHttpTrait.getUri()));
-                    } else {
-                        conflicts.add(Pair.of(other.getId(), otherHttpTrait.getUri()));
-                    }
+        for (OperationShape other : candidates) {
+            if (other != operation && endpointConflicts(model, operation, other)) {
+                UriPattern otherPattern = other.expectTrait(HttpTrait.class).getUri();
+                // Now that we know we have a conflict, determine whether it is allowable or not.
+                if (isAllowableConflict(model, operation, other)) {
+                    allowableConflicts.add(Pair.of(other.getId(), otherPattern));
+                } else {
+                    conflicts.add(Pair.of(other.getId(), otherPattern));
                 }
             }
         }
@@ -16,6 +16,7 @@
 package software.amazon.smithy.model.validation.validators;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -29,25 +30,39 @@ import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.JsonNameTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.ShapeScopedValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.SetUtils;
 
-public final class JsonNameValidator extends AbstractValidator {
+public final class JsonNameValidator extends AbstractValidator implements ShapeScopedValidator {
     @Override
     public List<ValidationEvent> validate(Model model) {
+        return validateShapes(model, model.getMemberShapesWithTrait(JsonNameTrait.class));
+    }
+
+    @Override
+    public List<ValidationEvent> validateShapes(Model model, Collection<? extends Shape> shapes) {
         List<ValidationEvent> events = new ArrayList<>();
         Set<ShapeId> visitedContainers = new HashSet<>();
 
         // Find every member marked with a jsonName trait. The containing shapes of these members are
         // the only structure/union shapes that need to be validated.
-        for (MemberShape member : model.getMemberShapesWithTrait(JsonNameTrait.class)) {
+        for (Shape shape : shapes) {
+            MemberShape member = shape.asMemberShape().orElse(null);
             // If the container hasn't been visited yet, then validate it's members.
-            if (visitedContainers.add(member.getContainer())) {
+            if (member != null && member.hasTrait(JsonNameTrait.class)
+                    && visitedContainers.add(member.getContainer())) {
                 validateMembersOfContainer(model.expectShape(member.getContainer()), events);
             }
         }
         return events;
     }
 
+    @Override
+    public Set<String> getEventIds() {
+        return SetUtils.of(getName());
+    }
+
     private void validateMembersOfContainer(Shape container, List<ValidationEvent> events) {
         Map<String, Set<MemberShape>> memberMappings = new TreeMap<>();
         for (MemberShape m : container.members()) {
@@ -16,29 +16,45 @@
 package software.amazon.smithy.model.validation.validators;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.traits.PatternTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.ShapeScopedValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.SetUtils;
 
 /**
  * Emits a validation event if a pattern trait is not anchored.
  */
-public final class PatternTraitValidator extends AbstractValidator {
+public final class PatternTraitValidator extends AbstractValidator implements ShapeScopedValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
+        return validateShapes(model, model.getShapesWithTrait(PatternTrait.class));
+    }
+
+    @Override
+    public List<ValidationEvent> validateShapes(Model model, Collection<? extends Shape> shapes) {
         List<ValidationEvent> events = new ArrayList<>();
-        for (Shape shape : model.getShapesWithTrait(PatternTrait.class)) {
-            validatePatternTrait(events, shape);
+        for (Shape shape : shapes) {
+            if (shape.hasTrait(PatternTrait.class)) {
+                validatePatternTrait(events, shape);
+            }
         }
 
         return events;
     }
 
+    @Override
+    public Set<String> getEventIds() {
+        return SetUtils.of(getName());
+    }
+
     private void validatePatternTrait(List<ValidationEvent> events, Shape shape) {
         PatternTrait trait = shape.expectTrait(PatternTrait.class);
         String pattern = trait.getValue();
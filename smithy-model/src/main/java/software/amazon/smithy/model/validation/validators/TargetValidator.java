@@ -38,6 +38,7 @@ import software.amazon.smithy.model.traits.MixinTrait;
 import software.amazon.smithy.model.traits.TraitDefinition;
 import software.amazon.smithy.model.validation.AbstractValidator;
 import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ShapeScopedValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.utils.FunctionalUtils;
 import software.amazon.smithy.utils.MapUtils;
@@ -47,9 +48,10 @@ import software.amazon.smithy.utils.StringUtils;
 /**
  * Validates that neighbors target resolvable shapes of the correct type.
  */
-public final class TargetValidator extends AbstractValidator {
+public final class TargetValidator extends AbstractValidator implements ShapeScopedValidator {
 
     private static final int MAX_EDIT_DISTANCE_FOR_SUGGESTIONS = 2;
+    private static final String DEPRECATED_SHAPE = "DeprecatedShape";
     private static final Set<ShapeType> INVALID_MEMBER_TARGETS = SetUtils.of(
             ShapeType.SERVICE, ShapeType.RESOURCE, ShapeType.OPERATION, ShapeType.MEMBER);
 
@@ -69,14 +71,24 @@ public final class TargetValidator extends AbstractValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
+        return validateShapes(model, model.toSet());
+    }
+
+    @Override
+    public List<ValidationEvent> validateShapes(Model model, Collection<? extends Shape> shapes) {
         List<ValidationEvent> events = new ArrayList<>();
         NeighborProvider neighborProvider = NeighborProviderIndex.of(model).getProvider();
-        for (Shape shape : model.toSet()) {
+        for (Shape shape : shapes) {
             validateShape(model, shape, neighborProvider.getNeighbors(shape), events);
         }
         return events;
     }
 
+    @Override
+    public Set<String> getEventIds() {
+        return SetUtils.of(getName(), DEPRECATED_SHAPE);
+    }
+
     private void validateShape(
             Model model,
             Shape shape,
@@ -206,7 +218,7 @@ public final class TargetValidator extends AbstractValidator {
         deprecatedTrait.getMessage().ifPresent(message -> builder.append(". ").append(message));
         deprecatedTrait.getSince().ifPresent(since -> builder.append(" (since ").append(since).append(')'));
         events.add(ValidationEvent.builder()
-                           .id("DeprecatedShape." + target.getId())
+                           .id(DEPRECATED_SHAPE + "." + target.getId())
                            .severity(Severity.WARNING)
                            .shape(shape)
                            .message(builder.toString())
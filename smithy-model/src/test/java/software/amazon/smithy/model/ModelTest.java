@@ -42,7 +42,9 @@ import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
 import software.amazon.smithy.model.shapes.*;
+import software.amazon.smithy.model.traits.DocumentationTrait;
 import software.amazon.smithy.model.traits.ExamplesTrait;
+import software.amazon.smithy.model.traits.SensitiveTrait;
 import software.amazon.smithy.model.traits.TraitDefinition;
 import software.amazon.smithy.model.traits.synthetic.OriginalShapeIdTrait;
 
@@ -97,6 +99,33 @@ public class ModelTest {
         assertThat(modelA, equalTo(modelB));
     }
 
+    @Test
+    public void updatesTraitMappingsOfTransformedModels() {
+        StringShape a = StringShape.builder().id("ns.foo#a").addTrait(new SensitiveTrait()).build();
+        StringShape b = StringShape.builder().id("ns.foo#b").addTrait(new SensitiveTrait()).build();
+        StringShape c = StringShape.builder().id("ns.foo#c").build();
+        Model.Builder builder = Model.builder().addShapes(a, b, c);
+        for (int i = 0; i < 10; i++) {
+            builder.addShape(StringShape.builder().id("ns.foo#unchanged" + i).build());
+        }
+        Model model = builder.build();
+        assertThat(model.getShapesWithTrait(SensitiveTrait.class), containsInAnyOrder(a, b));
+
+        StringShape updatedA = a.toBuilder()
+                .removeTrait(SensitiveTrait.ID)
+                .addTrait(new DocumentationTrait("a"))
+                .build();
+        StringShape updatedC = c.toBuilder().addTrait(new SensitiveTrait()).build();
+        Model updated = model.toBuilder().addShape(updatedA).addShape(updatedC).removeShape(b.getId()).build();
+
+        assertThat(updated.getShapesWithTrait(SensitiveTrait.class), contains(updatedC));
+        assertThat(updated.getShapesWithTrait(SensitiveTrait.ID), contains(updatedC));
+        assertThat(updated.getShapesWithTrait(DocumentationTrait.class), contains(updatedA));
+        assertThat(updated.getAppliedTraits(), containsInAnyOrder(SensitiveTrait.ID, DocumentationTrait.ID));
+        assertThat(model.getShapesWithTrait(SensitiveTrait.class), containsInAnyOrder(a, b));
+        assertThat(updated.toSet(), hasSize(12));
+    }
+
     @Test
     public void successfullyExpectsShapesOfType() {
         StringShape shape = StringShape.builder().id("ns.foo#A").build();
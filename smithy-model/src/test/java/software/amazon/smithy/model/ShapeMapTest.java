@@ -0,0 +1,107 @@
+package software.amazon.smithy.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+
+public class ShapeMapTest {
+
+    private static StringShape shape(String name) {
+        return StringShape.builder().id(ShapeId.fromParts("smithy.example", name)).build();
+    }
+
+    @Test
+    public void behavesLikeHashMap() {
+        Random random = new Random(42);
+        Map<ShapeId, Shape> expected = new HashMap<>();
+        ShapeMap.Editor editor = ShapeMap.EMPTY.edit();
+        List<ShapeMap> snapshots = new ArrayList<>();
+        List<Map<ShapeId, Shape>> expectedSnapshots = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            String name = "S" + random.nextInt(5000);
+            if (random.nextInt(4) == 0) {
+                ShapeId id = ShapeId.fromParts("smithy.example", name);
+                assertThat(editor.remove(id), equalTo(expected.remove(id)));
+            } else {
+                StringShape shape = shape(name);
+                assertThat(editor.put(shape), equalTo(expected.put(shape.getId(), shape)));
+            }
+            if (i % 2000 == 0) {
+                snapshots.add(editor.build());
+                expectedSnapshots.add(new HashMap<>(expected));
+            }
+        }
+
+        ShapeMap map = editor.build();
+        assertThat(map, equalTo(expected));
+        assertThat(map.size(), equalTo(expected.size()));
+        assertThat(new ArrayList<>(map.values()), containsInAnyOrder(expected.values().toArray()));
+
+        // Maps that were built before later edits are never modified.
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertThat(snapshots.get(i), equalTo(expectedSnapshots.get(i)));
+        }
+    }
+
+    @Test
+    public void handlesHashCollisions() {
+        // "Aa" and "BB" have the same hash code, so each of these shape IDs has the same hash code.
+        StringShape a = shape("AaAa");
+        StringShape b = shape("AaBB");
+        StringShape c = shape("BBAa");
+        StringShape d = shape("BBBB");
+        ShapeMap.Editor editor = ShapeMap.EMPTY.edit();
+        editor.put(a);
+        editor.put(b);
+        editor.put(c);
+        ShapeMap withC = editor.build();
+        editor.put(d);
+        editor.remove(c.getId());
+        StringShape updatedA = a.toBuilder().addTrait(new DocumentationTrait("a")).build();
+        assertThat(editor.put(updatedA), sameInstance(a));
+        ShapeMap map = editor.build();
+
+        assertThat(map.values(), containsInAnyOrder(updatedA, b, d));
+        assertThat(map.get(c.getId()), nullValue());
+        assertThat(withC.values(), containsInAnyOrder(a, b, c));
+
+        editor.remove(b.getId());
+        editor.remove(d.getId());
+        assertThat(editor.build().values(), containsInAnyOrder(updatedA));
+    }
+
+    @Test
+    public void editsDoNotModifyTheOriginalMap() {
+        ShapeMap.Editor editor = ShapeMap.EMPTY.edit();
+        for (int i = 0; i < 1000; i++) {
+            editor.put(shape("S" + i));
+        }
+        ShapeMap original = editor.build();
+        Map<ShapeId, Shape> copy = new HashMap<>(original);
+
+        ShapeMap.Editor updater = original.edit();
+        updater.remove(ShapeId.from("smithy.example#S1"));
+        updater.put(shape("S2").toBuilder().addTrait(new DocumentationTrait("2")).build());
+        updater.put(shape("Added"));
+        ShapeMap updated = updater.build();
+
+        assertThat(original, equalTo(copy));
+        assertThat(updated.size(), equalTo(1000));
+        assertThat(updated.containsKey(ShapeId.from("smithy.example#S1")), equalTo(false));
+        assertThat(updated.containsKey(ShapeId.from("smithy.example#Added")), equalTo(true));
+    }
+}
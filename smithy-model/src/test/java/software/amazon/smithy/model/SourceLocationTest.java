@@ -16,6 +16,9 @@
 package software.amazon.smithy.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Comparator;
 import java.util.List;
@@ -54,4 +57,38 @@ public class SourceLocationTest {
         assertEquals("Third", shapes.get(2).getId().getName());
         assertEquals("Fourth", shapes.get(3).getId().getName());
     }
+
+    @Test
+    public void comparesLocationsByValue() {
+        SourceLocation a = new SourceLocation(new String("a.smithy"), 10, 2);
+        SourceLocation b = new SourceLocation(new String("a.smithy"), 10, 2);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(0, a.compareTo(b));
+        assertSame(a.getFilename(), b.getFilename());
+        assertNotEquals(a, new SourceLocation("a.smithy", 10, 3));
+        assertNotEquals(a, new SourceLocation("a.smithy", 11, 2));
+        assertNotEquals(a, new SourceLocation("b.smithy", 10, 2));
+        assertTrue(a.compareTo(new SourceLocation("a.smithy", 2, 20)) > 0);
+    }
+
+    @Test
+    public void packsLinesAndColumns() {
+        SourceLocation location = new SourceLocation("a.smithy", Integer.MAX_VALUE, Integer.MAX_VALUE);
+        SourceLocation negative = new SourceLocation("a.smithy", -1, -1);
+
+        assertEquals(Integer.MAX_VALUE, location.getLine());
+        assertEquals(Integer.MAX_VALUE, location.getColumn());
+        assertEquals(-1, negative.getLine());
+        assertEquals(-1, negative.getColumn());
+        assertTrue(negative.compareTo(location) < 0);
+    }
+
+    @Test
+    public void formatsLocations() {
+        assertEquals("a.smithy [1, 2]", new SourceLocation("a.smithy", 1, 2).toString());
+        assertEquals("[1, 2]", new SourceLocation("", 1, 2).toString());
+        assertEquals("N/A [0, 0]", SourceLocation.NONE.toString());
+    }
 }
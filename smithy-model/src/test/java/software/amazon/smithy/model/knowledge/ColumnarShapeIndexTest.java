@@ -0,0 +1,90 @@
+package software.amazon.smithy.model.knowledge;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+import java.util.HashSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DeprecatedTrait;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.traits.LengthTrait;
+import software.amazon.smithy.model.traits.PatternTrait;
+import software.amazon.smithy.model.traits.RequiredTrait;
+import software.amazon.smithy.model.traits.SensitiveTrait;
+
+public class ColumnarShapeIndexTest {
+
+    // Excludes the prelude so that queries only match the shapes defined here.
+    private static final Model MODEL = Model.builder().addShapes(Model.assembler()
+            .addUnparsedModel("test.smithy", "$version: \"2\"\n"
+                                             + "namespace smithy.example\n"
+                                             + "@pattern(\"^a$\")\n@length(min: 1)\nstring A\n"
+                                             + "@pattern(\"^b$\")\nstring B\n"
+                                             + "@deprecated\n@sensitive\nstructure C {\n"
+                                             + "    @required\n    @length(min: 1)\n    a: A\n"
+                                             + "}\n"
+                                             + "@pattern(\"^d$\")\nenum D {\n    X\n}\n")
+            .assemble()
+            .unwrap()
+            .shapes()
+            .filter(shape -> shape.getId().getNamespace().equals("smithy.example"))
+            .collect(Collectors.toList()))
+            .build();
+
+    @Test
+    public void findsShapesOfTypeWithEveryTrait() {
+        ColumnarShapeIndex index = ColumnarShapeIndex.of(MODEL);
+
+        assertThat(index.getShapes(StringShape.class, PatternTrait.ID, LengthTrait.ID),
+                   contains(MODEL.expectShape(ShapeId.from("smithy.example#A"))));
+        assertThat(index.getShapes(MemberShape.class, RequiredTrait.ID, LengthTrait.ID),
+                   contains(MODEL.expectShape(ShapeId.from("smithy.example#C$a"))));
+        assertThat(index.getShapes(StructureShape.class, DeprecatedTrait.ID, SensitiveTrait.ID),
+                   contains(MODEL.expectShape(ShapeId.from("smithy.example#C"))));
+        assertThat(index.getShapes(StructureShape.class, PatternTrait.ID), empty());
+    }
+
+    @Test
+    public void matchesShapeTypesPolymorphically() {
+        ColumnarShapeIndex index = ColumnarShapeIndex.of(MODEL);
+
+        assertThat(index.getShapes(StringShape.class, PatternTrait.ID), containsInAnyOrder(
+                MODEL.expectShape(ShapeId.from("smithy.example#A")),
+                MODEL.expectShape(ShapeId.from("smithy.example#B")),
+                MODEL.expectShape(ShapeId.from("smithy.example#D"))));
+        assertThat(index.countShapes(StringShape.class), equalTo(MODEL.toSet(StringShape.class).size()));
+    }
+
+    @Test
+    public void matchesModelTraitQueries() {
+        ColumnarShapeIndex index = ColumnarShapeIndex.of(MODEL);
+
+        for (ShapeId trait : MODEL.getAppliedTraits()) {
+            assertThat(new HashSet<>(index.getShapes(Shape.class, trait)),
+                       equalTo(MODEL.getShapesWithTrait(trait)));
+        }
+        assertThat(index.getAppliedTraits(), equalTo(MODEL.getAppliedTraits()));
+        assertThat(index.countShapes(Shape.class), equalTo(MODEL.toSet().size()));
+    }
+
+    @Test
+    public void returnsNothingForUnknownTraits() {
+        ColumnarShapeIndex index = ColumnarShapeIndex.of(MODEL);
+
+        assertThat(index.getAppliedTraits(), not(hasItem(DocumentationTrait.ID)));
+        assertThat(index.getShapes(Shape.class, PatternTrait.ID, DocumentationTrait.ID), empty());
+        assertThat(index.countShapes(StringShape.class, DocumentationTrait.ID), equalTo(0));
+    }
+}
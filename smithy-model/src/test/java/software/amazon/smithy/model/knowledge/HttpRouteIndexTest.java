@@ -0,0 +1,103 @@
+package software.amazon.smithy.model.knowledge;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class HttpRouteIndexTest {
+
+    private static final ShapeId SERVICE = ShapeId.from("smithy.example#Service");
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addUnparsedModel("example.smithy", "$version: \"2\"\n"
+                        + "namespace smithy.example\n"
+                        + "service Service {\n"
+                        + "    operations: [ListThings, GetThing, GetSpecialThing, PutThing, GetObject,\n"
+                        + "                 GetObjectAcl, ListV2, Root, DuplicateGetThing]\n"
+                        + "}\n"
+                        + "@readonly @http(method: \"GET\", uri: \"/things\")\n"
+                        + "operation ListThings {}\n"
+                        + "@readonly @http(method: \"GET\", uri: \"/things/{id}\")\n"
+                        + "operation GetThing { input := { @required @httpLabel id: String } }\n"
+                        + "@readonly @http(method: \"GET\", uri: \"/things/{name}\")\n"
+                        + "operation DuplicateGetThing { input := { @required @httpLabel name: String } }\n"
+                        + "@readonly @http(method: \"GET\", uri: \"/things/special\")\n"
+                        + "operation GetSpecialThing {}\n"
+                        + "@idempotent @http(method: \"PUT\", uri: \"/things/{id}\")\n"
+                        + "operation PutThing { input := { @required @httpLabel id: String } }\n"
+                        + "@readonly @http(method: \"GET\", uri: \"/objects/{key+}\")\n"
+                        + "operation GetObject { input := { @required @httpLabel key: String } }\n"
+                        + "@readonly @http(method: \"GET\", uri: \"/objects/{key+}/acl\")\n"
+                        + "operation GetObjectAcl { input := { @required @httpLabel key: String } }\n"
+                        + "@readonly @http(method: \"GET\", uri: \"/things?list-type=2\")\n"
+                        + "operation ListV2 {}\n"
+                        + "@readonly @http(method: \"GET\", uri: \"/\")\n"
+                        + "operation Root {}\n")
+                .assemble()
+                .getResult()
+                .get();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "GET, /things, ListThings",
+            "GET, /things?list-type=1, ListThings",
+            "GET, /things?list-type=2&foo=bar, ListV2",
+            "PUT, /things/123, PutThing",
+            "GET, /things/special, GetSpecialThing",
+            "PUT, /things/special, PutThing",
+            "GET, /objects/a, GetObject",
+            "GET, /objects/a/b/c, GetObject",
+            "GET, /objects/a/b/acl, GetObjectAcl",
+            "GET, /, Root"
+    })
+    public void matchesRequests(String method, String uri, String operation) {
+        Optional<OperationShape> result = HttpRouteIndex.of(model).match(SERVICE, method, uri);
+
+        assertThat(result.map(shape -> shape.getId().getName()), equalTo(Optional.of(operation)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "DELETE, /things/123",
+            "GET, /things/123/456",
+            "GET, /objects",
+            "GET, /other"
+    })
+    public void doesNotMatchUnknownRequests(String method, String uri) {
+        assertThat(HttpRouteIndex.of(model).match(SERVICE, method, uri), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void findsConflictingOperations() {
+        List<List<String>> conflicts = HttpRouteIndex.of(model).getConflicts(SERVICE).stream()
+                .map(group -> group.stream().map(shape -> shape.getId().getName()).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+
+        assertThat(conflicts, contains(contains("DuplicateGetThing", "GetThing")));
+    }
+
+    @Test
+    public void returnsNoRoutesForMissingServices() {
+        HttpRouteIndex index = HttpRouteIndex.of(model);
+        ShapeId missing = ShapeId.from("smithy.example#Missing");
+
+        assertThat(index.getConflicts(missing), empty());
+        assertThat(index.match(missing, "GET", "/things"), equalTo(Optional.empty()));
+    }
+}
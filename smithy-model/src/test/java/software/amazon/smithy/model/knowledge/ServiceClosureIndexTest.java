@@ -0,0 +1,125 @@
+package software.amazon.smithy.model.knowledge;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+
+public class ServiceClosureIndexTest {
+
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addUnparsedModel("example.smithy", "$version: \"2\"\n"
+                        + "namespace smithy.example\n"
+                        + "service A {\n"
+                        + "    operations: [Shared, OnlyA]\n"
+                        + "}\n"
+                        + "service B {\n"
+                        + "    operations: [Shared]\n"
+                        + "    resources: [Thing]\n"
+                        + "}\n"
+                        + "resource Thing {\n"
+                        + "    read: GetThing\n"
+                        + "    identifiers: { id: String }\n"
+                        + "}\n"
+                        + "@readonly\n"
+                        + "operation GetThing {\n"
+                        + "    input := { @required id: String }\n"
+                        + "    output := { thing: Structure }\n"
+                        + "}\n"
+                        + "operation Shared {\n"
+                        + "    input := { structure: Structure }\n"
+                        + "}\n"
+                        + "operation OnlyA {\n"
+                        + "    errors: [Error]\n"
+                        + "}\n"
+                        + "structure Structure {\n"
+                        + "    list: StructureList\n"
+                        + "}\n"
+                        + "list StructureList {\n"
+                        + "    member: Structure\n"
+                        + "}\n"
+                        + "@error(\"client\")\n"
+                        + "structure Error {}\n"
+                        + "string Unconnected\n")
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void computesTheSameClosuresAsWalker() {
+        ServiceClosureIndex index = ServiceClosureIndex.of(model);
+        Walker walker = new Walker(model);
+
+        for (Shape shape : model.toSet()) {
+            assertThat(shape.getId().toString(), new ArrayList<>(index.getClosure(shape)),
+                       equalTo(new ArrayList<>(walker.walkShapes(shape))));
+        }
+    }
+
+    @Test
+    public void computesClosuresOfEveryService() {
+        ServiceClosureIndex index = ServiceClosureIndex.of(model);
+
+        assertThat(index.getServiceClosures().keySet(), contains(ShapeId.from("smithy.example#A"),
+                                                                 ShapeId.from("smithy.example#B")));
+        assertThat(index.getServiceClosures().get(ShapeId.from("smithy.example#B")),
+                   sameInstance(index.getClosure(ShapeId.from("smithy.example#B"))));
+        assertThat(index.getClosure(ShapeId.from("smithy.example#A")),
+                   equalTo(new Walker(model).walkShapes(model.expectShape(ShapeId.from("smithy.example#A")))));
+    }
+
+    @Test
+    public void returnsEmptyClosureForMissingShapes() {
+        assertThat(ServiceClosureIndex.of(model).getClosure(ShapeId.from("smithy.example#Missing")), empty());
+    }
+
+    @Test
+    public void carriesOverUnchangedClosuresToTransformedModels() {
+        ServiceClosureIndex index = ServiceClosureIndex.of(model);
+        ShapeId a = ShapeId.from("smithy.example#A");
+        ShapeId b = ShapeId.from("smithy.example#B");
+        index.getServiceClosures();
+
+        StructureShape error = model.expectShape(ShapeId.from("smithy.example#Error"), StructureShape.class);
+        Model updated = model.toBuilder()
+                .addShape(error.toBuilder().addTrait(new DocumentationTrait("changed")).build())
+                .build();
+        ServiceClosureIndex updatedIndex = ServiceClosureIndex.of(updated);
+
+        assertThat(updatedIndex.getClosure(b), sameInstance(index.getClosure(b)));
+        assertThat(updatedIndex.getClosure(a), not(sameInstance(index.getClosure(a))));
+        assertThat(new ArrayList<>(updatedIndex.getClosure(a)),
+                   equalTo(new ArrayList<>(new Walker(updated).walkShapes(updated.expectShape(a)))));
+    }
+
+    @Test
+    public void recomputesClosuresWhenShapesAreAdded() {
+        ServiceClosureIndex index = ServiceClosureIndex.of(model);
+        ShapeId b = ShapeId.from("smithy.example#B");
+        index.getClosure(b);
+
+        Model updated = model.toBuilder()
+                .addShape(StringShape.builder().id("smithy.example#Added").build())
+                .build();
+
+        assertThat(ServiceClosureIndex.of(updated).getClosure(b), not(sameInstance(index.getClosure(b))));
+        assertThat(ServiceClosureIndex.of(updated).getClosure(b), equalTo(index.getClosure(b)));
+    }
+}
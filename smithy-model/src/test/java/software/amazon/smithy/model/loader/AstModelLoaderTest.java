@@ -16,10 +16,21 @@
 package software.amazon.smithy.model.loader;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 
@@ -106,4 +117,83 @@ public class AstModelLoaderTest {
         assertEquals(0, model.getValidationEvents(Severity.WARNING).size());
         assertEquals(0, model.getValidationEvents(Severity.ERROR).size());
     }
+
+    @Test
+    public void loadsShapesThatAppearBeforeTheVersion() {
+        Model model = Model.assembler()
+            .addUnparsedModel("test.json", "{\"shapes\": {\"smithy.example#Foo\": {\"type\": \"string\"}}, "
+                                           + "\"metadata\": {\"foo\": true}, \"smithy\": \"2.0\"}")
+            .assemble()
+            .unwrap();
+
+        assertTrue(model.getShape(ShapeId.from("smithy.example#Foo")).isPresent());
+        assertEquals(Node.from(true), model.getMetadata().get("foo"));
+    }
+
+    @Test
+    public void warnsOnUnknownTopLevelProperties() {
+        ValidatedResult<Model> model = Model.assembler()
+            .addUnparsedModel("test.json", "{\"smithy\": \"2.0\", \"shapes\": {}, \"other\": [1, 2]}")
+            .assemble();
+
+        assertEquals(1, model.getValidationEvents(Severity.WARNING).size());
+        assertTrue(model.getValidationEvents(Severity.WARNING).get(0).getMessage().contains("other"));
+    }
+
+    @Test
+    public void ignoresJsonFilesWithoutVersion() {
+        Model model = Model.assembler()
+            .addUnparsedModel("test.json", "{\"shapes\": {\"smithy.example#Foo\": {\"type\": \"string\"}}}")
+            .addUnparsedModel("array.json", "[{\"smithy\": \"2.0\"}]")
+            .assemble()
+            .unwrap();
+
+        assertFalse(model.getShape(ShapeId.from("smithy.example#Foo")).isPresent());
+    }
+
+    @Test
+    public void loadsLargeMemoryMappedFiles(@TempDir Path tempDir) throws IOException {
+        ModelAssembler assembler = Model.assembler();
+        for (int i = 0; i < 20000; i++) {
+            assembler.addShape(StructureShape.builder()
+                    .id("smithy.example#Structure" + i)
+                    .addMember("member", ShapeId.from("smithy.api#String"))
+                    .addTrait(new DocumentationTrait("Caf\u00e9 documentation for " + i))
+                    .build());
+        }
+        Model model = assembler.assemble().unwrap();
+        Path file = tempDir.resolve("large.json");
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            ModelSerializer.builder().build().serialize(model, writer);
+        }
+
+        // Large files are memory-mapped by the loader.
+        assertTrue(Files.size(file) > 1024 * 1024);
+        Model loaded = Model.assembler().addImport(file).assemble().unwrap();
+
+        assertEquals(model, loaded);
+        ShapeId last = ShapeId.from("smithy.example#Structure19999");
+        assertEquals(file.toAbsolutePath().toString(), loaded.expectShape(last).getSourceLocation().getFilename());
+    }
+
+    @Test
+    public void lastDuplicateShapeDefinitionWins() {
+        String json = "{\"smithy\": \"2.0\", \"shapes\": {"
+                      + "\"smithy.example#Foo\": {\"type\": \"string\"},"
+                      + "\"smithy.example#Foo\": {\"type\": \"integer\"}}}";
+        Model model = Model.assembler().addUnparsedModel("dupes.json", json).assemble().unwrap();
+
+        assertTrue(model.expectShape(ShapeId.from("smithy.example#Foo")).isIntegerShape());
+    }
+
+    @Test
+    public void syntaxErrorsRejectTheEntireFile() {
+        String json = "{\"smithy\": \"2.0\", \"shapes\": {"
+                      + "\"smithy.example#Foo\": {\"type\": \"string\"},"
+                      + "\"smithy.example#Bar\": {\"type\": ";
+        ValidatedResult<Model> result = Model.assembler().addUnparsedModel("broken.json", json).assemble();
+
+        assertTrue(result.isBroken());
+        assertFalse(result.getResult().flatMap(m -> m.getShape(ShapeId.from("smithy.example#Foo"))).isPresent());
+    }
 }
@@ -0,0 +1,84 @@
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentStringTableTest {
+    @Test
+    public void cachesAndReturnsStringValues() {
+        ConcurrentStringTable table = new ConcurrentStringTable();
+
+        CharBuffer originalFoo = CharBuffer.wrap(new char[]{'f', 'o', 'o'});
+        String internedFoo = table.apply(originalFoo);
+
+        assertThat(table.apply(originalFoo), equalTo(internedFoo));
+        assertThat(table.apply(originalFoo), sameInstance(internedFoo));
+        assertThat(table.getMissCount(), is(1L));
+        assertThat(table.getHitCount(), is(2L));
+        assertThat(table.getHitRate(), equalTo(2.0 / 3));
+    }
+
+    @Test
+    public void keepsTwoMostRecentValuesPerBucket() {
+        ConcurrentStringTable table = new ConcurrentStringTable(1); // A single bucket of 2 entries.
+
+        String foo = table.apply("foo");
+        String bar = table.apply("bar");
+
+        assertThat(table.apply(new StringBuilder("foo")), sameInstance(foo));
+        assertThat(table.apply(new StringBuilder("bar")), sameInstance(bar));
+
+        // Adding a third value evicts the least recently added value.
+        String baz = table.apply("baz");
+        assertThat(table.apply(new StringBuilder("baz")), sameInstance(baz));
+        assertThat(table.apply(new StringBuilder("bar")), sameInstance(bar));
+        assertThat(table.apply(new StringBuilder("foo")), not(sameInstance(foo)));
+        assertThat(table.getCapacity(), is(2));
+    }
+
+    @Test
+    public void canBeUsedConcurrently() {
+        ConcurrentStringTable table = new ConcurrentStringTable(10);
+        List<String> values = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> table.apply(new StringBuilder("value").append(i % 100)))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < values.size(); i++) {
+            assertThat(values.get(i), equalTo("value" + (i % 100)));
+        }
+        assertThat(table.getHitCount() + table.getMissCount(), is(100_000L));
+    }
+
+    @Test
+    public void resetsStatistics() {
+        ConcurrentStringTable table = new ConcurrentStringTable();
+        table.apply("foo");
+        table.apply("foo");
+        table.resetStatistics();
+
+        assertThat(table.getHitCount(), is(0L));
+        assertThat(table.getMissCount(), is(0L));
+        assertThat(table.getHitRate(), equalTo(0.0));
+    }
+
+    @Test
+    public void doesNotCreateTooBigOfCache() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ConcurrentStringTable(21));
+    }
+
+    @Test
+    public void doesNotCreateTooSmallOfCache() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ConcurrentStringTable(0));
+    }
+}
@@ -22,10 +22,13 @@ import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -42,9 +45,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -87,13 +92,17 @@ import software.amazon.smithy.model.traits.SuppressTrait;
 import software.amazon.smithy.model.traits.TagsTrait;
 import software.amazon.smithy.model.traits.synthetic.OriginalShapeIdTrait;
 import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ShapeScopedValidator;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidatedResultException;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
+import software.amazon.smithy.model.validation.ValidatorProfile;
+import software.amazon.smithy.model.validation.validators.TargetValidator;
 import software.amazon.smithy.utils.IoUtils;
 import software.amazon.smithy.utils.ListUtils;
+import software.amazon.smithy.utils.SetUtils;
 
 public class ModelAssemblerTest {
 
@@ -1416,4 +1425,200 @@ public class ModelAssemblerTest {
                 ShapeId.from("com.foo#Bar")
         ));
     }
+
+    @Test
+    public void parallelLoadingMatchesSerialLoading() {
+        Supplier<ModelAssembler> assemblerSupplier = () -> Model.assembler()
+                .addImport(getClass().getResource("first-namespace.smithy"))
+                .addImport(getClass().getResource("second-namespace.smithy"))
+                .addImport(getClass().getResource("jar-import.jar"))
+                .addUnparsedModel("a.smithy", "$version: \"2\"\nnamespace com.foo\nstring A\n")
+                .addUnparsedModel("b.smithy", "$version: \"2\"\nnamespace com.foo\nstructure B {\n")
+                .addUnparsedModel("c.smithy", "$version: \"2\"\nnamespace com.foo\n@unknown\nstring C\n");
+
+        ValidatedResult<Model> serial = assemblerSupplier.get().assemble();
+        ValidatedResult<Model> parallel = assemblerSupplier.get()
+                .putProperty(ModelAssembler.PARALLEL_LOADING, true)
+                .assemble();
+
+        assertThat(parallel.getResult(), equalTo(serial.getResult()));
+        assertThat(parallel.getValidationEvents(), equalTo(serial.getValidationEvents()));
+        assertThat(parallel.getValidationEvents(Severity.ERROR), not(empty()));
+    }
+
+    @Test
+    public void sharesConcurrentStringTableAcrossAssemblers() {
+        ConcurrentStringTable stringTable = new ConcurrentStringTable();
+        String model = "$version: \"2\"\nnamespace com.foo\nstructure Foo {\nbar: String\n}\n";
+        Model first = Model.assembler()
+                .stringTable(stringTable)
+                .addUnparsedModel("a.smithy", model)
+                .assemble()
+                .unwrap();
+        long firstMisses = stringTable.getMissCount();
+        Model second = Model.assembler()
+                .stringTable(stringTable)
+                .addUnparsedModel("b.smithy", model)
+                .putProperty(ModelAssembler.PARALLEL_LOADING, true)
+                .addUnparsedModel("c.smithy", "$version: \"2\"\nnamespace com.foo\nstring Baz\n")
+                .assemble()
+                .unwrap();
+
+        assertThat(first.expectShape(ShapeId.from("com.foo#Foo")),
+                   equalTo(second.expectShape(ShapeId.from("com.foo#Foo"))));
+        assertThat(stringTable.getHitCount(), not(0L));
+        assertThat(stringTable.getMissCount() - firstMisses, lessThan(firstMisses));
+    }
+
+    @Test
+    public void incrementalValidationMatchesFullValidation() {
+        String previousModel = "$version: \"2\"\nnamespace com.foo\n"
+                               + "@pattern(\"a\")\nstring A\n"
+                               + "@pattern(\"b\")\nstring B\n"
+                               + "structure C {\n@pattern(\"c\")\na: A\nb: B\n}\n";
+        String currentModel = "$version: \"2\"\nnamespace com.foo\n"
+                              + "@pattern(\"a\")\nstring A\n"
+                              + "@pattern(\"^b$\")\nstring B\n"
+                              + "structure C {\n@pattern(\"c\")\na: A\nb: B\n}\n"
+                              + "@pattern(\"d\")\nstring D\n";
+        List<ShapeId> validatedShapes = Collections.synchronizedList(new ArrayList<>());
+        ShapeScopedValidator validator = new ShapeScopedValidator() {
+            @Override
+            public List<ValidationEvent> validate(Model model) {
+                return validateShapes(model, model.toSet());
+            }
+
+            @Override
+            public List<ValidationEvent> validateShapes(Model model, Collection<? extends Shape> shapes) {
+                shapes.stream().filter(s -> s.getId().getNamespace().equals("com.foo"))
+                        .forEach(s -> validatedShapes.add(s.getId()));
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Set<String> getEventIds() {
+                return SetUtils.of("Custom");
+            }
+        };
+
+        ValidatedResult<Model> previous = Model.assembler().addUnparsedModel("a.smithy", previousModel).assemble();
+        ValidatedResult<Model> full = Model.assembler().addUnparsedModel("a.smithy", currentModel).assemble();
+        ValidatedResult<Model> incremental = Model.assembler()
+                .addUnparsedModel("a.smithy", currentModel)
+                .addValidator(validator)
+                .previousValidation(previous.unwrap(), previous.getValidationEvents(),
+                                    SetUtils.of(ShapeId.from("com.foo#B"), ShapeId.from("com.foo#D")))
+                .assemble();
+
+        assertThat(incremental.unwrap(), equalTo(full.unwrap()));
+        assertThat(new HashSet<>(incremental.getValidationEvents()),
+                   equalTo(new HashSet<>(full.getValidationEvents())));
+        assertThat(incremental.getValidationEvents(), hasSize(full.getValidationEvents().size()));
+        assertThat(validatedShapes, not(hasItem(ShapeId.from("com.foo#A"))));
+        assertThat(validatedShapes, hasItem(ShapeId.from("com.foo#C$a")));
+    }
+
+    @Test
+    public void incrementalValidationFallsBackToFullValidationAfterErrors() {
+        String previousModel = "$version: \"2\"\nnamespace com.foo\n"
+                               + "structure A {\na: Missing\n}\n@pattern(\"b\")\nstring B\n";
+        String currentModel = "$version: \"2\"\nnamespace com.foo\n"
+                              + "structure A {\na: B\n}\n@pattern(\"b\")\nstring B\n";
+
+        ValidatedResult<Model> previous = Model.assembler().addUnparsedModel("a.smithy", previousModel).assemble();
+        ValidatedResult<Model> full = Model.assembler().addUnparsedModel("a.smithy", currentModel).assemble();
+        ValidatedResult<Model> incremental = Model.assembler()
+                .addUnparsedModel("a.smithy", currentModel)
+                .previousValidation(previous.getResult().get(), previous.getValidationEvents(),
+                                    SetUtils.of(ShapeId.from("com.foo#A")))
+                .assemble();
+
+        assertThat(previous.isBroken(), is(true));
+        assertThat(incremental.getValidationEvents(), equalTo(full.getValidationEvents()));
+    }
+
+    @Test
+    public void profilesBuiltinAndMetadataValidators() {
+        String model = "$version: \"2\"\n"
+                       + "metadata validators = [{\n"
+                       + "    name: \"EmitEachSelector\"\n"
+                       + "    id: \"StringsHaveDocs\"\n"
+                       + "    severity: \"WARNING\"\n"
+                       + "    namespaces: [\"com.foo\"]\n"
+                       + "    configuration: { selector: \"string :not([trait|documentation])\" }\n"
+                       + "}]\n"
+                       + "namespace com.foo\n"
+                       + "string A\n";
+        ValidatorProfile profile = new ValidatorProfile();
+        Model.assembler().addUnparsedModel("a.smithy", model).validatorProfile(profile).assemble().unwrap();
+
+        Map<String, ValidatorProfile.Entry> entries = new HashMap<>();
+        for (ValidatorProfile.Entry entry : profile.getEntries()) {
+            entries.put(entry.getName(), entry);
+        }
+
+        assertThat(entries, hasKey("Target"));
+        assertThat(entries.get("Target").getType(), equalTo(TargetValidator.class.getName()));
+        assertThat(entries.get("StringsHaveDocs").getType(), equalTo("EmitEachSelector"));
+        assertThat(entries.get("StringsHaveDocs").getEventCount(), is(1));
+        assertThat(entries.get("StringsHaveDocs").getInvocations(), is(1));
+        assertThat(profile.toNode().expectObjectNode().expectArrayMember("validators").size(),
+                   equalTo(entries.size()));
+    }
+
+    @Test
+    public void evaluatesSelectorValidatorsTogether() {
+        String model = "$version: \"2\"\n"
+                       + "metadata validators = [\n"
+                       + "    {\n"
+                       + "        name: \"EmitEachSelector\"\n"
+                       + "        id: \"StringsHaveDocs\"\n"
+                       + "        configuration: { selector: \"string :not([trait|documentation])\" }\n"
+                       + "    }\n"
+                       + "    {\n"
+                       + "        name: \"EmitEachSelector\"\n"
+                       + "        id: \"StringsAreSensitive\"\n"
+                       + "        message: \"Custom: {super}\"\n"
+                       + "        configuration: { selector: \"string :not([trait|sensitive])\" }\n"
+                       + "    }\n"
+                       + "    {\n"
+                       + "        name: \"EmitNoneSelector\"\n"
+                       + "        id: \"HasIntegers\"\n"
+                       + "        configuration: { selector: \"integer\" }\n"
+                       + "    }\n"
+                       + "]\n"
+                       + "namespace com.foo\n"
+                       + "@documentation(\"A\")\n"
+                       + "string A\n"
+                       + "@sensitive\n"
+                       + "string B\n";
+        ValidatedResult<Model> result = Model.assembler().addUnparsedModel("a.smithy", model).assemble();
+        ValidatorProfile profile = new ValidatorProfile();
+        ValidatedResult<Model> profiled = Model.assembler()
+                .addUnparsedModel("a.smithy", model)
+                .validatorProfile(profile)
+                .assemble();
+
+        assertThat(profiled.getValidationEvents(), containsInAnyOrder(result.getValidationEvents().toArray()));
+
+        List<String> events = result.getValidationEvents().stream()
+                .map(event -> event.getId() + " " + event.getShapeId().map(ShapeId::toString).orElse("-"))
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertThat(events, contains("HasIntegers -",
+                                    "StringsAreSensitive com.foo#A",
+                                    "StringsHaveDocs com.foo#B"));
+        assertThat(result.getValidationEvents().stream()
+                           .filter(event -> event.getId().equals("StringsAreSensitive"))
+                           .findFirst().get().getMessage(),
+                   startsWith("Custom: "));
+
+        // When profiling, each selector is evaluated by its own validator so that its cost is attributed to it.
+        List<String> names = profile.getEntries().stream()
+                .map(ValidatorProfile.Entry::getName)
+                .collect(Collectors.toList());
+        assertThat(names, hasItems("StringsHaveDocs", "StringsAreSensitive", "HasIntegers"));
+        assertThat(names, not(hasItem("SelectorBatch")));
+    }
 }
@@ -0,0 +1,58 @@
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ModelLoaderTest {
+
+    @Test
+    public void readsSmallFilesIntoHeapBuffers(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("small.json");
+        Files.write(file, "{\"smithy\": \"2.0\"}".getBytes(StandardCharsets.UTF_8));
+
+        try (FileInputStream stream = new FileInputStream(file.toFile())) {
+            ByteBuffer buffer = ModelLoader.readContents(stream);
+
+            assertThat(buffer.isDirect(), is(false));
+            assertThat(new String(buffer.array(), 0, buffer.limit(), StandardCharsets.UTF_8),
+                       equalTo("{\"smithy\": \"2.0\"}"));
+            assertThat(stream.getChannel().isOpen(), is(false));
+        }
+    }
+
+    @Test
+    public void mapsLargeFilesAndClosesTheChannel(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("large.json");
+        byte[] contents = new byte[2 * 1024 * 1024];
+        Arrays.fill(contents, (byte) ' ');
+        Files.write(file, contents);
+
+        try (FileInputStream stream = new FileInputStream(file.toFile())) {
+            ByteBuffer buffer = ModelLoader.readContents(stream);
+
+            assertThat(buffer.isDirect(), is(true));
+            assertThat(buffer.remaining(), equalTo(contents.length));
+            assertThat(stream.getChannel().isOpen(), is(false));
+        }
+    }
+
+    @Test
+    public void readsOtherStreamsIntoMemory() throws IOException {
+        byte[] contents = "{}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ModelLoader.readContents(new ByteArrayInputStream(contents));
+
+        assertThat(buffer.remaining(), equalTo(2));
+    }
+}
@@ -0,0 +1,183 @@
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.Validator;
+import software.amazon.smithy.model.validation.ValidatorFactory;
+
+public class ModelSnapshotTest {
+
+    private Path outputDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        outputDirectory = Files.createTempDirectory(getClass().getName());
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.walk(outputDirectory).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+
+    private ValidatedResult<Model> loadTestModel() {
+        return Model.assembler()
+                .addImport(getClass().getResource("valid/mixins/mixins-with-members-and-traits.smithy"))
+                .addImport(getClass().getResource("valid/service-with-errors.smithy"))
+                .addImport(getClass().getResource("valid/enums/enums.smithy"))
+                .assemble();
+    }
+
+    @Test
+    public void roundTripsValidatedModels() throws IOException {
+        ValidatedResult<Model> result = loadTestModel();
+        Path snapshot = outputDirectory.resolve("model" + ModelSnapshot.FILE_EXTENSION);
+        Files.write(snapshot, ModelSnapshot.serialize(result));
+        ValidatedResult<Model> loaded = Model.assembler().addImport(snapshot).assemble();
+
+        assertThat(loaded.unwrap(), equalTo(result.unwrap()));
+        assertThat(loaded.getValidationEvents(), equalTo(result.getValidationEvents()));
+
+        for (Shape shape : result.unwrap().toSet()) {
+            assertThat(loaded.unwrap().expectShape(shape.getId()).getSourceLocation(),
+                       equalTo(shape.getSourceLocation()));
+        }
+    }
+
+    @Test
+    public void validatesModelsWhenCombinedWithOtherSources() throws IOException {
+        ValidatedResult<Model> result = loadTestModel();
+        Path snapshot = outputDirectory.resolve("model" + ModelSnapshot.FILE_EXTENSION);
+        Files.write(snapshot, ModelSnapshot.serialize(result));
+        ValidatedResult<Model> loaded = Model.assembler()
+                .addImport(snapshot)
+                .addUnparsedModel("foo.smithy", "$version: \"2\"\nnamespace foo.baz\nstring A\n")
+                .assemble();
+
+        assertThat(loaded.unwrap().getShapeIds().containsAll(result.unwrap().getShapeIds()), is(true));
+        assertThat(loaded.getValidationEvents(), equalTo(result.getValidationEvents()));
+    }
+
+    @Test
+    public void recordsWhetherModelWasValidated() {
+        Model model = loadTestModel().unwrap();
+        ModelSnapshot unvalidated = ModelSnapshot.read("a", ByteBuffer.wrap(ModelSnapshot.serialize(model)));
+        ModelSnapshot validated = ModelSnapshot.read("b", ByteBuffer.wrap(ModelSnapshot.serialize(loadTestModel())));
+
+        assertThat(unvalidated.isValidated(), is(false));
+        assertThat(validated.isValidated(), is(true));
+        assertThat(validated.getContentHash().length, equalTo(32));
+        assertThat(Arrays.equals(validated.getContentHash(), unvalidated.getContentHash()), is(false));
+    }
+
+    @Test
+    public void detectsCorruptSnapshots() {
+        byte[] bytes = ModelSnapshot.serialize(loadTestModel());
+        bytes[bytes.length - 1] ^= 1;
+
+        ModelImportException e = Assertions.assertThrows(ModelImportException.class, () -> {
+            ModelSnapshot.read("foo" + ModelSnapshot.FILE_EXTENSION, ByteBuffer.wrap(bytes));
+        });
+
+        assertThat(e.getMessage().contains("content hash mismatch"), is(true));
+    }
+
+    @Test
+    public void rejectsNonSnapshotFiles() {
+        Assertions.assertThrows(ModelImportException.class, () -> {
+            Model.assembler().addUnparsedModel("foo" + ModelSnapshot.FILE_EXTENSION, "{}").assemble();
+        });
+    }
+
+    @Test
+    public void cannotCreateValidatedSnapshotsOfBrokenModels() {
+        ValidatedResult<Model> result = Model.assembler()
+                .addUnparsedModel("foo.smithy", "$version: \"2\"\nnamespace foo.baz\nstructure A { a: Missing }\n")
+                .assemble();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModelSnapshot.serialize(result));
+    }
+
+    @Test
+    public void runsCustomValidatorsOnValidatedSnapshots() throws IOException {
+        ValidatedResult<Model> result = loadTestModel();
+        Path snapshot = outputDirectory.resolve("model" + ModelSnapshot.FILE_EXTENSION);
+        Files.write(snapshot, ModelSnapshot.serialize(result));
+        Validator validator = model -> Collections.singletonList(ValidationEvent.builder()
+                .id("Custom")
+                .severity(Severity.WARNING)
+                .message("custom")
+                .build());
+        ValidatorFactory factory = ValidatorFactory.createServiceFactory(
+                Collections.singletonList(validator), Collections.emptyList());
+        ValidatedResult<Model> loaded = Model.assembler().validatorFactory(factory).addImport(snapshot).assemble();
+
+        assertThat(loaded.getValidationEvents().stream().anyMatch(e -> e.getId().equals("Custom")), is(true));
+    }
+
+    @Test
+    public void readsSuppliedContentEvenWhenFilenameExists() throws IOException {
+        byte[] bytes = ModelSnapshot.serialize(loadTestModel());
+        Path snapshot = outputDirectory.resolve("model" + ModelSnapshot.FILE_EXTENSION);
+        Files.write(snapshot, new byte[] {1, 2, 3});
+        ModelSnapshot read = ModelSnapshot.read(snapshot.toString(), () -> new ByteArrayInputStream(bytes));
+
+        assertThat(read.isValidated(), is(true));
+    }
+
+    @Test
+    public void convertsAllDecodeFailuresToImportExceptions() {
+        byte[] bytes = ModelSnapshot.serialize(loadTestModel().unwrap());
+
+        for (int i = 0; i < bytes.length; i += 7) {
+            byte[] corrupt = bytes.clone();
+            corrupt[i] = (byte) 0xFF;
+            Assertions.assertThrows(ModelImportException.class,
+                                    () -> ModelSnapshot.read("foo", ByteBuffer.wrap(corrupt)));
+            byte[] truncated = Arrays.copyOf(bytes, i);
+            Assertions.assertThrows(ModelImportException.class,
+                                    () -> ModelSnapshot.read("foo", ByteBuffer.wrap(truncated)));
+        }
+    }
+
+    @Test
+    public void readsLargeMemoryMappedSnapshots() throws IOException {
+        ModelAssembler assembler = Model.assembler();
+        for (int i = 0; i < 20000; i++) {
+            assembler.addShape(StructureShape.builder()
+                    .id("smithy.example#Structure" + i)
+                    .addMember("member", ShapeId.from("smithy.api#String"))
+                    .addTrait(new DocumentationTrait("Documentation for structure " + i))
+                    .build());
+        }
+        ValidatedResult<Model> result = assembler.assemble();
+        Path snapshot = outputDirectory.resolve("large" + ModelSnapshot.FILE_EXTENSION);
+        Files.write(snapshot, ModelSnapshot.serialize(result));
+
+        assertThat(Files.size(snapshot) > 1024 * 1024, is(true));
+        assertThat(ModelSnapshot.read(snapshot).isValidated(), is(true));
+        assertThat(Model.assembler().addImport(snapshot).assemble().unwrap(), equalTo(result.unwrap()));
+    }
+}
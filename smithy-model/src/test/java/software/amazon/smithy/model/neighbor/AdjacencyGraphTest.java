@@ -0,0 +1,105 @@
+package software.amazon.smithy.model.neighbor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.shapes.StructureShape;
+
+public class AdjacencyGraphTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"unreferenced-test.json", "idref-neighbors.smithy"})
+    public void returnsTheSameRelationshipsAsTheProvider(String file) {
+        Model model = loadModel(file);
+        NeighborProviderIndex index = NeighborProviderIndex.of(model);
+
+        assertSameNeighbors(model, index.getAdjacencyGraph(), index.getProvider());
+        assertSameNeighbors(model, index.getAdjacencyGraphWithTraitRelationships(),
+                            index.getProviderWithTraitRelationships());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"unreferenced-test.json", "idref-neighbors.smithy"})
+    public void returnsTheSameReverseRelationshipsAsTheProvider(String file) {
+        Model model = loadModel(file);
+        NeighborProviderIndex index = NeighborProviderIndex.of(model);
+        AdjacencyGraph reverse = index.getAdjacencyGraphWithTraitRelationships().reverse();
+
+        for (Shape shape : model.toSet()) {
+            List<Relationship> expected = index.getReverseProviderWithTraitRelationships().getNeighbors(shape);
+            List<Relationship> actual = reverse.getNeighbors(shape);
+            assertThat(shape.getId().toString(), actual, containsInAnyOrder(expected.toArray()));
+            assertThat(new HashSet<>(actual).size(), equalTo(actual.size()));
+        }
+        assertThat(reverse.reverse(), sameInstance(index.getAdjacencyGraphWithTraitRelationships()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"unreferenced-test.json", "idref-neighbors.smithy"})
+    public void walksShapesInTheSameOrderAsTheProvider(String file) {
+        Model model = loadModel(file);
+        NeighborProviderIndex index = NeighborProviderIndex.of(model);
+        Walker providerWalker = new Walker(index.getProviderWithTraitRelationships());
+        Walker graphWalker = new Walker(index.getAdjacencyGraphWithTraitRelationships());
+        Predicate<Relationship> predicate = rel -> !rel.getRelationshipType().isMemberBinding();
+
+        for (Shape shape : model.toSet()) {
+            assertThat(new ArrayList<>(graphWalker.walkShapes(shape)),
+                       equalTo(new ArrayList<>(providerWalker.walkShapes(shape))));
+            assertThat(new ArrayList<>(graphWalker.walkShapeIds(shape, predicate)),
+                       equalTo(new ArrayList<>(providerWalker.walkShapeIds(shape, predicate))));
+        }
+    }
+
+    @Test
+    public void keepsRelationshipsToMissingShapes() {
+        MemberShape member = MemberShape.builder()
+                .id("smithy.example#Foo$bar")
+                .target("smithy.example#Missing")
+                .build();
+        StructureShape struct = StructureShape.builder().id("smithy.example#Foo").addMember(member).build();
+        StringShape unconnected = StringShape.builder().id("smithy.example#Unconnected").build();
+        Model model = Model.builder().addShapes(struct, member, unconnected).build();
+        AdjacencyGraph graph = AdjacencyGraph.of(model);
+
+        assertThat(graph.getNeighbors(member), equalTo(NeighborProvider.of(model).getNeighbors(member)));
+        assertThat(graph.getNeighbors(member).stream()
+                           .filter(rel -> rel.getRelationshipType() == RelationshipType.MEMBER_TARGET)
+                           .findFirst().get().getNeighborShapeId(),
+                   equalTo(ShapeId.from("smithy.example#Missing")));
+        assertThat(graph.getNeighbors(unconnected), empty());
+        assertThat(graph.reverse().getNeighbors(member), containsInAnyOrder(
+                Relationship.create(struct, RelationshipType.STRUCTURE_MEMBER, member)));
+        assertThat(new Walker(graph).walkShapes(struct), containsInAnyOrder(struct, member));
+    }
+
+    private Model loadModel(String file) {
+        return Model.assembler().addImport(getClass().getResource(file)).assemble().unwrap();
+    }
+
+    private static void assertSameNeighbors(Model model, AdjacencyGraph graph, NeighborProvider provider) {
+        int count = 0;
+        for (Shape shape : model.toSet()) {
+            List<Relationship> expected = provider.getNeighbors(shape);
+            assertThat(shape.getId().toString(), graph.getNeighbors(shape), equalTo(expected));
+            count += expected.size();
+        }
+        assertThat(graph.getRelationshipCount(), equalTo(count));
+    }
+}
@@ -0,0 +1,190 @@
+package software.amazon.smithy.model.node.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.model.loader.ModelSyntaxException;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.StringNode;
+
+public class JsonPullParserTest {
+
+    public static Stream<String> validDocuments() {
+        return Stream.of(
+                "true",
+                "  false  ",
+                "null",
+                "\"foo\"",
+                "-0",
+                "10",
+                "1.5e+10",
+                "12345678901234567890",
+                "[]",
+                "{}",
+                "[1, [2, [3]], {\"a\": {}}]",
+                "{\n  \"a\": \"b\",\n  \"c\": [true, false, null],\n  \"d\": {\"e\": -1.5E-3}\n}",
+                "{\"esc\\\"aped\": \"\\b\\f\\n\\r\\t\\/\\\\\\u00e9\\u2028\"}",
+                "{\"caf\u00e9\": \"\u65e5\u672c\u8a9e\", \"next\": \"\ud83d\ude00\", \"after\": 1}",
+                "{\"a\": \"\u00e9\\n\u00e9\", \"b\":\r\n  [\"\u00e9\", 1]}",
+                "{\"a\": 1, \"a\": 2}");
+    }
+
+    @ParameterizedTest
+    @MethodSource("validDocuments")
+    public void readsTheSameNodesAsTheTreeParser(String json) {
+        Node expected = Node.parse(json, "test.json");
+
+        assertSameNodes(parse(json, false).readNode(), expected);
+        assertSameNodes(parse(json, true).readNode(), expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("validDocuments")
+    public void skipsValues(String json) {
+        JsonPullParser parser = parse(json, false);
+        parser.skipValue();
+
+        assertThat(parser.next(), equalTo(JsonPullParser.Token.END_DOCUMENT));
+    }
+
+    private JsonPullParser parse(String json, boolean direct) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (direct) {
+            buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes);
+            buffer.flip();
+        }
+        JsonPullParser parser = new JsonPullParser("test.json", buffer);
+        parser.next();
+        return parser;
+    }
+
+    private static void assertSameNodes(Node actual, Node expected) {
+        assertThat(actual, equalTo(expected));
+        assertThat(actual.getSourceLocation(), equalTo(expected.getSourceLocation()));
+
+        if (expected.isObjectNode()) {
+            Iterator<Map.Entry<StringNode, Node>> actualMembers = actual.expectObjectNode()
+                    .getMembers().entrySet().iterator();
+            for (Map.Entry<StringNode, Node> entry : expected.expectObjectNode().getMembers().entrySet()) {
+                Map.Entry<StringNode, Node> actualEntry = actualMembers.next();
+                assertThat(actualEntry.getKey().getSourceLocation(), equalTo(entry.getKey().getSourceLocation()));
+                assertSameNodes(actualEntry.getValue(), entry.getValue());
+            }
+        } else if (expected.isArrayNode()) {
+            for (int i = 0; i < expected.expectArrayNode().size(); i++) {
+                assertSameNodes(actual.expectArrayNode().get(i).get(), expected.expectArrayNode().get(i).get());
+            }
+        }
+    }
+
+    public static Stream<String> invalidDocuments() {
+        return Stream.of(
+                "",
+                "   ",
+                "tru",
+                "nul!",
+                "-",
+                "01",
+                "1.",
+                "1e",
+                "\"abc",
+                "\"a\nb\"",
+                "\"\\x\"",
+                "\"\\u12g4\"",
+                "[1 2]",
+                "[1,]",
+                "{\"a\" 1}",
+                "{\"a\": 1,}",
+                "{\"a\": 1 \"b\": 2}",
+                "{1: 2}",
+                "\"\u00e9\u00e9\" x",
+                "{} {}",
+                "[\"\u00e9\",\n \"\u00e9\", ?]");
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidDocuments")
+    public void failsLikeTheTreeParser(String json) {
+        ModelSyntaxException expected = assertThrows(ModelSyntaxException.class, () -> Node.parse(json, "test.json"));
+        ModelSyntaxException actual = assertThrows(ModelSyntaxException.class, () -> {
+            JsonPullParser parser = parse(json, false);
+            parser.readNode();
+            parser.next();
+        });
+
+        assertThat(actual.getMessage(), equalTo(expected.getMessage()));
+    }
+
+    @Test
+    public void returnsTokens() {
+        JsonPullParser parser = new JsonPullParser("test.json", ByteBuffer.wrap(
+                "{\"a\": [1, \"b\", true, false, null], \"c\": {}}".getBytes(StandardCharsets.UTF_8)));
+        List<JsonPullParser.Token> tokens = new ArrayList<>();
+        List<String> text = new ArrayList<>();
+        JsonPullParser.Token token;
+
+        while ((token = parser.next()) != JsonPullParser.Token.END_DOCUMENT) {
+            tokens.add(token);
+            if (token == JsonPullParser.Token.NAME
+                    || token == JsonPullParser.Token.STRING
+                    || token == JsonPullParser.Token.NUMBER) {
+                text.add(parser.getText());
+            }
+        }
+
+        assertThat(tokens, contains(
+                JsonPullParser.Token.START_OBJECT,
+                JsonPullParser.Token.NAME,
+                JsonPullParser.Token.START_ARRAY,
+                JsonPullParser.Token.NUMBER,
+                JsonPullParser.Token.STRING,
+                JsonPullParser.Token.TRUE,
+                JsonPullParser.Token.FALSE,
+                JsonPullParser.Token.NULL,
+                JsonPullParser.Token.END_ARRAY,
+                JsonPullParser.Token.NAME,
+                JsonPullParser.Token.START_OBJECT,
+                JsonPullParser.Token.END_OBJECT,
+                JsonPullParser.Token.END_OBJECT));
+        assertThat(text, contains("a", "1", "b", "c"));
+        assertThat(parser.next(), equalTo(JsonPullParser.Token.END_DOCUMENT));
+    }
+
+    @Test
+    public void skippingPreservesLaterSourceLocations() {
+        String json = "{\"skip\": [\"\u00e9\u00e9\", {\"\u00e9\": 1}], \"keep\": true}";
+        JsonPullParser parser = new JsonPullParser("test.json", ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+        parser.next();
+        parser.next();
+        parser.next();
+        parser.skipValue();
+        parser.next();
+        parser.next();
+
+        assertThat(parser.readNode().getSourceLocation(),
+                   equalTo(Node.parse(json, "test.json").expectObjectNode().expectMember("keep").getSourceLocation()));
+    }
+
+    @Test
+    public void failsWhenReadingNodeFromNonValueToken() {
+        JsonPullParser parser = new JsonPullParser("test.json", ByteBuffer.wrap("{\"a\": 1}".getBytes()));
+        parser.next();
+        parser.next();
+
+        assertThrows(IllegalStateException.class, parser::readNode);
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.smithy.model.selector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.utils.ListUtils;
+
+public class SelectorBatchTest {
+
+    private static final List<String> EXPRESSIONS = ListUtils.of(
+            "member [trait|required]",
+            "member > string",
+            "member :test(> string)",
+            "[trait|documentation]",
+            "[trait|documentation] string",
+            "[trait|documentation] structure > member",
+            "structure > member [trait|required]",
+            ":is(operation, resource)",
+            "operation -[input]-> structure > member",
+            "[trait|required] $member(*) [@: @{var|member|id|name} = id]",
+            "$operations(operation) service :not(-[operation]-> ${operations})",
+            "structure :not(:root(structure > member > structure))",
+            "*",
+            "member [trait|required]");
+
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addUnparsedModel("example.smithy", "$version: \"2\"\n"
+                        + "namespace smithy.example\n"
+                        + "service Service {\n"
+                        + "    operations: [GetFoo]\n"
+                        + "    resources: [Foo]\n"
+                        + "}\n"
+                        + "resource Foo {}\n"
+                        + "/// Gets a foo.\n"
+                        + "@readonly\n"
+                        + "operation GetFoo {\n"
+                        + "    input := {\n"
+                        + "        @required\n"
+                        + "        id: String\n"
+                        + "        /// The name.\n"
+                        + "        name: String\n"
+                        + "        nested: Nested\n"
+                        + "    }\n"
+                        + "}\n"
+                        + "/// Nested.\n"
+                        + "structure Nested {\n"
+                        + "    @required\n"
+                        + "    value: Integer\n"
+                        + "}\n")
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void evaluatesSelectorsLikeTheyAreEvaluatedAlone() {
+        List<Selector> selectors = EXPRESSIONS.stream().map(Selector::parse).collect(Collectors.toList());
+        SelectorBatch.Result result = SelectorBatch.of(selectors).evaluate(model);
+
+        for (Selector selector : selectors) {
+            assertMatchesEqual(model, selector, result);
+        }
+    }
+
+    @Test
+    public void evaluatesLargeModelsInParallel() {
+        Model.Builder builder = Model.builder();
+        for (int i = 0; i < 12000; i++) {
+            StringShape.Builder string = StringShape.builder().id("smithy.example#String" + i);
+            if (i % 3 == 0) {
+                string.addTrait(new DocumentationTrait("docs"));
+            }
+            builder.addShape(string.build());
+        }
+        builder.addShape(StructureShape.builder()
+                .id("smithy.example#Structure")
+                .addMember("a", ShapeId.from("smithy.api#String"))
+                .build());
+        Model large = builder.build();
+        List<Selector> selectors = EXPRESSIONS.stream().map(Selector::parse).collect(Collectors.toList());
+        SelectorBatch.Result result = SelectorBatch.of(selectors).evaluate(large);
+
+        for (Selector selector : selectors) {
+            assertMatchesEqual(large, selector, result);
+        }
+        assertThat(result.getShapes(Selector.parse("[trait|documentation] string")), hasSize(4000));
+    }
+
+    @Test
+    public void returnsMatchesOfEqualSelectors() {
+        Selector a = Selector.parse("member [trait|required]");
+        Selector b = Selector.parse("member   [trait|required]");
+        SelectorBatch batch = SelectorBatch.of(ListUtils.of(a, Selector.parse("member [trait|required]")));
+
+        assertThat(batch.getSelectors(), hasSize(2));
+        assertThat(batch.evaluate(model).getShapes(a), equalTo(a.select(model)));
+        assertThrows(IllegalArgumentException.class, () -> batch.evaluate(model).getMatches(b));
+    }
+
+    private static void assertMatchesEqual(Model model, Selector selector, SelectorBatch.Result result) {
+        List<String> expected = new ArrayList<>();
+        selector.consumeMatches(model, match -> expected.add(describe(match)));
+        List<String> actual = result.getMatches(selector).stream()
+                .map(SelectorBatchTest::describe)
+                .collect(Collectors.toList());
+        expected.sort(String::compareTo);
+        actual.sort(String::compareTo);
+
+        assertThat(selector.toString(), actual, equalTo(expected));
+    }
+
+    private static String describe(Selector.ShapeMatch match) {
+        // Variables are sorted because the order of the shapes in each variable isn't significant.
+        return match.getShape().getId() + " " + new TreeMap<>(match.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream()
+                        .map(shape -> shape.getId().toString())
+                        .sorted()
+                        .collect(Collectors.toList()))));
+    }
+}
@@ -0,0 +1,103 @@
+package software.amazon.smithy.model.selector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+
+public class SelectorPlanTest {
+
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addUnparsedModel("example.smithy", "$version: \"2\"\n"
+                        + "namespace smithy.example\n"
+                        + "service Service {\n"
+                        + "    operations: [GetFoo]\n"
+                        + "    resources: [Foo]\n"
+                        + "}\n"
+                        + "resource Foo {}\n"
+                        + "@readonly\n"
+                        + "@http(method: \"GET\", uri: \"/foo/{id}\")\n"
+                        + "operation GetFoo {\n"
+                        + "    input := {\n"
+                        + "        @required\n"
+                        + "        @httpLabel\n"
+                        + "        id: String\n"
+                        + "        @httpQuery(\"name\")\n"
+                        + "        name: String\n"
+                        + "    }\n"
+                        + "}\n"
+                        + "structure Unused {\n"
+                        + "    @required\n"
+                        + "    value: Integer\n"
+                        + "}\n")
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void seedsFromTheSmallestFilter() {
+        String explanation = Selector.parse("member [trait|required]").explain(model);
+
+        assertThat(explanation, containsString("Starting shapes: [trait|required] ("));
+    }
+
+    @Test
+    public void movesCheapFiltersFirst() {
+        String explanation = Selector.parse("[id|name = id] [trait|httpLabel] member > string").explain(model);
+
+        assertThat(explanation, containsString(String.format("Steps:%n"
+                + "  1. member (filter)%n"
+                + "  2. [trait|httpLabel] (filter)%n"
+                + "  3. [id|name = id] (filter)%n"
+                + "  4. >%n"
+                + "  5. string")));
+    }
+
+    @Test
+    public void seedsIsFunctionsFromTheUnionOfTheirFilters() {
+        String explanation = Selector.parse(":is(operation, resource)").explain(model);
+
+        assertThat(explanation, containsString("Starting shapes: :is(operation, resource) (2 of "));
+    }
+
+    @Test
+    public void scansAllShapesWhenNoFilterHelps() {
+        String explanation = Selector.parse("[id|namespace = smithy.example] > member").explain(model);
+
+        assertThat(explanation, containsString("Starting shapes: all shapes"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "member [trait|required]",
+            "[trait|required] member",
+            "[id|name = id] [trait|httpLabel] member > string",
+            ":is(operation, resource)",
+            ":is(operation, [trait|required]) :not([trait|readonly])",
+            "structure > member :is([trait|required], [trait|httpLabel])",
+            "[trait|required] $member(*) [@: @{var|member|id|name} = id]",
+            "operation -[input]-> structure > member [trait|required]"
+    })
+    public void plannedSelectorsMatchUnplannedEvaluation(String expression) {
+        Selector selector = Selector.parse(expression);
+        Set<Shape> expected = model.toSet().stream()
+                .flatMap(shape -> selector.select(model, new Selector.StartingContext(Collections.singleton(shape)))
+                        .stream())
+                .collect(Collectors.toSet());
+
+        assertThat(selector.select(model), equalTo(expected));
+    }
+}
@@ -25,6 +25,7 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -81,6 +82,7 @@ public class ModelSerializerTest {
         ObjectNode expected = Node.parse(IoUtils.readUtf8File(expectedV2Path)).expectObjectNode();
 
         Node.assertEquals(actual, expected);
+        assertThat(streamToString(serializer, model), equalTo(Node.prettyPrintJson(actual)));
     }
 
     private void testV1DowngradeSerialization(Path path, Path expectedV1Path) {
@@ -90,6 +92,13 @@ public class ModelSerializerTest {
         ObjectNode model1 = serializer1.serialize(model);
 
         Node.assertEquals(model1, expectedDowngrade);
+        assertThat(streamToString(serializer1, model), equalTo(Node.prettyPrintJson(model1)));
+    }
+
+    private static String streamToString(ModelSerializer serializer, Model model) {
+        StringWriter writer = new StringWriter();
+        serializer.serialize(model, writer);
+        return writer.toString();
     }
 
     @Test
@@ -113,6 +122,27 @@ public class ModelSerializerTest {
         assertThat(model, equalTo(other));
     }
 
+    @Test
+    public void streamsTheSameJsonAsSerializedNodes() {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("test-model.json"))
+                .assemble()
+                .unwrap();
+        ModelSerializer serializer = ModelSerializer.builder().build();
+
+        assertThat(streamToString(serializer, model), equalTo(Node.prettyPrintJson(serializer.serialize(model))));
+    }
+
+    @Test
+    public void streamsModelsWithoutShapes() {
+        Model model = Model.builder().putMetadataProperty("foo", Node.objectNode()).build();
+        ModelSerializer serializer = ModelSerializer.builder().build();
+        String result = streamToString(serializer, model);
+
+        assertThat(result, equalTo(Node.prettyPrintJson(serializer.serialize(model))));
+        assertThat(result, containsString("\"shapes\": {}"));
+    }
+
     @Test
     public void filtersMetadata() {
         ModelSerializer serializer = ModelSerializer.builder()
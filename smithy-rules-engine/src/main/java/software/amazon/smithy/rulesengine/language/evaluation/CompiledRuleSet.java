@@ -0,0 +1,472 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.rulesengine.language.evaluation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import software.amazon.smithy.rulesengine.language.Endpoint;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.evaluation.value.EndpointValue;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.Expression;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.ExpressionVisitor;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.Reference;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.Template;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.TemplateVisitor;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.FunctionDefinition;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.GetAttr;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.literal.Literal;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.literal.LiteralVisitor;
+import software.amazon.smithy.rulesengine.language.syntax.parameters.Parameter;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Condition;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Rule;
+import software.amazon.smithy.rulesengine.language.syntax.rule.RuleValueVisitor;
+import software.amazon.smithy.utils.SmithyUnstableApi;
+
+/**
+ * An {@link EndpointRuleSet} compiled into a flat program that can be evaluated
+ * any number of times, producing the same results as {@link RuleEvaluator}.
+ *
+ * <p>Rules are lowered into an array of instructions that test conditions and
+ * jump to the next rule when a condition fails. Parameters and variables
+ * assigned by conditions are stored in numbered registers rather than in a
+ * scope of maps. Conditions that test the same expression over the same
+ * registers in different rules are evaluated at most once per evaluation.
+ *
+ * <p>A compiled rule-set is immutable and can be evaluated concurrently.
+ */
+@SmithyUnstableApi
+public final class CompiledRuleSet {
+    // CONDITION <condition index> <register to assign or -1> <instruction to jump to if the condition fails>
+    private static final int CONDITION = 0;
+    // RESULT <result index>
+    private static final int RESULT = 1;
+    // NO_MATCH <message index>
+    private static final int NO_MATCH = 2;
+
+    private static final Value FALSE = Value.booleanValue(false);
+
+    private final int[] program;
+    private final CompiledExpression[] conditions;
+    private final CompiledExpression[] results;
+    private final String[] messages;
+    private final Map<Identifier, Integer> inputRegisters;
+    private final Value[] initialRegisters;
+
+    private CompiledRuleSet(Compiler compiler) {
+        program = new int[compiler.program.size()];
+        for (int i = 0; i < program.length; i++) {
+            program[i] = compiler.program.get(i);
+        }
+        conditions = compiler.conditions.toArray(new CompiledExpression[0]);
+        results = compiler.results.toArray(new CompiledExpression[0]);
+        messages = compiler.messages.toArray(new String[0]);
+        inputRegisters = compiler.inputRegisters;
+        initialRegisters = new Value[compiler.registerCount];
+        compiler.defaults.forEach((register, value) -> initialRegisters[register] = value);
+    }
+
+    /**
+     * Compiles the given rule-set.
+     *
+     * @param ruleset The endpoint rule-set to compile.
+     * @return the compiled rule-set.
+     */
+    public static CompiledRuleSet compile(EndpointRuleSet ruleset) {
+        Compiler compiler = new Compiler();
+        compiler.compileRuleSet(ruleset);
+        return new CompiledRuleSet(compiler);
+    }
+
+    /**
+     * Evaluates the rule-set with the provided parameter arguments.
+     *
+     * @param parameterArguments The rule-set parameter identifiers and
+     *                           values to evaluate the rule-set against.
+     * @return The resulting value from the final matched rule.
+     */
+    public Value evaluate(Map<Identifier, Value> parameterArguments) {
+        Value[] registers = Arrays.copyOf(initialRegisters, initialRegisters.length);
+        for (Map.Entry<Identifier, Value> entry : parameterArguments.entrySet()) {
+            Integer register = inputRegisters.get(entry.getKey());
+            if (register != null) {
+                registers[register] = entry.getValue();
+            }
+        }
+
+        Value[] conditionValues = new Value[conditions.length];
+        int pc = 0;
+        while (true) {
+            switch (program[pc]) {
+                case CONDITION:
+                    int condition = program[pc + 1];
+                    Value value = conditionValues[condition];
+                    if (value == null) {
+                        value = conditions[condition].evaluate(registers);
+                        conditionValues[condition] = value;
+                    }
+                    if (value.isEmpty() || value.equals(FALSE)) {
+                        pc = program[pc + 3];
+                    } else {
+                        if (program[pc + 2] >= 0) {
+                            registers[program[pc + 2]] = value;
+                        }
+                        pc += 4;
+                    }
+                    break;
+                case RESULT:
+                    return results[program[pc + 1]].evaluate(registers);
+                case NO_MATCH:
+                    throw new RuntimeException(messages[program[pc + 1]]);
+                default:
+                    throw new IllegalStateException("Invalid instruction " + program[pc] + " at " + pc);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of instructions in the compiled program.
+     *
+     * @return the number of instructions.
+     */
+    public int getInstructionCount() {
+        int count = 0;
+        for (int pc = 0; pc < program.length; pc += program[pc] == CONDITION ? 4 : 2) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of distinct conditions evaluated by the compiled program.
+     *
+     * @return the number of distinct conditions.
+     */
+    public int getConditionCount() {
+        return conditions.length;
+    }
+
+    @FunctionalInterface
+    private interface CompiledExpression {
+        Value evaluate(Value[] registers);
+    }
+
+    private static final class Compiler implements ExpressionVisitor<CompiledExpression> {
+        private final List<Integer> program = new ArrayList<>();
+        private final List<CompiledExpression> conditions = new ArrayList<>();
+        private final Map<List<Object>, Integer> conditionIndices = new HashMap<>();
+        private final List<CompiledExpression> results = new ArrayList<>();
+        private final List<String> messages = new ArrayList<>();
+        private final Map<Identifier, Integer> inputRegisters = new LinkedHashMap<>();
+        private final Map<Integer, Value> defaults = new HashMap<>();
+        private final Deque<Map<Identifier, Integer>> scopes = new ArrayDeque<>();
+        private List<Integer> referencedRegisters = new ArrayList<>();
+        private int registerCount;
+
+        private void compileRuleSet(EndpointRuleSet ruleset) {
+            for (Parameter parameter : ruleset.getParameters()) {
+                int register = inputRegister(parameter.getName());
+                parameter.getDefault().ifPresent(value -> defaults.put(register, value));
+            }
+            compileRules(ruleset.getRules(), "No rules in ruleset matched");
+        }
+
+        private int inputRegister(Identifier name) {
+            return inputRegisters.computeIfAbsent(name, n -> registerCount++);
+        }
+
+        // Each rule jumps to the start of the next rule if one of its conditions fails, and
+        // the last rule jumps to an instruction that fails evaluation.
+        private void compileRules(List<Rule> rules, String noMatchMessage) {
+            for (Rule rule : rules) {
+                List<Integer> failJumps = compileRule(rule);
+                for (int jump : failJumps) {
+                    program.set(jump, program.size());
+                }
+            }
+            messages.add(noMatchMessage);
+            program.add(NO_MATCH);
+            program.add(messages.size() - 1);
+        }
+
+        private List<Integer> compileRule(Rule rule) {
+            List<Integer> failJumps = new ArrayList<>();
+            scopes.push(new HashMap<>());
+
+            for (Condition condition : rule.getConditions()) {
+                int conditionIndex = compileCondition(condition.getFunction());
+                int register = -1;
+                if (condition.getResult().isPresent()) {
+                    register = registerCount++;
+                    scopes.peek().put(condition.getResult().get(), register);
+                }
+                program.add(CONDITION);
+                program.add(conditionIndex);
+                program.add(register);
+                failJumps.add(program.size());
+                program.add(-1);
+            }
+
+            rule.accept(new RuleValueVisitor<Void>() {
+                @Override
+                public Void visitTreeRule(List<Rule> rules) {
+                    compileRules(rules, String.format(
+                            "no rules inside of tree rule matched—invalid rules (%s)", rule));
+                    return null;
+                }
+
+                @Override
+                public Void visitErrorRule(Expression error) {
+                    addResult(error.accept(Compiler.this));
+                    return null;
+                }
+
+                @Override
+                public Void visitEndpointRule(Endpoint endpoint) {
+                    addResult(compileEndpoint(endpoint));
+                    return null;
+                }
+            });
+
+            scopes.pop();
+            return failJumps;
+        }
+
+        // The same expression referencing the same registers always produces the same value
+        // within an evaluation, so these conditions share a single slot.
+        private int compileCondition(Expression expression) {
+            referencedRegisters = new ArrayList<>();
+            CompiledExpression compiled = expression.accept(this);
+            List<Object> key = Arrays.asList(expression, referencedRegisters);
+            Integer index = conditionIndices.get(key);
+            if (index == null) {
+                index = conditions.size();
+                conditions.add(compiled);
+                conditionIndices.put(key, index);
+            }
+            return index;
+        }
+
+        private void addResult(CompiledExpression result) {
+            results.add(result);
+            program.add(RESULT);
+            program.add(results.size() - 1);
+        }
+
+        private CompiledExpression compileEndpoint(Endpoint endpoint) {
+            CompiledExpression url = endpoint.getUrl().accept(this);
+            Map<String, CompiledExpression> properties = new LinkedHashMap<>();
+            for (Map.Entry<Identifier, Literal> entry : endpoint.getProperties().entrySet()) {
+                properties.put(entry.getKey().toString(), entry.getValue().accept(this));
+            }
+            Map<String, List<CompiledExpression>> headers = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Expression>> entry : endpoint.getHeaders().entrySet()) {
+                headers.put(entry.getKey(), compileAll(entry.getValue()));
+            }
+
+            return registers -> {
+                EndpointValue.Builder builder = EndpointValue.builder()
+                        .sourceLocation(endpoint)
+                        .url(url.evaluate(registers).expectStringValue().getValue());
+                for (Map.Entry<String, CompiledExpression> entry : properties.entrySet()) {
+                    builder.putProperty(entry.getKey(), entry.getValue().evaluate(registers));
+                }
+                for (Map.Entry<String, List<CompiledExpression>> entry : headers.entrySet()) {
+                    List<String> values = new ArrayList<>(entry.getValue().size());
+                    for (CompiledExpression expression : entry.getValue()) {
+                        values.add(expression.evaluate(registers).expectStringValue().getValue());
+                    }
+                    builder.putHeader(entry.getKey(), values);
+                }
+                return builder.build();
+            };
+        }
+
+        private List<CompiledExpression> compileAll(List<? extends Expression> expressions) {
+            List<CompiledExpression> result = new ArrayList<>(expressions.size());
+            for (Expression expression : expressions) {
+                result.add(expression.accept(this));
+            }
+            return result;
+        }
+
+        @Override
+        public CompiledExpression visitLiteral(Literal literal) {
+            return literal.accept(new LiteralVisitor<CompiledExpression>() {
+                @Override
+                public CompiledExpression visitBoolean(boolean b) {
+                    Value value = Value.booleanValue(b);
+                    return registers -> value;
+                }
+
+                @Override
+                public CompiledExpression visitString(Template value) {
+                    return compileTemplate(value);
+                }
+
+                @Override
+                public CompiledExpression visitRecord(Map<Identifier, Literal> members) {
+                    Map<Identifier, CompiledExpression> compiled = new LinkedHashMap<>();
+                    for (Map.Entry<Identifier, Literal> entry : members.entrySet()) {
+                        compiled.put(entry.getKey(), entry.getValue().accept(Compiler.this));
+                    }
+                    return registers -> {
+                        Map<Identifier, Value> values = new HashMap<>();
+                        for (Map.Entry<Identifier, CompiledExpression> entry : compiled.entrySet()) {
+                            values.put(entry.getKey(), entry.getValue().evaluate(registers));
+                        }
+                        return Value.recordValue(values);
+                    };
+                }
+
+                @Override
+                public CompiledExpression visitTuple(List<Literal> members) {
+                    List<CompiledExpression> compiled = compileAll(members);
+                    return registers -> {
+                        List<Value> values = new ArrayList<>(compiled.size());
+                        for (CompiledExpression element : compiled) {
+                            values.add(element.evaluate(registers));
+                        }
+                        return Value.arrayValue(values);
+                    };
+                }
+
+                @Override
+                public CompiledExpression visitInteger(int value) {
+                    Value result = Value.integerValue(value);
+                    return registers -> result;
+                }
+            });
+        }
+
+        private CompiledExpression compileTemplate(Template template) {
+            if (template.isStatic()) {
+                Value value = Value.stringValue(template.expectLiteral());
+                return registers -> value;
+            }
+
+            // Static parts are compiled to constant values and the start and finish of multipart templates are
+            // skipped, so every part evaluates to a string value.
+            List<CompiledExpression> parts = template.accept(new TemplateVisitor<CompiledExpression>() {
+                @Override
+                public CompiledExpression visitStaticTemplate(String value) {
+                    return visitStaticElement(value);
+                }
+
+                @Override
+                public CompiledExpression visitSingleDynamicTemplate(Expression value) {
+                    return value.accept(Compiler.this);
+                }
+
+                @Override
+                public CompiledExpression visitStaticElement(String value) {
+                    Value result = Value.stringValue(value);
+                    return registers -> result;
+                }
+
+                @Override
+                public CompiledExpression visitDynamicElement(Expression value) {
+                    return value.accept(Compiler.this);
+                }
+
+                @Override
+                public CompiledExpression startMultipartTemplate() {
+                    return null;
+                }
+
+                @Override
+                public CompiledExpression finishMultipartTemplate() {
+                    return null;
+                }
+            }).filter(Objects::nonNull).collect(Collectors.toList());
+
+            return registers -> {
+                StringBuilder result = new StringBuilder();
+                for (CompiledExpression part : parts) {
+                    result.append(part.evaluate(registers).expectStringValue().getValue());
+                }
+                return Value.stringValue(result.toString());
+            };
+        }
+
+        @Override
+        public CompiledExpression visitRef(Reference reference) {
+            int register = resolve(reference.getName());
+            referencedRegisters.add(register);
+            return registers -> {
+                Value value = registers[register];
+                return value == null ? Value.emptyValue() : value;
+            };
+        }
+
+        // Resolves the innermost variable with the given name, falling back to the registers that are
+        // populated from parameters and arguments.
+        private int resolve(Identifier name) {
+            for (Map<Identifier, Integer> scope : scopes) {
+                Integer register = scope.get(name);
+                if (register != null) {
+                    return register;
+                }
+            }
+            return inputRegister(name);
+        }
+
+        @Override
+        public CompiledExpression visitGetAttr(GetAttr getAttr) {
+            CompiledExpression target = getAttr.getTarget().accept(this);
+            return registers -> getAttr.evaluate(target.evaluate(registers));
+        }
+
+        @Override
+        public CompiledExpression visitIsSet(Expression fn) {
+            CompiledExpression target = fn.accept(this);
+            return registers -> Value.booleanValue(!target.evaluate(registers).isEmpty());
+        }
+
+        @Override
+        public CompiledExpression visitNot(Expression not) {
+            CompiledExpression target = not.accept(this);
+            return registers -> Value.booleanValue(!target.evaluate(registers).expectBooleanValue().getValue());
+        }
+
+        @Override
+        public CompiledExpression visitBoolEquals(Expression left, Expression right) {
+            CompiledExpression l = left.accept(this);
+            CompiledExpression r = right.accept(this);
+            return registers -> Value.booleanValue(l.evaluate(registers).expectBooleanValue()
+                    .equals(r.evaluate(registers).expectBooleanValue()));
+        }
+
+        @Override
+        public CompiledExpression visitStringEquals(Expression left, Expression right) {
+            CompiledExpression l = left.accept(this);
+            CompiledExpression r = right.accept(this);
+            return registers -> Value.booleanValue(l.evaluate(registers).expectStringValue()
+                    .equals(r.evaluate(registers).expectStringValue()));
+        }
+
+        @Override
+        public CompiledExpression visitLibraryFunction(FunctionDefinition definition, List<Expression> arguments) {
+            List<CompiledExpression> compiled = compileAll(arguments);
+            return registers -> {
+                List<Value> values = new ArrayList<>(compiled.size());
+                for (CompiledExpression argument : compiled) {
+                    values.add(argument.evaluate(registers));
+                }
+                return definition.evaluate(values);
+            };
+        }
+    }
+}
@@ -11,7 +11,6 @@ import static software.amazon.smithy.rulesengine.language.syntax.expressions.Exp
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Stream;
 import software.amazon.smithy.model.FromSourceLocation;
 import software.amazon.smithy.model.SourceLocation;
@@ -22,6 +21,7 @@ import software.amazon.smithy.rulesengine.language.error.InnerParseError;
 import software.amazon.smithy.rulesengine.language.evaluation.Scope;
 import software.amazon.smithy.rulesengine.language.evaluation.TypeCheck;
 import software.amazon.smithy.rulesengine.language.evaluation.type.Type;
+import software.amazon.smithy.utils.ExpressionCache;
 import software.amazon.smithy.utils.SmithyBuilder;
 import software.amazon.smithy.utils.SmithyUnstableApi;
 
@@ -36,6 +36,12 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
  */
 @SmithyUnstableApi
 public final class Template implements FromSourceLocation, ToNode {
+    // Caches how each distinct template string is split into literal and dynamic sections, including any
+    // unmatched brace error since scanning is deterministic. The expression of each dynamic section is still
+    // parsed for every Template, since expressions carry source locations and type-check state.
+    private static final ExpressionCache<ScannedTemplate> SCANNED_TEMPLATES = ExpressionCache.create(
+            "smithy.rulesengine.templates", 4096, Template::scanTemplate);
+
     private final SourceLocation sourceLocation;
     private final List<Part> parts;
     private final String value;
@@ -51,16 +57,34 @@ public final class Template implements FromSourceLocation, ToNode {
     }
 
     private List<Part> parseTemplate(String template, FromSourceLocation context) throws InnerParseError {
-        List<Part> out = new ArrayList<>();
-        Optional<Integer> templateStart = Optional.empty();
+        // Only the scan is cached. Dynamic sections are re-parsed here for every template.
+        ScannedTemplate scanned = SCANNED_TEMPLATES.get(template);
+        List<Part> out = new ArrayList<>(scanned.sections.size());
+        for (Object section : scanned.sections) {
+            if (section instanceof Literal) {
+                out.add((Literal) section);
+            } else {
+                out.add(Dynamic.parse((String) section, context));
+            }
+        }
+        if (scanned.error != null) {
+            throw new InnerParseError(scanned.error);
+        }
+        return out;
+    }
+
+    private static ScannedTemplate scanTemplate(String template) {
+        // Each section is either a static Literal part or the raw text of a dynamic section.
+        List<Object> out = new ArrayList<>();
+        int templateStart = -1;
         int depth = 0;
         int templateEnd = 0;
         for (int i = 0; i < template.length(); i++) {
-            if (template.substring(i).startsWith("{{")) {
+            if (template.startsWith("{{", i)) {
                 i++;
                 continue;
             }
-            if (template.substring(i).startsWith("}}")) {
+            if (template.startsWith("}}", i)) {
                 i++;
                 continue;
             }
@@ -70,7 +94,7 @@ public final class Template implements FromSourceLocation, ToNode {
                     if (templateEnd != i) {
                         out.add(Literal.unescape(template.substring(templateEnd, i)));
                     }
-                    templateStart = Optional.of(i + 1);
+                    templateStart = i + 1;
                 }
                 depth++;
             }
@@ -78,22 +102,33 @@ public final class Template implements FromSourceLocation, ToNode {
             if (template.charAt(i) == '}') {
                 depth--;
                 if (depth < 0) {
-                    throw new InnerParseError("unmatched `}` in template");
+                    return new ScannedTemplate(out, "unmatched `}` in template");
                 }
                 if (depth == 0) {
-                    out.add(Dynamic.parse(template.substring(templateStart.get(), i), context));
-                    templateStart = Optional.empty();
+                    out.add(template.substring(templateStart, i));
+                    templateStart = -1;
                 }
                 templateEnd = i + 1;
             }
         }
         if (depth != 0) {
-            throw new InnerParseError("unmatched `{` in template");
+            return new ScannedTemplate(out, "unmatched `{` in template");
         }
         if (templateEnd < template.length()) {
             out.add(Literal.unescape(template.substring(templateEnd)));
         }
-        return out;
+        return new ScannedTemplate(out, null);
+    }
+
+    // The sections of a template, and the error found after the last section, if any.
+    private static final class ScannedTemplate {
+        private final List<Object> sections;
+        private final String error;
+
+        ScannedTemplate(List<Object> sections, String error) {
+            this.sections = sections;
+            this.error = error;
+        }
     }
 
     @Override
@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import software.amazon.smithy.jmespath.CompiledExpression;
 import software.amazon.smithy.jmespath.ExpressionVisitor;
 import software.amazon.smithy.jmespath.JmespathException;
 import software.amazon.smithy.jmespath.JmespathExpression;
@@ -85,7 +86,7 @@ public final class OperationContextParamsTraitValidator extends AbstractValidato
             for (Map.Entry<String, OperationContextParamDefinition> entry : definitionMap.entrySet()) {
 
                 try {
-                    JmespathExpression path = JmespathExpression.parse(entry.getValue().getPath());
+                    JmespathExpression path = CompiledExpression.parse(entry.getValue().getPath()).getExpression();
                     StructureShape input = OperationIndex.of(model).expectInputShape(operationShape);
                     LinterResult linterResult = path.lint(createCurrentNodeFromShape(input, model));
 
@@ -0,0 +1,96 @@
+package software.amazon.smithy.rulesengine.language.evaluation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.TestRunnerTest;
+import software.amazon.smithy.rulesengine.language.evaluation.value.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Rule;
+import software.amazon.smithy.rulesengine.language.syntax.rule.TreeRule;
+import software.amazon.smithy.rulesengine.traits.EndpointRuleSetTrait;
+import software.amazon.smithy.rulesengine.traits.EndpointTestCase;
+import software.amazon.smithy.rulesengine.traits.EndpointTestsTrait;
+import software.amazon.smithy.utils.MapUtils;
+
+public class CompiledRuleSetTest {
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "default-values.smithy",
+            "headers.smithy",
+            "parse-url.smithy",
+            "substring.smithy",
+            "uri-encode.smithy",
+            "valid-hostlabel.smithy"
+    })
+    public void matchesRuleEvaluatorOnEndpointTests(String filename) {
+        Model model = Model.assembler()
+                .discoverModels(CompiledRuleSetTest.class.getClassLoader())
+                .addImport(TestRunnerTest.class.getResource("errorfiles/valid/" + filename))
+                .assemble()
+                .unwrap();
+        List<EndpointTestCase> testCases = new ArrayList<>();
+
+        for (ServiceShape service : model.getServiceShapesWithTrait(EndpointTestsTrait.class)) {
+            EndpointRuleSet ruleSet = service.expectTrait(EndpointRuleSetTrait.class).getEndpointRuleSet();
+            CompiledRuleSet compiled = CompiledRuleSet.compile(ruleSet);
+            for (EndpointTestCase testCase : service.expectTrait(EndpointTestsTrait.class).getTestCases()) {
+                Map<Identifier, Value> parameters = new LinkedHashMap<>();
+                for (Map.Entry<StringNode, Node> entry : testCase.getParams().getMembers().entrySet()) {
+                    parameters.put(Identifier.of(entry.getKey()), Value.fromNode(entry.getValue()));
+                }
+                assertThat(evaluate(compiled, parameters), equalTo(evaluate(ruleSet, parameters)));
+                testCases.add(testCase);
+            }
+        }
+
+        assertThat(testCases, not(empty()));
+    }
+
+    @Test
+    public void sharesConditionsAcrossRules() {
+        EndpointRuleSet ruleSet = TestRunnerTest.getEndpointRuleSet(TestRunnerTest.class,
+                                                                    "example-complex-ruleset.json");
+        CompiledRuleSet compiled = CompiledRuleSet.compile(ruleSet);
+        Map<Identifier, Value> parameters = MapUtils.of(Identifier.of("Region"), Value.stringValue("us-east-1"));
+
+        assertThat(evaluate(compiled, parameters), equalTo(evaluate(ruleSet, parameters)));
+        assertThat(compiled.getConditionCount(), lessThan(countConditions(ruleSet.getRules())));
+    }
+
+    private static Object evaluate(Object ruleSet, Map<Identifier, Value> parameters) {
+        try {
+            return ruleSet instanceof CompiledRuleSet
+                   ? ((CompiledRuleSet) ruleSet).evaluate(parameters)
+                   : RuleEvaluator.evaluate((EndpointRuleSet) ruleSet, parameters);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static int countConditions(List<Rule> rules) {
+        int count = 0;
+        for (Rule rule : rules) {
+            count += rule.getConditions().size();
+            if (rule instanceof TreeRule) {
+                count += countConditions(((TreeRule) rule).getRules());
+            }
+        }
+        return count;
+    }
+}
@@ -1684,6 +1684,9 @@ public abstract class AbstractCodeWriter<T extends AbstractCodeWriter<T>> {
      * AbstractCodeWriter, then the AbstractCodeWriter might be mutated to track dependencies
      * that aren't actually necessary.
      *
+     * <p>Parsed templates are cached, and {@code content} can be a precompiled
+     * {@link CodeTemplate} to skip parsing entirely.
+     *
      * <pre>{@code
      * SimpleCodeWriter = new SimpleCodeWriter();
      * String name = "Person";
@@ -1699,7 +1702,11 @@ public abstract class AbstractCodeWriter<T extends AbstractCodeWriter<T>> {
      */
     public final String format(Object content, Object... args) {
         StringBuilder result = new StringBuilder();
-        CodeFormatter.run(result, this, Objects.requireNonNull(content).toString(), args);
+        if (content instanceof CodeTemplate) {
+            CodeFormatter.run(result, this, (CodeTemplate) content, args);
+        } else {
+            CodeFormatter.run(result, this, Objects.requireNonNull(content).toString(), args);
+        }
         return result.toString();
     }
 
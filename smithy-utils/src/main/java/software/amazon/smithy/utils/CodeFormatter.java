@@ -24,26 +24,153 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @SmithyInternalApi
 final class CodeFormatter {
 
+    private static final char DEFAULT_EXPRESSION_START = '$';
+    private static final int CACHE_MAX_SIZE = 8192;
+
+    // Parsed templates that use the default expression start are keyed by the template, and templates that use a
+    // custom expression start are keyed by the expression start followed by the template.
+    private static final ExpressionCache<CodeTemplate> TEMPLATES = ExpressionCache.create(
+            "smithy.utils.codeTemplates", CACHE_MAX_SIZE,
+            template -> createTemplate(null, template, DEFAULT_EXPRESSION_START));
+    private static final ExpressionCache<CodeTemplate> CUSTOM_TEMPLATES = ExpressionCache.create(
+            "smithy.utils.customCodeTemplates", CACHE_MAX_SIZE,
+            key -> createTemplate(null, key.substring(1), key.charAt(0)));
+
     private CodeFormatter() {}
 
     static void run(StringBuilder sink, AbstractCodeWriter<?> writer, String template, Object[] args) {
+        run(sink, writer, getOrCompile(writer, template, writer.getExpressionStart()), args);
+    }
+
+    static void run(StringBuilder sink, AbstractCodeWriter<?> writer, CodeTemplate template, Object[] args) {
+        // Templates are parsed for a specific expression start, so reparse if the writer uses something else.
+        if (template.getExpressionStart() != writer.getExpressionStart()) {
+            template = getOrCompile(writer, template.getTemplate(), writer.getExpressionStart());
+        }
+
+        Compiled compiled = template.compiled();
+        compiled.validateArguments(writer, args);
+
         try {
-            Sink wrappedSink = Sink.from(sink);
-            Operation block = new Parser(writer, template, args).parse();
-            block.apply(wrappedSink, writer);
+            compiled.root.apply(Sink.from(sink), writer, args);
         } catch (IOException e) {
             throw new RuntimeException("Error appending to CodeWriter template: " + e, e);
         }
     }
 
+    static Compiled compile(AbstractCodeWriter<?> writer, String template, char expressionStart) {
+        return new Parser(writer, template, expressionStart).parse();
+    }
+
+    private static CodeTemplate getOrCompile(AbstractCodeWriter<?> writer, String template, char expressionStart) {
+        // The writer is passed to the parser so that it can add debug information to errors. Templates that fail
+        // to parse are never cached.
+        if (expressionStart == DEFAULT_EXPRESSION_START) {
+            return TEMPLATES.get(template, t -> createTemplate(writer, t, expressionStart));
+        } else {
+            String key = expressionStart + template;
+            return CUSTOM_TEMPLATES.get(key, k -> createTemplate(writer, template, expressionStart));
+        }
+    }
+
+    private static CodeTemplate createTemplate(AbstractCodeWriter<?> writer, String template, char expressionStart) {
+        return new CodeTemplate(template, expressionStart, compile(writer, template, expressionStart));
+    }
+
+    /**
+     * A parsed template that can be applied any number of times with different arguments.
+     *
+     * <p>Relative and positional arguments are resolved from the arguments given when the template is applied
+     * rather than when it's parsed, so validating the number of arguments given is deferred until then too.
+     */
+    static final class Compiled {
+        private final String template;
+        private final Operation root;
+        private final boolean positional;
+        private final List<ArgumentReference> references;
+        private final int endLine;
+        private final int endColumn;
+
+        private Compiled(
+                String template,
+                Operation root,
+                boolean positional,
+                List<ArgumentReference> references,
+                int endLine,
+                int endColumn
+        ) {
+            this.template = template;
+            this.root = root;
+            this.positional = positional;
+            this.references = references;
+            this.endLine = endLine;
+            this.endColumn = endColumn;
+        }
+
+        private void validateArguments(AbstractCodeWriter<?> writer, Object[] args) {
+            if (positional) {
+                boolean[] used = new boolean[args.length];
+                for (ArgumentReference reference : references) {
+                    if (reference.index < 0 || reference.index >= args.length) {
+                        throw error(writer, reference.line, reference.column, String.format(
+                                "Positional argument index %d out of range of provided %d arguments in format string",
+                                reference.index, args.length));
+                    }
+                    used[reference.index] = true;
+                }
+                int unused = 0;
+                for (boolean b : used) {
+                    if (!b) {
+                        unused++;
+                    }
+                }
+                if (unused > 0) {
+                    throw error(writer, endLine, endColumn,
+                                String.format("Found %d unused positional format arguments", unused));
+                }
+            } else if (references.size() > args.length) {
+                ArgumentReference reference = references.get(args.length);
+                throw error(writer, reference.line, reference.column, String.format(
+                        "Given %d arguments but attempted to format index %d", args.length, reference.index));
+            } else if (references.size() < args.length) {
+                int unusedCount = args.length - references.size();
+                throw error(writer, endLine, endColumn,
+                            String.format("Found %d unused relative format arguments", unusedCount));
+            }
+        }
+
+        private RuntimeException error(AbstractCodeWriter<?> writer, int line, int column, String message) {
+            return new RuntimeException("Syntax error at line " + line + ", column " + column + ": "
+                                        + createErrorMessage(template, writer, message));
+        }
+    }
+
+    // Tracks where a relative or positional argument was referenced in a template.
+    private static final class ArgumentReference {
+        private final int index;
+        private final int line;
+        private final int column;
+
+        ArgumentReference(int index, int line, int column) {
+            this.index = index;
+            this.line = line;
+            this.column = column;
+        }
+    }
+
+    private static String createErrorMessage(String template, AbstractCodeWriter<?> writer, String message) {
+        String result = message + " (template: " + template + ")";
+        return writer == null ? result : result + " " + writer.getDebugInfo();
+    }
+
     private interface Sink {
         int column();
 
@@ -88,26 +215,26 @@ final class CodeFormatter {
 
     @FunctionalInterface
     private interface Operation {
-        void apply(Sink sink, AbstractCodeWriter<?> writer) throws IOException;
+        void apply(Sink sink, AbstractCodeWriter<?> writer, Object[] args) throws IOException;
 
         // Writes literal segments of the input string.
         static Operation stringSlice(CharSequence source, int start, int end) {
-            return (sink, writer) -> Sink.writeString(sink, source, start, end);
+            return (sink, writer, args) -> Sink.writeString(sink, source, start, end);
         }
 
         // Evaluates a formatter using the provided writer. This is done lazily because formatters
         // should only be evaluated inside conditions that evaluate to true. This ensures that formatters
         // with side effects don't have their side effects enacted when a condition is not evaluated.
         static Operation formatted(
-                Function<AbstractCodeWriter<?>, Object> valueGetter,
+                BiFunction<AbstractCodeWriter<?>, Object[], Object> valueGetter,
                 char formatter,
-                Supplier<String> errorMessage
+                Function<AbstractCodeWriter<?>, String> errorMessage
         ) {
-            return (sink, writer) -> {
-                Object value = valueGetter.apply(writer);
+            return (sink, writer, args) -> {
+                Object value = valueGetter.apply(writer, args);
                 String result = writer.applyFormatter(formatter, value);
                 if (result == null) {
-                    throw new RuntimeException(errorMessage.get());
+                    throw new RuntimeException(errorMessage.apply(writer));
                 }
                 Sink.writeString(sink, result);
             };
@@ -115,10 +242,10 @@ final class CodeFormatter {
 
         // Expands inline sections.
         static Operation inlineSection(String sectionName, Operation delegate) {
-            return (sink, writer) -> {
+            return (sink, writer, args) -> {
                 // First capture the given default value.
                 Sink buffer = Sink.from(new StringBuilder());
-                delegate.apply(buffer, writer);
+                delegate.apply(buffer, writer, args);
                 String defaultValue = buffer.toString();
                 // Create an interceptable code section for the inline section.
                 CodeSection section = CodeSection.forName(sectionName);
@@ -135,7 +262,9 @@ final class CodeFormatter {
 
         // Used for "|". Wraps another operation and ensures newlines are properly indented.
         static Operation block(Operation delegate, String staticWhitespace) {
-            return (sink, writer) -> delegate.apply(new BlockAlignedSink(sink, staticWhitespace), writer);
+            return (sink, writer, args) -> {
+                delegate.apply(new BlockAlignedSink(sink, staticWhitespace), writer, args);
+            };
         }
     }
 
@@ -223,9 +352,9 @@ final class CodeFormatter {
             }
 
             @Override
-            public void apply(Sink sink, AbstractCodeWriter<?> writer) throws IOException {
+            public void apply(Sink sink, AbstractCodeWriter<?> writer, Object[] args) throws IOException {
                 for (Operation operation : operations) {
-                    operation.apply(sink, writer);
+                    operation.apply(sink, writer, args);
                 }
             }
 
@@ -247,10 +376,10 @@ final class CodeFormatter {
             }
 
             @Override
-            public void apply(Sink sink, AbstractCodeWriter<?> writer) throws IOException {
+            public void apply(Sink sink, AbstractCodeWriter<?> writer, Object[] args) throws IOException {
                 Object value = writer.getContext(variable());
                 if (!isConditionTruthy(value) == negate) {
-                    super.apply(sink, writer);
+                    super.apply(sink, writer, args);
                 }
             }
         }
@@ -271,7 +400,7 @@ final class CodeFormatter {
             }
 
             @Override
-            public void apply(Sink sink, AbstractCodeWriter<?> writer) throws IOException {
+            public void apply(Sink sink, AbstractCodeWriter<?> writer, Object[] args) throws IOException {
                 Object value = writer.getContext(variable());
                 Iterator<? extends Map.Entry<?, ?>> iterator = getValueIterator(value);
                 boolean isFirst = true;
@@ -282,7 +411,7 @@ final class CodeFormatter {
                     writer.putContext(valueName, current.getValue());
                     writer.putContext(keyName + ".first", isFirst);
                     writer.putContext(keyName + ".last", !iterator.hasNext());
-                    super.apply(sink, writer);
+                    super.apply(sink, writer, args);
                     writer.popState();
                     isFirst = false;
                 }
@@ -338,18 +467,16 @@ final class CodeFormatter {
         private final SimpleParser parser;
         private final char expressionStart;
         private final AbstractCodeWriter<?> writer;
-        private final Object[] arguments;
-        private final boolean[] positionals;
+        private final List<ArgumentReference> references = new ArrayList<>();
         private int relativeIndex = 0;
         private final Deque<BlockOperation> blocks = new ArrayDeque<>();
 
-        Parser(AbstractCodeWriter<?> writer, String template, Object[] arguments) {
+        // The writer is only used to add debug information to error messages, and can be null.
+        Parser(AbstractCodeWriter<?> writer, String template, char expressionStart) {
             this.template = template;
             this.writer = writer;
-            this.expressionStart = writer.getExpressionStart();
+            this.expressionStart = expressionStart;
             this.parser = new SimpleParser(template);
-            this.arguments = arguments;
-            this.positionals = new boolean[arguments.length];
             blocks.add(new BlockOperation.Unconditional(""));
         }
 
@@ -362,10 +489,10 @@ final class CodeFormatter {
         }
 
         private String createErrorMessage(String message) {
-            return message + " (template: " + template + ") " + writer.getDebugInfo();
+            return CodeFormatter.createErrorMessage(template, writer, message);
         }
 
-        private Operation parse() {
+        private Compiled parse() {
             boolean parsingLiteral = false;
             int literalStartCharacter = 0;
 
@@ -393,15 +520,9 @@ final class CodeFormatter {
                 pushOperation(Operation.stringSlice(template, literalStartCharacter, parser.position()));
             }
 
-            if (relativeIndex == -1) {
-                ensureAllPositionalArgumentsWereUsed();
-            } else if (relativeIndex < arguments.length) {
-                int unusedCount = arguments.length - relativeIndex;
-                throw error(String.format("Found %d unused relative format arguments", unusedCount));
-            }
-
             if (blocks.size() == 1) {
-                return blocks.getFirst();
+                return new Compiled(template, blocks.getFirst(), relativeIndex == -1, references,
+                                    parser.line(), parser.column());
             }
 
             throw new IllegalArgumentException(
@@ -414,18 +535,6 @@ final class CodeFormatter {
                     + "]");
         }
 
-        private void ensureAllPositionalArgumentsWereUsed() {
-            int unused = 0;
-            for (boolean b : positionals) {
-                if (!b) {
-                    unused++;
-                }
-            }
-            if (unused > 0) {
-                throw error(String.format("Found %d unused positional format arguments", unused));
-            }
-        }
-
         private void parseArgument(int pendingTextStart) {
             if (parser.peek() == '{') {
                 parseBracedArgument(pendingTextStart);
@@ -620,12 +729,13 @@ final class CodeFormatter {
             char c = parser.peek();
 
             // Create the appropriate function for retrieving the value. Positional and relative arguments
-            // are known statically, but getting context properties is deferring until it's time to write.
-            // This allows things like loops to populate loop control variables.
-            Function<AbstractCodeWriter<?>, Object> getter;
+            // are taken from the arguments given when the template is applied, and getting context properties
+            // is deferred until it's time to write. This allows things like loops to populate loop control
+            // variables, and allows the parsed template to be reused.
+            BiFunction<AbstractCodeWriter<?>, Object[], Object> getter;
             if (Character.isLowerCase(c)) {
                 String name = parseNamedArgumentName();
-                getter = w -> w.getContext(name);
+                getter = (w, args) -> w.getContext(name);
             } else if (Character.isDigit(c)) {
                 getter = parsePositionalArgumentGetter();
             } else {
@@ -639,9 +749,9 @@ final class CodeFormatter {
 
             // The error message needs to be created here and given to the operation in way that it can
             // throw with an appropriate message.
-            return Operation.formatted(getter, identifier, () -> createErrorMessage(String.format(
-                    "Syntax error at line %d column %d: Unknown formatter `%c` found in format string",
-                    line, column, identifier)));
+            return Operation.formatted(getter, identifier, w -> CodeFormatter.createErrorMessage(template, w,
+                    String.format("Syntax error at line %d column %d: Unknown formatter `%c` found in format string",
+                                  line, column, identifier)));
         }
 
         private String parseArgumentName() {
@@ -665,28 +775,22 @@ final class CodeFormatter {
             return name;
         }
 
-        private Function<AbstractCodeWriter<?>, Object> parseRelativeArgumentGetter() {
+        private BiFunction<AbstractCodeWriter<?>, Object[], Object> parseRelativeArgumentGetter() {
             if (relativeIndex == -1) {
                 throw error("Cannot mix positional and relative arguments");
             }
 
-            relativeIndex++;
-            Object result = getPositionalArgument(relativeIndex - 1);
-            return w -> result;
+            int index = relativeIndex++;
+            return getArgument(index);
         }
 
-        private Object getPositionalArgument(int index) {
-            if (index >= arguments.length) {
-                throw error(String.format("Given %d arguments but attempted to format index %d",
-                                          arguments.length, index));
-            } else {
-                // Track the usage of the positional argument.
-                positionals[index] = true;
-                return arguments[index];
-            }
+        // Tracks the usage of an argument so the arguments given to the template can be validated.
+        private BiFunction<AbstractCodeWriter<?>, Object[], Object> getArgument(int index) {
+            references.add(new ArgumentReference(index, parser.line(), parser.column()));
+            return (w, args) -> args[index];
         }
 
-        private Function<AbstractCodeWriter<?>, Object> parsePositionalArgumentGetter() {
+        private BiFunction<AbstractCodeWriter<?>, Object[], Object> parsePositionalArgumentGetter() {
             // Expand a positional argument: "$" 1*digit identifier
             if (relativeIndex > 0) {
                 throw error("Cannot mix positional and relative arguments");
@@ -696,15 +800,7 @@ final class CodeFormatter {
             int startPosition = parser.position();
             parser.consumeWhile(Character::isDigit);
             int index = Integer.parseInt(parser.sliceFrom(startPosition)) - 1;
-
-            if (index < 0 || index >= arguments.length) {
-                throw error(String.format(
-                        "Positional argument index %d out of range of provided %d arguments in format string",
-                        index, arguments.length));
-            }
-
-            Object value = getPositionalArgument(index);
-            return w -> value;
+            return getArgument(index);
         }
 
         private void ensureNameIsValid(String name) {
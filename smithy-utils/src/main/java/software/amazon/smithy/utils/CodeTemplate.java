@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.utils;
+
+import java.util.Objects;
+
+/**
+ * A precompiled {@link AbstractCodeWriter} template.
+ *
+ * <p>Templates given to methods like {@link AbstractCodeWriter#write} are
+ * parsed and then cached, but cache lookups and evictions still have a cost.
+ * A {@code CodeTemplate} is parsed once when it is created and can be stored
+ * in a static field and passed in place of a template string to
+ * {@link AbstractCodeWriter#write}, {@link AbstractCodeWriter#writeInline},
+ * {@link AbstractCodeWriter#format}, or any other method that accepts
+ * {@code Object} content. The template can be used by any number of writers
+ * on any number of threads.
+ *
+ * <pre>{@code
+ * private static final CodeTemplate GETTER = CodeTemplate.compile("public $L get$L() { return $L; }");
+ *
+ * writer.write(GETTER, "String", "Name", "name");
+ * }</pre>
+ *
+ * <p>A template is parsed using a specific expression start character. If
+ * the template is used with a writer that uses a different expression start
+ * character, then the template is parsed again for that writer.
+ */
+public final class CodeTemplate {
+
+    private final String template;
+    private final char expressionStart;
+    private final CodeFormatter.Compiled compiled;
+
+    CodeTemplate(String template, char expressionStart, CodeFormatter.Compiled compiled) {
+        this.template = template;
+        this.expressionStart = expressionStart;
+        this.compiled = compiled;
+    }
+
+    /**
+     * Parses a template that uses the default expression start character, {@code $}.
+     *
+     * @param template Template to parse.
+     * @return Returns the parsed template.
+     * @throws RuntimeException if the template is invalid.
+     */
+    public static CodeTemplate compile(String template) {
+        return compile(template, '$');
+    }
+
+    /**
+     * Parses a template that uses a custom expression start character.
+     *
+     * @param template Template to parse.
+     * @param expressionStart Character used to start expressions.
+     * @return Returns the parsed template.
+     * @throws RuntimeException if the template is invalid.
+     * @see AbstractCodeWriter#setExpressionStart(char)
+     */
+    public static CodeTemplate compile(String template, char expressionStart) {
+        Objects.requireNonNull(template);
+        return new CodeTemplate(template, expressionStart, CodeFormatter.compile(null, template, expressionStart));
+    }
+
+    /**
+     * Gets the template string that was parsed.
+     *
+     * @return Returns the template string.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Gets the expression start character used to parse the template.
+     *
+     * @return Returns the expression start character.
+     */
+    public char getExpressionStart() {
+        return expressionStart;
+    }
+
+    CodeFormatter.Compiled compiled() {
+        return compiled;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
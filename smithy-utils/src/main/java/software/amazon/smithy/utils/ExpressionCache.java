@@ -0,0 +1,220 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A JVM-wide, size-bounded cache of values parsed from strings.
+ *
+ * <p>Parsing the same expressions, like selectors or regular expressions,
+ * each time a model is loaded is wasted work when the parsed value is
+ * immutable. An expression cache parses each distinct string once, then
+ * returns the same value until it is evicted. Once the cache is full, the
+ * least recently used value is evicted.
+ *
+ * <pre>{@code
+ * private static final ExpressionCache<Pattern> PATTERNS = ExpressionCache.create(
+ *         "example.patterns", 1024, Pattern::compile);
+ *
+ * Pattern pattern = PATTERNS.get("^[a-z]+$");
+ * }</pre>
+ *
+ * <p>Only immutable, thread-safe values should be cached, since a cached
+ * value is shared by every caller. If the parser throws, nothing is cached
+ * and the exception is thrown to the caller.
+ *
+ * <p>Every cache is registered by name so that its hit rate can be
+ * inspected using {@link #getCaches()}. Caches are thread-safe.
+ *
+ * @param <T> Type of value that is cached.
+ */
+public final class ExpressionCache<T> {
+
+    private static final ConcurrentMap<String, ExpressionCache<?>> CACHES = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int maximumSize;
+    private final Function<String, ? extends T> parser;
+    private final Map<String, T> values;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ExpressionCache(String name, int maximumSize, Function<String, ? extends T> parser) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Expression cache size must be greater than 0: " + maximumSize);
+        }
+        this.name = Objects.requireNonNull(name);
+        this.maximumSize = maximumSize;
+        this.parser = Objects.requireNonNull(parser);
+
+        // A simple LRU cache based on LinkedHashMap, wrapped in a synchronized map.
+        values = Collections.synchronizedMap(new LinkedHashMap<String, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+
+    /**
+     * Creates and registers an expression cache.
+     *
+     * <p>A cache created with the name of a previously created cache
+     * replaces that cache in the registry.
+     *
+     * @param name Name of the cache, used when inspecting caches.
+     * @param maximumSize Maximum number of values to cache.
+     * @param parser Function that parses a string into the value to cache.
+     * @param <T> Type of value to cache.
+     * @return Returns the created cache.
+     */
+    public static <T> ExpressionCache<T> create(String name, int maximumSize, Function<String, ? extends T> parser) {
+        ExpressionCache<T> cache = new ExpressionCache<>(name, maximumSize, parser);
+        CACHES.put(name, cache);
+        return cache;
+    }
+
+    /**
+     * Gets every registered expression cache, sorted by name.
+     *
+     * @return Returns the registered caches.
+     */
+    public static List<ExpressionCache<?>> getCaches() {
+        List<ExpressionCache<?>> result = new ArrayList<>(CACHES.values());
+        result.sort(Comparator.comparing(ExpressionCache::getName));
+        return result;
+    }
+
+    /**
+     * Gets the parsed value of an expression, parsing it if it isn't cached.
+     *
+     * @param expression Expression to get the value of.
+     * @return Returns the parsed value.
+     */
+    public T get(String expression) {
+        return get(expression, parser);
+    }
+
+    /**
+     * Gets the parsed value of an expression, parsing it with the given
+     * parser if it isn't cached.
+     *
+     * <p>This allows a parser to use context that isn't part of the
+     * expression, like details to include in error messages. The given
+     * parser must produce the same value as the parser of the cache.
+     *
+     * @param expression Expression to get the value of.
+     * @param parser Parser to use if the expression isn't cached.
+     * @return Returns the parsed value.
+     */
+    public T get(String expression, Function<String, ? extends T> parser) {
+        // computeIfAbsent isn't used so the cache isn't locked while parsing.
+        T result = values.get(expression);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+
+        misses.increment();
+        result = parser.apply(expression);
+        if (result != null) {
+            values.put(expression, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the name of the cache.
+     *
+     * @return Returns the cache name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the maximum number of values the cache holds.
+     *
+     * @return Returns the maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the number of values currently cached.
+     *
+     * @return Returns the number of cached values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Gets the number of times a value was found in the cache.
+     *
+     * @return Returns the number of hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of times a value had to be parsed.
+     *
+     * @return Returns the number of misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the ratio of hits to requests, or 0 if no values were requested.
+     *
+     * @return Returns the hit rate from 0 to 1.
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Removes every cached value and resets the hit and miss counts.
+     */
+    public void clear() {
+        values.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d/%d values, %d hits, %d misses (%.1f%%)", name, size(), maximumSize,
+                             getHitCount(), getMissCount(), getHitRate() * 100);
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Finds every occurrence of any number of terms in text, ignoring case.
+ *
+ * <p>A matcher is compiled once into an Aho-Corasick automaton, and then
+ * scans each text in a single pass regardless of the number of terms.
+ * Every occurrence of every term is found, including overlapping and
+ * repeated occurrences. Case is ignored one character at a time, so the
+ * positions of a match always refer to the original text.
+ *
+ * <pre>{@code
+ * TermMatcher matcher = TermMatcher.compile(ListUtils.of("master", "slave"));
+ * for (TermMatcher.Match match : matcher.findAll("MasterNode")) {
+ *     System.out.println(match.getTerm() + " at " + match.getStart());
+ * }
+ * }</pre>
+ *
+ * <p>Matchers are immutable and thread-safe.
+ */
+public final class TermMatcher {
+
+    private static final int[] NO_OUTPUTS = new int[0];
+
+    private final List<String> terms;
+
+    // The transitions of each state are stored as sorted parallel arrays of characters and target states.
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failures;
+
+    // The indexes of the terms that end at each state, including the terms of the state's failure chain.
+    private final int[][] outputs;
+
+    private TermMatcher(List<String> terms) {
+        this.terms = terms;
+
+        List<Map<Character, Integer>> transitions = new ArrayList<>();
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        stateOutputs.add(new ArrayList<>());
+
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            int state = 0;
+            for (int j = 0; j < term.length(); j++) {
+                char c = fold(term.charAt(j));
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new HashMap<>());
+                    stateOutputs.add(new ArrayList<>());
+                    transitions.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (state != 0) {
+                stateOutputs.get(state).add(i);
+            }
+        }
+
+        int stateCount = transitions.size();
+        transitionChars = new char[stateCount][];
+        transitionTargets = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            List<Character> chars = new ArrayList<>(transitions.get(state).keySet());
+            Collections.sort(chars);
+            transitionChars[state] = new char[chars.size()];
+            transitionTargets[state] = new int[chars.size()];
+            for (int i = 0; i < chars.size(); i++) {
+                transitionChars[state][i] = chars.get(i);
+                transitionTargets[state][i] = transitions.get(state).get(chars.get(i));
+            }
+        }
+
+        // Failure links are computed breadth-first, so the failure state of a state is always complete before
+        // the state itself is visited.
+        failures = new int[stateCount];
+        outputs = new int[stateCount][];
+        outputs[0] = NO_OUTPUTS;
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionTargets[0]) {
+            failures[child] = 0;
+            outputs[child] = toArray(stateOutputs.get(child), NO_OUTPUTS);
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                char c = transitionChars[state][i];
+                int child = transitionTargets[state][i];
+                int failure = failures[state];
+                int next;
+                while ((next = transition(failure, c)) == -1 && failure != 0) {
+                    failure = failures[failure];
+                }
+                failures[child] = next == -1 ? 0 : next;
+                outputs[child] = toArray(stateOutputs.get(child), outputs[failures[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Compiles a matcher that finds the given terms.
+     *
+     * <p>Empty terms are ignored. The index of a term in the given
+     * collection is reported by {@link Match#getTermIndex()}.
+     *
+     * @param terms Terms to find.
+     * @return Returns the compiled matcher.
+     */
+    public static TermMatcher compile(Collection<String> terms) {
+        List<String> copy = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            copy.add(Objects.requireNonNull(term));
+        }
+        return new TermMatcher(Collections.unmodifiableList(copy));
+    }
+
+    /**
+     * Gets the terms found by the matcher.
+     *
+     * @return Returns the terms in the order they were given.
+     */
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Finds every occurrence of every term in the given text.
+     *
+     * @param text Text to scan.
+     * @return Returns the matches, ordered by the position at which they end.
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        scan(text, matches::add);
+        return matches;
+    }
+
+    /**
+     * Checks if any term occurs in the given text.
+     *
+     * @param text Text to scan.
+     * @return Returns true if any term was found.
+     */
+    public boolean matches(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, fold(text.charAt(i)));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scans the given text and sends every occurrence of every term to a
+     * consumer, ordered by the position at which they end.
+     *
+     * @param text Text to scan.
+     * @param consumer Consumer that receives each match.
+     */
+    public void scan(CharSequence text, Consumer<Match> consumer) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, fold(text.charAt(i)));
+            for (int termIndex : outputs[state]) {
+                int end = i + 1;
+                consumer.accept(new Match(termIndex, terms.get(termIndex), end - terms.get(termIndex).length(), end));
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        int next;
+        while ((next = transition(state, c)) == -1 && state != 0) {
+            state = failures[state];
+        }
+        return next == -1 ? 0 : next;
+    }
+
+    private int transition(int state, char c) {
+        int index = Arrays.binarySearch(transitionChars[state], c);
+        return index < 0 ? -1 : transitionTargets[state][index];
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int[] toArray(List<Integer> values, int[] inherited) {
+        if (values.isEmpty()) {
+            return inherited;
+        }
+        int[] result = new int[values.size() + inherited.length];
+        for (int i = 0; i < values.size(); i++) {
+            result[i] = values.get(i);
+        }
+        System.arraycopy(inherited, 0, result, values.size(), inherited.length);
+        return result;
+    }
+
+    /**
+     * An occurrence of a term in a text.
+     */
+    public static final class Match {
+        private final int termIndex;
+        private final String term;
+        private final int start;
+        private final int end;
+
+        private Match(int termIndex, String term, int start, int end) {
+            this.termIndex = termIndex;
+            this.term = term;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Gets the index of the matched term in the terms the matcher was
+         * compiled with.
+         *
+         * @return Returns the index of the term.
+         */
+        public int getTermIndex() {
+            return termIndex;
+        }
+
+        /**
+         * Gets the matched term as it was given to the matcher, which can
+         * differ in case from the text.
+         *
+         * @return Returns the matched term.
+         */
+        public String getTerm() {
+            return term;
+        }
+
+        /**
+         * Gets the index in the text of the first character of the match.
+         *
+         * @return Returns the inclusive start index.
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * Gets the index in the text after the last character of the match.
+         *
+         * @return Returns the exclusive end index.
+         */
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (!(o instanceof Match)) {
+                return false;
+            }
+            Match match = (Match) o;
+            return termIndex == match.termIndex && start == match.start && end == match.end
+                   && term.equals(match.term);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(termIndex, term, start, end);
+        }
+
+        @Override
+        public String toString() {
+            return term + "[" + start + ", " + end + ")";
+        }
+    }
+}
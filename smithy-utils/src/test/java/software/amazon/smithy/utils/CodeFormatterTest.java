@@ -677,4 +677,41 @@ public class CodeFormatterTest {
 
         assertThat(writer.toString(), equalTo("<a href=\"http://example.com\">http://example.com</a>"));
     }
+
+    @Test
+    public void canReusePrecompiledTemplates() {
+        CodeTemplate template = CodeTemplate.compile("hello $L, $S");
+        SimpleCodeWriter writer = createWriter();
+
+        assertThat(writer.format(template, "a", "b"), equalTo("hello a, \"b\""));
+        assertThat(writer.format(template, "c", "d"), equalTo("hello c, \"d\""));
+        assertThat(template.toString(), equalTo("hello $L, $S"));
+    }
+
+    @Test
+    public void validatesArgumentsOfPrecompiledTemplates() {
+        CodeTemplate template = CodeTemplate.compile("hello $L");
+        SimpleCodeWriter writer = createWriter();
+
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> writer.format(template));
+        assertThat(e.getMessage(), containsString("Given 0 arguments but attempted to format index 0"));
+    }
+
+    @Test
+    public void recompilesTemplatesForDifferentExpressionStarts() {
+        CodeTemplate template = CodeTemplate.compile("hello #L");
+        SimpleCodeWriter writer = createWriter();
+        writer.setExpressionStart('#');
+
+        assertThat(template.getExpressionStart(), equalTo('$'));
+        assertThat(writer.format(template, "there"), equalTo("hello there"));
+    }
+
+    @Test
+    public void cachedTemplatesResolveArgumentsPerCall() {
+        SimpleCodeWriter writer = createWriter();
+
+        assertThat(writer.format("$1L-$2L", "a", "b"), equalTo("a-b"));
+        assertThat(writer.format("$1L-$2L", "c", "d"), equalTo("c-d"));
+    }
 }
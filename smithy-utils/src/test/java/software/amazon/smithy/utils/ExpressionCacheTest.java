@@ -0,0 +1,88 @@
+package software.amazon.smithy.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+public class ExpressionCacheTest {
+
+    @Test
+    public void parsesEachExpressionOnce() {
+        AtomicInteger parsed = new AtomicInteger();
+        ExpressionCache<Pattern> cache = ExpressionCache.create("test.parsesEachExpressionOnce", 10, text -> {
+            parsed.incrementAndGet();
+            return Pattern.compile(text);
+        });
+
+        Pattern pattern = cache.get("^a+$");
+
+        assertThat(cache.get("^a+$"), sameInstance(pattern));
+        assertThat(cache.get("^b+$").pattern(), equalTo("^b+$"));
+        assertThat(parsed.get(), equalTo(2));
+        assertThat(cache.getHitCount(), equalTo(1L));
+        assertThat(cache.getMissCount(), equalTo(2L));
+        assertThat(cache.getHitRate(), equalTo(1.0 / 3));
+        assertThat(cache.size(), equalTo(2));
+    }
+
+    @Test
+    public void usesGivenParserOnlyWhenNotCached() {
+        ExpressionCache<String> cache = ExpressionCache.create("test.givenParser", 10, String::new);
+        String a = cache.get("a", text -> "given " + text);
+
+        assertThat(a, equalTo("given a"));
+        assertThat(cache.get("a"), sameInstance(a));
+        assertThat(cache.get("a", text -> "other " + text), sameInstance(a));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedValues() {
+        ExpressionCache<String> cache = ExpressionCache.create("test.evicts", 2, String::new);
+        String a = cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c");
+
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.get("a"), sameInstance(a));
+        assertThat(cache.getMissCount(), equalTo(3L));
+
+        // "b" was the least recently used value, so it was evicted.
+        cache.get("b");
+        assertThat(cache.getMissCount(), equalTo(4L));
+    }
+
+    @Test
+    public void doesNotCacheFailures() {
+        ExpressionCache<Pattern> cache = ExpressionCache.create("test.failures", 10, Pattern::compile);
+
+        assertThrows(PatternSyntaxException.class, () -> cache.get("["));
+        assertThrows(PatternSyntaxException.class, () -> cache.get("["));
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.getMissCount(), equalTo(2L));
+    }
+
+    @Test
+    public void registersCachesByName() {
+        ExpressionCache<String> cache = ExpressionCache.create("test.registers", 10, String::new);
+        cache.get("a");
+        cache.clear();
+
+        assertThat(ExpressionCache.getCaches(), hasItem(cache));
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.getHitRate(), equalTo(0.0));
+        assertThat(cache.toString(), equalTo("test.registers: 0/10 values, 0 hits, 0 misses (0.0%)"));
+    }
+
+    @Test
+    public void rejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> ExpressionCache.create("test.invalid", 0, String::new));
+    }
+}
@@ -0,0 +1,104 @@
+package software.amazon.smithy.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class TermMatcherTest {
+    @Test
+    public void findsTermsIgnoringCase() {
+        TermMatcher matcher = TermMatcher.compile(ListUtils.of("master", "slave"));
+        List<String> found = matcher.findAll("MasterAndSLAVE").stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+
+        assertThat(found, contains("master[0, 6)", "slave[9, 14)"));
+    }
+
+    @Test
+    public void findsRepeatedAndOverlappingTerms() {
+        TermMatcher matcher = TermMatcher.compile(ListUtils.of("he", "she", "hers", "his"));
+        List<String> found = matcher.findAll("ushers she").stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+
+        assertThat(found, contains("she[1, 4)", "he[2, 4)", "hers[2, 6)", "she[7, 10)", "he[8, 10)"));
+    }
+
+    @Test
+    public void reportsEveryTermThatDiffersOnlyInCase() {
+        TermMatcher matcher = TermMatcher.compile(ListUtils.of("Foo", "foo"));
+        List<Integer> indexes = matcher.findAll("FOO").stream()
+                .map(TermMatcher.Match::getTermIndex)
+                .collect(Collectors.toList());
+
+        assertThat(indexes, contains(0, 1));
+    }
+
+    @Test
+    public void ignoresEmptyTerms() {
+        TermMatcher matcher = TermMatcher.compile(ListUtils.of("", "a"));
+
+        assertThat(matcher.findAll("bab").size(), equalTo(1));
+        assertThat(TermMatcher.compile(ListUtils.of("")).findAll("abc"), empty());
+    }
+
+    @Test
+    public void checksIfAnyTermMatches() {
+        TermMatcher matcher = TermMatcher.compile(ListUtils.of("whitelist", "blacklist"));
+
+        assertTrue(matcher.matches("a BlackList of things"));
+        assertFalse(matcher.matches("an allowList of things"));
+    }
+
+    @Test
+    public void matchesNaiveSearch() {
+        Random random = new Random(42);
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            terms.add(randomText(random, 1 + random.nextInt(4)));
+        }
+        TermMatcher matcher = TermMatcher.compile(terms);
+
+        for (int i = 0; i < 100; i++) {
+            String text = randomText(random, random.nextInt(40));
+            List<String> expected = new ArrayList<>();
+            String lower = text.toLowerCase(Locale.US);
+            for (int end = 1; end <= text.length(); end++) {
+                for (int t = 0; t < terms.size(); t++) {
+                    String term = terms.get(t).toLowerCase(Locale.US);
+                    int start = end - term.length();
+                    if (start >= 0 && lower.startsWith(term, start)) {
+                        expected.add(t + "@" + start);
+                    }
+                }
+            }
+            List<String> actual = matcher.findAll(text).stream()
+                    .map(match -> match.getTermIndex() + "@" + match.getStart())
+                    .sorted()
+                    .collect(Collectors.toList());
+            expected.sort(String::compareTo);
+
+            assertThat(actual, equalTo(expected));
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char c = (char) ('a' + random.nextInt(3));
+            builder.append(random.nextBoolean() ? Character.toUpperCase(c) : c);
+        }
+        return builder.toString();
+    }
+}
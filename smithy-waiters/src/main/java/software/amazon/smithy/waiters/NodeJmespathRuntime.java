@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.waiters;
+
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.jmespath.JmespathRuntime;
+import software.amazon.smithy.jmespath.RuntimeType;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+/**
+ * A {@link JmespathRuntime} that evaluates JMESPath expressions against
+ * {@link Node} values.
+ *
+ * <pre>{@code
+ * Node result = CompiledExpression.parse("foo.bar").evaluate(node, NodeJmespathRuntime.INSTANCE);
+ * }</pre>
+ */
+public final class NodeJmespathRuntime implements JmespathRuntime<Node> {
+
+    public static final NodeJmespathRuntime INSTANCE = new NodeJmespathRuntime();
+
+    private NodeJmespathRuntime() {}
+
+    @Override
+    public RuntimeType typeOf(Node value) {
+        switch (value.getType()) {
+            case OBJECT:
+                return RuntimeType.OBJECT;
+            case ARRAY:
+                return RuntimeType.ARRAY;
+            case STRING:
+                return RuntimeType.STRING;
+            case NUMBER:
+                return RuntimeType.NUMBER;
+            case BOOLEAN:
+                return RuntimeType.BOOLEAN;
+            default:
+                return RuntimeType.NULL;
+        }
+    }
+
+    @Override
+    public Node createNull() {
+        return Node.nullNode();
+    }
+
+    @Override
+    public Node createBoolean(boolean value) {
+        return Node.from(value);
+    }
+
+    @Override
+    public Node createString(String value) {
+        return Node.from(value);
+    }
+
+    @Override
+    public Node createNumber(Number value) {
+        return Node.from(value);
+    }
+
+    @Override
+    public Node createArray(List<Node> values) {
+        return Node.fromNodes(values);
+    }
+
+    @Override
+    public Node createObject(Map<String, Node> values) {
+        ObjectNode.Builder builder = ObjectNode.builder();
+        for (Map.Entry<String, Node> entry : values.entrySet()) {
+            builder.withMember(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean asBoolean(Node value) {
+        return value.expectBooleanNode().getValue();
+    }
+
+    @Override
+    public String asString(Node value) {
+        return value.expectStringNode().getValue();
+    }
+
+    @Override
+    public Number asNumber(Node value) {
+        return value.expectNumberNode().getValue();
+    }
+
+    @Override
+    public int size(Node value) {
+        return value.isArrayNode() ? value.expectArrayNode().size() : value.expectObjectNode().size();
+    }
+
+    @Override
+    public Node element(Node array, int index) {
+        return array.expectArrayNode().getElements().get(index);
+    }
+
+    @Override
+    public Iterable<Node> values(Node value) {
+        return value.isArrayNode()
+               ? value.expectArrayNode().getElements()
+               : value.expectObjectNode().getStringMap().values();
+    }
+
+    @Override
+    public Iterable<String> keys(Node object) {
+        return object.expectObjectNode().getStringMap().keySet();
+    }
+
+    @Override
+    public Node value(Node object, String name) {
+        Node result = object.expectObjectNode().getStringMap().get(name);
+        return result == null ? Node.nullNode() : result;
+    }
+
+    @Override
+    public boolean containsKey(Node object, String name) {
+        return object.expectObjectNode().getStringMap().containsKey(name);
+    }
+}
@@ -20,6 +20,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import software.amazon.smithy.jmespath.CompiledExpression;
 import software.amazon.smithy.jmespath.ExpressionProblem;
 import software.amazon.smithy.jmespath.JmespathException;
 import software.amazon.smithy.jmespath.JmespathExpression;
@@ -136,7 +137,7 @@ final class WaiterMatcherValidator implements Matcher.Visitor<List<ValidationEve
 
     private RuntimeType validatePath(LiteralExpression input, String path) {
         try {
-            JmespathExpression expression = JmespathExpression.parse(path);
+            JmespathExpression expression = CompiledExpression.parse(path).getExpression();
             LinterResult result = expression.lint(input);
             for (ExpressionProblem problem : result.getProblems()) {
                 addJmespathEvent(path, problem);
@@ -0,0 +1,51 @@
+package software.amazon.smithy.waiters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.jmespath.CompiledExpression;
+import software.amazon.smithy.model.node.Node;
+
+public class NodeJmespathRuntimeTest {
+
+    private static final Node DATA = Node.parse("{"
+            + "\"Table\": {\"TableStatus\": \"ACTIVE\"},"
+            + "\"Instances\": [{\"State\": \"running\", \"Size\": 2}, {\"State\": \"pending\", \"Size\": 4}]"
+            + "}");
+
+    private static Node evaluate(String expression) {
+        return CompiledExpression.parse(expression).evaluate(DATA, NodeJmespathRuntime.INSTANCE);
+    }
+
+    @Test
+    public void evaluatesExpressionsAgainstNodes() {
+        assertThat(evaluate("Table.TableStatus"), equalTo(Node.from("ACTIVE")));
+        assertThat(evaluate("Instances[].State"), equalTo(Node.fromStrings("running", "pending")));
+        assertThat(evaluate("Instances[?Size > `3`].State | [0]"), equalTo(Node.from("pending")));
+        assertThat(evaluate("length(Instances[?State == 'running']) == `1`"), equalTo(Node.from(true)));
+        assertThat(evaluate("Missing.Value"), equalTo(Node.nullNode()));
+        assertThat(evaluate("{status: Table.TableStatus}"), equalTo(Node.objectNode().withMember("status", "ACTIVE")));
+        assertThat(evaluate("sum(Instances[].Size)").expectNumberNode().getValue().intValue(), equalTo(6));
+    }
+
+    @Test
+    public void convertsLiterals() {
+        assertThat(evaluate("`{\"a\": [1, true, null]}`"),
+                   equalTo(Node.objectNode().withMember("a", Node.fromNodes(Node.from(1.0), Node.from(true),
+                                                                            Node.nullNode()))));
+    }
+
+    @Test
+    public void comparesNodesByValue() {
+        NodeJmespathRuntime runtime = NodeJmespathRuntime.INSTANCE;
+
+        assertTrue(runtime.isEqual(Node.from(1), Node.from(1.0)));
+        assertTrue(runtime.isEqual(Node.parse("{\"a\": [1]}"), Node.parse("{\"a\": [1.0]}")));
+        assertFalse(runtime.isEqual(Node.parse("{\"a\": null}"), Node.parse("{\"b\": null}")));
+        assertFalse(runtime.isTruthy(Node.objectNode()));
+        assertTrue(runtime.isTruthy(Node.from(0)));
+    }
+}